@@ -0,0 +1,112 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Shared by the on-disk caches, which are directories of entry files named by a SHA-256 hash of everything the entry depends on.
+public class CacheFileUtil {
+    private static final Logger logger = LoggerFactory.getLogger(CacheFileUtil.class);
+
+    @FunctionalInterface
+    public interface EntryWriter {
+        void write(Path temporaryFile) throws IOException;
+    }
+
+    public static MessageDigest createDigest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256");
+    }
+
+    // Each value is followed by a separator so adjacent values can never run together into the same key.
+    public static void updateDigest(MessageDigest digest, @Nullable String value) {
+        String nonNullValue = value == null ? "" : value;
+        digest.update(nonNullValue.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    public static String hashFile(File file) throws NoSuchAlgorithmException, IOException {
+        MessageDigest digest = createDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    // Written to a temporary file in the same directory and renamed over the entry so concurrent runs never read a partial entry, the temporary file is removed when anything fails.
+    public static void writeAtomically(File entryFile, String temporaryFilePrefix, EntryWriter entryWriter) throws IOException {
+        File directory = entryFile.getParentFile();
+        Files.createDirectories(directory.toPath());
+        Path temporaryFile = File.createTempFile(temporaryFilePrefix, ".tmp", directory).toPath();
+        try {
+            entryWriter.write(temporaryFile);
+            try {
+                Files.move(temporaryFile, entryFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                logger.debug("The cache directory does not support atomic moves, the entry will be replaced without one: " + entryFile);
+                Files.move(temporaryFile, entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    public static void touch(File entryFile) {
+        if (!entryFile.setLastModified(System.currentTimeMillis())) {
+            logger.trace("Unable to update the last used time of cache entry: " + entryFile);
+        }
+    }
+
+    // Entries are touched when used, so the oldest by last modified time are the least recently used. An entry may be a file or a directory of files.
+    public static void pruneLeastRecentlyUsed(File directory, String entryExtension, int maximumEntries) {
+        File[] entries = directory.listFiles((dir, name) -> name.endsWith(entryExtension));
+        if (entries == null || entries.length <= maximumEntries) {
+            return;
+        }
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        int toRemove = entries.length - Math.max(maximumEntries, 0);
+        for (int i = 0; i < toRemove; i++) {
+            try {
+                if (entries[i].isDirectory()) {
+                    FileUtils.deleteDirectory(entries[i]);
+                } else {
+                    Files.deleteIfExists(entries[i].toPath());
+                }
+            } catch (IOException e) {
+                logger.debug("Unable to remove cache entry: " + entries[i], e);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelUtil {
+    @FunctionalInterface
+    public interface Task<T, R, E extends Exception> {
+        R apply(T item) throws E;
+    }
+
+    // Results are returned in the order of the items however many run at once. With a parallelism of 1 the items are processed on the calling thread.
+    public static <T, R, E extends Exception> List<R> mapInOrder(String threadName, int parallelism, List<T> items, Task<T, R, E> task) throws E {
+        int boundedParallelism = Math.min(Math.max(parallelism, 1), Math.max(items.size(), 1));
+        List<R> results = new ArrayList<>(items.size());
+        if (boundedParallelism == 1) {
+            for (T item : items) {
+                results.add(task.apply(item));
+            }
+            return results;
+        }
+
+        ExecutorService executor = createDaemonThreadPool(threadName, boundedParallelism);
+        try {
+            List<CompletableFuture<R>> pendingResults = new ArrayList<>(items.size());
+            for (T item : items) {
+                pendingResults.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return task.apply(item);
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
+            }
+            for (CompletableFuture<R> pendingResult : pendingResults) {
+                results.add(join(pendingResult));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static ExecutorService createDaemonThreadPool(String threadName, int threads) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // The task can only throw E or unchecked exceptions, so the cause is rethrown as it was thrown.
+    @SuppressWarnings("unchecked")
+    private static <R, E extends Exception> R join(CompletableFuture<R> pendingResult) throws E {
+        try {
+            return pendingResult.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause instanceof Exception) {
+                throw (E) cause;
+            }
+            throw e;
+        }
+    }
+}
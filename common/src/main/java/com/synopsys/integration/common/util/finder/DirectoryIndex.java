@@ -0,0 +1,80 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+
+// A single listing of a directory's immediate entries, indexed by name so repeated lookups do not list the directory again.
+public class DirectoryIndex {
+    private final File directory;
+    private final Map<String, File> entriesByName;
+
+    public DirectoryIndex(File directory, List<File> entries) {
+        this.directory = directory;
+        this.entriesByName = new LinkedHashMap<>();
+        for (File entry : entries) {
+            entriesByName.put(entry.getName(), entry);
+        }
+    }
+
+    public static DirectoryIndex fromDirectory(File directory) {
+        File[] entries = directory.listFiles();
+        if (entries == null) {
+            return new DirectoryIndex(directory, Collections.emptyList());
+        }
+        List<File> entryList = new ArrayList<>(entries.length);
+        Collections.addAll(entryList, entries);
+        return new DirectoryIndex(directory, entryList);
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public boolean containsName(String name) {
+        return entriesByName.containsKey(name);
+    }
+
+    public Optional<File> findEntry(String name) {
+        return Optional.ofNullable(entriesByName.get(name));
+    }
+
+    @NotNull
+    public List<File> findEntries(Predicate<File> filter) {
+        List<File> found = new ArrayList<>();
+        for (File entry : entriesByName.values()) {
+            if (filter.test(entry)) {
+                found.add(entry);
+            }
+        }
+        return found;
+    }
+
+    @NotNull
+    public List<File> findEntriesByName(FilenamePatternMatcher matcher) {
+        if (matcher.getLiteralName().isPresent()) {
+            return findEntry(matcher.getLiteralName().get())
+                       .map(Collections::singletonList)
+                       .orElse(Collections.emptyList());
+        }
+        return findEntries(entry -> matcher.matches(entry.getName()));
+    }
+
+    public List<File> getEntries() {
+        return new ArrayList<>(entriesByName.values());
+    }
+}
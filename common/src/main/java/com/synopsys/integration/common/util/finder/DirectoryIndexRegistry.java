@@ -0,0 +1,17 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.util.Collection;
+
+// Accepts directory listings that were already taken so lookups can be answered from them while the directories are not expected to change.
+public interface DirectoryIndexRegistry {
+    void addIndexes(Collection<DirectoryIndex> indexes);
+
+    void clearIndexes();
+}
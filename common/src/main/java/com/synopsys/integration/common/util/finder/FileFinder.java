@@ -82,11 +82,8 @@ public interface FileFinder {
 
     @NotNull
     default List<File> findFiles(final File directoryToSearch, final List<String> filenamePatterns, final int depth, final boolean findInsideMatchingDirectories) {
-        Predicate<File> wildcardFilter = file -> {
-            WildcardFileFilter filter = new WildcardFileFilter(filenamePatterns);
-            return filter.accept(file);
-        };
-        return findFiles(directoryToSearch, wildcardFilter, depth, findInsideMatchingDirectories);
+        WildcardFileFilter filter = new WildcardFileFilter(filenamePatterns);
+        return findFiles(directoryToSearch, filter::accept, depth, findInsideMatchingDirectories);
     }
 
 }
@@ -0,0 +1,69 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Matches file names the same way a case sensitive WildcardFileFilter does, but compiles the patterns once so it can be reused across many files.
+public class FilenamePatternMatcher {
+    private final String literalName;
+    private final Pattern pattern;
+
+    private FilenamePatternMatcher(String literalName, Pattern pattern) {
+        this.literalName = literalName;
+        this.pattern = pattern;
+    }
+
+    public static FilenamePatternMatcher compile(List<String> filenamePatterns) {
+        if (filenamePatterns.size() == 1 && !isWildcard(filenamePatterns.get(0))) {
+            return new FilenamePatternMatcher(filenamePatterns.get(0), null);
+        }
+        String regex = filenamePatterns.stream()
+                           .map(FilenamePatternMatcher::toRegex)
+                           .collect(Collectors.joining("|"));
+        return new FilenamePatternMatcher(null, Pattern.compile(regex, Pattern.DOTALL));
+    }
+
+    public boolean matches(String filename) {
+        if (literalName != null) {
+            return literalName.equals(filename);
+        }
+        return pattern.matcher(filename).matches();
+    }
+
+    public Optional<String> getLiteralName() {
+        return Optional.ofNullable(literalName);
+    }
+
+    private static boolean isWildcard(String filenamePattern) {
+        return filenamePattern.indexOf('*') >= 0 || filenamePattern.indexOf('?') >= 0;
+    }
+
+    private static String toRegex(String filenamePattern) {
+        StringBuilder regex = new StringBuilder("(?:");
+        StringBuilder literal = new StringBuilder();
+        for (char character : filenamePattern.toCharArray()) {
+            if (character == '*' || character == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '*' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.append(")").toString();
+    }
+}
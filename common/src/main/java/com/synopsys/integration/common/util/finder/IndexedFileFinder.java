@@ -0,0 +1,63 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+
+// Answers shallow lookups from registered directory indexes and falls back to the given finder for everything else.
+// Indexes are a snapshot, so they should only be registered while the indexed directories are not expected to change.
+public class IndexedFileFinder implements FileFinder, DirectoryIndexRegistry {
+    private final FileFinder fallbackFileFinder;
+    private final Map<File, DirectoryIndex> directoryIndexes = new ConcurrentHashMap<>();
+    private final Map<List<String>, FilenamePatternMatcher> compiledPatterns = new ConcurrentHashMap<>();
+
+    public IndexedFileFinder(FileFinder fallbackFileFinder) {
+        this.fallbackFileFinder = fallbackFileFinder;
+    }
+
+    @Override
+    public void addIndexes(Collection<DirectoryIndex> indexes) {
+        for (DirectoryIndex index : indexes) {
+            directoryIndexes.put(index.getDirectory(), index);
+        }
+    }
+
+    @Override
+    public void clearIndexes() {
+        directoryIndexes.clear();
+    }
+
+    @NotNull
+    @Override
+    public List<File> findFiles(File directoryToSearch, Predicate<File> filter, int depth, boolean findInsideMatchingDirectories) {
+        DirectoryIndex index = directoryIndexes.get(directoryToSearch);
+        if (index != null && depth == 0) {
+            return index.findEntries(filter);
+        }
+        return fallbackFileFinder.findFiles(directoryToSearch, filter, depth, findInsideMatchingDirectories);
+    }
+
+    @NotNull
+    @Override
+    public List<File> findFiles(File directoryToSearch, List<String> filenamePatterns, int depth, boolean findInsideMatchingDirectories) {
+        FilenamePatternMatcher matcher = compiledPatterns.computeIfAbsent(new ArrayList<>(filenamePatterns), FilenamePatternMatcher::compile);
+        DirectoryIndex index = directoryIndexes.get(directoryToSearch);
+        if (index != null && depth == 0) {
+            return index.findEntriesByName(matcher);
+        }
+        return fallbackFileFinder.findFiles(directoryToSearch, file -> matcher.matches(file.getName()), depth, findInsideMatchingDirectories);
+    }
+}
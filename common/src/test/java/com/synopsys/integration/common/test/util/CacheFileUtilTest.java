@@ -0,0 +1,118 @@
+package com.synopsys.integration.common.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.common.util.CacheFileUtil;
+
+public class CacheFileUtilTest {
+    private Path cacheDirectoryPath;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        cacheDirectoryPath = Files.createTempDirectory("CacheFileUtilTest");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(cacheDirectoryPath.toFile());
+    }
+
+    @Test
+    public void testValuesAreSeparatedInDigest() throws NoSuchAlgorithmException {
+        MessageDigest joined = CacheFileUtil.createDigest();
+        CacheFileUtil.updateDigest(joined, "ab");
+        CacheFileUtil.updateDigest(joined, "c");
+
+        MessageDigest split = CacheFileUtil.createDigest();
+        CacheFileUtil.updateDigest(split, "a");
+        CacheFileUtil.updateDigest(split, "bc");
+
+        assertNotEquals(CacheFileUtil.toHex(joined.digest()), CacheFileUtil.toHex(split.digest()));
+    }
+
+    @Test
+    public void testHashFile() throws IOException, NoSuchAlgorithmException {
+        File file = cacheDirectoryPath.resolve("file.txt").toFile();
+        Files.write(file.toPath(), "abc".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", CacheFileUtil.hashFile(file));
+    }
+
+    @Test
+    public void testWriteAtomicallyReplacesEntry() throws IOException {
+        File entryFile = cacheDirectoryPath.resolve("entry.out").toFile();
+        CacheFileUtil.writeAtomically(entryFile, "test", temporaryFile -> Files.write(temporaryFile, Collections.singletonList("first"), StandardCharsets.UTF_8));
+        CacheFileUtil.writeAtomically(entryFile, "test", temporaryFile -> Files.write(temporaryFile, Collections.singletonList("second"), StandardCharsets.UTF_8));
+
+        assertEquals(Collections.singletonList("second"), Files.readAllLines(entryFile.toPath(), StandardCharsets.UTF_8));
+        assertArrayEquals(new String[] { "entry.out" }, cacheDirectoryPath.toFile().list());
+    }
+
+    @Test
+    public void testFailedWriteRemovesTemporaryFile() {
+        File entryFile = cacheDirectoryPath.resolve("entry.out").toFile();
+        assertThrows(IOException.class, () -> CacheFileUtil.writeAtomically(entryFile, "test", temporaryFile -> {
+            Files.write(temporaryFile, Collections.singletonList("partial"), StandardCharsets.UTF_8);
+            throw new IOException("Write failed.");
+        }));
+
+        assertFalse(entryFile.exists());
+        assertEquals(0, cacheDirectoryPath.toFile().list().length);
+    }
+
+    @Test
+    public void testPruneRemovesLeastRecentlyUsed() throws IOException {
+        File touched = createEntry("touched.out", 1000);
+        File unused = createEntry("unused.out", 2000);
+        File newest = createEntry("newest.out", 3000);
+        File other = createEntry("other.tmp", 0);
+        CacheFileUtil.touch(touched);
+
+        CacheFileUtil.pruneLeastRecentlyUsed(cacheDirectoryPath.toFile(), ".out", 2);
+
+        assertTrue(touched.exists());
+        assertFalse(unused.exists());
+        assertTrue(newest.exists());
+        assertTrue(other.exists());
+    }
+
+    @Test
+    public void testPruneRemovesDirectoryEntries() throws IOException {
+        File unused = cacheDirectoryPath.resolve("unused.out").toFile();
+        assertTrue(unused.mkdir());
+        assertTrue(new File(unused, "result.tar").createNewFile());
+        assertTrue(unused.setLastModified(1000));
+        File newest = createEntry("newest.out", 2000);
+
+        CacheFileUtil.pruneLeastRecentlyUsed(cacheDirectoryPath.toFile(), ".out", 1);
+
+        assertFalse(unused.exists());
+        assertTrue(newest.exists());
+    }
+
+    private File createEntry(String name, long lastModified) throws IOException {
+        File entry = cacheDirectoryPath.resolve(name).toFile();
+        assertTrue(entry.createNewFile());
+        assertTrue(entry.setLastModified(lastModified));
+        return entry;
+    }
+}
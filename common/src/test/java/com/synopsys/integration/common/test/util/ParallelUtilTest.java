@@ -0,0 +1,87 @@
+package com.synopsys.integration.common.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.common.util.ParallelUtil;
+
+public class ParallelUtilTest {
+    @Test
+    public void testResultsKeepItemOrder() {
+        List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        List<Integer> results = ParallelUtil.mapInOrder("test", 4, items, item -> {
+            sleep(20 - item);
+            return item * 2;
+        });
+
+        assertEquals(items.stream().map(item -> item * 2).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void testParallelismIsBounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 12).boxed().collect(Collectors.toList());
+
+        ParallelUtil.mapInOrder("test", 3, items, item -> {
+            maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(10);
+            return running.decrementAndGet();
+        });
+
+        assertTrue(maximumRunning.get() <= 3);
+    }
+
+    @Test
+    public void testSingleParallelismRunsOnCallingThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        ParallelUtil.mapInOrder("test", 1, Arrays.asList(1, 2, 3), item -> threads.add(Thread.currentThread()));
+
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testPoolThreadsAreNamedDaemons() {
+        List<Thread> threads = ParallelUtil.mapInOrder("test-pool", 2, Arrays.asList(1, 2), item -> Thread.currentThread());
+
+        for (Thread thread : threads) {
+            assertEquals("test-pool", thread.getName());
+            assertTrue(thread.isDaemon());
+        }
+    }
+
+    @Test
+    public void testCheckedExceptionIsRethrown() {
+        IOException thrown = assertThrows(IOException.class, () -> ParallelUtil.mapInOrder("test", 2, Arrays.asList(1, 2), item -> {
+            if (item == 2) {
+                throw new IOException("Task failed.");
+            }
+            return item;
+        }));
+
+        assertEquals("Task failed.", thrown.getMessage());
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
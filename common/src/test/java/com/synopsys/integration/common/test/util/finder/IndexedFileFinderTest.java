@@ -0,0 +1,69 @@
+package com.synopsys.integration.common.test.util.finder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.common.util.finder.DirectoryIndex;
+import com.synopsys.integration.common.util.finder.IndexedFileFinder;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+
+public class IndexedFileFinderTest {
+    private Path initialDirectoryPath;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        initialDirectoryPath = Files.createTempDirectory("IndexedFileFinderTest");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(initialDirectoryPath.toFile());
+    }
+
+    @Test
+    public void testIndexMatchesSimpleFileFinder() throws IOException {
+        File initialDirectory = initialDirectoryPath.toFile();
+        new File(initialDirectory, "package.json").createNewFile();
+        new File(initialDirectory, "build.gradle").createNewFile();
+        new File(initialDirectory, "app.sln").createNewFile();
+        new File(initialDirectory, "lib.csproj").createNewFile();
+
+        SimpleFileFinder simpleFileFinder = new SimpleFileFinder();
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(simpleFileFinder);
+        indexedFileFinder.addIndexes(Collections.singletonList(DirectoryIndex.fromDirectory(initialDirectory)));
+
+        assertEquals(simpleFileFinder.findFile(initialDirectory, "package.json"), indexedFileFinder.findFile(initialDirectory, "package.json"));
+        assertNull(indexedFileFinder.findFile(initialDirectory, "pom.xml"));
+
+        List<String> patterns = Arrays.asList("*.sln", "*.csproj");
+        assertEquals(simpleFileFinder.findFiles(initialDirectory, patterns), indexedFileFinder.findFiles(initialDirectory, patterns));
+        assertEquals(2, indexedFileFinder.findFiles(initialDirectory, patterns).size());
+    }
+
+    @Test
+    public void testClearedIndexSeesNewFiles() throws IOException {
+        File initialDirectory = initialDirectoryPath.toFile();
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(new SimpleFileFinder());
+        indexedFileFinder.addIndexes(Collections.singletonList(DirectoryIndex.fromDirectory(initialDirectory)));
+
+        File created = new File(initialDirectory, "yarn.lock");
+        created.createNewFile();
+        assertNull(indexedFileFinder.findFile(initialDirectory, "yarn.lock"));
+
+        indexedFileFinder.clearIndexes();
+        assertEquals(created, indexedFileFinder.findFile(initialDirectory, "yarn.lock"));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.cargo.parse.CargoLockParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CargoLockParserBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    public int dependencyCount;
+
+    private String cargoLock;
+
+    @Setup
+    public void setup() {
+        cargoLock = new SyntheticInputGenerator(dependencyCount).cargoLock();
+    }
+
+    @Benchmark
+    public DependencyGraph parseLockFile() throws DetectableException {
+        // The parser keeps a package map in a field, so each invocation gets its own as it would in an extraction.
+        return new CargoLockParser().parseLockFile(cargoLock);
+    }
+}
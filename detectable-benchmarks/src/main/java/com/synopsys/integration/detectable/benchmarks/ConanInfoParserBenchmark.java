@@ -0,0 +1,60 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.conan.ConanCodeLocationGenerator;
+import com.synopsys.integration.detectable.detectables.conan.ConanDetectableResult;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoLineAnalyzer;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoNodeParser;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoParser;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.element.NodeElementParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConanInfoParserBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    public int dependencyCount;
+
+    private String conanInfoOutput;
+    private ConanInfoParser conanInfoParser;
+
+    @Setup
+    public void setup() {
+        conanInfoOutput = new SyntheticInputGenerator(dependencyCount).conanInfoOutput();
+
+        ConanInfoLineAnalyzer conanInfoLineAnalyzer = new ConanInfoLineAnalyzer();
+        NodeElementParser nodeElementParser = new NodeElementParser(conanInfoLineAnalyzer);
+        ConanInfoNodeParser conanInfoNodeParser = new ConanInfoNodeParser(conanInfoLineAnalyzer, nodeElementParser);
+        conanInfoParser = new ConanInfoParser(conanInfoNodeParser, new ConanCodeLocationGenerator(), new ExternalIdFactory());
+    }
+
+    @Benchmark
+    public ConanDetectableResult generateCodeLocation() throws DetectableException {
+        return conanInfoParser.generateCodeLocationFromConanInfoOutput(conanInfoOutput, true, false);
+    }
+}
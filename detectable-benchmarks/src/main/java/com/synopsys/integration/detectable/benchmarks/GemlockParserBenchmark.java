@@ -0,0 +1,54 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.builder.MissingExternalIdException;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GemlockParserBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    public int dependencyCount;
+
+    private List<String> gemfileLockLines;
+    private ExternalIdFactory externalIdFactory;
+
+    @Setup
+    public void setup() {
+        gemfileLockLines = new SyntheticInputGenerator(dependencyCount).gemfileLockLines();
+        externalIdFactory = new ExternalIdFactory();
+    }
+
+    @Benchmark
+    public DependencyGraph parseProjectDependencies() throws MissingExternalIdException {
+        // The parser keeps parsing state in fields, so each invocation gets its own as it would in an extraction.
+        return new GemlockParser(externalIdFactory).parseProjectDependencies(gemfileLockLines);
+    }
+}
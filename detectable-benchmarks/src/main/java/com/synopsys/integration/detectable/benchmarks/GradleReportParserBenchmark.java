@@ -0,0 +1,63 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GradleReportParserBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    public int dependencyCount;
+
+    private File reportFile;
+    private GradleReportParser gradleReportParser;
+
+    @Setup
+    public void setup() throws IOException {
+        // The parser reads reports from disk, so the synthetic report is written once per trial.
+        reportFile = File.createTempFile("gradle-report", ".txt");
+        Files.write(reportFile.toPath(), new SyntheticInputGenerator(dependencyCount).gradleReport().getBytes(StandardCharsets.UTF_8));
+        gradleReportParser = new GradleReportParser();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(reportFile.toPath());
+    }
+
+    @Benchmark
+    public Optional<GradleReport> parseReport() {
+        return gradleReportParser.parseReport(reportFile);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MavenCodeLocationPackagerBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    public int dependencyCount;
+
+    private List<String> mavenOutput;
+    private ExternalIdFactory externalIdFactory;
+
+    @Setup
+    public void setup() {
+        mavenOutput = new SyntheticInputGenerator(dependencyCount).mavenDependencyTreeOutput();
+        externalIdFactory = new ExternalIdFactory();
+    }
+
+    @Benchmark
+    public List<MavenParseResult> extractCodeLocations() {
+        // The packager keeps parsing state in fields, so each invocation gets its own as it would in an extraction.
+        MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(externalIdFactory);
+        return mavenCodeLocationPackager.extractCodeLocations("/benchmark", mavenOutput, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+}
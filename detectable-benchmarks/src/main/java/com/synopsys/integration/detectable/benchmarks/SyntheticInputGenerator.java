@@ -0,0 +1,240 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Every format describes the same graph: a binary tree where package i depends on packages 2i+1 and 2i+2, and only package 0 is a direct dependency.
+public class SyntheticInputGenerator {
+    private static final String VERSION = "1.0.0";
+
+    private final int dependencyCount;
+
+    public SyntheticInputGenerator(int dependencyCount) {
+        this.dependencyCount = dependencyCount;
+    }
+
+    public List<String> yarnLockLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("# THIS IS AN AUTOGENERATED FILE. DO NOT EDIT THIS FILE DIRECTLY.");
+        lines.add("# yarn lockfile v1");
+        lines.add("");
+        for (int i = 0; i < dependencyCount; i++) {
+            lines.add("\"" + name(i) + "@^" + VERSION + "\":");
+            lines.add("  version \"" + VERSION + "\"");
+            lines.add("  resolved \"https://registry.yarnpkg.com/" + name(i) + "/-/" + name(i) + "-" + VERSION + ".tgz\"");
+            List<Integer> children = children(i);
+            if (!children.isEmpty()) {
+                lines.add("  dependencies:");
+                for (int child : children) {
+                    lines.add("    " + name(child) + " \"^" + VERSION + "\"");
+                }
+            }
+            lines.add("");
+        }
+        return lines;
+    }
+
+    public String packageJson() {
+        return "{\"name\":\"root\",\"version\":\"" + VERSION + "\",\"dependencies\":{\"" + name(0) + "\":\"^" + VERSION + "\"}}";
+    }
+
+    public String packageLock() {
+        StringBuilder lock = new StringBuilder();
+        lock.append("{\"name\":\"root\",\"version\":\"").append(VERSION).append("\",\"lockfileVersion\":1,\"requires\":true,\"dependencies\":{");
+        for (int i = 0; i < dependencyCount; i++) {
+            if (i > 0) {
+                lock.append(',');
+            }
+            lock.append('"').append(name(i)).append("\":{\"version\":\"").append(VERSION).append("\",\"resolved\":\"https://registry.npmjs.org/")
+                .append(name(i)).append("/-/").append(name(i)).append('-').append(VERSION).append(".tgz\"");
+            List<Integer> children = children(i);
+            if (!children.isEmpty()) {
+                lock.append(",\"requires\":{");
+                for (int c = 0; c < children.size(); c++) {
+                    if (c > 0) {
+                        lock.append(',');
+                    }
+                    lock.append('"').append(name(children.get(c))).append("\":\"^").append(VERSION).append('"');
+                }
+                lock.append('}');
+            }
+            lock.append('}');
+        }
+        lock.append("}}");
+        return lock.toString();
+    }
+
+    public List<String> mavenDependencyTreeOutput() {
+        List<String> lines = new ArrayList<>();
+        lines.add("[INFO] Scanning for projects...");
+        lines.add("[INFO] ------------------------------------------------------------------------");
+        lines.add("[INFO] Building root " + VERSION);
+        lines.add("[INFO] ------------------------------------------------------------------------");
+        lines.add("[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ root ---");
+        lines.add("[INFO] com.synopsys.benchmark:root:jar:" + VERSION);
+        if (dependencyCount > 0) {
+            appendTree(lines, 0, "[INFO] ", "\\- ", "   ", "com.synopsys.benchmark:%s:jar:" + VERSION + ":compile");
+        }
+        lines.add("[INFO] ------------------------------------------------------------------------");
+        lines.add("[INFO] BUILD SUCCESS");
+        return lines;
+    }
+
+    public String gradleReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add("");
+        lines.add("------------------------------------------------------------");
+        lines.add("Root project");
+        lines.add("------------------------------------------------------------");
+        lines.add("");
+        lines.add("compileClasspath - Compile classpath for source set 'main'.");
+        if (dependencyCount > 0) {
+            appendTree(lines, 0, "", "\\--- ", "     ", "com.synopsys.benchmark:%s:" + VERSION);
+        }
+        lines.add("");
+        lines.add("DETECT META DATA START");
+        lines.add("rootProjectName:root");
+        lines.add("rootProjectVersion:" + VERSION);
+        lines.add("projectPath:/benchmark");
+        lines.add("projectGroup:com.synopsys.benchmark");
+        lines.add("projectName:root");
+        lines.add("projectVersion:" + VERSION);
+        lines.add("DETECT META DATA END");
+        return String.join("\n", lines) + "\n";
+    }
+
+    public String podfileLock() {
+        StringBuilder podfileLock = new StringBuilder("PODS:\n");
+        for (int i = 0; i < dependencyCount; i++) {
+            List<Integer> children = children(i);
+            podfileLock.append("  - ").append(podName(i)).append(" (").append(VERSION).append(')');
+            if (children.isEmpty()) {
+                podfileLock.append('\n');
+            } else {
+                podfileLock.append(":\n");
+                for (int child : children) {
+                    podfileLock.append("    - ").append(podName(child)).append(" (= ").append(VERSION).append(")\n");
+                }
+            }
+        }
+        podfileLock.append("\nDEPENDENCIES:\n");
+        if (dependencyCount > 0) {
+            podfileLock.append("  - ").append(podName(0)).append(" (= ").append(VERSION).append(")\n");
+        }
+        podfileLock.append("\nPODFILE CHECKSUM: 0000000000000000000000000000000000000000\n\nCOCOAPODS: 1.10.1\n");
+        return podfileLock.toString();
+    }
+
+    public List<String> gemfileLockLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("GEM");
+        lines.add("  remote: https://rubygems.org/");
+        lines.add("  specs:");
+        for (int i = 0; i < dependencyCount; i++) {
+            lines.add("    " + name(i) + " (" + VERSION + ")");
+            for (int child : children(i)) {
+                lines.add("      " + name(child) + " (~> " + VERSION + ")");
+            }
+        }
+        lines.add("");
+        lines.add("PLATFORMS");
+        lines.add("  ruby");
+        lines.add("");
+        lines.add("DEPENDENCIES");
+        if (dependencyCount > 0) {
+            lines.add("  " + name(0));
+        }
+        lines.add("");
+        lines.add("BUNDLED WITH");
+        lines.add("   2.2.15");
+        return lines;
+    }
+
+    public String cargoLock() {
+        StringBuilder cargoLock = new StringBuilder("# This file is automatically @generated by Cargo.\n# It is not intended for manual editing.\n");
+        for (int i = 0; i < dependencyCount; i++) {
+            cargoLock.append("\n[[package]]\nname = \"").append(name(i)).append("\"\nversion = \"").append(VERSION).append("\"\n");
+            List<Integer> children = children(i);
+            if (!children.isEmpty()) {
+                cargoLock.append("dependencies = [\n");
+                for (int child : children) {
+                    cargoLock.append(" \"").append(name(child)).append("\",\n");
+                }
+                cargoLock.append("]\n");
+            }
+        }
+        return cargoLock.toString();
+    }
+
+    public String conanInfoOutput() {
+        StringBuilder conanInfo = new StringBuilder();
+        conanInfo.append("conanfile.txt\n    ID: 0000000000000000000000000000000000000000\n    BuildID: None\n");
+        if (dependencyCount > 0) {
+            conanInfo.append("    Requires:\n        ").append(conanRef(0)).append('\n');
+        }
+        for (int i = 0; i < dependencyCount; i++) {
+            conanInfo.append(conanRef(i)).append('\n');
+            conanInfo.append("    ID: 0000000000000000000000000000000000000000\n    BuildID: None\n    Recipe: Cache\n");
+            conanInfo.append("    Revision: 00000000000000000000000000000000\n    Binary: Cache\n");
+            conanInfo.append("    Required by:\n        ").append(i == 0 ? "conanfile.txt" : conanRef((i - 1) / 2)).append('\n');
+            List<Integer> children = children(i);
+            if (!children.isEmpty()) {
+                conanInfo.append("    Requires:\n");
+                for (int child : children) {
+                    conanInfo.append("        ").append(conanRef(child)).append('\n');
+                }
+            }
+        }
+        return conanInfo.toString();
+    }
+
+    // Writes the subtree rooted at the given package with the tree drawing characters used by Maven and Gradle.
+    private void appendTree(List<String> lines, int root, String linePrefix, String lastBranch, String emptyIndent, String componentFormat) {
+        String branch = lastBranch.replace('\\', '+');
+        String continuingIndent = "|" + emptyIndent.substring(1);
+        List<Object[]> stack = new ArrayList<>();
+        stack.add(new Object[] { root, "", true });
+        while (!stack.isEmpty()) {
+            Object[] entry = stack.remove(stack.size() - 1);
+            int index = (Integer) entry[0];
+            String indent = (String) entry[1];
+            boolean last = (Boolean) entry[2];
+            lines.add(linePrefix + indent + (last ? lastBranch : branch) + String.format(componentFormat, name(index)));
+
+            String childIndent = indent + (last ? emptyIndent : continuingIndent);
+            List<Integer> children = children(index);
+            for (int c = children.size() - 1; c >= 0; c--) {
+                stack.add(new Object[] { children.get(c), childIndent, c == children.size() - 1 });
+            }
+        }
+    }
+
+    private List<Integer> children(int index) {
+        List<Integer> children = new ArrayList<>(2);
+        for (int child = 2 * index + 1; child <= 2 * index + 2; child++) {
+            if (child < dependencyCount) {
+                children.add(child);
+            }
+        }
+        return children;
+    }
+
+    private String name(int index) {
+        return "package-" + index;
+    }
+
+    private String podName(int index) {
+        return "Pod" + index;
+    }
+
+    private String conanRef(int index) {
+        return name(index) + "/" + VERSION;
+    }
+}
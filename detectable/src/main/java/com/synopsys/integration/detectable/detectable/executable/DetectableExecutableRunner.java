@@ -9,6 +9,8 @@ package com.synopsys.integration.detectable.detectable.executable;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -41,4 +43,14 @@ public interface DetectableExecutableRunner {
 
     @NotNull
     ExecutableOutput executeSuccessfully(Executable executable) throws ExecutableFailedException; //Returns output if and only if executable return code was zero, otherwise throws.
+
+    @NotNull
+    CompletableFuture<ExecutableOutput> executeAsync(Executable executable); //Completes exceptionally with the ExecutableRunnerException if the executable could not be run.
+
+    //Standard output is handed to the consumer a line at a time as it is produced and is not kept, so the returned output's standard output is empty.
+    @NotNull
+    ExecutableOutput executeStreaming(Executable executable, Consumer<String> standardOutputConsumer) throws ExecutableRunnerException;
+
+    @NotNull
+    CompletableFuture<ExecutableOutput> executeStreamingAsync(Executable executable, Consumer<String> standardOutputConsumer);
 }
@@ -15,12 +15,19 @@ public class BazelDetectableOptions {
     private final String targetName;
     private final Set<WorkspaceRule> bazelDependencyRules;
     private final List<String> bazelCqueryAdditionalOptions;
+    private final int pipelineParallelism;
 
     public BazelDetectableOptions(String targetName, Set<WorkspaceRule> bazelDependencyRules,
         List<String> bazelCqueryAdditionalOptions) {
+        this(targetName, bazelDependencyRules, bazelCqueryAdditionalOptions, 1);
+    }
+
+    public BazelDetectableOptions(String targetName, Set<WorkspaceRule> bazelDependencyRules,
+        List<String> bazelCqueryAdditionalOptions, int pipelineParallelism) {
         this.targetName = targetName;
         this.bazelDependencyRules = bazelDependencyRules;
         this.bazelCqueryAdditionalOptions = bazelCqueryAdditionalOptions;
+        this.pipelineParallelism = pipelineParallelism;
     }
 
     public Optional<String> getTargetName() {
@@ -34,4 +41,8 @@ public class BazelDetectableOptions {
     public Set<WorkspaceRule> getBazelDependencyRules() {
         return bazelDependencyRules;
     }
+
+    public int getPipelineParallelism() {
+        return pipelineParallelism;
+    }
 }
@@ -23,6 +23,7 @@ import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.ParallelUtil;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
@@ -51,13 +52,19 @@ public class BazelExtractor {
     public Extraction extract(ExecutableTarget bazelExe, File workspaceDir, BazelWorkspace bazelWorkspace, String bazelTarget,
         BazelProjectNameGenerator bazelProjectNameGenerator, Set<WorkspaceRule> providedDependencyRuleTypes,
         List<String> providedCqueryAdditionalOptions) {
+        return extract(bazelExe, workspaceDir, bazelWorkspace, bazelTarget, bazelProjectNameGenerator, providedDependencyRuleTypes, providedCqueryAdditionalOptions, 1);
+    }
+
+    public Extraction extract(ExecutableTarget bazelExe, File workspaceDir, BazelWorkspace bazelWorkspace, String bazelTarget,
+        BazelProjectNameGenerator bazelProjectNameGenerator, Set<WorkspaceRule> providedDependencyRuleTypes,
+        List<String> providedCqueryAdditionalOptions, int pipelineParallelism) {
         logger.debug("Bazel extraction:");
         try {
             BazelCommandExecutor bazelCommandExecutor = new BazelCommandExecutor(executableRunner, workspaceDir, bazelExe);
             BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget, providedCqueryAdditionalOptions);
             Pipelines pipelines = new Pipelines(bazelCommandExecutor, bazelVariableSubstitutor, externalIdFactory);
             Set<WorkspaceRule> workspaceRulesToQuery = workspaceRuleChooser.choose(bazelWorkspace.getDependencyRuleTypes(), providedDependencyRuleTypes);
-            List<Dependency> aggregatedDependencies = collectDependencies(pipelines, workspaceRulesToQuery);
+            List<Dependency> aggregatedDependencies = collectDependencies(pipelines, workspaceRulesToQuery, pipelineParallelism);
             return buildResults(aggregatedDependencies, bazelProjectNameGenerator.generateFromBazelTarget(bazelTarget));
         } catch (Exception e) {
             String msg = String.format("Bazel processing exception: %s", e.getMessage());
@@ -77,24 +84,29 @@ public class BazelExtractor {
     }
 
     @NotNull
-    private List<Dependency> collectDependencies(Pipelines pipelines, Set<WorkspaceRule> workspaceRules) throws IntegrationException {
-        List<Dependency> aggregatedDependencies = new ArrayList<>();
+    private List<Dependency> collectDependencies(Pipelines pipelines, Set<WorkspaceRule> workspaceRules, int pipelineParallelism) throws IntegrationException {
         // Make sure the order of processing deterministic
         List<WorkspaceRule> sortedWorkspaceRules = workspaceRules.stream()
                                                        .sorted(Comparator.naturalOrder())
                                                        .collect(Collectors.toList());
 
-        for (WorkspaceRule workspaceRule : sortedWorkspaceRules) {
-            logger.info(String.format("Running processing pipeline for rule %s", workspaceRule));
-            Pipeline pipeline = pipelines.get(workspaceRule);
-            List<Dependency> ruleDependencies = pipeline.run();
-            logger.info(String.format("Number of dependencies discovered for rule %s: %d", workspaceRule, ruleDependencies.size()));
-            logger.debug(String.format("Dependencies discovered for rule %s: %s", workspaceRule, ruleDependencies));
+        List<Dependency> aggregatedDependencies = new ArrayList<>();
+        List<List<Dependency>> pipelineResults = ParallelUtil.mapInOrder("bazel-pipeline", pipelineParallelism, sortedWorkspaceRules, workspaceRule -> runPipeline(pipelines, workspaceRule));
+        for (List<Dependency> ruleDependencies : pipelineResults) {
             aggregatedDependencies.addAll(ruleDependencies);
         }
         return aggregatedDependencies;
     }
 
+    private List<Dependency> runPipeline(Pipelines pipelines, WorkspaceRule workspaceRule) throws IntegrationException {
+        logger.info(String.format("Running processing pipeline for rule %s", workspaceRule));
+        Pipeline pipeline = pipelines.get(workspaceRule);
+        List<Dependency> ruleDependencies = pipeline.run();
+        logger.info(String.format("Number of dependencies discovered for rule %s: %d", workspaceRule, ruleDependencies.size()));
+        logger.debug(String.format("Dependencies discovered for rule %s: %s", workspaceRule, ruleDependencies));
+        return ruleDependencies;
+    }
+
     @NotNull
     private MutableDependencyGraph createDependencyGraph(List<Dependency> aggregatedDependencies) {
         MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
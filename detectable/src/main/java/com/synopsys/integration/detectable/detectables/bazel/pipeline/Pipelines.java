@@ -43,7 +43,7 @@ public class Pipelines {
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("^@", ""))
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("//.*", ""))
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("^", "//external:"))
-                                        .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", OUTPUT_FLAG, "xml"), true))
+                                        .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", OUTPUT_FLAG, "xml"), true, true))
                                         .addIntermediateStep(new IntermediateStepParseEachXml("/query/rule[@class='maven_jar']/string[@name='artifact']", "value"))
                                         .setFinalStep(new FinalStepColonSeparatedGavs(externalIdFactory))
                                         .build();
@@ -8,8 +8,13 @@
 package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -23,11 +28,13 @@ import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
+// One executor is created per extraction, so its results are cached for the run: identical queries made by different steps or pipelines only execute once.
 public class BazelCommandExecutor {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final DetectableExecutableRunner executableRunner;
     private final File workspaceDir;
     private final ExecutableTarget bazelExe;
+    private final Map<List<String>, CompletableFuture<Optional<String>>> queryResults = new ConcurrentHashMap<>();
 
     public BazelCommandExecutor(DetectableExecutableRunner executableRunner, File workspaceDir, ExecutableTarget bazelExe) {
         this.executableRunner = executableRunner;
@@ -36,7 +43,60 @@ public class BazelCommandExecutor {
     }
 
     public Optional<String> executeToString(List<String> args) throws IntegrationException {
-        ExecutableOutput executableOutput = execute(args);
+        CompletableFuture<Optional<String>> queryResult = new CompletableFuture<>();
+        CompletableFuture<Optional<String>> existingQueryResult = queryResults.putIfAbsent(new ArrayList<>(args), queryResult);
+        if (existingQueryResult != null) {
+            logger.debug(String.format("Reusing the output of bazel with args: %s", args));
+            return waitForResult(existingQueryResult);
+        }
+        try {
+            Optional<String> output = toOutputString(execute(args));
+            queryResult.complete(output);
+            return output;
+        } catch (IntegrationException | RuntimeException e) {
+            queryResults.remove(args, queryResult);
+            queryResult.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Completes exceptionally with an IntegrationException if bazel could not be run or failed.
+    public CompletableFuture<Optional<String>> executeToStringAsync(List<String> args) {
+        CompletableFuture<Optional<String>> queryResult = new CompletableFuture<>();
+        CompletableFuture<Optional<String>> existingQueryResult = queryResults.putIfAbsent(new ArrayList<>(args), queryResult);
+        if (existingQueryResult != null) {
+            logger.debug(String.format("Reusing the output of bazel with args: %s", args));
+            return existingQueryResult;
+        }
+        logger.debug(String.format("Executing bazel with args: %s", args));
+        executableRunner.executeAsync(ExecutableUtils.createFromTarget(workspaceDir, bazelExe, args))
+            .whenComplete((executableOutput, failure) -> {
+                try {
+                    if (failure != null) {
+                        throw toExecutionFailure(args, failure instanceof CompletionException ? failure.getCause() : failure);
+                    }
+                    queryResult.complete(toOutputString(checkReturnCode(args, executableOutput)));
+                } catch (IntegrationException | RuntimeException e) {
+                    queryResults.remove(args, queryResult);
+                    queryResult.completeExceptionally(e);
+                }
+            });
+        return queryResult;
+    }
+
+    // Unwraps the IntegrationException of a result produced by executeToStringAsync.
+    public static Optional<String> waitForResult(CompletableFuture<Optional<String>> queryResult) throws IntegrationException {
+        try {
+            return queryResult.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IntegrationException) {
+                throw (IntegrationException) e.getCause();
+            }
+            throw new IntegrationException(String.format("Error executing bazel: %s", e.getMessage()), e.getCause());
+        }
+    }
+
+    private Optional<String> toOutputString(ExecutableOutput executableOutput) {
         String cmdStdErr = executableOutput.getErrorOutput();
         if (cmdStdErr != null && cmdStdErr.contains("ERROR")) {
             logger.warn(String.format("Bazel error: %s", cmdStdErr.trim()));
@@ -56,10 +116,19 @@ public class BazelCommandExecutor {
         try {
             targetDependenciesQueryResults = executableRunner.execute(ExecutableUtils.createFromTarget(workspaceDir, bazelExe, args));
         } catch (ExecutableRunnerException e) {
-            String msg = String.format("Error executing %s with args: %s", bazelExe, args);
-            logger.debug(msg);
-            throw new IntegrationException(msg, e);
+            throw toExecutionFailure(args, e);
         }
+        return checkReturnCode(args, targetDependenciesQueryResults);
+    }
+
+    private IntegrationException toExecutionFailure(List<String> args, Throwable cause) {
+        String msg = String.format("Error executing %s with args: %s", bazelExe, args);
+        logger.debug(msg);
+        return new IntegrationException(msg, cause);
+    }
+
+    @NotNull
+    private ExecutableOutput checkReturnCode(List<String> args, ExecutableOutput targetDependenciesQueryResults) throws IntegrationException {
         int targetDependenciesQueryReturnCode = targetDependenciesQueryResults.getReturnCode();
         if (targetDependenciesQueryReturnCode != 0) {
             String msg = String.format("Error executing bazel with args: %s: Return code: %d; stderr: %s", args,
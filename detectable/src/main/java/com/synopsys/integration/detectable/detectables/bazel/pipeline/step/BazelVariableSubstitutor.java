@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 
 public class BazelVariableSubstitutor {
+    private static final String INPUT_ITEM_PATTERN = "\\$\\{input.item}";
     private final Map<String, String> stringSubstitutions;
     private final Map<String, List<String>> listInsertions;
 
@@ -59,14 +60,15 @@ public class BazelVariableSubstitutor {
         return foundListInsertionVariable;
     }
 
+    // The input is substituted without being stored, so pipelines running at the same time can share a substitutor.
     private String substitute(final String origString, final String input) {
         String modifiedString = origString;
-        if (input != null) {
-            stringSubstitutions.put("\\$\\{input.item}", input);
-        }
         for (final Map.Entry<String, String> substitution : stringSubstitutions.entrySet()) {
             modifiedString = modifiedString.replaceAll(substitution.getKey(), substitution.getValue());
         }
+        if (input != null) {
+            modifiedString = modifiedString.replaceAll(INPUT_ITEM_PATTERN, input);
+        }
         return modifiedString;
     }
 }
@@ -10,21 +10,43 @@ package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.exception.IntegrationException;
 
 public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
+    // Keeps a combined query well below the command line length limits.
+    private static final int MAX_ITEMS_PER_COMBINED_QUERY = 100;
+    private static final String QUERY_UNION_OPERATOR = " + ";
+    // The bazel server runs one command at a time, so more concurrent queries would only wait on its lock.
+    private static final int MAX_CONCURRENT_QUERIES = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final BazelCommandExecutor bazelCommandExecutor;
     private final BazelVariableSubstitutor bazelVariableSubstitutor;
     private final List<String> bazelCommandArgs;
     private final boolean inputIsExpected;
+    private final boolean combineInput;
 
     public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
         BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected) {
+        this(bazelCommandExecutor, bazelVariableSubstitutor, bazelCommandArgs, inputIsExpected, false);
+    }
+
+    // When combineInput is set the input items must be query expressions, many of them are then answered by a single query of their union.
+    // The output of the combined query must be handled by the following steps the same way as the output of the individual queries.
+    public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
+        BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected, boolean combineInput) {
         this.bazelCommandExecutor = bazelCommandExecutor;
         this.bazelVariableSubstitutor = bazelVariableSubstitutor;
         this.bazelCommandArgs = bazelCommandArgs;
         this.inputIsExpected = inputIsExpected;
+        this.combineInput = combineInput;
     }
 
     @Override
@@ -41,10 +63,53 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
         } else {
             adjustedInput = input;
         }
-        for (String inputItem : adjustedInput) {
+        if (combineInput && adjustedInput.size() > 1) {
+            List<String> distinctInput = adjustedInput.stream().distinct().collect(Collectors.toList());
+            for (int batchStart = 0; batchStart < distinctInput.size(); batchStart += MAX_ITEMS_PER_COMBINED_QUERY) {
+                List<String> batch = distinctInput.subList(batchStart, Math.min(batchStart + MAX_ITEMS_PER_COMBINED_QUERY, distinctInput.size()));
+                results.addAll(executeCombined(batch));
+            }
+        } else {
+            results.addAll(executeEach(adjustedInput));
+        }
+        return results;
+    }
+
+    private List<String> executeCombined(List<String> batch) throws IntegrationException {
+        if (batch.size() == 1) {
+            return executeEach(batch);
+        }
+        List<String> finalizedArgs = bazelVariableSubstitutor.substitute(bazelCommandArgs, String.join(QUERY_UNION_OPERATOR, batch));
+        try {
+            List<String> results = new ArrayList<>(1);
+            bazelCommandExecutor.executeToString(finalizedArgs).ifPresent(results::add);
+            return results;
+        } catch (IntegrationException e) {
+            // A single item bazel can't resolve fails the whole combined query, so the items are queried individually to find it.
+            logger.debug(String.format("Combined bazel query of %d items failed, querying them individually: %s", batch.size(), e.getMessage()));
+            return executeEach(batch);
+        }
+    }
+
+    private List<String> executeEach(List<String> input) throws IntegrationException {
+        List<String> results = new ArrayList<>();
+        if (input.size() == 1) {
+            List<String> finalizedArgs = bazelVariableSubstitutor.substitute(bazelCommandArgs, input.get(0));
+            bazelCommandExecutor.executeToString(finalizedArgs).ifPresent(results::add);
+            return results;
+        }
+
+        // The results are collected in input order.
+        Semaphore queryPermits = new Semaphore(MAX_CONCURRENT_QUERIES);
+        List<CompletableFuture<Optional<String>>> pendingResults = new ArrayList<>(input.size());
+        for (String inputItem : input) {
             List<String> finalizedArgs = bazelVariableSubstitutor.substitute(bazelCommandArgs, inputItem);
-            Optional<String> cmdOutput = bazelCommandExecutor.executeToString(finalizedArgs);
-            cmdOutput.ifPresent(results::add);
+            queryPermits.acquireUninterruptibly();
+            pendingResults.add(bazelCommandExecutor.executeToStringAsync(finalizedArgs)
+                                   .whenComplete((result, exception) -> queryPermits.release()));
+        }
+        for (CompletableFuture<Optional<String>> pendingResult : pendingResults) {
+            BazelCommandExecutor.waitForResult(pendingResult).ifPresent(results::add);
         }
         return results;
     }
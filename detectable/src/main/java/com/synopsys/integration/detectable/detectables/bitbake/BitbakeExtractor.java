@@ -7,20 +7,19 @@
  */
 package com.synopsys.integration.detectable.detectables.bitbake;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
@@ -30,7 +29,7 @@ import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGrap
 import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeRecipe;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipesParser;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.TaskDependsParser;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.executable.ExecutableRunnerException;
@@ -40,16 +39,16 @@ public class BitbakeExtractor {
 
     private final DetectableExecutableRunner executableRunner;
     private final FileFinder fileFinder;
-    private final GraphParserTransformer graphParserTransformer;
+    private final TaskDependsParser taskDependsParser;
     private final BitbakeGraphTransformer bitbakeGraphTransformer;
     private final BitbakeRecipesParser bitbakeRecipesParser;
     private final BitbakeRecipesToLayerMapConverter bitbakeRecipesToLayerMap;
 
-    public BitbakeExtractor(DetectableExecutableRunner executableRunner, FileFinder fileFinder, GraphParserTransformer graphParserTransformer, BitbakeGraphTransformer bitbakeGraphTransformer,
+    public BitbakeExtractor(DetectableExecutableRunner executableRunner, FileFinder fileFinder, TaskDependsParser taskDependsParser, BitbakeGraphTransformer bitbakeGraphTransformer,
         BitbakeRecipesParser bitbakeRecipesParser, BitbakeRecipesToLayerMapConverter bitbakeRecipesToLayerMap) {
         this.executableRunner = executableRunner;
         this.fileFinder = fileFinder;
-        this.graphParserTransformer = graphParserTransformer;
+        this.taskDependsParser = taskDependsParser;
         this.bitbakeGraphTransformer = bitbakeGraphTransformer;
         this.bitbakeRecipesParser = bitbakeRecipesParser;
         this.bitbakeRecipesToLayerMap = bitbakeRecipesToLayerMap;
@@ -59,11 +58,16 @@ public class BitbakeExtractor {
         List<CodeLocation> codeLocations = new ArrayList<>();
 
         BitbakeSession bitbakeSession = new BitbakeSession(fileFinder, executableRunner, bitbakeRecipesParser, sourceDirectory, buildEnvScript, sourceArguments, bash);
+        // The recipe layer catalog does not depend on the package, so it is only requested once.
+        Map<String, String> recipeNameToLayersMap = null;
+        // Packages are queried one at a time, bitbake holds a lock on the build directory and every query writes the same task-depends.dot.
         for (String packageName : packageNames) {
             try {
                 BitbakeGraph bitbakeGraph = generateBitbakeGraph(bitbakeSession, sourceDirectory, packageName, searchDepth);
-                List<BitbakeRecipe> bitbakeRecipes = bitbakeSession.executeBitbakeForRecipeLayerCatalog();
-                Map<String, String> recipeNameToLayersMap = bitbakeRecipesToLayerMap.convert(bitbakeRecipes);
+                if (recipeNameToLayersMap == null) {
+                    List<BitbakeRecipe> bitbakeRecipes = bitbakeSession.executeBitbakeForRecipeLayerCatalog();
+                    recipeNameToLayersMap = bitbakeRecipesToLayerMap.convert(bitbakeRecipes);
+                }
 
                 DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, recipeNameToLayersMap);
                 CodeLocation codeLocation = new CodeLocation(dependencyGraph);
@@ -96,11 +100,9 @@ public class BitbakeExtractor {
         File taskDependsFile = bitbakeSession.executeBitbakeForDependencies(sourceDirectory, packageName, searchDepth)
                                          .orElseThrow(() -> new IntegrationException("Failed to find file \"task-depends.dot\"."));
 
-        logger.trace(FileUtils.readFileToString(taskDependsFile, Charset.defaultCharset()));
-
-        InputStream dependsFileInputStream = FileUtils.openInputStream(taskDependsFile);
-        GraphParser graphParser = new GraphParser(dependsFileInputStream);
-
-        return graphParserTransformer.transform(graphParser);
+        logger.trace(String.format("Parsing the task dependencies of '%s': %s", packageName, taskDependsFile.getAbsolutePath()));
+        try (BufferedReader taskDependsReader = Files.newBufferedReader(taskDependsFile.toPath(), StandardCharsets.UTF_8)) {
+            return taskDependsParser.parse(taskDependsReader);
+        }
     }
 }
@@ -9,7 +9,10 @@ package com.synopsys.integration.detectable.detectables.bitbake;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -25,8 +28,11 @@ import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
+// The build environment script is sourced once, the environment and directory it leaves behind are captured and every bitbake command runs in them.
+// Sourcing the script is slow and it changes directory into the build directory, which is where bitbake writes its output.
 public class BitbakeSession {
     private static final String TASK_DEPENDS_FILE_NAME = "task-depends.dot";
+    private static final String ENVIRONMENT_MARKER = "DETECT_BITBAKE_ENVIRONMENT";
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -38,6 +44,9 @@ public class BitbakeSession {
     private final List<String> sourceArguments;
     private final ExecutableTarget bashExecutable;
 
+    private File buildDirectory = null;
+    private Map<String, String> buildEnvironment = null;
+
     public BitbakeSession(FileFinder fileFinder, DetectableExecutableRunner executableRunner, BitbakeRecipesParser bitbakeRecipesParser, File workingDirectory, File buildEnvScript,
         List<String> sourceArguments,
         ExecutableTarget bashExecutable) {
@@ -51,7 +60,7 @@ public class BitbakeSession {
     }
 
     public Optional<File> executeBitbakeForDependencies(File sourceDirectory, String packageName, Integer searchDepth)
-        throws ExecutableRunnerException, IOException {
+        throws ExecutableRunnerException, IOException, IntegrationException {
 
         String bitbakeCommand = "bitbake -g " + packageName;
         ExecutableOutput executableOutput = runBitbake(bitbakeCommand);
@@ -62,7 +71,7 @@ public class BitbakeSession {
             return Optional.empty();
         }
 
-        return findTaskDependsFile(sourceDirectory, workingDirectory, searchDepth);
+        return findTaskDependsFile(sourceDirectory, buildDirectory, searchDepth);
 
     }
 
@@ -82,16 +91,51 @@ public class BitbakeSession {
         if (executableOutput.getReturnCode() == 0) {
             return bitbakeRecipesParser.parseShowRecipes(executableOutput.getStandardOutputAsList());
         } else {
-            throw new IntegrationException("Running command '%s' returned a non-zero exit code. Failed to extract bitbake recipe mapping.");
+            throw new IntegrationException(String.format("Running command '%s' returned a non-zero exit code. Failed to extract bitbake recipe mapping.", bitbakeCommand));
         }
     }
 
-    private ExecutableOutput runBitbake(String bitbakeCommand) throws ExecutableRunnerException, IOException {
+    private ExecutableOutput runBitbake(String bitbakeCommand) throws ExecutableRunnerException, IOException, IntegrationException {
+        if (buildEnvironment == null) {
+            sourceBuildEnvironment();
+        }
+        return executableRunner.execute(ExecutableUtils.createFromTarget(buildDirectory, buildEnvironment, bashExecutable, Arrays.asList("-c", bitbakeCommand)));
+    }
+
+    private void sourceBuildEnvironment() throws ExecutableRunnerException, IOException, IntegrationException {
         StringBuilder sourceCommand = new StringBuilder("source " + buildEnvScript.getCanonicalPath());
         for (String sourceArgument : sourceArguments) {
             sourceCommand.append(" ");
             sourceCommand.append(sourceArgument);
         }
-        return executableRunner.execute(ExecutableUtils.createFromTarget(workingDirectory, bashExecutable, "-c", sourceCommand.toString() + "; " + bitbakeCommand));
+        sourceCommand.append("; echo " + ENVIRONMENT_MARKER + "; pwd; env -0");
+
+        ExecutableOutput executableOutput = executableRunner.execute(ExecutableUtils.createFromTarget(workingDirectory, bashExecutable, "-c", sourceCommand.toString()));
+        if (executableOutput.getReturnCode() != 0) {
+            throw new IntegrationException(String.format("Sourcing the build environment script '%s' returned a non-zero exit code %s", buildEnvScript.getCanonicalPath(), executableOutput.getReturnCode()));
+        }
+
+        // The script prints its own output first, so everything before the marker is ignored. The directory follows it on its own line, then the variables separated by null characters.
+        String standardOutput = executableOutput.getStandardOutput();
+        int markerIndex = standardOutput.lastIndexOf(ENVIRONMENT_MARKER);
+        if (markerIndex < 0) {
+            throw new IntegrationException(String.format("Unable to capture the environment created by the build environment script '%s'", buildEnvScript.getCanonicalPath()));
+        }
+        String[] directoryAndVariables = standardOutput.substring(markerIndex + ENVIRONMENT_MARKER.length()).replaceFirst("^\\R", "").split("\\R", 2);
+
+        Map<String, String> environment = new HashMap<>();
+        if (directoryAndVariables.length > 1) {
+            for (String variable : directoryAndVariables[1].split("\0")) {
+                int separatorIndex = variable.indexOf('=');
+                if (separatorIndex > 0) {
+                    environment.put(variable.substring(0, separatorIndex), variable.substring(separatorIndex + 1));
+                }
+            }
+        }
+
+        File sourcedDirectory = new File(directoryAndVariables[0].trim());
+        buildDirectory = sourcedDirectory.isDirectory() ? sourcedDirectory : workingDirectory;
+        buildEnvironment = environment;
+        logger.debug(String.format("Sourced the build environment, bitbake will run in: %s", buildDirectory.getAbsolutePath()));
     }
 }
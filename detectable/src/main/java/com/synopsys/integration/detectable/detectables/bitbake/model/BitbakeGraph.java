@@ -8,26 +8,23 @@
 package com.synopsys.integration.detectable.detectables.bitbake.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
 public class BitbakeGraph {
     private final List<BitbakeNode> nodes = new ArrayList<>();
+    // A task-depends.dot file can hold tens of thousands of tasks, so nodes are found by name rather than by scanning the list.
+    private final Map<String, BitbakeNode> nodesByName = new HashMap<>();
 
     private BitbakeNode getOrCreate(final String name) {
-        final Optional<BitbakeNode> existingNode = nodes.stream()
-                                                       .filter(node -> node.getName().equals(name))
-                                                       .findFirst();
-
-        if (existingNode.isPresent()) {
-            return existingNode.get();
-        }
-
-        final BitbakeNode newNode = new BitbakeNode(name);
-        nodes.add(newNode);
-        return newNode;
+        return nodesByName.computeIfAbsent(name, newName -> {
+            final BitbakeNode newNode = new BitbakeNode(newName);
+            nodes.add(newNode);
+            return newNode;
+        });
     }
 
     public void addNode(final String name, @Nullable final String version) {
@@ -0,0 +1,59 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.bitbake.parse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+
+// Reads the task-depends.dot written by 'bitbake -g' a line at a time, bitbake writes every node and every edge on its own line.
+// Neither the file nor a parse tree is held in memory. Only tasks with a version label or with dependencies become nodes, a task without either is only a child.
+public class TaskDependsParser {
+    private static final Pattern EDGE_PATTERN = Pattern.compile("^\\s*\"([^\"]*)\"\\s*->\\s*\"([^\"]*)\"");
+    private static final Pattern NODE_PATTERN = Pattern.compile("^\\s*\"([^\"]*)\"\\s*\\[(.*)]");
+    private static final Pattern LABEL_PATTERN = Pattern.compile("label\\s*=\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    public BitbakeGraph parse(BufferedReader reader) throws IOException {
+        BitbakeGraph bitbakeGraph = new BitbakeGraph();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Matcher edgeMatcher = EDGE_PATTERN.matcher(line);
+            if (edgeMatcher.find()) {
+                String parent = getNameFromTask(edgeMatcher.group(1));
+                String child = getNameFromTask(edgeMatcher.group(2));
+                if (!parent.equals(child)) {
+                    bitbakeGraph.addChild(parent, child);
+                }
+                continue;
+            }
+
+            Matcher nodeMatcher = NODE_PATTERN.matcher(line);
+            if (nodeMatcher.find()) {
+                Matcher labelMatcher = LABEL_PATTERN.matcher(nodeMatcher.group(2));
+                if (labelMatcher.find() && StringUtils.isNotBlank(labelMatcher.group(1))) {
+                    String[] components = labelMatcher.group(1).split("\\\\n:|\\\\n");
+                    if (components.length > 1) {
+                        bitbakeGraph.addNode(getNameFromTask(nodeMatcher.group(1)), components[1]);
+                    }
+                }
+            }
+        }
+
+        return bitbakeGraph;
+    }
+
+    private String getNameFromTask(String taskId) {
+        return taskId.split(".do_")[0];
+    }
+}
@@ -8,6 +8,7 @@
 package com.synopsys.integration.detectable.detectables.clang;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -75,7 +76,8 @@ public class ClangDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
-        return clangExtractor.extract(selectedPackageManager, packageManagerRunner, environment.getDirectory(), extractionEnvironment.getOutputDirectory(), jsonCompilationDatabaseFile, options.isCleanup());
+        return clangExtractor.extract(selectedPackageManager, packageManagerRunner, environment.getDirectory(), jsonCompilationDatabaseFile, options.getPreprocessingParallelism(),
+            options.getDependencyCachePath().map(Path::toFile).orElse(null), options.getDependencyCacheMaximumEntries());
     }
 
     private ClangPackageManager findPkgMgr(final File workingDirectory) {
@@ -7,14 +7,38 @@
  */
 package com.synopsys.integration.detectable.detectables.clang;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
 public class ClangDetectableOptions {
-    private final boolean cleanup;
+    private static final int DEFAULT_DEPENDENCY_CACHE_MAXIMUM_ENTRIES = 10000;
+
+    private final int preprocessingParallelism;
+    @Nullable
+    private final Path dependencyCachePath;
+    private final int dependencyCacheMaximumEntries;
+
+    public ClangDetectableOptions() {
+        this(1, null, DEFAULT_DEPENDENCY_CACHE_MAXIMUM_ENTRIES);
+    }
+
+    public ClangDetectableOptions(final int preprocessingParallelism, @Nullable final Path dependencyCachePath, final int dependencyCacheMaximumEntries) {
+        this.preprocessingParallelism = preprocessingParallelism;
+        this.dependencyCachePath = dependencyCachePath;
+        this.dependencyCacheMaximumEntries = dependencyCacheMaximumEntries;
+    }
+
+    public int getPreprocessingParallelism() {
+        return preprocessingParallelism;
+    }
 
-    public ClangDetectableOptions(final boolean cleanup) {
-        this.cleanup = cleanup;
+    public Optional<Path> getDependencyCachePath() {
+        return Optional.ofNullable(dependencyCachePath);
     }
 
-    public boolean isCleanup() {
-        return cleanup;
+    public int getDependencyCacheMaximumEntries() {
+        return dependencyCacheMaximumEntries;
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.clang.dependencyfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.common.util.CacheFileUtil;
+import com.synopsys.integration.detectable.detectables.clang.compilecommand.CompileCommand;
+
+// Dependency lists are keyed by the compile command and the last modified time of its source file.
+// When given a directory the lists are also persisted there, an entry is only reused while none of the files it lists have changed since it was written.
+// A hit touches the entry so the least recently used entries are the ones removed once the cache holds more than its maximum number of entries.
+public class DependencyFileCache {
+    private static final String ENTRY_EXTENSION = ".deps";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<String, List<String>> dependencyFiles = new ConcurrentHashMap<>();
+    @Nullable
+    private final File cacheDirectory;
+    private final int maximumEntries;
+
+    public DependencyFileCache(@Nullable File cacheDirectory, int maximumEntries) {
+        this.cacheDirectory = cacheDirectory;
+        this.maximumEntries = maximumEntries;
+    }
+
+    public String createKey(CompileCommand compileCommand) {
+        File sourceFile = new File(compileCommand.file);
+        if (!sourceFile.isAbsolute()) {
+            sourceFile = new File(compileCommand.directory, compileCommand.file);
+        }
+        String command = compileCommand.arguments.length > 0 ? String.join(" ", compileCommand.arguments) : compileCommand.command;
+        return String.join("\u0000", compileCommand.directory, command, compileCommand.file, Long.toString(sourceFile.lastModified()));
+    }
+
+    public Optional<List<String>> findDependencyFiles(String key) {
+        List<String> cached = dependencyFiles.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<List<String>> persisted = findEntryFile(key).flatMap(this::readEntry);
+        persisted.ifPresent(files -> dependencyFiles.put(key, files));
+        return persisted;
+    }
+
+    public void storeDependencyFiles(String key, List<String> files) {
+        dependencyFiles.put(key, files);
+        Optional<File> entryFile = findEntryFile(key);
+        if (!entryFile.isPresent()) {
+            return;
+        }
+        try {
+            CacheFileUtil.writeAtomically(entryFile.get(), "deps", temporaryFile -> Files.write(temporaryFile, files, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.debug("Unable to cache dependency list: " + entryFile.get(), e);
+        }
+    }
+
+    private Optional<List<String>> readEntry(File entryFile) {
+        if (!entryFile.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            List<String> files = Files.readAllLines(entryFile.toPath(), StandardCharsets.UTF_8);
+            long written = entryFile.lastModified();
+            boolean unchanged = files.stream()
+                                    .map(File::new)
+                                    .allMatch(file -> file.exists() && file.lastModified() <= written);
+            if (!unchanged) {
+                return Optional.empty();
+            }
+            // None of the files changed up to now, so the entry stays valid when its time is moved forward.
+            CacheFileUtil.touch(entryFile);
+            return Optional.of(files);
+        } catch (IOException e) {
+            logger.debug("Unable to read cached dependency list, it will be ignored: " + entryFile, e);
+            return Optional.empty();
+        }
+    }
+
+    public void pruneEntries() {
+        if (cacheDirectory == null) {
+            return;
+        }
+        CacheFileUtil.pruneLeastRecentlyUsed(cacheDirectory, ENTRY_EXTENSION, maximumEntries);
+    }
+
+    private Optional<File> findEntryFile(String key) {
+        if (cacheDirectory == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] hash = CacheFileUtil.createDigest().digest(key.getBytes(StandardCharsets.UTF_8));
+            return Optional.of(new File(cacheDirectory, CacheFileUtil.toHex(hash) + ENTRY_EXTENSION));
+        } catch (NoSuchAlgorithmException e) {
+            logger.debug("Unable to compute the dependency list cache key.", e);
+            return Optional.empty();
+        }
+    }
+}
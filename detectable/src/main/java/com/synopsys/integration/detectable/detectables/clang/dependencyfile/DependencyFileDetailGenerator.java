@@ -8,7 +8,11 @@
 package com.synopsys.integration.detectable.detectables.clang.dependencyfile;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ParallelUtil;
 import com.synopsys.integration.detectable.detectables.clang.compilecommand.CompileCommand;
 
 public class DependencyFileDetailGenerator {
@@ -25,17 +30,41 @@ public class DependencyFileDetailGenerator {
 
     public DependencyFileDetailGenerator(FilePathGenerator filePathGenerator) {this.filePathGenerator = filePathGenerator;}
 
-    public Set<File> fromCompileCommands(List<CompileCommand> compileCommands, File outputDirectory, boolean cleanup) {
+    public Set<File> fromCompileCommands(List<CompileCommand> compileCommands, DependencyFileCache dependencyFileCache, int parallelism) {
+        // Identical compile commands only need to be preprocessed once.
+        Map<String, CompileCommand> uniqueCompileCommands = new LinkedHashMap<>();
+        for (CompileCommand compileCommand : compileCommands) {
+            uniqueCompileCommands.putIfAbsent(dependencyFileCache.createKey(compileCommand), compileCommand);
+        }
+        logger.debug(String.format("Generating dependency lists for %d unique compile commands (of %d) with a parallelism of %d.", uniqueCompileCommands.size(), compileCommands.size(), parallelism));
 
-        Set<File> dependencyFiles = compileCommands.parallelStream()
-                                              .flatMap(command -> filePathGenerator.fromCompileCommand(outputDirectory, command, cleanup).stream())
-                                              .filter(StringUtils::isNotBlank)
-                                              .map(File::new)
-                                              .filter(File::exists)
-                                              .collect(Collectors.toSet());
+        List<List<String>> generatedFilePaths = ParallelUtil.mapInOrder("clang-preprocessing", parallelism, new ArrayList<>(uniqueCompileCommands.entrySet()),
+            uniqueCompileCommand -> generateFilePaths(uniqueCompileCommand.getKey(), uniqueCompileCommand.getValue(), dependencyFileCache));
+        Set<File> dependencyFiles = generatedFilePaths.stream()
+                                        .flatMap(List::stream)
+                                        .filter(StringUtils::isNotBlank)
+                                        .distinct()
+                                        .map(File::new)
+                                        .filter(File::exists)
+                                        .collect(Collectors.toSet());
 
         logger.trace("Found : " + dependencyFiles.size() + " files to process.");
+        dependencyFileCache.pruneEntries();
 
         return dependencyFiles;
     }
+
+    private List<String> generateFilePaths(String key, CompileCommand compileCommand, DependencyFileCache dependencyFileCache) {
+        List<String> cachedFilePaths = dependencyFileCache.findDependencyFiles(key).orElse(null);
+        if (cachedFilePaths != null) {
+            logger.trace(String.format("Using cached dependency list for: %s", compileCommand.file));
+            return cachedFilePaths;
+        }
+        List<String> filePaths = filePathGenerator.fromCompileCommand(compileCommand);
+        if (filePaths.isEmpty()) {
+            return Collections.emptyList();
+        }
+        dependencyFileCache.storeDependencyFiles(key, filePaths);
+        return filePaths;
+    }
 }
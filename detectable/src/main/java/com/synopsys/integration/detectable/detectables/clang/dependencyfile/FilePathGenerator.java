@@ -8,17 +8,13 @@
 package com.synopsys.integration.detectable.detectables.clang.dependencyfile;
 
 import java.io.File;
-import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Random;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,15 +22,16 @@ import com.synopsys.integration.detectable.detectable.executable.DetectableExecu
 import com.synopsys.integration.detectable.detectables.clang.compilecommand.CompileCommand;
 import com.synopsys.integration.detectable.detectables.clang.compilecommand.CompileCommandParser;
 import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class FilePathGenerator {
     private static final String COMPILER_OUTPUT_FILE_OPTION = "-o";
     private static final String REPLACEMENT_OUTPUT_FILENAME = "/dev/null";
-    private static final String DEPS_MK_FILENAME_PATTERN = "deps_%s_%d.mk";
+    // The dependency list is written to the compiler's standard output so no intermediate file has to be written and read back.
+    private static final String DEPENDENCY_OUTPUT_FILENAME = "/dev/stdout";
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private static final Random random = new Random();
     private final DetectableExecutableRunner executableRunner;
     private final CompileCommandParser commandParser;
     private final DependencyListFileParser dependencyListFileParser;
@@ -45,44 +42,22 @@ public class FilePathGenerator {
         this.dependencyListFileParser = dependencyListFileParser;
     }
 
-    public List<String> fromCompileCommand(File workingDir, CompileCommand compileCommand, boolean cleanup) {
-        Optional<File> depsMkFile = generateDepsMkFile(workingDir, compileCommand);
-        if (depsMkFile.isPresent()) {
-            List<String> files = dependencyListFileParser.parseDepsMk(depsMkFile.get());
-            if (cleanup) {
-                FileUtils.deleteQuietly(depsMkFile.get());
-            }
-            return files;
-        } else {
-            return Collections.emptyList();
-        }
-    }
-
-    private Optional<File> generateDepsMkFile(File workingDir, CompileCommand compileCommand) {
-        String depsMkFilename = deriveDependenciesListFilename(compileCommand);
-        File depsMkFile = new File(workingDir, depsMkFilename);
+    public List<String> fromCompileCommand(CompileCommand compileCommand) {
         Map<String, String> optionOverrides = new HashMap<>(1);
         optionOverrides.put(COMPILER_OUTPUT_FILE_OPTION, REPLACEMENT_OUTPUT_FILENAME);
         try {
             List<String> command = commandParser.parseCommand(compileCommand, optionOverrides);
-            command.addAll(Arrays.asList("-M", "-MF", depsMkFile.getAbsolutePath()));
+            command.addAll(Arrays.asList("-M", "-MF", DEPENDENCY_OUTPUT_FILENAME));
             Executable executable = Executable.create(new File(compileCommand.directory), Collections.emptyMap(), command);
-            executableRunner.execute(executable);
+            ExecutableOutput executableOutput = executableRunner.execute(executable);
+            if (StringUtils.isBlank(executableOutput.getStandardOutput())) {
+                logger.debug(String.format("No dependencies were generated for command '%s': %s", compileCommand.command, executableOutput.getErrorOutput()));
+                return Collections.emptyList();
+            }
+            return dependencyListFileParser.parseDepsMk(executableOutput.getStandardOutput());
         } catch (ExecutableRunnerException e) {
             logger.debug(String.format("Error generating dependencies file for command '%s': %s", compileCommand.command, e.getMessage()));
-            return Optional.empty();
+            return Collections.emptyList();
         }
-        return Optional.of(depsMkFile);
-    }
-
-    private String deriveDependenciesListFilename(CompileCommand compileCommand) {
-        int randomInt = random.nextInt(1000);
-        String sourceFilenameBase = getFilenameBase(compileCommand.file);
-        return String.format(DEPS_MK_FILENAME_PATTERN, sourceFilenameBase, randomInt);
-    }
-
-    private String getFilenameBase(String filePathString) {
-        Path filePath = new File(filePathString).toPath();
-        return FilenameUtils.removeExtension(filePath.getFileName().toString());
     }
 }
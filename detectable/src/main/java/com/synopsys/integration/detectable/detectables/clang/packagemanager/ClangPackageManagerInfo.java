@@ -20,11 +20,12 @@ public class ClangPackageManagerInfo {
     private final List<String> checkPresenceCommandArgs;
     private final String checkPresenceCommandOutputExpectedText;
     private final List<String> pkgMgrGetOwnerCmdArgs;
+    private final List<String> pkgMgrGetOwnerBatchCmdArgs;
     private final List<String> pkgArchitectureArgs;
     private final List<String> pkgInfoArgs;
     
     public ClangPackageManagerInfo(String pkgMgrName, String pkgMgrCmdString, List<Forge> possibleForges, Forge defaultForge, List<String> checkPresenceCommandArgs,
-        String checkPresenceCommandOutputExpectedText, List<String> pkgMgrGetOwnerCmdArgs, List<String> pkgArchitectureArgs, List<String> pkgInfoArgs) {
+        String checkPresenceCommandOutputExpectedText, List<String> pkgMgrGetOwnerCmdArgs, List<String> pkgMgrGetOwnerBatchCmdArgs, List<String> pkgArchitectureArgs, List<String> pkgInfoArgs) {
         this.pkgMgrName = pkgMgrName;
         this.pkgMgrCmdString = pkgMgrCmdString;
         this.possibleForges = possibleForges;
@@ -32,6 +33,7 @@ public class ClangPackageManagerInfo {
         this.checkPresenceCommandArgs = checkPresenceCommandArgs;
         this.checkPresenceCommandOutputExpectedText = checkPresenceCommandOutputExpectedText;
         this.pkgMgrGetOwnerCmdArgs = pkgMgrGetOwnerCmdArgs;
+        this.pkgMgrGetOwnerBatchCmdArgs = pkgMgrGetOwnerBatchCmdArgs;
         this.pkgArchitectureArgs = pkgArchitectureArgs;
         this.pkgInfoArgs = pkgInfoArgs;
     }
@@ -64,6 +66,11 @@ public class ClangPackageManagerInfo {
         return pkgMgrGetOwnerCmdArgs;
     }
 
+    // Arguments that query the owners of many files in one invocation, absent when each file must be queried on its own.
+    public Optional<List<String>> getPkgMgrGetOwnerBatchCmdArgs() {
+        return Optional.ofNullable(pkgMgrGetOwnerBatchCmdArgs);
+    }
+
     public Optional<List<String>> getPkgArchitectureArgs() {
         return Optional.ofNullable(pkgArchitectureArgs);
     }
@@ -21,6 +21,7 @@ public class ClangPackageManagerInfoBuilder {
     private List<String> checkPresenceCommandArgs;
     private String checkPresenceCommandOutputExpectedText;
     private List<String> pkgMgrGetOwnerCmdArgs;
+    private List<String> pkgMgrGetOwnerBatchCmdArgs;
     private List<String> architectureArguments;
     private List<String> pkgInfoArgs;
 
@@ -73,6 +74,15 @@ public class ClangPackageManagerInfoBuilder {
         return setGetOwnerArguments(Arrays.asList(pkgMgrGetOwnerCmdArgs));
     }
 
+    public ClangPackageManagerInfoBuilder setGetOwnerBatchArguments(final List<String> pkgMgrGetOwnerBatchCmdArgs) {
+        this.pkgMgrGetOwnerBatchCmdArgs = pkgMgrGetOwnerBatchCmdArgs;
+        return this;
+    }
+
+    public ClangPackageManagerInfoBuilder setGetOwnerBatchArguments(final String... pkgMgrGetOwnerBatchCmdArgs) {
+        return setGetOwnerBatchArguments(Arrays.asList(pkgMgrGetOwnerBatchCmdArgs));
+    }
+
     public ClangPackageManagerInfoBuilder setArchitectureArguments(final List<String> architectureArguments) {
         this.architectureArguments = architectureArguments;
         return this;
@@ -92,6 +102,7 @@ public class ClangPackageManagerInfoBuilder {
     }
 
     public ClangPackageManagerInfo build() {
-        return new ClangPackageManagerInfo(pkgMgrName, pkgMgrCmdString, forges, defaultForge, checkPresenceCommandArgs, checkPresenceCommandOutputExpectedText, pkgMgrGetOwnerCmdArgs, architectureArguments, pkgInfoArgs);
+        return new ClangPackageManagerInfo(pkgMgrName, pkgMgrCmdString, forges, defaultForge, checkPresenceCommandArgs, checkPresenceCommandOutputExpectedText, pkgMgrGetOwnerCmdArgs, pkgMgrGetOwnerBatchCmdArgs, architectureArguments,
+            pkgInfoArgs);
     }
 }
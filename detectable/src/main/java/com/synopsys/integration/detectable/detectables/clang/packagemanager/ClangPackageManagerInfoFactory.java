@@ -25,6 +25,8 @@ public class ClangPackageManagerInfoFactory {
         rpm.setPresenceCheckArguments(VERSION_FLAG);
         rpm.setPresenceCheckExpectedText("RPM");
         rpm.setGetOwnerArguments("-qf", "--queryformat=\\{ epoch: \\\"%{E}\\\", name: \\\"%{N}\\\", version: \\\"%{V}-%{R}\\\", arch: \\\"%{ARCH}\\\" \\}");
+        // Each package on its own line so the output of many files can be read line by line.
+        rpm.setGetOwnerBatchArguments("-qf", "--queryformat=\\{ epoch: \\\"%{E}\\\", name: \\\"%{N}\\\", version: \\\"%{V}-%{R}\\\", arch: \\\"%{ARCH}\\\" \\}\\n");
         return rpm.build();
     }
 
@@ -36,6 +38,7 @@ public class ClangPackageManagerInfoFactory {
         dpkg.setPresenceCheckArguments(VERSION_FLAG);
         dpkg.setPresenceCheckExpectedText("Debian");
         dpkg.setGetOwnerArguments("-S");
+        dpkg.setGetOwnerBatchArguments("-S");
         dpkg.setPackageInfoArguments("-s");
         return dpkg.build();
     }
@@ -48,6 +51,7 @@ public class ClangPackageManagerInfoFactory {
         apk.setPresenceCheckArguments(VERSION_FLAG);
         apk.setPresenceCheckExpectedText("apk-tools");
         apk.setGetOwnerArguments("info", "--who-owns");
+        apk.setGetOwnerBatchArguments("info", "--who-owns");
         apk.setArchitectureArguments("info", "--print-arch");
         return apk.build();
     }
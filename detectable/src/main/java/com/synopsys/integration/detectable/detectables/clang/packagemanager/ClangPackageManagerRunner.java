@@ -9,9 +9,14 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -24,6 +29,7 @@ import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class ClangPackageManagerRunner {
+    private static final int OWNER_QUERY_BATCH_SIZE = 200;
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public boolean applies(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executor) {
@@ -46,6 +52,30 @@ public class ClangPackageManagerRunner {
     }
 
     public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final Set<File> dependencyFiles) {
+        final Set<PackageDetails> packageDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        final Optional<List<String>> batchGetOwnerArgs = currentPackageManager.getPackageManagerInfo().getPkgMgrGetOwnerBatchCmdArgs();
+        if (batchGetOwnerArgs.isPresent()) {
+            final List<File> sortedDependencyFiles = dependencyFiles.stream()
+                                                         .sorted(Comparator.comparing(File::getAbsolutePath))
+                                                         .collect(Collectors.toList());
+            for (int batchStart = 0; batchStart < sortedDependencyFiles.size(); batchStart += OWNER_QUERY_BATCH_SIZE) {
+                final List<File> batch = sortedDependencyFiles.subList(batchStart, Math.min(batchStart + OWNER_QUERY_BATCH_SIZE, sortedDependencyFiles.size()));
+                final PackageDetailsResult packageDetailsResult = getPackagesInBatch(currentPackageManager, workingDirectory, executableRunner, batchGetOwnerArgs.get(), batch);
+                packageDetails.addAll(packageDetailsResult.getFoundPackages());
+                unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+            }
+        } else {
+            final PackageDetailsResult packageDetailsResult = getPackagesOneAtATime(currentPackageManager, workingDirectory, executableRunner, dependencyFiles);
+            packageDetails.addAll(packageDetailsResult.getFoundPackages());
+            unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+        }
+
+        return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
+    }
+
+    private PackageDetailsResult getPackagesOneAtATime(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner,
+        final Collection<File> dependencyFiles) {
         final Set<PackageDetails> packageDetails = new HashSet<>();
         final Set<File> unRecognizedDependencyFiles = new HashSet<>();
         for (final File dependencyFile : dependencyFiles) {
@@ -53,10 +83,53 @@ public class ClangPackageManagerRunner {
             packageDetails.addAll(packageDetailsResult.getFoundPackages());
             unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
         }
-
         return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
     }
 
+    // Queries the owners of many files with one process. Each line of output describes a single file, so lines are resolved one at a time and files the package manager does not own are found by their path.
+    // A file owned by several packages (rpm lists each owner on its own line) makes the output longer than the batch. The lines can then no longer be matched to files, so the batch is queried one file at a time and only the first owner of each file is used, as before.
+    public PackageDetailsResult getPackagesInBatch(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final List<String> batchGetOwnerArgs,
+        final List<File> dependencyFiles) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final ClangPackageManagerResolver resolver = currentPackageManager.getPackageResolver();
+        final Set<PackageDetails> dependencyDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        try {
+            final List<String> getOwnerArgs = new ArrayList<>(batchGetOwnerArgs);
+            dependencyFiles.forEach(dependencyFile -> getOwnerArgs.add(dependencyFile.getAbsolutePath()));
+            final ExecutableOutput queryPackageResult = executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs);
+
+            final List<String> queryPackageOutputLines = new ArrayList<>();
+            queryPackageOutputLines.addAll(Arrays.asList(queryPackageResult.getStandardOutput().split("\n")));
+            queryPackageOutputLines.addAll(Arrays.asList(queryPackageResult.getErrorOutput().split("\n")));
+            queryPackageOutputLines.removeIf(StringUtils::isBlank);
+            if (queryPackageOutputLines.size() > dependencyFiles.size()) {
+                logger.debug(String.format("A file in a batch of %d dependency files is owned by more than one package, the files will be queried one at a time.", dependencyFiles.size()));
+                return getPackagesOneAtATime(currentPackageManager, workingDirectory, executableRunner, dependencyFiles);
+            }
+            for (final String queryPackageOutputLine : queryPackageOutputLines) {
+                try {
+                    dependencyDetails.addAll(resolver.resolvePackages(packageManagerInfo, executableRunner, workingDirectory, queryPackageOutputLine));
+                } catch (final NotOwnedByAnyPkgException notOwnedException) {
+                    final Optional<File> unRecognizedDependencyFile = findQueriedFile(queryPackageOutputLine, dependencyFiles);
+                    unRecognizedDependencyFile.ifPresent(unRecognizedDependencyFiles::add);
+                    logger.debug(String.format("%s is not recognized by the linux package manager (%s)", unRecognizedDependencyFile.map(File::getAbsolutePath).orElse("A file"), notOwnedException.getMessage()));
+                }
+            }
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error with a batch of %d dependency files when running %s", dependencyFiles.size(), packageManagerInfo.getPkgMgrCmdString()));
+            logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+        }
+        return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+    }
+
+    // The longest matching path wins so /usr/include/a.h is not mistaken for /usr/include/a.hpp.
+    private Optional<File> findQueriedFile(final String queryPackageOutputLine, final List<File> dependencyFiles) {
+        return dependencyFiles.stream()
+                   .filter(dependencyFile -> queryPackageOutputLine.contains(dependencyFile.getAbsolutePath()))
+                   .max(Comparator.comparingInt(dependencyFile -> dependencyFile.getAbsolutePath().length()));
+    }
+
     public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile) {
         final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
         final Set<PackageDetails> dependencyDetails = new HashSet<>();
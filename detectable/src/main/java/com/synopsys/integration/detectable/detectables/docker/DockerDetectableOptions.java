@@ -24,9 +24,18 @@ public class DockerDetectableOptions {
     private final Map<String, String> additionalDockerProperties;
     private final Path dockerInspectorPath;
     private final String dockerPlatformTopLayerId;
+    private final boolean inspectorCacheEnabled;
+    private final int inspectorCacheMaximumEntries;
 
     public DockerDetectableOptions(final boolean dockerPathRequired, final String suppliedDockerImage, final String suppliedDockerImageId, final String suppliedDockerTar, final LogLevel dockerInspectorLoggingLevel,
         final String dockerInspectorVersion, final Map<String, String> additionalDockerProperties, final Path dockerInspectorPath, final String dockerPlatformTopLayerId) {
+        this(dockerPathRequired, suppliedDockerImage, suppliedDockerImageId, suppliedDockerTar, dockerInspectorLoggingLevel, dockerInspectorVersion, additionalDockerProperties, dockerInspectorPath, dockerPlatformTopLayerId,
+            false, 0);
+    }
+
+    public DockerDetectableOptions(final boolean dockerPathRequired, final String suppliedDockerImage, final String suppliedDockerImageId, final String suppliedDockerTar, final LogLevel dockerInspectorLoggingLevel,
+        final String dockerInspectorVersion, final Map<String, String> additionalDockerProperties, final Path dockerInspectorPath, final String dockerPlatformTopLayerId, final boolean inspectorCacheEnabled,
+        final int inspectorCacheMaximumEntries) {
         this.dockerPathRequired = dockerPathRequired;
         this.suppliedDockerImage = suppliedDockerImage;
         this.suppliedDockerImageId = suppliedDockerImageId;
@@ -36,6 +45,8 @@ public class DockerDetectableOptions {
         this.additionalDockerProperties = additionalDockerProperties;
         this.dockerInspectorPath = dockerInspectorPath;
         this.dockerPlatformTopLayerId = dockerPlatformTopLayerId;
+        this.inspectorCacheEnabled = inspectorCacheEnabled;
+        this.inspectorCacheMaximumEntries = inspectorCacheMaximumEntries;
     }
 
     public boolean isDockerPathRequired() {
@@ -77,4 +88,12 @@ public class DockerDetectableOptions {
     public Optional<String> getDockerPlatformTopLayerId() {
         return Optional.ofNullable(dockerPlatformTopLayerId);
     }
+
+    public boolean isInspectorCacheEnabled() {
+        return inspectorCacheEnabled;
+    }
+
+    public int getInspectorCacheMaximumEntries() {
+        return inspectorCacheMaximumEntries;
+    }
 }
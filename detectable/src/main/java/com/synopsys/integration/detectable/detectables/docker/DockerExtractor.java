@@ -12,11 +12,16 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -57,6 +62,8 @@ public class DockerExtractor {
     public static final String SQUASHED_IMAGE_FILENAME_PATTERN = "*_squashedimage.tar.gz";
     public static final String RESULTS_FILENAME_PATTERN = "results.json";
     public static final String DEPENDENCIES_PATTERN = "*bdio.jsonld";
+    // Each load streams a multi-GB archive through the docker daemon, so only a few run at once whatever detect.parallel.executables allows.
+    private static final int MAX_CONCURRENT_IMAGE_LOADS = 2;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -65,15 +72,22 @@ public class DockerExtractor {
     private final BdioTransformer bdioTransformer;
     private final ExternalIdFactory externalIdFactory;
     private final Gson gson;
+    private final DockerInspectorResultCache dockerInspectorResultCache;
 
     private ImageIdentifierType imageIdentifierType;
 
     public DockerExtractor(FileFinder fileFinder, DetectableExecutableRunner executableRunner, BdioTransformer bdioTransformer, ExternalIdFactory externalIdFactory, Gson gson) {
+        this(fileFinder, executableRunner, bdioTransformer, externalIdFactory, gson, new DockerInspectorResultCache(null, 0));
+    }
+
+    public DockerExtractor(FileFinder fileFinder, DetectableExecutableRunner executableRunner, BdioTransformer bdioTransformer, ExternalIdFactory externalIdFactory, Gson gson,
+        DockerInspectorResultCache dockerInspectorResultCache) {
         this.fileFinder = fileFinder;
         this.executableRunner = executableRunner;
         this.bdioTransformer = bdioTransformer;
         this.externalIdFactory = externalIdFactory;
         this.gson = gson;
+        this.dockerInspectorResultCache = dockerInspectorResultCache;
     }
 
     public Extraction extract(File directory, File outputDirectory, ExecutableTarget dockerExe, ExecutableTarget javaExe, String image, String imageId, String tar, DockerInspectorInfo dockerInspectorInfo,
@@ -106,10 +120,24 @@ public class DockerExtractor {
         }
     }
 
+    // The images are loaded concurrently, a few at a time, and all of them must load before the inspector runs.
     private void importTars(List<File> importTars, File directory, Map<String, String> environmentVariables, ExecutableTarget dockerExe) {
         try {
+            Semaphore loadPermits = new Semaphore(MAX_CONCURRENT_IMAGE_LOADS);
+            List<CompletableFuture<Void>> pendingImports = new ArrayList<>();
             for (File imageToImport : importTars) {
-                loadDockerImage(directory, environmentVariables, dockerExe, imageToImport);
+                loadPermits.acquireUninterruptibly();
+                CompletableFuture<Void> pendingImport;
+                try {
+                    pendingImport = loadDockerImage(directory, environmentVariables, dockerExe, imageToImport);
+                } catch (IOException e) {
+                    loadPermits.release();
+                    throw e;
+                }
+                pendingImports.add(pendingImport.whenComplete((result, exception) -> loadPermits.release()));
+            }
+            for (CompletableFuture<Void> pendingImport : pendingImports) {
+                waitForImport(pendingImport);
             }
         } catch (Exception e) {
             logger.debug(String.format("Exception encountered when resolving paths for docker air gap: %s", e.getMessage()));
@@ -117,17 +145,31 @@ public class DockerExtractor {
         }
     }
 
-    private void loadDockerImage(File directory, Map<String, String> environmentVariables, ExecutableTarget dockerExe, File imageToImport) throws IOException, ExecutableRunnerException, IntegrationException {
+    private CompletableFuture<Void> loadDockerImage(File directory, Map<String, String> environmentVariables, ExecutableTarget dockerExe, File imageToImport) throws IOException {
         List<String> dockerImportArguments = Arrays.asList(
             "load",
             "-i",
             imageToImport.getCanonicalPath());
         Executable dockerImportImageExecutable = ExecutableUtils.createFromTarget(directory, environmentVariables, dockerExe, dockerImportArguments);
-        ExecutableOutput exeOut = executableRunner.execute(dockerImportImageExecutable);
-        if (exeOut.getReturnCode() != 0) {
-            throw new IntegrationException(String.format("Command %s %s returned %d: %s",
-                dockerExe.toCommand(), dockerImportArguments,
-                exeOut.getReturnCode(), exeOut.getErrorOutput()));
+        return executableRunner.executeAsync(dockerImportImageExecutable).thenAccept(exeOut -> {
+            if (exeOut.getReturnCode() != 0) {
+                throw new CompletionException(new IntegrationException(String.format("Command %s %s returned %d: %s",
+                    dockerExe.toCommand(), dockerImportArguments,
+                    exeOut.getReturnCode(), exeOut.getErrorOutput())));
+            }
+        });
+    }
+
+    private void waitForImport(CompletableFuture<Void> pendingImport) throws ExecutableRunnerException, IntegrationException {
+        try {
+            pendingImport.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ExecutableRunnerException) {
+                throw (ExecutableRunnerException) e.getCause();
+            } else if (e.getCause() instanceof IntegrationException) {
+                throw (IntegrationException) e.getCause();
+            }
+            throw e;
         }
     }
 
@@ -135,19 +177,25 @@ public class DockerExtractor {
         DockerInspectorInfo dockerInspectorInfo, DockerProperties dockerProperties)
         throws IOException, ExecutableRunnerException {
 
-        File dockerPropertiesFile = new File(outputDirectory, "application.properties");
-        dockerProperties.populatePropertiesFile(dockerPropertiesFile, outputDirectory);
-        Map<String, String> environmentVariables = new HashMap<>(0);
-        List<String> dockerArguments = new ArrayList<>();
-        dockerArguments.add("-jar");
-        dockerArguments.add(dockerInspectorInfo.getDockerInspectorJar().getAbsolutePath());
-        dockerArguments.add("--spring.config.location=file:" + dockerPropertiesFile.getCanonicalPath());
-        dockerArguments.add(imageArgument);
-        if (dockerInspectorInfo.hasAirGapImageFiles()) {
-            importTars(dockerInspectorInfo.getAirGapInspectorImageTarFiles(), outputDirectory, environmentVariables, dockerExe);
+        Optional<String> cacheKey = findCacheKey(outputDirectory, suppliedImagePiece, dockerTarFilePath, dockerExe, dockerInspectorInfo, dockerProperties);
+        if (cacheKey.isPresent() && dockerInspectorResultCache.restoreResult(cacheKey.get(), outputDirectory)) {
+            logger.info("Using cached Docker Inspector results for image {}.", suppliedImagePiece);
+        } else {
+            File dockerPropertiesFile = new File(outputDirectory, "application.properties");
+            dockerProperties.populatePropertiesFile(dockerPropertiesFile, outputDirectory);
+            Map<String, String> environmentVariables = new HashMap<>(0);
+            List<String> dockerArguments = new ArrayList<>();
+            dockerArguments.add("-jar");
+            dockerArguments.add(dockerInspectorInfo.getDockerInspectorJar().getAbsolutePath());
+            dockerArguments.add("--spring.config.location=file:" + dockerPropertiesFile.getCanonicalPath());
+            dockerArguments.add(imageArgument);
+            if (dockerInspectorInfo.hasAirGapImageFiles()) {
+                importTars(dockerInspectorInfo.getAirGapInspectorImageTarFiles(), outputDirectory, environmentVariables, dockerExe);
+            }
+            Executable dockerExecutable = ExecutableUtils.createFromTarget(outputDirectory, environmentVariables, javaExe, dockerArguments);
+            executableRunner.execute(dockerExecutable);
+            cacheKey.ifPresent(key -> storeInspectorResults(key, outputDirectory));
         }
-        Executable dockerExecutable = ExecutableUtils.createFromTarget(outputDirectory, environmentVariables, javaExe, dockerArguments);
-        executableRunner.execute(dockerExecutable);
 
         File producedSquashedImageFile = fileFinder.findFile(outputDirectory, SQUASHED_IMAGE_FILENAME_PATTERN);
         if (producedSquashedImageFile != null) {
@@ -175,6 +223,66 @@ public class DockerExtractor {
         return extractionBuilder.build();
     }
 
+    // Only an image that can be identified by its content is cached, an image docker does not have yet is left for the inspector to pull.
+    // The supplied image is part of the key because the results name the image that was inspected, so two tags of one image are cached separately.
+    private Optional<String> findCacheKey(File outputDirectory, String suppliedImagePiece, String dockerTarFilePath, ExecutableTarget dockerExe, DockerInspectorInfo dockerInspectorInfo,
+        DockerProperties dockerProperties) {
+        if (!dockerInspectorResultCache.isEnabled() || dockerInspectorInfo.getDockerInspectorJar() == null) {
+            return Optional.empty();
+        }
+        Optional<String> imageDigest;
+        if (imageIdentifierType == ImageIdentifierType.TAR) {
+            imageDigest = findTarDigest(new File(dockerTarFilePath));
+        } else {
+            imageDigest = findImageDigest(outputDirectory, dockerExe, suppliedImagePiece);
+        }
+        return imageDigest.flatMap(digest -> dockerInspectorResultCache.createKey(suppliedImagePiece, digest, dockerInspectorInfo.getDockerInspectorJar(),
+            dockerProperties.getInspectorProperties()));
+    }
+
+    private Optional<String> findTarDigest(File dockerTarFile) {
+        try {
+            return Optional.of(dockerInspectorResultCache.digestFile(dockerTarFile));
+        } catch (NoSuchAlgorithmException | IOException e) {
+            logger.debug("Unable to compute the digest of docker tar " + dockerTarFile + ", its results will not be cached.", e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> findImageDigest(File outputDirectory, ExecutableTarget dockerExe, String image) {
+        if (dockerExe == null) {
+            return Optional.empty();
+        }
+        try {
+            Executable dockerInspectExecutable = ExecutableUtils.createFromTarget(outputDirectory, dockerExe, "image", "inspect", "--format", "{{.Id}}", image);
+            ExecutableOutput dockerInspectOutput = executableRunner.execute(dockerInspectExecutable);
+            String imageDigest = dockerInspectOutput.getStandardOutput().trim();
+            if (dockerInspectOutput.getReturnCode() == 0 && StringUtils.isNotBlank(imageDigest)) {
+                return Optional.of(imageDigest);
+            }
+            logger.debug("Docker does not have image {} yet, its results will not be cached.", image);
+        } catch (ExecutableRunnerException e) {
+            logger.debug("Unable to find the digest of image " + image + ", its results will not be cached.", e);
+        }
+        return Optional.empty();
+    }
+
+    private void storeInspectorResults(String cacheKey, File outputDirectory) {
+        List<File> resultFiles = new ArrayList<>();
+        File bdioFile = fileFinder.findFile(outputDirectory, DEPENDENCIES_PATTERN);
+        if (bdioFile == null) {
+            return;
+        }
+        resultFiles.add(bdioFile);
+        for (String resultPattern : Arrays.asList(CONTAINER_FILESYSTEM_FILENAME_PATTERN, SQUASHED_IMAGE_FILENAME_PATTERN, RESULTS_FILENAME_PATTERN)) {
+            File resultFile = fileFinder.findFile(outputDirectory, resultPattern);
+            if (resultFile != null) {
+                resultFiles.add(resultFile);
+            }
+        }
+        dockerInspectorResultCache.storeResult(cacheKey, resultFiles);
+    }
+
     private Extraction.Builder findCodeLocations(File directoryToSearch, File directory) {
         File bdioFile = fileFinder.findFile(directoryToSearch, DEPENDENCIES_PATTERN);
         if (bdioFile != null) {
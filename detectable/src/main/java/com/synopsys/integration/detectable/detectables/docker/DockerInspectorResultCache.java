@@ -0,0 +1,154 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.docker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.common.util.CacheFileUtil;
+
+// Each entry is a directory holding the files Docker Inspector produced for one image, named by a hash of the supplied image, its digest, the inspector jar and the inspector properties.
+// A hit touches the entry so the least recently used entries are the ones removed once the cache holds more than its maximum number of entries.
+public class DockerInspectorResultCache {
+    private static final String CACHE_FORMAT_VERSION = "2";
+    private static final String ENTRY_EXTENSION = ".entry";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    @Nullable
+    private final File cacheDirectory;
+    private final int maximumEntries;
+    private final Object pruneLock = new Object();
+
+    public DockerInspectorResultCache(@Nullable File cacheDirectory, int maximumEntries) {
+        this.cacheDirectory = cacheDirectory;
+        this.maximumEntries = maximumEntries;
+    }
+
+    public boolean isEnabled() {
+        return cacheDirectory != null;
+    }
+
+    public Optional<String> createKey(String suppliedImage, String imageDigest, File inspectorJar, Map<String, String> inspectorProperties) {
+        if (cacheDirectory == null) {
+            return Optional.empty();
+        }
+        try {
+            MessageDigest digest = CacheFileUtil.createDigest();
+            CacheFileUtil.updateDigest(digest, CACHE_FORMAT_VERSION);
+            CacheFileUtil.updateDigest(digest, suppliedImage);
+            CacheFileUtil.updateDigest(digest, imageDigest);
+            CacheFileUtil.updateDigest(digest, digestFile(inspectorJar));
+            for (Map.Entry<String, String> inspectorProperty : new TreeMap<>(inspectorProperties).entrySet()) {
+                CacheFileUtil.updateDigest(digest, inspectorProperty.getKey());
+                CacheFileUtil.updateDigest(digest, inspectorProperty.getValue());
+            }
+            return Optional.of(CacheFileUtil.toHex(digest.digest()));
+        } catch (NoSuchAlgorithmException | IOException e) {
+            logger.debug("Unable to compute the docker inspector cache key.", e);
+            return Optional.empty();
+        }
+    }
+
+    public String digestFile(File file) throws NoSuchAlgorithmException, IOException {
+        return "sha256:" + CacheFileUtil.hashFile(file);
+    }
+
+    public boolean restoreResult(String key, File outputDirectory) {
+        if (cacheDirectory == null) {
+            return false;
+        }
+        File entryDirectory = new File(cacheDirectory, key + ENTRY_EXTENSION);
+        File[] entryFiles = entryDirectory.listFiles(File::isFile);
+        if (entryFiles == null || entryFiles.length == 0) {
+            return false;
+        }
+        try {
+            Files.createDirectories(outputDirectory.toPath());
+            for (File entryFile : entryFiles) {
+                linkOrCopy(entryFile, new File(outputDirectory, entryFile.getName()));
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to restore cached docker inspector results, the inspector will be run: " + entryDirectory, e);
+            return false;
+        }
+        CacheFileUtil.touch(entryDirectory);
+        return true;
+    }
+
+    public void storeResult(String key, List<File> resultFiles) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        File entryDirectory = new File(cacheDirectory, key + ENTRY_EXTENSION);
+        File stagingDirectory = null;
+        try {
+            Files.createDirectories(cacheDirectory.toPath());
+            // Staged in a temporary directory and moved so concurrent runs never restore a partial entry.
+            stagingDirectory = Files.createTempDirectory(cacheDirectory.toPath(), "docker-inspector").toFile();
+            for (File resultFile : resultFiles) {
+                linkOrCopy(resultFile, new File(stagingDirectory, resultFile.getName()));
+            }
+            if (!entryDirectory.exists()) {
+                Files.move(stagingDirectory.toPath(), entryDirectory.toPath());
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to cache docker inspector results: " + entryDirectory, e);
+        } finally {
+            if (stagingDirectory != null) {
+                FileUtils.deleteQuietly(stagingDirectory);
+            }
+        }
+        pruneCache();
+    }
+
+    // A hard link shares the data of the (often multi-GB) archives instead of writing it again. The entry and the output directory then share the file, so it is
+    // only linked where it can be made read-only and an in-place write fails instead of changing the cache. Everywhere else, such as across file systems, it is copied.
+    private void linkOrCopy(File source, File target) throws IOException {
+        Files.deleteIfExists(target.toPath());
+        if (supportsReadOnlyLinks(target.getParentFile())) {
+            try {
+                Files.createLink(target.toPath(), source.toPath());
+                if (target.setWritable(false, false)) {
+                    return;
+                }
+                Files.delete(target.toPath());
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.trace("Unable to link " + target + ", it will be copied instead.", e);
+            }
+        }
+        FileUtils.copyFile(source, target);
+    }
+
+    // Read-only files can still be removed on posix file systems, other systems would keep them from being cleaned up.
+    private boolean supportsReadOnlyLinks(File directory) {
+        try {
+            return Files.getFileStore(directory.toPath()).supportsFileAttributeView(PosixFileAttributeView.class);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void pruneCache() {
+        synchronized (pruneLock) {
+            CacheFileUtil.pruneLeastRecentlyUsed(cacheDirectory, ENTRY_EXTENSION, maximumEntries);
+        }
+    }
+}
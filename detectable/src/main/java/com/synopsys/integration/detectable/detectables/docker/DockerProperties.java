@@ -11,6 +11,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
@@ -54,6 +55,14 @@ public class DockerProperties {
         }
     }
 
+    // The user supplied properties that can change what the inspector produces for an image.
+    public Map<String, String> getInspectorProperties() {
+        Map<String, String> inspectorProperties = new HashMap<>();
+        dockerDetectableOptions.getDockerPlatformTopLayerId().ifPresent(id -> inspectorProperties.put("docker.platform.top.layer.id", id));
+        inspectorProperties.putAll(dockerDetectableOptions.getAdditionalDockerProperties());
+        return inspectorProperties;
+    }
+
     private File createDir(File parentDir, String newDirName) throws IOException {
         File newDir = new File(parentDir, newDirName);
         Files.createDirectories(newDir.toPath());
@@ -9,24 +9,26 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.io.File;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
-import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.GoGraphRelationship;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.GoListAllData;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.GoListModule;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoGraphParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoListJsonLineParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoListParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModWhyParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.process.GoModGraphGenerator;
 import com.synopsys.integration.detectable.detectables.go.gomod.process.GoRelationshipManager;
 import com.synopsys.integration.detectable.detectables.go.gomod.process.GoVersionManager;
 import com.synopsys.integration.detectable.extraction.Extraction;
-import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class GoModCliExtractor {
     private final GoModCommandExecutor goModCommandExecutor;
@@ -46,14 +48,22 @@ public class GoModCliExtractor {
 
     public Extraction extract(File directory, ExecutableTarget goExe, boolean dependencyVerificationEnabled) {
         try {
-            List<GoListModule> goListModules = listModules(directory, goExe);
-            List<GoListAllData> goListAllModules = goListAllModules(directory, goExe);
-            List<GoGraphRelationship> goGraphRelationships = goGraphRelationships(directory, goExe);
-            Set<String> moduleExclusions = moduleExclusions(directory, goExe, dependencyVerificationEnabled);
+            CompletableFuture<List<String>> goVersionOutput = goModCommandExecutor.generateGoVersionOutput(directory, goExe);
+            waitForCommands(goVersionOutput);
 
-            GoRelationshipManager goRelationshipManager = new GoRelationshipManager(goGraphRelationships, moduleExclusions);
-            GoVersionManager goVersionManager = new GoVersionManager(goListAllModules);
-            List<CodeLocation> codeLocations = goListModules.stream()
+            // The remaining go commands are independent so they all run at once, go list -u usually takes the longest as it may look up newer versions over the network.
+            GoListJsonLineParser<GoListModule> goListModuleParser = goListParser.createGoListModuleLineParser();
+            GoListJsonLineParser<GoListAllData> goListAllParser = goListParser.createGoListAllLineParser();
+            List<GoGraphRelationship> goGraphRelationships = new LinkedList<>();
+            CompletableFuture<Void> listModules = goModCommandExecutor.streamGoListOutput(directory, goExe, goListModuleParser);
+            CompletableFuture<Void> listAllModules = goModCommandExecutor.streamGoListUJsonOutput(directory, goExe, goVersionOutput.join(), goListAllParser);
+            CompletableFuture<Void> modGraph = goModCommandExecutor.streamGoModGraphOutput(directory, goExe, line -> goGraphParser.parseLine(line).ifPresent(goGraphRelationships::add));
+            CompletableFuture<Set<String>> moduleExclusions = moduleExclusions(directory, goExe, dependencyVerificationEnabled);
+            waitForCommands(listModules, listAllModules, modGraph, moduleExclusions);
+
+            GoRelationshipManager goRelationshipManager = new GoRelationshipManager(goGraphRelationships, moduleExclusions.join());
+            GoVersionManager goVersionManager = new GoVersionManager(goListAllParser.finish());
+            List<CodeLocation> codeLocations = goListModuleParser.finish().stream()
                                                    .map(goListModule -> goModGraphGenerator.generateGraph(goListModule, goRelationshipManager, goVersionManager))
                                                    .collect(Collectors.toList());
 
@@ -64,28 +74,27 @@ public class GoModCliExtractor {
         }
     }
 
-    private List<GoListModule> listModules(File directory, ExecutableTarget goExe) throws DetectableException, ExecutableRunnerException {
-        List<String> listOutput = goModCommandExecutor.generateGoListOutput(directory, goExe);
-        return goListParser.parseGoListModuleJsonOutput(listOutput);
-    }
-
-    private List<GoListAllData> goListAllModules(File directory, ExecutableTarget goExe) throws DetectableException, ExecutableRunnerException {
-        List<String> listAllOutput = goModCommandExecutor.generateGoListUJsonOutput(directory, goExe);
-        return goListParser.parseGoListAllJsonOutput(listAllOutput);
-    }
-
-    private List<GoGraphRelationship> goGraphRelationships(File directory, ExecutableTarget goExe) throws DetectableException, ExecutableRunnerException {
-        List<String> modGraphOutput = goModCommandExecutor.generateGoModGraphOutput(directory, goExe);
-        return goGraphParser.parseRelationshipsFromGoModGraph(modGraphOutput);
+    // Every command is waited for so none is left running, and the first failure in the order given is the one reported.
+    private void waitForCommands(CompletableFuture<?>... commands) throws Exception {
+        CompletableFuture.allOf(commands).exceptionally(failure -> null).join();
+        for (CompletableFuture<?> command : commands) {
+            try {
+                command.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
     }
 
-    private Set<String> moduleExclusions(File directory, ExecutableTarget goExe, boolean dependencyVerificationEnabled) {
-        Set<String> moduleExclusions = Collections.emptySet();
+    private CompletableFuture<Set<String>> moduleExclusions(File directory, ExecutableTarget goExe, boolean dependencyVerificationEnabled) {
         if (dependencyVerificationEnabled) {
-            List<String> modWhyOutput = goModCommandExecutor.generateGoModWhyOutput(directory, goExe);
-            moduleExclusions = goModWhyParser.createModuleExclusionList(modWhyOutput);
+            return goModCommandExecutor.generateGoModWhyOutput(directory, goExe)
+                       .thenApply(goModWhyParser::createModuleExclusionList);
         }
-        return moduleExclusions;
+        return CompletableFuture.completedFuture(Collections.emptySet());
     }
 
 }
@@ -8,9 +8,11 @@
 package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,8 +23,6 @@ import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
-import com.synopsys.integration.executable.ExecutableOutput;
-import com.synopsys.integration.executable.ExecutableRunnerException;
 
 // TODO: Look into using DetectableExecutableRunner::executeSuccessfully. It may be able to reduce the code here. - JM 07/2021
 // Suppresses SonarLint warnings for duplicated strings. This improves readability of the executable arguments.
@@ -36,52 +36,71 @@ public class GoModCommandExecutor {
     private static final Pattern GENERATE_GO_LIST_U_JSON_OUTPUT_PATTERN = Pattern.compile("\\d+\\.[\\d.]+");
 
     private final DetectableExecutableRunner executableRunner;
+    private final GoVersionCache goVersionCache;
 
     public GoModCommandExecutor(DetectableExecutableRunner executableRunner) {
+        this(executableRunner, new GoVersionCache());
+    }
+
+    public GoModCommandExecutor(DetectableExecutableRunner executableRunner, GoVersionCache goVersionCache) {
         this.executableRunner = executableRunner;
+        this.goVersionCache = goVersionCache;
+    }
+
+    // Each command starts immediately, its output is handed to the consumer as it is produced and the future completes once the command has finished.
+    CompletableFuture<Void> streamGoListOutput(File directory, ExecutableTarget goExe, Consumer<String> outputConsumer) {
+        return executeStreaming(directory, goExe, outputConsumer, FAILURE_MSG_QUERYING_GO_FOR_THE_LIST_OF_MODULES, "list", "-m", "-json");
     }
 
-    List<String> generateGoListOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
-        return execute(directory, goExe, FAILURE_MSG_QUERYING_GO_FOR_THE_LIST_OF_MODULES, "list", "-m", "-json");
+    // The version is only queried once per executable, every later go.mod reuses the first answer.
+    CompletableFuture<List<String>> generateGoVersionOutput(File directory, ExecutableTarget goExe) {
+        return goVersionCache.getVersionOutput(goExe, () -> execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_VERSION, "version"));
     }
 
-    List<String> generateGoListUJsonOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
-        List<String> goVersionOutput = execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_VERSION, "version");
+    CompletableFuture<Void> streamGoListUJsonOutput(File directory, ExecutableTarget goExe, List<String> goVersionOutput, Consumer<String> outputConsumer) {
         Matcher matcher = GENERATE_GO_LIST_U_JSON_OUTPUT_PATTERN.matcher(goVersionOutput.get(0));
         if (matcher.find()) {
             String version = matcher.group();
             String[] parts = version.split("\\.");
             if (Integer.parseInt(parts[0]) > 1 || Integer.parseInt(parts[1]) >= 14) {
-                return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "list", "-mod=readonly", "-m", "-u", "-json", "all");
+                return executeStreaming(directory, goExe, outputConsumer, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "list", "-mod=readonly", "-m", "-u", "-json", "all");
             } else {
-                return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "list", "-m", "-u", "-json", "all");
+                return executeStreaming(directory, goExe, outputConsumer, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "list", "-m", "-u", "-json", "all");
             }
         }
-        return new ArrayList<>();
+        return CompletableFuture.completedFuture(null);
     }
 
-    List<String> generateGoModGraphOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
-        return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "mod", "graph");
+    CompletableFuture<Void> streamGoModGraphOutput(File directory, ExecutableTarget goExe, Consumer<String> outputConsumer) {
+        return executeStreaming(directory, goExe, outputConsumer, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "mod", "graph");
     }
 
-    List<String> generateGoModWhyOutput(File directory, ExecutableTarget goExe) {
-        try {
-            // executing this command helps produce more accurate results. Parse the output to create a module exclusion list.
-            return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_GO_MOD_WHY, "mod", "why", "-m", "all");
-        } catch (ExecutableRunnerException | DetectableException ex) {
-            logger.error("{} Will not be able to create an accurate module exclusion list.", FAILURE_MSG_QUERYING_FOR_GO_MOD_WHY);
-            logger.debug("Error executing go mod why command. ", ex);
-            return Collections.emptyList();
-        }
+    CompletableFuture<List<String>> generateGoModWhyOutput(File directory, ExecutableTarget goExe) {
+        // executing this command helps produce more accurate results. Parse the output to create a module exclusion list.
+        return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_GO_MOD_WHY, "mod", "why", "-m", "all")
+                   .exceptionally(failure -> {
+                       logger.error("{} Will not be able to create an accurate module exclusion list.", FAILURE_MSG_QUERYING_FOR_GO_MOD_WHY);
+                       logger.debug("Error executing go mod why command. ", failure instanceof CompletionException ? failure.getCause() : failure);
+                       return Collections.emptyList();
+                   });
     }
 
-    private List<String> execute(File directory, ExecutableTarget goExe, String failureMessage, String... arguments) throws DetectableException, ExecutableRunnerException {
-        ExecutableOutput output = executableRunner.execute(ExecutableUtils.createFromTarget(directory, goExe, arguments));
+    private CompletableFuture<List<String>> execute(File directory, ExecutableTarget goExe, String failureMessage, String... arguments) {
+        return executableRunner.executeAsync(ExecutableUtils.createFromTarget(directory, goExe, arguments))
+                   .thenApply(output -> {
+                       if (output.getReturnCode() != 0) {
+                           throw new CompletionException(new DetectableException(failureMessage + output.getReturnCode()));
+                       }
+                       return output.getStandardOutputAsList();
+                   });
+    }
 
-        if (output.getReturnCode() == 0) {
-            return output.getStandardOutputAsList();
-        } else {
-            throw new DetectableException(failureMessage + output.getReturnCode());
-        }
+    private CompletableFuture<Void> executeStreaming(File directory, ExecutableTarget goExe, Consumer<String> outputConsumer, String failureMessage, String... arguments) {
+        return executableRunner.executeStreamingAsync(ExecutableUtils.createFromTarget(directory, goExe, arguments), outputConsumer)
+                   .thenAccept(output -> {
+                       if (output.getReturnCode() != 0) {
+                           throw new CompletionException(new DetectableException(failureMessage + output.getReturnCode()));
+                       }
+                   });
     }
 }
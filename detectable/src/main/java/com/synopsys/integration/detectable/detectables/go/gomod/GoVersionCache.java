@@ -0,0 +1,36 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.synopsys.integration.detectable.ExecutableTarget;
+
+// The go version only depends on the executable, so it is queried once per executable and shared by every go.mod extracted in the run.
+public class GoVersionCache {
+    private final Map<String, CompletableFuture<List<String>>> versionOutputs = new ConcurrentHashMap<>();
+
+    public CompletableFuture<List<String>> getVersionOutput(ExecutableTarget goExe, Supplier<CompletableFuture<List<String>>> versionQuery) {
+        String command = goExe.toCommand();
+        if (command == null) {
+            return versionQuery.get();
+        }
+        CompletableFuture<List<String>> versionOutput = versionOutputs.computeIfAbsent(command, key -> versionQuery.get());
+        // A failed query is not kept, the next go.mod will ask again.
+        versionOutput.whenComplete((output, failure) -> {
+            if (failure != null) {
+                versionOutputs.remove(command, versionOutput);
+            }
+        });
+        return versionOutput;
+    }
+}
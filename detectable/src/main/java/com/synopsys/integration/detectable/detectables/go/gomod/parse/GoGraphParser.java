@@ -23,7 +23,6 @@ public class GoGraphParser {
     public List<GoGraphRelationship> parseRelationshipsFromGoModGraph(List<String> goModGraphOutput) {
         List<GoGraphRelationship> goGraphRelationships = new LinkedList<>();
         for (String line : goModGraphOutput) {
-            //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
             Optional<GoGraphRelationship> goGraphRelationship = parseLine(line);
             goGraphRelationship.ifPresent(goGraphRelationships::add);
         }
@@ -31,7 +30,8 @@ public class GoGraphParser {
         return goGraphRelationships;
     }
 
-    private Optional<GoGraphRelationship> parseLine(String line) {
+    //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
+    public Optional<GoGraphRelationship> parseLine(String line) {
         String[] parts = line.split(" ");
         if (parts.length != 2) {
             logger.warn("Unknown graph line format: {}", line);
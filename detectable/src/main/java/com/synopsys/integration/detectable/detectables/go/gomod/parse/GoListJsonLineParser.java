@@ -0,0 +1,56 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.parse;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+
+// Go prints one json object per module, each closing brace starts a line. Each object is parsed as soon as it is complete so only the current one is ever held as text.
+// A syntax error stops the parsing and is reported by finish, so the go process is still read to completion.
+public class GoListJsonLineParser<T> implements Consumer<String> {
+    private final Gson gson;
+    private final Class<T> classOfT;
+    private final List<T> listEntries = new LinkedList<>();
+    private StringBuilder jsonEntry = new StringBuilder();
+    private String failure = null;
+
+    GoListJsonLineParser(Gson gson, Class<T> classOfT) {
+        this.gson = gson;
+        this.classOfT = classOfT;
+    }
+
+    @Override
+    public void accept(String line) {
+        if (failure != null) {
+            return;
+        }
+        jsonEntry.append(line);
+        if (line.startsWith("}")) {
+            try {
+                T data = gson.fromJson(jsonEntry.toString(), classOfT);
+                listEntries.add(data);
+                // Reset to accumulate a new entry
+                jsonEntry = new StringBuilder();
+            } catch (JsonSyntaxException e) {
+                failure = e.getMessage();
+            }
+        }
+    }
+
+    public List<T> finish() throws DetectableException {
+        if (failure != null) {
+            throw new DetectableException(failure);
+        }
+        return listEntries;
+    }
+}
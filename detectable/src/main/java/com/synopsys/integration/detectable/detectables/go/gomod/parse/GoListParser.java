@@ -7,11 +7,9 @@
  */
 package com.synopsys.integration.detectable.detectables.go.gomod.parse;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.GoListAllData;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.GoListModule;
@@ -24,31 +22,23 @@ public class GoListParser {
     }
 
     public List<GoListAllData> parseGoListAllJsonOutput(List<String> listUJsonOutput) throws DetectableException {
-        return parseGoListJsonToClass(listUJsonOutput, GoListAllData.class);
+        return parseGoListJsonToClass(listUJsonOutput, createGoListAllLineParser());
     }
 
     public List<GoListModule> parseGoListModuleJsonOutput(List<String> listModuleJsonOutput) throws DetectableException {
-        return parseGoListJsonToClass(listModuleJsonOutput, GoListModule.class);
+        return parseGoListJsonToClass(listModuleJsonOutput, createGoListModuleLineParser());
     }
 
-    private <T> List<T> parseGoListJsonToClass(List<String> listJsonOutput, Class<T> classOfT) throws DetectableException {
-        List<T> listEntries = new LinkedList<>();
-
-        StringBuilder jsonEntry = new StringBuilder();
-        for (String line : listJsonOutput) {
-            jsonEntry.append(line);
-            if (line.startsWith("}")) {
-                try {
-                    T data = gson.fromJson(jsonEntry.toString(), classOfT);
-                    listEntries.add(data);
-                    // Reset to accumulate a new entry
-                    jsonEntry = new StringBuilder();
-                } catch (JsonSyntaxException e) {
-                    throw new DetectableException(e.getMessage());
-                }
-            }
-        }
-
-        return listEntries;
+    public GoListJsonLineParser<GoListAllData> createGoListAllLineParser() {
+        return new GoListJsonLineParser<>(gson, GoListAllData.class);
+    }
+
+    public GoListJsonLineParser<GoListModule> createGoListModuleLineParser() {
+        return new GoListJsonLineParser<>(gson, GoListModule.class);
+    }
+
+    private <T> List<T> parseGoListJsonToClass(List<String> listJsonOutput, GoListJsonLineParser<T> lineParser) throws DetectableException {
+        listJsonOutput.forEach(lineParser);
+        return lineParser.finish();
     }
 }
@@ -0,0 +1,15 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection;
+
+public enum GradleExecutionMode {
+    // Run the gradle (or gradlew) executable as a new process for every build.
+    CLI,
+    // Run every build through the Gradle Tooling API so builds share the loaded distribution and a warm daemon.
+    TOOLING_API
+}
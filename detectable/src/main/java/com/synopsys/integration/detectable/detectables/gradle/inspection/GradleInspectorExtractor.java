@@ -12,15 +12,20 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ParallelUtil;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleEdgeListParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
@@ -34,39 +39,52 @@ public class GradleInspectorExtractor {
 
     private final FileFinder fileFinder;
     private final GradleRunner gradleRunner;
+    private final GradleToolingApiRunner gradleToolingApiRunner;
     private final GradleReportParser gradleReportParser;
     private final GradleReportTransformer gradleReportTransformer;
     private final GradleRootMetadataParser gradleRootMetadataParser;
+    private final GradleEdgeListParser gradleEdgeListParser;
 
-    public GradleInspectorExtractor(FileFinder fileFinder, GradleRunner gradleRunner, GradleReportParser gradleReportParser,
+    public GradleInspectorExtractor(FileFinder fileFinder, GradleRunner gradleRunner, GradleToolingApiRunner gradleToolingApiRunner, GradleReportParser gradleReportParser,
         GradleReportTransformer gradleReportTransformer,
-        GradleRootMetadataParser gradleRootMetadataParser) {
+        GradleRootMetadataParser gradleRootMetadataParser, GradleEdgeListParser gradleEdgeListParser) {
         this.fileFinder = fileFinder;
         this.gradleRunner = gradleRunner;
+        this.gradleToolingApiRunner = gradleToolingApiRunner;
         this.gradleReportParser = gradleReportParser;
         this.gradleReportTransformer = gradleReportTransformer;
         this.gradleRootMetadataParser = gradleRootMetadataParser;
+        this.gradleEdgeListParser = gradleEdgeListParser;
     }
 
-    public Extraction extract(File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory) throws ExecutableFailedException {
+    public Extraction extract(File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory, int reportParseParallelism,
+        GradleExecutionMode executionMode) throws ExecutableFailedException {
         try {
             ToolVersionLogger.log(gradleRunner.getExecutableRunner(), directory, gradleExe);
-            gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+            if (executionMode == GradleExecutionMode.TOOLING_API) {
+                List<String> arguments = gradleRunner.createGradleDependenciesArguments(gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+                gradleToolingApiRunner.runGradleBuild(directory, gradleExe, arguments);
+            } else {
+                gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+            }
 
             File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
             List<File> reportFiles = fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
+            List<File> edgeListFiles = fileFinder.findFiles(outputDirectory, "*_dependencyGraph.edges");
 
-            List<CodeLocation> codeLocations = new ArrayList<>();
+            List<Supplier<Optional<CodeLocation>>> reportParsers = new ArrayList<>();
             String projectName = null;
             String projectVersion = null;
             if (reportFiles != null) {
-                reportFiles.stream()
-                    .map(gradleReportParser::parseReport)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(gradleReportTransformer::transform)
-                    .forEach(codeLocations::add);
+                reportFiles.forEach(reportFile -> reportParsers.add(() -> gradleReportParser.parseReport(reportFile).map(gradleReportTransformer::transform)));
+            }
+            if (edgeListFiles != null) {
+                // Edge lists are parsed straight into a graph, there is no intermediate report to transform.
+                edgeListFiles.forEach(edgeListFile -> reportParsers.add(() -> gradleEdgeListParser.parseReport(edgeListFile)));
+            }
+            List<CodeLocation> codeLocations = parseReports(reportParsers, reportParseParallelism);
 
+            if (reportFiles != null || edgeListFiles != null) {
                 if (rootProjectMetadataFile != null) {
                     Optional<NameVersion> projectNameVersion = gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile);
                     if (projectNameVersion.isPresent()) {
@@ -83,9 +101,16 @@ public class GradleInspectorExtractor {
                        .projectName(projectName)
                        .projectVersion(projectVersion)
                        .build();
-        } catch (IOException e) {
+        } catch (IOException | DetectableException e) {
             return new Extraction.Builder().exception(e).build();
         }
     }
 
+    private List<CodeLocation> parseReports(List<Supplier<Optional<CodeLocation>>> reportParsers, int reportParseParallelism) {
+        logger.debug(String.format("Parsing %d gradle reports with a parallelism of %d.", reportParsers.size(), reportParseParallelism));
+        return ParallelUtil.mapInOrder("gradle-report-parser", reportParseParallelism, reportParsers, Supplier::get).stream()
+                   .filter(Optional::isPresent)
+                   .map(Optional::get)
+                   .collect(Collectors.toList());
+    }
 }
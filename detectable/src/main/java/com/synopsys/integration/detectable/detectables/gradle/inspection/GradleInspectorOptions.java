@@ -16,11 +16,20 @@ public class GradleInspectorOptions {
     private final String gradleBuildCommand;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
     private final ProxyInfo proxyInfo;
+    private final int reportParseParallelism;
+    private final GradleExecutionMode executionMode;
 
     public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo) {
+        this(gradleBuildCommand, gradleInspectorScriptOptions, proxyInfo, 1, GradleExecutionMode.CLI);
+    }
+
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo, final int reportParseParallelism,
+        final GradleExecutionMode executionMode) {
         this.gradleBuildCommand = gradleBuildCommand;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
         this.proxyInfo = proxyInfo;
+        this.reportParseParallelism = reportParseParallelism;
+        this.executionMode = executionMode;
     }
 
     public Optional<String> getGradleBuildCommand() {
@@ -34,4 +43,12 @@ public class GradleInspectorOptions {
     public ProxyInfo getproxyInfo() {
         return proxyInfo;
     }
+
+    public int getReportParseParallelism() {
+        return reportParseParallelism;
+    }
+
+    public GradleExecutionMode getExecutionMode() {
+        return executionMode;
+    }
 }
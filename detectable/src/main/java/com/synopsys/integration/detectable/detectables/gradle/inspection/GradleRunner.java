@@ -41,6 +41,11 @@ public class GradleRunner {
     }
 
     public void runGradleDependencies(File directory, ExecutableTarget gradleExe, File gradleInspector, @Nullable String gradleCommand, ProxyInfo proxyInfo, File outputDirectory) throws IOException, ExecutableFailedException {
+        List<String> arguments = createGradleDependenciesArguments(gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+        executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, gradleExe, arguments));
+    }
+
+    public List<String> createGradleDependenciesArguments(File gradleInspector, @Nullable String gradleCommand, ProxyInfo proxyInfo, File outputDirectory) throws IOException {
         List<String> arguments = splitUserArguments(gradleCommand);
         // this gradle task is defined in the init script
         arguments.add("gatherDependencies");
@@ -54,8 +59,7 @@ public class GradleRunner {
         if (proxyInfo.getPort() != 0) {
             arguments.add("-Dhttps.proxyPort=" + proxyInfo.getPort());
         }
-
-        executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, gradleExe, arguments));
+        return arguments;
     }
 
     public DetectableExecutableRunner getExecutableRunner() {
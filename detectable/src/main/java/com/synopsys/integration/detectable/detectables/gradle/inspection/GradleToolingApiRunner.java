@@ -0,0 +1,92 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+
+// The tooling api keeps each distribution it loads and the daemon it starts for the life of this process, so every build after the first skips JVM startup and reuses the daemon's warm caches.
+public class GradleToolingApiRunner {
+    private static final int STANDARD_ERROR_TAIL_LINES = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public void runGradleBuild(File directory, ExecutableTarget gradleExe, List<String> arguments) throws DetectableException {
+        GradleConnector connector = GradleConnector.newConnector().forProjectDirectory(directory);
+        findGradleInstallation(gradleExe).ifPresent(connector::useInstallation);
+
+        // Output is logged a line at a time while the build runs, only the end of standard error is kept to explain a failure.
+        Deque<String> standardErrorTail = new ArrayDeque<>();
+        LineOutputStream standardOutput = new LineOutputStream(logger::debug);
+        LineOutputStream standardError = new LineOutputStream(line -> {
+            logger.debug(line);
+            synchronized (standardErrorTail) {
+                if (standardErrorTail.size() == STANDARD_ERROR_TAIL_LINES) {
+                    standardErrorTail.removeFirst();
+                }
+                standardErrorTail.addLast(line);
+            }
+        });
+        logger.debug(String.format("Running gradle through the tooling api in %s with arguments: %s", directory, String.join(" ", arguments)));
+        ProjectConnection connection = null;
+        try {
+            connection = connector.connect();
+            connection.newBuild()
+                .withArguments(arguments)
+                .setStandardOutput(standardOutput)
+                .setStandardError(standardError)
+                .run();
+        } catch (GradleConnectionException | IllegalStateException e) {
+            standardError.close();
+            String errorOutput;
+            synchronized (standardErrorTail) {
+                errorOutput = String.join(System.lineSeparator(), standardErrorTail);
+            }
+            throw new DetectableException(String.format("The gradle build in %s failed: %s", directory, errorOutput), e);
+        } finally {
+            // Closing the connection leaves the daemon running for the next build.
+            if (connection != null) {
+                connection.close();
+            }
+            standardOutput.close();
+            standardError.close();
+        }
+    }
+
+    // A wrapper brings its own distribution, otherwise the installation the gradle executable belongs to is used so the build runs with the same version as on the command line.
+    public Optional<File> findGradleInstallation(ExecutableTarget gradleExe) {
+        String command = gradleExe.toCommand();
+        File executable = command != null ? new File(command) : null;
+        if (executable == null || !executable.isFile() || executable.getName().startsWith("gradlew")) {
+            return Optional.empty();
+        }
+        try {
+            File binDirectory = executable.getCanonicalFile().getParentFile();
+            File installation = binDirectory != null ? binDirectory.getParentFile() : null;
+            if (installation != null && new File(installation, "lib").isDirectory()) {
+                return Optional.of(installation);
+            }
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to find the gradle installation of %s, the build's own distribution will be used.", command), e);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+// Hands each complete line written to it to the consumer as soon as its line break arrives, a final line without one is handed over on close.
+public class LineOutputStream extends OutputStream {
+    private final Consumer<String> lineConsumer;
+    private final ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+
+    public LineOutputStream(Consumer<String> lineConsumer) {
+        this.lineConsumer = lineConsumer;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        if (b == '\n') {
+            consumeCurrentLine();
+        } else {
+            currentLine.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (currentLine.size() > 0) {
+            consumeCurrentLine();
+        }
+    }
+
+    private void consumeCurrentLine() {
+        String line = new String(currentLine.toByteArray(), StandardCharsets.UTF_8);
+        currentLine.reset();
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
+        }
+        lineConsumer.accept(line);
+    }
+}
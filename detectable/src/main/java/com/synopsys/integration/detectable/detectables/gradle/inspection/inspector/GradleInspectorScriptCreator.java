@@ -56,6 +56,7 @@ public class GradleInspectorScriptCreator {
         gradleScriptData.put("excludedConfigurationNames", toCommaSeparatedString(scriptOptions.getExcludedConfigurationNames()));
         gradleScriptData.put("includedConfigurationNames", toCommaSeparatedString(scriptOptions.getIncludedConfigurationNames()));
         gradleScriptData.put("customRepositoryUrl", scriptOptions.getGradleInspectorRepositoryUrl());
+        gradleScriptData.put("reportFormat", scriptOptions.getReportFormat().name());
 
         try {
             populateGradleScriptWithData(templateFile, gradleScriptData);
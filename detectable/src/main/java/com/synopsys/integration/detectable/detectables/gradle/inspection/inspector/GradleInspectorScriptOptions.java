@@ -17,16 +17,24 @@ public class GradleInspectorScriptOptions {
     private final List<String> includedConfigurationNames;
     private final String gradleInspectorRepositoryUrl;
     private final String providedOnlineInspectorVersion;
+    private final GradleReportFormat reportFormat;
 
     public GradleInspectorScriptOptions(List<String> excludedProjectNames, List<String> includedProjectNames, List<String> excludedConfigurationNames, List<String> includedConfigurationNames,
         String gradleInspectorRepositoryUrl,
         String providedOnlineInspectorVersion) {
+        this(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, gradleInspectorRepositoryUrl, providedOnlineInspectorVersion, GradleReportFormat.TREE);
+    }
+
+    public GradleInspectorScriptOptions(List<String> excludedProjectNames, List<String> includedProjectNames, List<String> excludedConfigurationNames, List<String> includedConfigurationNames,
+        String gradleInspectorRepositoryUrl,
+        String providedOnlineInspectorVersion, GradleReportFormat reportFormat) {
         this.excludedProjectNames = excludedProjectNames;
         this.includedProjectNames = includedProjectNames;
         this.excludedConfigurationNames = excludedConfigurationNames;
         this.includedConfigurationNames = includedConfigurationNames;
         this.gradleInspectorRepositoryUrl = gradleInspectorRepositoryUrl;
         this.providedOnlineInspectorVersion = providedOnlineInspectorVersion;
+        this.reportFormat = reportFormat;
     }
 
     public String getGradleInspectorRepositoryUrl() {
@@ -52,4 +60,8 @@ public class GradleInspectorScriptOptions {
     public Optional<String> getProvidedOnlineInspectorVersion() {
         return Optional.ofNullable(providedOnlineInspectorVersion);
     }
+
+    public GradleReportFormat getReportFormat() {
+        return reportFormat;
+    }
 }
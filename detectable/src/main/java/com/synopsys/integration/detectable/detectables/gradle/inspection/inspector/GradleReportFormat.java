@@ -0,0 +1,15 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection.inspector;
+
+public enum GradleReportFormat {
+    // The text tree printed by the built-in 'dependencies' task.
+    TREE,
+    // A node table and per configuration edges written from each configuration's ResolutionResult.
+    EDGE_LIST
+}
@@ -0,0 +1,113 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+
+// Parses the edge list written by the inspector in EDGE_LIST mode:
+//   n<TAB>id<TAB>group<TAB>name<TAB>version   a node, always written before any line that references its id
+//   c<TAB>configuration                       the start of a configuration
+//   r<TAB>id                                  a direct dependency of the current configuration
+//   e<TAB>parentId<TAB>childId                a transitive dependency of the current configuration
+// followed by the same meta data section as the text report.
+public class GradleEdgeListParser {
+    public static final String EDGE_LIST_HEADER = "DETECT EDGE LIST 1";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ExternalIdFactory externalIdFactory;
+
+    public GradleEdgeListParser(ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public Optional<CodeLocation> parseReport(File reportFile) {
+        try (BufferedReader reader = Files.newBufferedReader(reportFile.toPath(), StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (!EDGE_LIST_HEADER.equals(header)) {
+                logger.debug(String.format("Report file is not a supported edge list: %s", reportFile.getAbsolutePath()));
+                return Optional.empty();
+            }
+            return Optional.of(parseEdgeList(reader));
+        } catch (IOException | RuntimeException e) {
+            logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
+            return Optional.empty();
+        }
+    }
+
+    private CodeLocation parseEdgeList(BufferedReader reader) throws IOException {
+        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        List<Dependency> nodes = new ArrayList<>();
+        String projectSourcePath = "";
+        String projectGroup = "";
+        String projectName = "";
+        String projectVersion = "";
+        boolean processingMetaData = false;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(GradleReportParser.DETECT_META_DATA_HEADER)) {
+                processingMetaData = true;
+            } else if (line.startsWith(GradleReportParser.DETECT_META_DATA_FOOTER)) {
+                processingMetaData = false;
+            } else if (processingMetaData) {
+                if (line.startsWith(GradleReportParser.PROJECT_PATH_PREFIX)) {
+                    projectSourcePath = line.substring(GradleReportParser.PROJECT_PATH_PREFIX.length()).trim();
+                } else if (line.startsWith(GradleReportParser.PROJECT_GROUP_PREFIX)) {
+                    projectGroup = line.substring(GradleReportParser.PROJECT_GROUP_PREFIX.length()).trim();
+                } else if (line.startsWith(GradleReportParser.PROJECT_NAME_PREFIX)) {
+                    projectName = line.substring(GradleReportParser.PROJECT_NAME_PREFIX.length()).trim();
+                } else if (line.startsWith(GradleReportParser.PROJECT_VERSION_PREFIX)) {
+                    projectVersion = line.substring(GradleReportParser.PROJECT_VERSION_PREFIX.length()).trim();
+                }
+            } else if (line.startsWith("n\t")) {
+                String[] pieces = line.split("\t", -1);
+                int id = Integer.parseInt(pieces[1]);
+                ExternalId externalId = externalIdFactory.createMavenExternalId(pieces[2], pieces[3], pieces[4]);
+                Dependency dependency = new Dependency(pieces[3], pieces[4], externalId);
+                while (nodes.size() <= id) {
+                    nodes.add(null);
+                }
+                nodes.set(id, dependency);
+            } else if (line.startsWith("c\t")) {
+                logger.trace(String.format("Adding configuration to the graph: %s", line.substring(2)));
+            } else if (line.startsWith("r\t")) {
+                graph.addChildToRoot(nodes.get(Integer.parseInt(line.substring(2))));
+            } else if (line.startsWith("e\t")) {
+                int separator = line.indexOf('\t', 2);
+                Dependency parent = nodes.get(Integer.parseInt(line.substring(2, separator)));
+                Dependency child = nodes.get(Integer.parseInt(line.substring(separator + 1)));
+                graph.addChildWithParent(child, parent);
+            }
+        }
+
+        ExternalId projectId = externalIdFactory.createMavenExternalId(projectGroup, projectName, projectVersion);
+        if (StringUtils.isNotBlank(projectSourcePath)) {
+            return new CodeLocation(graph, projectId, new File(projectSourcePath));
+        } else {
+            return new CodeLocation(graph, projectId);
+        }
+    }
+}
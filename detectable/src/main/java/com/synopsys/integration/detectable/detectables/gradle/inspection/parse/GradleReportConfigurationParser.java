@@ -8,7 +8,6 @@
 package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
 
@@ -16,17 +15,21 @@ public class GradleReportConfigurationParser {
     private final GradleReportLineParser parser = new GradleReportLineParser();
 
     public GradleConfiguration parse(final String header, final List<String> dependencyLines) {
-        final GradleConfiguration configuration = new GradleConfiguration();
+        final GradleConfiguration configuration = createConfiguration(header);
+        dependencyLines.forEach(dependencyLine -> addDependencyLine(configuration, dependencyLine));
+        return configuration;
+    }
 
+    public GradleConfiguration createConfiguration(final String header) {
+        final GradleConfiguration configuration = new GradleConfiguration();
         configuration.setName(parseConfigurationName(header));
-
-        configuration.setChildren(dependencyLines.stream()
-                                      .map(parser::parseLine)
-                                      .collect(Collectors.toList()));
-
         return configuration;
     }
 
+    public void addDependencyLine(final GradleConfiguration configuration, final String dependencyLine) {
+        configuration.getChildren().add(parser.parseLine(dependencyLine));
+    }
+
     private String parseConfigurationName(final String header) {
         if (header.contains(" - ")) {
             return header.substring(0, header.indexOf(" - ")).trim();
@@ -13,10 +13,7 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,10 +39,13 @@ public class GradleReportParser {
     public Optional<GradleReport> parseReport(final File reportFile) {
         GradleReport gradleReport = new GradleReport();
         boolean processingMetaData = false;
-        final List<String> configurationLines = new ArrayList<>();
+        // Configurations are blocks of lines separated by blank lines, each line is parsed as it is read rather than buffering the whole block.
+        String blockHeader = null;
+        boolean skippingBlock = false;
+        GradleConfiguration currentConfiguration = null;
         try (final InputStream dependenciesInputStream = new FileInputStream(reportFile); final BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8))) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /*
                   The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -63,15 +63,23 @@ public class GradleReportParser {
                 }
 
                 if (StringUtils.isBlank(line)) {
-                    parseConfigurationLines(configurationLines, gradleReport);
-                    configurationLines.clear();
-                } else {
-                    configurationLines.add(line);
+                    blockHeader = null;
+                    skippingBlock = false;
+                    currentConfiguration = null;
+                } else if (blockHeader == null) {
+                    blockHeader = line;
+                } else if (currentConfiguration != null) {
+                    gradleReportConfigurationParser.addDependencyLine(currentConfiguration, line);
+                } else if (!skippingBlock) {
+                    if (isConfigurationHeader(blockHeader)) {
+                        currentConfiguration = gradleReportConfigurationParser.createConfiguration(blockHeader);
+                        gradleReport.getConfigurations().add(currentConfiguration);
+                        gradleReportConfigurationParser.addDependencyLine(currentConfiguration, line);
+                    } else {
+                        skippingBlock = true;
+                    }
                 }
-
             }
-
-            parseConfigurationLines(configurationLines, gradleReport);
         } catch (final Exception e) {
             logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
             gradleReport = null;
@@ -92,20 +100,11 @@ public class GradleReportParser {
         }
     }
 
-    private void parseConfigurationLines(final List<String> configurationLines, final GradleReport gradleReport) {
-        if (configurationLines.size() > 1 && isConfigurationHeader(configurationLines)) {
-            final String header = configurationLines.get(0);
-            final List<String> dependencyTree = configurationLines.stream().skip(1).collect(Collectors.toList());
-            final GradleConfiguration configuration = gradleReportConfigurationParser.parse(header, dependencyTree);
-            gradleReport.getConfigurations().add(configuration);
-        }
-    }
-
-    private boolean isConfigurationHeader(final List<String> lines) {
-        if (lines.get(0).contains(" - ")) {
+    private boolean isConfigurationHeader(final String line) {
+        if (line.contains(" - ")) {
             return true;
         } else {
-            return StringUtils.isAlphanumeric(lines.get(0));
+            return StringUtils.isAlphanumeric(line);
         }
     }
 }
@@ -10,7 +10,9 @@ package com.synopsys.integration.detectable.detectables.lerna;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -21,14 +23,17 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ParallelUtil;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.lerna.lockfile.LernaLockFileResult;
+import com.synopsys.integration.detectable.detectables.lerna.lockfile.LernaParsedLockFile;
 import com.synopsys.integration.detectable.detectables.lerna.model.LernaPackage;
 import com.synopsys.integration.detectable.detectables.lerna.model.LernaResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockGraph;
 import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
 import com.synopsys.integration.detectable.detectables.yarn.YarnPackager;
 import com.synopsys.integration.detectable.detectables.yarn.YarnResult;
@@ -66,16 +71,19 @@ public class LernaPackager {
     }
 
     public LernaResult generateLernaResult(File sourceDirectory, File rootPackageJson, List<LernaPackage> lernaPackages) {
-        LernaLockFileResult rootLockFile = findLockFiles(sourceDirectory);
+        // Every package without a lockfile of its own resolves against the root lockfile, so it is parsed once and shared.
+        LernaParsedLockFile rootLockFile = parseLockFile(findLockFiles(sourceDirectory));
         LernaResult rootLernaResult = parse(sourceDirectory, rootPackageJson, rootLockFile, new ArrayList<>());
 
         List<NameVersion> externalPackages = lernaPackages.stream()
                                                  .map(lernaPackage -> new NameVersion(lernaPackage.getName(), lernaPackage.getVersion()))
                                                  .collect(Collectors.toList());
 
+        List<LernaResult> lernaResults = extractPackages(lernaPackages, externalPackages, rootLockFile);
         List<CodeLocation> codeLocations = new ArrayList<>(rootLernaResult.getCodeLocations());
-        for (LernaPackage lernaPackage : lernaPackages) {
-            LernaResult lernaResult = extractPackage(lernaPackage, externalPackages, rootLockFile);
+        for (int i = 0; i < lernaPackages.size(); i++) {
+            LernaPackage lernaPackage = lernaPackages.get(i);
+            LernaResult lernaResult = lernaResults.get(i);
             if (lernaResult != null) {
                 if (lernaResult.isSuccess()) {
                     lernaResult.getCodeLocations().stream()
@@ -92,7 +100,12 @@ public class LernaPackager {
         return LernaResult.success(rootLernaResult.getProjectName(), rootLernaResult.getProjectVersionName(), codeLocations);
     }
 
-    private @Nullable LernaResult extractPackage(LernaPackage lernaPackage, List<NameVersion> externalPackages, LernaLockFileResult rootLockFile) {
+    private List<LernaResult> extractPackages(List<LernaPackage> lernaPackages, List<NameVersion> externalPackages, LernaParsedLockFile rootLockFile) {
+        logger.debug(String.format("Extracting %d lerna packages with a parallelism of %d.", lernaPackages.size(), lernaOptions.getPackageParallelism()));
+        return ParallelUtil.mapInOrder("lerna-package-extractor", lernaOptions.getPackageParallelism(), lernaPackages, lernaPackage -> extractPackage(lernaPackage, externalPackages, rootLockFile));
+    }
+
+    private @Nullable LernaResult extractPackage(LernaPackage lernaPackage, List<NameVersion> externalPackages, LernaParsedLockFile rootLockFile) {
         String lernaPackageDetails = String.format("%s:%s at %s", lernaPackage.getName(), lernaPackage.getVersion(), lernaPackage.getLocation());
 
         if (!lernaOptions.shouldIncludePrivatePackages() && lernaPackage.isPrivate()) {
@@ -110,7 +123,7 @@ public class LernaPackager {
         }
 
         if (lockFile.hasLockFile()) {
-            return parse(lernaPackageDirectory, packagesPackageJson, lockFile, externalPackages);
+            return parse(lernaPackageDirectory, packagesPackageJson, parseLockFile(lockFile), externalPackages);
         } else {
             return parse(lernaPackageDirectory, packagesPackageJson, rootLockFile, externalPackages);
         }
@@ -118,27 +131,43 @@ public class LernaPackager {
     }
 
     private LernaLockFileResult findLockFiles(File searchDirectory) {
-        try {
-            File packageLockJsonFile = fileFinder.findFile(searchDirectory, LernaDetectable.PACKAGE_LOCK_JSON);
-            if (packageLockJsonFile != null) {
-                return LernaLockFileResult.foundNpm(FileUtils.readFileToString(packageLockJsonFile, StandardCharsets.UTF_8));
-            }
-            File shrinkwrapJsonFile = fileFinder.findFile(searchDirectory, LernaDetectable.SHRINKWRAP_JSON);
-            if (shrinkwrapJsonFile != null) {
-                return LernaLockFileResult.foundNpm(FileUtils.readFileToString(shrinkwrapJsonFile, StandardCharsets.UTF_8));
+        File packageLockJsonFile = fileFinder.findFile(searchDirectory, LernaDetectable.PACKAGE_LOCK_JSON);
+        if (packageLockJsonFile != null) {
+            return LernaLockFileResult.foundNpm(packageLockJsonFile);
+        }
+        File shrinkwrapJsonFile = fileFinder.findFile(searchDirectory, LernaDetectable.SHRINKWRAP_JSON);
+        if (shrinkwrapJsonFile != null) {
+            return LernaLockFileResult.foundNpm(shrinkwrapJsonFile);
+        }
+        File yarnLockFile = fileFinder.findFile(searchDirectory, LernaDetectable.YARN_LOCK);
+        if (yarnLockFile != null) {
+            return LernaLockFileResult.foundYarn(yarnLockFile);
+        }
+
+        return LernaLockFileResult.foundNone();
+    }
+
+    private LernaParsedLockFile parseLockFile(LernaLockFileResult lockFile) {
+        if (lockFile.getNpmLockFile().isPresent()) {
+            try (Reader npmLockReader = Files.newBufferedReader(lockFile.getNpmLockFile().get().toPath(), StandardCharsets.UTF_8)) {
+                return LernaParsedLockFile.npm(npmLockfileParser.readLockFile(npmLockReader));
+            } catch (Exception exception) {
+                return LernaParsedLockFile.failure(exception);
             }
-            File yarnLockFile = fileFinder.findFile(searchDirectory, LernaDetectable.YARN_LOCK);
-            if (yarnLockFile != null) {
-                return LernaLockFileResult.foundYarn(FileUtils.readLines(yarnLockFile, StandardCharsets.UTF_8));
+        } else if (lockFile.getYarnLockFile().isPresent()) {
+            try {
+                YarnLock yarnLock = yarnLockParser.parseYarnLock(lockFile.getYarnLockFile().get());
+                YarnLockGraph yarnLockGraph = YarnLockGraph.index(yarnLock, YarnWorkspaces.EMPTY, yarnLockOptions.useProductionOnly());
+                return LernaParsedLockFile.yarn(yarnLock, yarnLockGraph);
+            } catch (IOException e) {
+                return LernaParsedLockFile.failure(e);
             }
-
-            return LernaLockFileResult.foundNone();
-        } catch (IOException exception) {
-            return LernaLockFileResult.foundNone();
+        } else {
+            return LernaParsedLockFile.none();
         }
     }
 
-    private LernaResult parse(File directory, File packageJson, LernaLockFileResult lockFile, List<NameVersion> externalPackages) {
+    private LernaResult parse(File directory, File packageJson, LernaParsedLockFile lockFile, List<NameVersion> externalPackages) {
         String packageJsonContents;
         try {
             packageJsonContents = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
@@ -146,7 +175,9 @@ public class LernaPackager {
             return LernaResult.failure(e);
         }
 
-        if (lockFile.getNpmLockContents().isPresent()) {
+        if (lockFile.getException().isPresent()) {
+            return LernaResult.failure(lockFile.getException().get());
+        } else if (lockFile.getNpmLockContents().isPresent()) {
             try {
                 NpmParseResult npmParseResult = npmLockfileParser.parse(
                     packageJsonContents,
@@ -159,11 +190,11 @@ public class LernaPackager {
             } catch (Exception exception) {
                 return LernaResult.failure(exception);
             }
-        } else if (lockFile.getYarnLockContents().isPresent()) {
-            YarnLock yarnLock = yarnLockParser.parseYarnLock(lockFile.getYarnLockContents().get());
+        } else if (lockFile.getYarnLock().isPresent() && lockFile.getYarnLockGraph().isPresent()) {
             NullSafePackageJson rootPackageJson = packageJsonReader.read(packageJsonContents);
             YarnResult yarnResult = yarnPackager
-                                        .generateCodeLocation(rootPackageJson, YarnWorkspaces.EMPTY, yarnLock, externalPackages, yarnLockOptions.useProductionOnly(), ExcludedIncludedWildcardFilter.EMPTY);
+                                        .generateCodeLocation(rootPackageJson, YarnWorkspaces.EMPTY, lockFile.getYarnLock().get(), lockFile.getYarnLockGraph().get(), externalPackages,
+                                            yarnLockOptions.useProductionOnly(), ExcludedIncludedWildcardFilter.EMPTY);
 
             if (yarnResult.getException().isPresent()) {
                 return LernaResult.failure(yarnResult.getException().get());
@@ -7,26 +7,27 @@
  */
 package com.synopsys.integration.detectable.detectables.lerna.lockfile;
 
-import java.util.List;
+import java.io.File;
 import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class LernaLockFileResult {
-    private final String npmLockContents;
-    private final List<String> yarnLockContents;
+    private final File npmLockFile;
+    private final File yarnLockFile;
 
-    private LernaLockFileResult(@Nullable String npmLockContents, @Nullable List<String> yarnLockContents) {
-        this.npmLockContents = npmLockContents;
-        this.yarnLockContents = yarnLockContents;
+    private LernaLockFileResult(@Nullable File npmLockFile, @Nullable File yarnLockFile) {
+        this.npmLockFile = npmLockFile;
+        this.yarnLockFile = yarnLockFile;
     }
 
-    public static LernaLockFileResult foundNpm(@NotNull String npmLockFile) {
+    // The lockfiles are read when they are parsed, so only their locations are kept.
+    public static LernaLockFileResult foundNpm(@NotNull File npmLockFile) {
         return new LernaLockFileResult(npmLockFile, null);
     }
 
-    public static LernaLockFileResult foundYarn(@NotNull List<String> yarnLockFile) {
+    public static LernaLockFileResult foundYarn(@NotNull File yarnLockFile) {
         return new LernaLockFileResult(null, yarnLockFile);
     }
 
@@ -34,15 +35,15 @@ public class LernaLockFileResult {
         return new LernaLockFileResult(null, null);
     }
 
-    public Optional<String> getNpmLockContents() {
-        return Optional.ofNullable(npmLockContents);
+    public Optional<File> getNpmLockFile() {
+        return Optional.ofNullable(npmLockFile);
     }
 
-    public Optional<List<String>> getYarnLockContents() {
-        return Optional.ofNullable(yarnLockContents);
+    public Optional<File> getYarnLockFile() {
+        return Optional.ofNullable(yarnLockFile);
     }
 
     public boolean hasLockFile() {
-        return getNpmLockContents().isPresent() || getYarnLockContents().isPresent();
+        return getNpmLockFile().isPresent() || getYarnLockFile().isPresent();
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.lerna.lockfile;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockContents;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockGraph;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+
+// A lockfile that has already been parsed. It is only read when building a package's graph, so one can be shared by every package that resolves against it.
+public class LernaParsedLockFile {
+    private final PackageLockContents npmLockContents;
+    private final YarnLock yarnLock;
+    private final YarnLockGraph yarnLockGraph;
+    private final Exception exception;
+
+    private LernaParsedLockFile(@Nullable PackageLockContents npmLockContents, @Nullable YarnLock yarnLock, @Nullable YarnLockGraph yarnLockGraph, @Nullable Exception exception) {
+        this.npmLockContents = npmLockContents;
+        this.yarnLock = yarnLock;
+        this.yarnLockGraph = yarnLockGraph;
+        this.exception = exception;
+    }
+
+    public static LernaParsedLockFile npm(@NotNull PackageLockContents npmLockContents) {
+        return new LernaParsedLockFile(npmLockContents, null, null, null);
+    }
+
+    public static LernaParsedLockFile yarn(@NotNull YarnLock yarnLock, @NotNull YarnLockGraph yarnLockGraph) {
+        return new LernaParsedLockFile(null, yarnLock, yarnLockGraph, null);
+    }
+
+    public static LernaParsedLockFile failure(@NotNull Exception exception) {
+        return new LernaParsedLockFile(null, null, null, exception);
+    }
+
+    public static LernaParsedLockFile none() {
+        return new LernaParsedLockFile(null, null, null, null);
+    }
+
+    public Optional<PackageLockContents> getNpmLockContents() {
+        return Optional.ofNullable(npmLockContents);
+    }
+
+    public Optional<YarnLock> getYarnLock() {
+        return Optional.ofNullable(yarnLock);
+    }
+
+    public Optional<YarnLockGraph> getYarnLockGraph() {
+        return Optional.ofNullable(yarnLockGraph);
+    }
+
+    public Optional<Exception> getException() {
+        return Optional.ofNullable(exception);
+    }
+}
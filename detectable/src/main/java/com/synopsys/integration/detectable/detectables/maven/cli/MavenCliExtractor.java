@@ -8,13 +8,27 @@
 package com.synopsys.integration.detectable.detectables.maven.cli;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.common.util.Bds;
+import com.synopsys.integration.common.util.ParallelUtil;
 import com.synopsys.integration.common.util.parse.CommandParser;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
@@ -23,37 +37,46 @@ import com.synopsys.integration.detectable.detectable.executable.DetectableExecu
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.util.ToolVersionLogger;
+import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
 
 public class MavenCliExtractor {
+    private static final String DEPENDENCY_GRAPH_DIRECTORY_NAME = "dependency-graphs";
+    private static final String DEPENDENCY_GRAPH_EXTENSION = ".dot";
+    private static final String DOT_OUTPUT_UNSUPPORTED = "If the maven-dependency-plugin of this project is too old to support dot output, use the TEXT maven tree output type instead.";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final DetectableExecutableRunner executableRunner;
     private final MavenCodeLocationPackager mavenCodeLocationPackager;
+    private final MavenDotGraphParser mavenDotGraphParser;
     private final CommandParser commandParser;
 
-    public MavenCliExtractor(DetectableExecutableRunner executableRunner, MavenCodeLocationPackager mavenCodeLocationPackager, CommandParser commandParser) {
+    public MavenCliExtractor(DetectableExecutableRunner executableRunner, MavenCodeLocationPackager mavenCodeLocationPackager, MavenDotGraphParser mavenDotGraphParser, CommandParser commandParser) {
         this.executableRunner = executableRunner;
         this.mavenCodeLocationPackager = mavenCodeLocationPackager;
+        this.mavenDotGraphParser = mavenDotGraphParser;
         this.commandParser = commandParser;
     }
 
     //TODO: Limit 'extractors' to 'execute' and 'read', delegate all other work.
-    public Extraction extract(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions) throws ExecutableFailedException {
+    public Extraction extract(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions, File outputDirectory) throws ExecutableFailedException {
         ToolVersionLogger.log(executableRunner, directory, mavenExe);
-        List<String> commandArguments = commandParser.parseCommandString(mavenCliExtractorOptions.getMavenBuildCommand().orElse("")).stream()
-                                            .filter(arg -> !arg.equals("dependency:tree"))
-                                            .collect(Collectors.toList());
-
-        commandArguments.add("dependency:tree");
-        commandArguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
+        List<String> userArguments = commandParser.parseCommandString(mavenCliExtractorOptions.getMavenBuildCommand().orElse("")).stream()
+                                         .filter(arg -> !arg.equals("dependency:tree"))
+                                         .collect(Collectors.toList());
 
-        ExecutableOutput mvnExecutableResult = executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments));
-
-        List<String> mavenOutput = mvnExecutableResult.getStandardOutputAsList();
-        List<String> excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes();
-        List<String> includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes();
-        List<String> excludedModules = mavenCliExtractorOptions.getMavenExcludedModules();
-        List<String> includedModules = mavenCliExtractorOptions.getMavenIncludedModules();
-        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mavenOutput, excludedScopes, includedScopes, excludedModules, includedModules);
+        List<MavenParseResult> mavenResults;
+        if (mavenCliExtractorOptions.getMavenTreeOutputType() == MavenTreeOutputType.DOT) {
+            Optional<List<MavenParseResult>> graphResults = extractFromDependencyGraphFiles(directory, mavenExe, mavenCliExtractorOptions, userArguments, outputDirectory);
+            if (!graphResults.isPresent()) {
+                return new Extraction.Builder().failure("Maven did not write a readable dependency graph file. " + DOT_OUTPUT_UNSUPPORTED).build();
+            }
+            mavenResults = graphResults.get();
+        } else {
+            mavenResults = extractFromDependencyTreeOutput(directory, mavenExe, mavenCliExtractorOptions, userArguments);
+        }
 
         List<CodeLocation> codeLocations = Bds.of(mavenResults)
                                                .map(MavenParseResult::getCodeLocation)
@@ -70,4 +93,103 @@ public class MavenCliExtractor {
         return builder.build();
     }
 
+    private List<MavenParseResult> extractFromDependencyTreeOutput(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions, List<String> userArguments)
+        throws ExecutableFailedException {
+        List<String> commandArguments = new ArrayList<>(userArguments);
+        commandArguments.add("dependency:tree");
+        commandArguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
+
+        List<String> excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes();
+        List<String> includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes();
+        List<String> excludedModules = mavenCliExtractorOptions.getMavenExcludedModules();
+        List<String> includedModules = mavenCliExtractorOptions.getMavenIncludedModules();
+        MavenTreeLineParser mavenTreeLineParser = mavenCodeLocationPackager.createTreeLineParser(directory.toString(), excludedScopes, includedScopes, excludedModules, includedModules);
+
+        // The tree is parsed as Maven writes it, so the output of large reactors is never held in memory.
+        Executable mavenExecutable = ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments);
+        try {
+            ExecutableOutput mvnExecutableResult = executableRunner.executeStreaming(mavenExecutable, mavenTreeLineParser);
+            if (mvnExecutableResult.getReturnCode() != 0) {
+                throw new ExecutableFailedException(mavenExecutable, mvnExecutableResult);
+            }
+        } catch (ExecutableRunnerException e) {
+            throw new ExecutableFailedException(mavenExecutable, e);
+        }
+        return mavenTreeLineParser.finish();
+    }
+
+    // Each module writes its own graph file, so the reactor can build in parallel unless the user asked for a specific thread count. Returns empty when no graph could be read.
+    // The build is not repeated for the text tree, as a second full reactor build would cost more than the dot output saves.
+    private Optional<List<MavenParseResult>> extractFromDependencyGraphFiles(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions, List<String> userArguments,
+        File outputDirectory) throws ExecutableFailedException {
+        File graphDirectory = new File(outputDirectory, DEPENDENCY_GRAPH_DIRECTORY_NAME);
+        List<String> commandArguments = new ArrayList<>(userArguments);
+        commandArguments.add("dependency:tree");
+        commandArguments.add("-DoutputType=dot");
+        // Maven evaluates the project expressions separately for every module.
+        commandArguments.add(String.format("-DoutputFile=%s", new File(graphDirectory, "${project.groupId}-${project.artifactId}" + DEPENDENCY_GRAPH_EXTENSION).getAbsolutePath()));
+        boolean threadCountProvided = userArguments.stream().anyMatch(arg -> arg.startsWith("-T") || arg.startsWith("--threads"));
+        if (!threadCountProvided) {
+            commandArguments.add("-T1C");
+        }
+
+        try {
+            executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments));
+        } catch (ExecutableFailedException e) {
+            logger.error("Maven failed to write the dependency graph files. " + DOT_OUTPUT_UNSUPPORTED);
+            throw e;
+        }
+
+        File[] graphFiles = graphDirectory.listFiles((dir, name) -> name.endsWith(DEPENDENCY_GRAPH_EXTENSION));
+        if (graphFiles == null || graphFiles.length == 0) {
+            return Optional.empty();
+        }
+        Arrays.sort(graphFiles);
+
+        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(mavenCliExtractorOptions.getMavenExcludedScopes(), mavenCliExtractorOptions.getMavenIncludedScopes());
+        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(mavenCliExtractorOptions.getMavenExcludedModules(), mavenCliExtractorOptions.getMavenIncludedModules());
+        List<MavenParseResult> mavenResults = parseDependencyGraphFiles(directory.toString(), graphFiles, scopeFilter, modulesFilter, mavenCliExtractorOptions.getDependencyGraphParseParallelism());
+        if (mavenResults.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // The files carry no reactor order, so the module of the scanned pom is moved first to keep it as the source of the project name and version.
+        findProjectArtifactId(new File(directory, MavenPomDetectable.POM_FILENAME)).ifPresent(artifactId -> mavenResults.sort(Comparator.comparing(result -> !artifactId.equals(result.getProjectName()))));
+        return Optional.of(mavenResults);
+    }
+
+    private List<MavenParseResult> parseDependencyGraphFiles(String sourcePath, File[] graphFiles, ExcludedIncludedWildcardFilter scopeFilter, ExcludedIncludedWildcardFilter modulesFilter,
+        int parseParallelism) {
+        return ParallelUtil.mapInOrder("maven-graph-parser", parseParallelism, Arrays.asList(graphFiles), graphFile -> mavenDotGraphParser.parse(sourcePath, graphFile, scopeFilter, modulesFilter)).stream()
+                   .filter(Optional::isPresent)
+                   .map(Optional::get)
+                   .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    // The artifactId of the project itself, not of its parent.
+    private Optional<String> findProjectArtifactId(File pomFile) {
+        if (!pomFile.isFile()) {
+            return Optional.empty();
+        }
+        try (InputStream pomInputStream = new FileInputStream(pomFile)) {
+            XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+            xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(pomInputStream);
+            int depth = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == 2 && "artifactId".equals(reader.getLocalName())) {
+                        return Optional.of(reader.getElementText().trim());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        } catch (IOException | XMLStreamException e) {
+            logger.debug(String.format("Unable to read the artifactId from: %s", pomFile.getAbsolutePath()), e);
+        }
+        return Optional.empty();
+    }
 }
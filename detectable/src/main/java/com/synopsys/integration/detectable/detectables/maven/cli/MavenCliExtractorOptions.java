@@ -16,13 +16,27 @@ public class MavenCliExtractorOptions {
     private final List<String> mavenIncludedScopes;
     private final List<String> mavenExcludedModules;
     private final List<String> mavenIncludedModules;
+    private final MavenTreeOutputType mavenTreeOutputType;
+    private final int dependencyGraphParseParallelism;
 
     public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules) {
+        this(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, MavenTreeOutputType.TEXT);
+    }
+
+    public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules,
+        MavenTreeOutputType mavenTreeOutputType) {
+        this(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, mavenTreeOutputType, 1);
+    }
+
+    public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules,
+        MavenTreeOutputType mavenTreeOutputType, int dependencyGraphParseParallelism) {
         this.mavenBuildCommand = mavenBuildCommand;
         this.mavenExcludedScopes = mavenExcludedScopes;
         this.mavenIncludedScopes = mavenIncludedScopes;
         this.mavenExcludedModules = mavenExcludedModules;
         this.mavenIncludedModules = mavenIncludedModules;
+        this.mavenTreeOutputType = mavenTreeOutputType;
+        this.dependencyGraphParseParallelism = dependencyGraphParseParallelism;
     }
 
     public Optional<String> getMavenBuildCommand() {
@@ -44,4 +58,12 @@ public class MavenCliExtractorOptions {
     public List<String> getMavenIncludedModules() {
         return mavenIncludedModules;
     }
+
+    public MavenTreeOutputType getMavenTreeOutputType() {
+        return mavenTreeOutputType;
+    }
+
+    public int getDependencyGraphParseParallelism() {
+        return dependencyGraphParseParallelism;
+    }
 }
@@ -8,10 +8,8 @@
 package com.synopsys.integration.detectable.detectables.maven.cli;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
@@ -20,16 +18,17 @@ import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
 
-// TODO: Re-write. Some fields could be local variables. Includes many code smells. A component none:Additional_Components:none appears in the graph.
+// TODO: Includes many code smells. A component none:Additional_Components:none appears in the graph.
+// The parse state lives in MavenTreeLineParser, so a single packager can be shared.
 public class MavenCodeLocationPackager {
     private static final List<String> indentationStrings = Arrays.asList("+- ", "|  ", "\\- ", "   ");
+    private static final int INDENTATION_LENGTH = 3;
     private static final List<String> KNOWN_SCOPES = Arrays.asList("compile", "provided", "runtime", "test", "system", "import");
 
     private static final Logger logger = LoggerFactory.getLogger(MavenCodeLocationPackager.class);
@@ -37,18 +36,7 @@ public class MavenCodeLocationPackager {
     public static final String ORPHAN_LIST_PARENT_NODE_GROUP = "none";
     public static final String ORPHAN_LIST_PARENT_NODE_VERSION = "none";
 
-    private static final String END_OF_TREE_PATTERN_STRING = "^-*< .* >-*$";
-    private final Pattern endOfTreePattern = Pattern.compile(END_OF_TREE_PATTERN_STRING);
     private final ExternalIdFactory externalIdFactory;
-    private List<MavenParseResult> codeLocations = new ArrayList<>();
-    private MavenParseResult currentMavenProject = null;
-    private Stack<Dependency> dependencyParentStack = new Stack<>();
-    // in-scope components found in an out-of-scope tree go in the orphans list
-    private final List<Dependency> orphans = new ArrayList<>();
-    private boolean parsingProjectSection;
-    private int level;
-    private boolean inOutOfScopeTree = false;
-    private MutableDependencyGraph currentGraph = null;
 
     public MavenCodeLocationPackager(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -56,131 +44,19 @@ public class MavenCodeLocationPackager {
 
     // mavenOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(String sourcePath, List<String> mavenOutput, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
-        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
-        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
-        codeLocations = new ArrayList<>();
-        currentMavenProject = null;
-        dependencyParentStack = new Stack<>();
-        parsingProjectSection = false;
-        currentGraph = new MutableMapDependencyGraph();
-
-        level = 0;
-        for (String currentLine : mavenOutput) {
-            String line = currentLine.trim();
-
-            if (shouldSkipLine(line)) {
-                continue;
-            }
-
-            line = trimLogLevel(line);
-
-            if (parsingProjectSection && currentMavenProject == null) {
-                initializeCurrentMavenProject(modulesFilter, sourcePath, line);
-                continue;
-            }
-
-            boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
-            if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
-            }
-
-            int previousLevel = level;
-            String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            ScopedDependency dependency = textToDependency(cleanedLine);
-            if (null == dependency) {
-                continue;
-            }
-            if (currentMavenProject != null) {
-                populateGraphDependencies(scopeFilter, dependency, previousLevel);
-            }
-        }
-        addOrphansToGraph(currentGraph, orphans);
-
-        return codeLocations;
+        MavenTreeLineParser mavenTreeLineParser = createTreeLineParser(sourcePath, excludedScopes, includedScopes, excludedModules, includedModules);
+        mavenOutput.forEach(mavenTreeLineParser);
+        return mavenTreeLineParser.finish();
     }
 
-    private boolean shouldSkipLine(String line) {
-        if (!isLineRelevant(line)) {
-            return true;
-        }
-        line = trimLogLevel(line);
-        if (StringUtils.isBlank(line)) {
-            return true;
-        }
-        if (isProjectSection(line)) {
-            parsingProjectSection = true;
-            return true;
-        }
-        if (!parsingProjectSection) {
-            return true;
-        }
-        if (isDependencyTreeUpdates(line)) {
-            return true;
-        }
-        return false;
-    }
-
-    private void initializeCurrentMavenProject(ExcludedIncludedWildcardFilter modulesFilter, String sourcePath, String line) {
-        // this is the first line of a new code location, the following lines will be the tree of dependencies for this code location
-        currentGraph = new MutableMapDependencyGraph();
-        MavenParseResult mavenProject = createMavenParseResult(sourcePath, line, currentGraph);
-        if (null != mavenProject && modulesFilter.shouldInclude(mavenProject.getProjectName())) {
-            logger.trace(String.format("Project: %s", mavenProject.getProjectName()));
-            this.currentMavenProject = mavenProject;
-            codeLocations.add(mavenProject);
-        } else {
-            logger.trace("Project: unknown");
-            currentMavenProject = null;
-            dependencyParentStack.clear();
-            parsingProjectSection = false;
-            level = 0;
-        }
-    }
-
-    private void populateGraphDependencies(ExcludedIncludedWildcardFilter scopeFilter, ScopedDependency dependency, int previousLevel) {
-        if (level == 1) {
-            // a direct dependency, clear the stack and add this as a potential parent for the next line
-            if (scopeFilter.shouldInclude(dependency.scope)) {
-                logger.trace(String
-                                 .format("Level 1 component %s:%s:%s:%s is in scope; adding it to hierarchy root", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(), dependency.getExternalId().getVersion(),
-                                     dependency.scope));
-                currentGraph.addChildToRoot(dependency);
-                inOutOfScopeTree = false;
-            } else {
-                logger.trace(String.format("Level 1 component %s:%s:%s:%s is a top-level out-of-scope component; entering non-scoped tree", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(),
-                    dependency.getExternalId().getVersion(),
-                    dependency.scope));
-                inOutOfScopeTree = true;
-            }
-            dependencyParentStack.clear();
-            dependencyParentStack.push(dependency);
-        } else {
-            // level should be greater than 1
-            if (level == previousLevel) {
-                // a sibling of the previous dependency
-                dependencyParentStack.pop();
-                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
-                dependencyParentStack.push(dependency);
-            } else if (level > previousLevel) {
-                // a child of the previous dependency
-                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
-                dependencyParentStack.push(dependency);
-            } else {
-                // a child of a dependency further back than 1 line
-                for (int i = previousLevel; i >= level; i--) {
-                    dependencyParentStack.pop();
-                }
-                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
-                dependencyParentStack.push(dependency);
-            }
-        }
+    // For output that is parsed as it is produced, every line should be given to the returned parser and finish called once the output ends.
+    public MavenTreeLineParser createTreeLineParser(String sourcePath, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
+        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
+        return new MavenTreeLineParser(this, sourcePath, scopeFilter, modulesFilter);
     }
 
-    private void addOrphansToGraph(MutableDependencyGraph graph, List<Dependency> orphans) {
+    void addOrphansToGraph(MutableDependencyGraph graph, List<Dependency> orphans) {
         logger.trace(String.format("# orphans: %d", orphans.size()));
         if (orphans.size() > 0) {
             Dependency orphanListParent = createOrphanListParentDependency();
@@ -193,7 +69,7 @@ public class MavenCodeLocationPackager {
         }
     }
 
-    private void addDependencyIfInScope(MutableDependencyGraph currentGraph, List<Dependency> orphans, ExcludedIncludedWildcardFilter scopeFilter, boolean inOutOfScopeTree, Dependency parent,
+    void addDependencyIfInScope(MutableDependencyGraph currentGraph, List<Dependency> orphans, ExcludedIncludedWildcardFilter scopeFilter, boolean inOutOfScopeTree, Dependency parent,
         ScopedDependency dependency) {
         if (scopeFilter.shouldInclude(dependency.scope)) {
             if (inOutOfScopeTree) {
@@ -209,7 +85,7 @@ public class MavenCodeLocationPackager {
         }
     }
 
-    private MavenParseResult createMavenParseResult(String sourcePath, String line, DependencyGraph graph) {
+    MavenParseResult createMavenParseResult(String sourcePath, String line, DependencyGraph graph) {
         Dependency dependency = textToProject(line);
         if (null != dependency) {
             String codeLocationSourcePath = sourcePath;
@@ -222,12 +98,10 @@ public class MavenCodeLocationPackager {
         return null;
     }
 
-    public String calculateCurrentLevelAndCleanLine(String line) {
-        level = 0;
+    public String cleanLine(String line) {
         String cleanedLine = line;
         for (String pattern : indentationStrings) {
             while (cleanedLine.contains(pattern)) {
-                level++;
                 cleanedLine = cleanedLine.replaceFirst(Pattern.quote(pattern), "");
             }
         }
@@ -235,6 +109,11 @@ public class MavenCodeLocationPackager {
         return cleanedLine;
     }
 
+    // Every indentation string is the same length, so the level is the number of indentation characters cleanLine removed.
+    public int calculateLevel(String line, String cleanedLine) {
+        return (line.length() - cleanedLine.length()) / INDENTATION_LENGTH;
+    }
+
     private Dependency createOrphanListParentDependency() {
         ExternalId externalId = externalIdFactory.createMavenExternalId(ORPHAN_LIST_PARENT_NODE_GROUP, ORPHAN_LIST_PARENT_NODE_NAME, ORPHAN_LIST_PARENT_NODE_VERSION);
         return new Dependency(ORPHAN_LIST_PARENT_NODE_NAME, ORPHAN_LIST_PARENT_NODE_VERSION, externalId);
@@ -0,0 +1,166 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.maven.cli;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
+
+// Parses the graph written by 'dependency:tree -DoutputType=dot' for a single module. Each line after the digraph header is an edge between two nodes, which use the same
+// group:artifact:type[:classifier]:version[:scope] format as the text tree. Scopes are filtered the same way as MavenCodeLocationPackager, including collecting in scope
+// components found beneath an out of scope direct dependency under the Additional_Components node.
+public class MavenDotGraphParser {
+    private static final Pattern DIGRAPH_PATTERN = Pattern.compile("^\\s*digraph\\s+\"([^\"]+)\"");
+    private static final Pattern EDGE_PATTERN = Pattern.compile("^\\s*\"([^\"]+)\"\\s*->\\s*\"([^\"]+)\"");
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ExternalIdFactory externalIdFactory;
+    private final MavenCodeLocationPackager mavenCodeLocationPackager;
+
+    public MavenDotGraphParser(ExternalIdFactory externalIdFactory, MavenCodeLocationPackager mavenCodeLocationPackager) {
+        this.externalIdFactory = externalIdFactory;
+        this.mavenCodeLocationPackager = mavenCodeLocationPackager;
+    }
+
+    public Optional<MavenParseResult> parse(String sourcePath, File dotFile, ExcludedIncludedWildcardFilter scopeFilter, ExcludedIncludedWildcardFilter modulesFilter) {
+        String root = null;
+        Map<String, List<String>> children = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(dotFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (root == null) {
+                    Matcher digraphMatcher = DIGRAPH_PATTERN.matcher(line);
+                    if (digraphMatcher.find()) {
+                        root = digraphMatcher.group(1);
+                    }
+                    continue;
+                }
+                Matcher edgeMatcher = EDGE_PATTERN.matcher(line);
+                if (edgeMatcher.find()) {
+                    children.computeIfAbsent(edgeMatcher.group(1), key -> new ArrayList<>()).add(edgeMatcher.group(2));
+                }
+            }
+        } catch (IOException e) {
+            logger.debug(String.format("Failed to read dependency graph file: %s", dotFile.getAbsolutePath()), e);
+            return Optional.empty();
+        }
+        if (root == null) {
+            logger.debug(String.format("No dependency graph was found in: %s", dotFile.getAbsolutePath()));
+            return Optional.empty();
+        }
+
+        Dependency project = mavenCodeLocationPackager.textToProject(root);
+        if (project == null || !modulesFilter.shouldInclude(project.getName())) {
+            return Optional.empty();
+        }
+        logger.trace(String.format("Project: %s", project.getName()));
+
+        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        List<Dependency> orphans = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<GraphNode> unvisited = new ArrayDeque<>();
+        for (String directDependency : reversed(children.get(root))) {
+            unvisited.push(new GraphNode(directDependency, null, false));
+        }
+        while (!unvisited.isEmpty()) {
+            GraphNode node = unvisited.pop();
+            if (!visited.add(node.id)) {
+                continue;
+            }
+            ScopedDependency dependency = mavenCodeLocationPackager.textToDependency(node.id);
+            if (dependency == null) {
+                continue;
+            }
+
+            boolean inScope = scopeFilter.shouldInclude(dependency.scope);
+            boolean inOutOfScopeTree = node.inOutOfScopeTree;
+            if (node.parent == null) {
+                // a direct dependency, an out of scope one makes its whole tree out of scope
+                inOutOfScopeTree = !inScope;
+                if (inScope) {
+                    graph.addChildToRoot(dependency);
+                }
+            } else if (inScope && inOutOfScopeTree) {
+                orphans.add(dependency);
+            } else if (inScope) {
+                graph.addParentWithChild(node.parent, dependency);
+            }
+
+            for (String child : reversed(children.get(node.id))) {
+                unvisited.push(new GraphNode(child, dependency, inOutOfScopeTree));
+            }
+        }
+        addOrphansToGraph(graph, orphans);
+
+        String codeLocationSourcePath = sourcePath;
+        if (!sourcePath.endsWith(project.getName())) {
+            codeLocationSourcePath += "/" + project.getName();
+        }
+        CodeLocation codeLocation = new CodeLocation(graph, project.getExternalId(), new File(codeLocationSourcePath));
+        return Optional.of(new MavenParseResult(project.getName(), project.getVersion(), codeLocation));
+    }
+
+    private void addOrphansToGraph(MutableDependencyGraph graph, List<Dependency> orphans) {
+        if (!orphans.isEmpty()) {
+            ExternalId orphanListParentId = externalIdFactory.createMavenExternalId(MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_GROUP, MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_NAME,
+                MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_VERSION);
+            Dependency orphanListParent = new Dependency(MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_NAME, MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_VERSION, orphanListParentId);
+            graph.addChildToRoot(orphanListParent);
+            for (Dependency orphan : orphans) {
+                graph.addParentWithChild(orphanListParent, orphan);
+            }
+        }
+    }
+
+    // Children are pushed onto the stack in reverse so they are visited in the order they appear in the file.
+    private List<String> reversed(List<String> nodes) {
+        if (nodes == null) {
+            return Collections.emptyList();
+        }
+        List<String> reversedNodes = new ArrayList<>(nodes);
+        Collections.reverse(reversedNodes);
+        return reversedNodes;
+    }
+
+    private static class GraphNode {
+        private final String id;
+        private final Dependency parent;
+        private final boolean inOutOfScopeTree;
+
+        private GraphNode(String id, Dependency parent, boolean inOutOfScopeTree) {
+            this.id = id;
+            this.parent = parent;
+            this.inOutOfScopeTree = inOutOfScopeTree;
+        }
+    }
+}
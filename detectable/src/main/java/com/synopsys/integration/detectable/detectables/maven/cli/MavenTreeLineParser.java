@@ -0,0 +1,165 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.maven.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
+
+// Holds the state of a single parse of the dependency:tree output so lines can be handed over one at a time as Maven writes them, nothing but the graphs is kept.
+// Create one with MavenCodeLocationPackager.createTreeLineParser, feed it every line and call finish once the output ends.
+public class MavenTreeLineParser implements Consumer<String> {
+    private static final Pattern END_OF_TREE_PATTERN = Pattern.compile("^-*< .* >-*$");
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final MavenCodeLocationPackager mavenCodeLocationPackager;
+    private final String sourcePath;
+    private final ExcludedIncludedWildcardFilter scopeFilter;
+    private final ExcludedIncludedWildcardFilter modulesFilter;
+
+    private final List<MavenParseResult> codeLocations = new ArrayList<>();
+    private final Stack<Dependency> dependencyParentStack = new Stack<>();
+    // in-scope components found in an out-of-scope tree go in the orphans list
+    private final List<Dependency> orphans = new ArrayList<>();
+    private MavenParseResult currentMavenProject = null;
+    private MutableDependencyGraph currentGraph = new MutableMapDependencyGraph();
+    private boolean parsingProjectSection = false;
+    private boolean inOutOfScopeTree = false;
+    private int level = 0;
+    private boolean finished = false;
+
+    MavenTreeLineParser(MavenCodeLocationPackager mavenCodeLocationPackager, String sourcePath, ExcludedIncludedWildcardFilter scopeFilter, ExcludedIncludedWildcardFilter modulesFilter) {
+        this.mavenCodeLocationPackager = mavenCodeLocationPackager;
+        this.sourcePath = sourcePath;
+        this.scopeFilter = scopeFilter;
+        this.modulesFilter = modulesFilter;
+    }
+
+    @Override
+    public void accept(String currentLine) {
+        if (finished) {
+            throw new IllegalStateException("Lines can not be parsed after the parse has finished.");
+        }
+        String line = currentLine.trim();
+
+        if (shouldSkipLine(line)) {
+            return;
+        }
+
+        line = mavenCodeLocationPackager.trimLogLevel(line);
+
+        if (parsingProjectSection && currentMavenProject == null) {
+            initializeCurrentMavenProject(line);
+            return;
+        }
+
+        boolean endOfTree = line.contains("--------") || END_OF_TREE_PATTERN.matcher(line).matches();
+        if (endOfTree) {
+            resetProject();
+            return;
+        }
+
+        int previousLevel = level;
+        String cleanedLine = mavenCodeLocationPackager.cleanLine(line);
+        level = mavenCodeLocationPackager.calculateLevel(line, cleanedLine);
+        ScopedDependency dependency = mavenCodeLocationPackager.textToDependency(cleanedLine);
+        if (null == dependency) {
+            return;
+        }
+        if (currentMavenProject != null) {
+            populateGraphDependencies(dependency, previousLevel);
+        }
+    }
+
+    public List<MavenParseResult> finish() {
+        if (!finished) {
+            finished = true;
+            mavenCodeLocationPackager.addOrphansToGraph(currentGraph, orphans);
+        }
+        return codeLocations;
+    }
+
+    private boolean shouldSkipLine(String line) {
+        if (!mavenCodeLocationPackager.isLineRelevant(line)) {
+            return true;
+        }
+        String trimmedLine = mavenCodeLocationPackager.trimLogLevel(line);
+        if (StringUtils.isBlank(trimmedLine)) {
+            return true;
+        }
+        if (mavenCodeLocationPackager.isProjectSection(trimmedLine)) {
+            parsingProjectSection = true;
+            return true;
+        }
+        return !parsingProjectSection || mavenCodeLocationPackager.isDependencyTreeUpdates(trimmedLine);
+    }
+
+    private void initializeCurrentMavenProject(String line) {
+        // this is the first line of a new code location, the following lines will be the tree of dependencies for this code location
+        currentGraph = new MutableMapDependencyGraph();
+        MavenParseResult mavenProject = mavenCodeLocationPackager.createMavenParseResult(sourcePath, line, currentGraph);
+        if (null != mavenProject && modulesFilter.shouldInclude(mavenProject.getProjectName())) {
+            logger.trace(String.format("Project: %s", mavenProject.getProjectName()));
+            currentMavenProject = mavenProject;
+            codeLocations.add(mavenProject);
+        } else {
+            logger.trace("Project: unknown");
+            resetProject();
+        }
+    }
+
+    private void resetProject() {
+        currentMavenProject = null;
+        dependencyParentStack.clear();
+        parsingProjectSection = false;
+        level = 0;
+    }
+
+    private void populateGraphDependencies(ScopedDependency dependency, int previousLevel) {
+        if (level == 1) {
+            // a direct dependency, clear the stack and add this as a potential parent for the next line
+            if (scopeFilter.shouldInclude(dependency.scope)) {
+                logger.trace(String.format("Level 1 component %s:%s:%s:%s is in scope; adding it to hierarchy root", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(),
+                    dependency.getExternalId().getVersion(), dependency.scope));
+                currentGraph.addChildToRoot(dependency);
+                inOutOfScopeTree = false;
+            } else {
+                logger.trace(String.format("Level 1 component %s:%s:%s:%s is a top-level out-of-scope component; entering non-scoped tree", dependency.getExternalId().getGroup(),
+                    dependency.getExternalId().getName(), dependency.getExternalId().getVersion(), dependency.scope));
+                inOutOfScopeTree = true;
+            }
+            dependencyParentStack.clear();
+            dependencyParentStack.push(dependency);
+        } else {
+            // level should be greater than 1
+            if (level == previousLevel) {
+                // a sibling of the previous dependency
+                dependencyParentStack.pop();
+            } else if (level < previousLevel) {
+                // a child of a dependency further back than 1 line
+                for (int i = previousLevel; i >= level; i--) {
+                    dependencyParentStack.pop();
+                }
+            }
+            // otherwise a child of the previous dependency
+            mavenCodeLocationPackager.addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
+            dependencyParentStack.push(dependency);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.maven.cli;
+
+public enum MavenTreeOutputType {
+    // Parse the dependency:tree text printed to the console, which requires a single threaded build to keep the modules in order.
+    TEXT,
+    // Have dependency:tree write a dot graph file per module, which allows a parallel reactor build.
+    DOT
+}
@@ -39,6 +39,12 @@ public class NpmDependencyConverter {
             project.addAllResolvedDependencies(children);
         }
 
+        addPackageJsonRequires(project, packageJson);
+
+        return project;
+    }
+
+    public void addPackageJsonRequires(NpmProject project, @Nullable PackageJson packageJson) {
         if (packageJson != null) {
             if (packageJson.dependencies != null) {
                 List<NpmRequires> rootRequires = convertNameVersionMapToRequires(packageJson.dependencies);
@@ -55,8 +61,6 @@ public class NpmDependencyConverter {
                 project.addAllPeerDependencies(rootPeerRequires);
             }
         }
-
-        return project;
     }
 
     public List<NpmDependency> convertPackageMapToDependencies(NpmDependency parent, Map<String, PackageLockDependency> packageLockDependencyMap) {
@@ -83,7 +87,7 @@ public class NpmDependencyConverter {
         return children;
     }
 
-    private NpmDependency createNpmDependency(String name, String version, Boolean isDev, Boolean isPeer) {
+    public NpmDependency createNpmDependency(String name, String version, Boolean isDev, Boolean isPeer) {
         ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version);
         Dependency graphDependency = new Dependency(name, version, externalId);
         boolean dev = isDev != null && isDev;
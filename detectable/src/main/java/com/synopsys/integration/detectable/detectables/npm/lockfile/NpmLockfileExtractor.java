@@ -9,7 +9,9 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.apache.commons.io.FileUtils;
 
@@ -28,14 +30,13 @@ public class NpmLockfileExtractor {
     packageJson is optional
      */
     public Extraction extract(File lockfile, File packageJson, boolean includeDevDependencies, boolean includePeerDependencies) {
-        try {
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
+        try (Reader lockReader = Files.newBufferedReader(lockfile.toPath(), StandardCharsets.UTF_8)) {
             String packageText = null;
             if (packageJson != null) {
                 packageText = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
             }
 
-            NpmParseResult result = npmLockfileParser.parse(packageText, lockText, includeDevDependencies, includePeerDependencies);
+            NpmParseResult result = npmLockfileParser.parse(packageText, lockReader, includeDevDependencies, includePeerDependencies);
 
             return new Extraction.Builder()
                        .success(result.getCodeLocation())
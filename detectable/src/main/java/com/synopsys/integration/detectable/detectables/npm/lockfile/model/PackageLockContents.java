@@ -0,0 +1,39 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+// What a streamed lockfile produces: the resolved dependency tree without the intermediate PackageLock model.
+public class PackageLockContents {
+    private final String name;
+    private final String version;
+    private final List<NpmDependency> resolvedDependencies;
+
+    public PackageLockContents(@Nullable String name, @Nullable String version, @Nullable List<NpmDependency> resolvedDependencies) {
+        this.name = name;
+        this.version = version;
+        this.resolvedDependencies = resolvedDependencies;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    // Empty when the lockfile did not have a 'dependencies' section.
+    public Optional<List<NpmDependency>> getResolvedDependencies() {
+        return Optional.ofNullable(resolvedDependencies);
+    }
+}
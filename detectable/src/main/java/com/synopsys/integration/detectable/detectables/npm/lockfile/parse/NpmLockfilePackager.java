@@ -7,6 +7,8 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +31,7 @@ import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmPar
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockContents;
 import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 import com.synopsys.integration.util.NameVersion;
 
@@ -47,20 +50,61 @@ public class NpmLockfilePackager {
     }
 
     public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies, boolean includePeerDependencies, List<NameVersion> externalDependencies) {
-        MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
-
-        Optional<PackageJson> packageJson = Optional.ofNullable(packageJsonText)
-                                                .map(content -> gson.fromJson(content, PackageJson.class));
-
+        Optional<PackageJson> packageJson = parsePackageJson(packageJsonText);
         PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
 
-        logger.debug("Processing project.");
+        NpmProject project = null;
         if (packageLock.dependencies != null) {
             logger.debug(String.format("Found %d dependencies in the lockfile.", packageLock.dependencies.size()));
             //Convert to our custom format
             NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
-            NpmProject project = dependencyConverter.convertLockFile(packageLock, packageJson.orElse(null));
+            project = dependencyConverter.convertLockFile(packageLock, packageJson.orElse(null));
+        }
+        return createParseResult(packageJson, packageLock.name, packageLock.version, project, includeDevDependencies, includePeerDependencies, externalDependencies);
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies, boolean includePeerDependencies) throws IOException {
+        return parse(packageJsonText, lockFileReader, includeDevDependencies, includePeerDependencies, new ArrayList<>());
+    }
+
+    // Streams the lockfile, large lockfiles never exist in memory as text or as a PackageLock model.
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies, boolean includePeerDependencies, List<NameVersion> externalDependencies)
+        throws IOException {
+        return parse(packageJsonText, readLockFile(lockFileReader), includeDevDependencies, includePeerDependencies, externalDependencies);
+    }
 
+    public PackageLockContents readLockFile(Reader lockFileReader) throws IOException {
+        NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        return new PackageLockStreamReader(dependencyConverter).read(lockFileReader);
+    }
+
+    // The contents are only read, so one lockfile can be shared by every project that resolves against it.
+    public NpmParseResult parse(@Nullable String packageJsonText, PackageLockContents packageLockContents, boolean includeDevDependencies, boolean includePeerDependencies,
+        List<NameVersion> externalDependencies) {
+        Optional<PackageJson> packageJson = parsePackageJson(packageJsonText);
+
+        NpmProject project = null;
+        if (packageLockContents.getResolvedDependencies().isPresent()) {
+            List<NpmDependency> resolvedDependencies = packageLockContents.getResolvedDependencies().get();
+            logger.debug(String.format("Found %d dependencies in the lockfile.", resolvedDependencies.size()));
+            project = new NpmProject(packageLockContents.getName(), packageLockContents.getVersion());
+            project.addAllResolvedDependencies(resolvedDependencies);
+            new NpmDependencyConverter(externalIdFactory).addPackageJsonRequires(project, packageJson.orElse(null));
+        }
+        return createParseResult(packageJson, packageLockContents.getName(), packageLockContents.getVersion(), project, includeDevDependencies, includePeerDependencies, externalDependencies);
+    }
+
+    private Optional<PackageJson> parsePackageJson(@Nullable String packageJsonText) {
+        return Optional.ofNullable(packageJsonText)
+                   .map(content -> gson.fromJson(content, PackageJson.class));
+    }
+
+    private NpmParseResult createParseResult(Optional<PackageJson> packageJson, String lockName, String lockVersion, @Nullable NpmProject project, boolean includeDevDependencies, boolean includePeerDependencies,
+        List<NameVersion> externalDependencies) {
+        MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+
+        logger.debug("Processing project.");
+        if (project != null) {
             //First we will recreate the graph from the resolved npm dependencies
             for (NpmDependency resolved : project.getResolvedDependencies()) {
                 transformTreeToGraph(resolved, project, dependencyGraph, includeDevDependencies, includePeerDependencies, externalDependencies);
@@ -92,7 +136,7 @@ public class NpmLockfilePackager {
         logger.debug("Finished processing.");
         ExternalId projectId = packageJson
                                    .map(it -> externalIdFactory.createNameVersionExternalId(Forge.NPMJS, it.name, it.version))
-                                   .orElse(externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageLock.name, packageLock.version));
+                                   .orElse(externalIdFactory.createNameVersionExternalId(Forge.NPMJS, lockName, lockVersion));
         CodeLocation codeLocation = new CodeLocation(dependencyGraph, projectId);
         return new NpmParseResult(projectId.getName(), projectId.getVersion(), codeLocation);
     }
@@ -0,0 +1,121 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockContents;
+
+// Builds npm dependencies straight from the lockfile's token stream so neither the lockfile text nor a PackageLock model is ever held in memory.
+public class PackageLockStreamReader {
+    private final NpmDependencyConverter npmDependencyConverter;
+
+    public PackageLockStreamReader(NpmDependencyConverter npmDependencyConverter) {
+        this.npmDependencyConverter = npmDependencyConverter;
+    }
+
+    public PackageLockContents read(Reader lockFileReader) throws IOException {
+        try (JsonReader reader = new JsonReader(lockFileReader)) {
+            reader.setLenient(true);
+            String name = null;
+            String version = null;
+            List<NpmDependency> resolvedDependencies = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.skipValue();
+                } else if ("name".equals(key)) {
+                    name = reader.nextString();
+                } else if ("version".equals(key)) {
+                    version = reader.nextString();
+                } else if ("dependencies".equals(key)) {
+                    resolvedDependencies = readDependencies(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return new PackageLockContents(name, version, resolvedDependencies);
+        }
+    }
+
+    private List<NpmDependency> readDependencies(JsonReader reader) throws IOException {
+        List<NpmDependency> dependencies = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String packageName = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+            } else {
+                dependencies.add(readDependency(packageName, reader));
+            }
+        }
+        reader.endObject();
+        return dependencies;
+    }
+
+    // Nested dependencies can appear before the fields the parent needs, so children are read first and attached once the parent exists.
+    private NpmDependency readDependency(String packageName, JsonReader reader) throws IOException {
+        String version = null;
+        Boolean dev = null;
+        Boolean peer = null;
+        List<NpmRequires> requires = new ArrayList<>();
+        List<NpmDependency> children = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+            } else if ("version".equals(key)) {
+                version = reader.nextString();
+            } else if ("dev".equals(key)) {
+                dev = reader.nextBoolean();
+            } else if ("peer".equals(key)) {
+                peer = reader.nextBoolean();
+            } else if ("requires".equals(key) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readRequires(reader, requires);
+            } else if ("dependencies".equals(key)) {
+                children = readDependencies(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        NpmDependency dependency = npmDependencyConverter.createNpmDependency(packageName, version, dev, peer);
+        dependency.addAllRequires(requires);
+        children.forEach(child -> child.setParent(dependency));
+        dependency.addAllDependencies(children);
+        return dependency;
+    }
+
+    private void readRequires(JsonReader reader, List<NpmRequires> requires) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String requiredName = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                requires.add(new NpmRequires(requiredName, null));
+            } else {
+                requires.add(new NpmRequires(requiredName, reader.nextString()));
+            }
+        }
+        reader.endObject();
+    }
+}
@@ -104,6 +104,8 @@ public class PipInspectorDetectable extends Detectable {
     @Override
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
         //TODO: Handle null better.
-        return pipInspectorExtractor.extract(environment.getDirectory(), pythonExe, pipExe, pipInspector, setupFile, requirementsFiles, pipInspectorDetectableOptions.getPipProjectName().orElse(""));
+        return pipInspectorExtractor.extract(environment.getDirectory(), pythonExe, pipExe, pipInspector, setupFile, requirementsFiles, pipInspectorDetectableOptions.getPipProjectName().orElse(""),
+            pipInspectorDetectableOptions.getInspectorCachePath().map(Path::toFile).orElse(null), pipInspectorDetectableOptions.getInspectorCacheMaximumEntries(),
+            pipInspectorDetectableOptions.getInspectorParallelism());
     }
 }
@@ -11,13 +11,36 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
+
 public class PipInspectorDetectableOptions {
+    private static final int DEFAULT_INSPECTOR_CACHE_MAXIMUM_ENTRIES = 1000;
+
     private final String pipProjectName;
     private final List<Path> requirementsFilePaths;
+    private final Path inspectorCachePath;
+    private final int inspectorCacheMaximumEntries;
+    private final int inspectorParallelism;
 
     public PipInspectorDetectableOptions(final String pipProjectName, final List<Path> requirementsFilePaths) {
+        this(pipProjectName, requirementsFilePaths, null);
+    }
+
+    public PipInspectorDetectableOptions(final String pipProjectName, final List<Path> requirementsFilePaths, @Nullable final Path inspectorCachePath) {
+        this(pipProjectName, requirementsFilePaths, inspectorCachePath, DEFAULT_INSPECTOR_CACHE_MAXIMUM_ENTRIES);
+    }
+
+    public PipInspectorDetectableOptions(final String pipProjectName, final List<Path> requirementsFilePaths, @Nullable final Path inspectorCachePath, final int inspectorCacheMaximumEntries) {
+        this(pipProjectName, requirementsFilePaths, inspectorCachePath, inspectorCacheMaximumEntries, 1);
+    }
+
+    public PipInspectorDetectableOptions(final String pipProjectName, final List<Path> requirementsFilePaths, @Nullable final Path inspectorCachePath, final int inspectorCacheMaximumEntries,
+        final int inspectorParallelism) {
         this.pipProjectName = pipProjectName;
         this.requirementsFilePaths = requirementsFilePaths;
+        this.inspectorCachePath = inspectorCachePath;
+        this.inspectorCacheMaximumEntries = inspectorCacheMaximumEntries;
+        this.inspectorParallelism = inspectorParallelism;
     }
 
     public Optional<String> getPipProjectName() {
@@ -27,4 +50,16 @@ public class PipInspectorDetectableOptions {
     public List<Path> getRequirementsFilePaths() {
         return requirementsFilePaths;
     }
+
+    public Optional<Path> getInspectorCachePath() {
+        return Optional.ofNullable(inspectorCachePath);
+    }
+
+    public int getInspectorCacheMaximumEntries() {
+        return inspectorCacheMaximumEntries;
+    }
+
+    public int getInspectorParallelism() {
+        return inspectorParallelism;
+    }
 }
@@ -13,8 +13,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
@@ -24,9 +30,12 @@ import com.synopsys.integration.detectable.detectables.pip.model.NameVersionCode
 import com.synopsys.integration.detectable.detectables.pip.parser.PipInspectorTreeParser;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.util.ToolVersionLogger;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class PipInspectorExtractor {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final DetectableExecutableRunner executableRunner;
     private final PipInspectorTreeParser pipInspectorTreeParser;
 
@@ -36,6 +45,11 @@ public class PipInspectorExtractor {
     }
 
     public Extraction extract(File directory, ExecutableTarget pythonExe, ExecutableTarget pipExe, File pipInspector, File setupFile, List<Path> requirementFilePaths, String providedProjectName) {
+        return extract(directory, pythonExe, pipExe, pipInspector, setupFile, requirementFilePaths, providedProjectName, null, 0, 1);
+    }
+
+    public Extraction extract(File directory, ExecutableTarget pythonExe, ExecutableTarget pipExe, File pipInspector, File setupFile, List<Path> requirementFilePaths, String providedProjectName,
+        @Nullable File inspectorCacheDirectory, int inspectorCacheMaximumEntries, int inspectorParallelism) {
         ToolVersionLogger.log(executableRunner, directory, pythonExe);
         ToolVersionLogger.log(executableRunner, directory, pipExe);
         Extraction extractionResult;
@@ -52,8 +66,18 @@ public class PipInspectorExtractor {
                 requirementsPaths.addAll(requirementFilePaths);
             }
 
+            PipInspectorOutputCache inspectorOutputCache = new PipInspectorOutputCache(inspectorCacheDirectory, inspectorCacheMaximumEntries);
+            String interpreterVersion = inspectorOutputCache.isEnabled() ? findInterpreterVersion(directory, pythonExe).orElse(null) : null;
+
+            // Each inspector holds a permit until it finishes, so with one permit they run one after another. Their output is always parsed in order.
+            Semaphore inspectorPermits = new Semaphore(Math.max(inspectorParallelism, 1));
+            List<CompletableFuture<List<String>>> inspectorOutputs = new ArrayList<>(requirementsPaths.size());
             for (Path requirementFilePath : requirementsPaths) {
-                List<String> inspectorOutput = runInspector(directory, pythonExe, pipInspector, projectName, requirementFilePath);
+                inspectorOutputs.add(runInspector(directory, pythonExe, pipInspector, projectName, requirementFilePath, inspectorOutputCache, interpreterVersion, inspectorPermits));
+            }
+
+            for (CompletableFuture<List<String>> pendingInspectorOutput : inspectorOutputs) {
+                List<String> inspectorOutput = waitForInspector(pendingInspectorOutput);
                 Optional<NameVersionCodeLocation> result = pipInspectorTreeParser.parse(inspectorOutput, directory.toString());
                 if (result.isPresent()) {
                     codeLocations.add(result.get().getCodeLocation());
@@ -80,7 +104,8 @@ public class PipInspectorExtractor {
         return extractionResult;
     }
 
-    private List<String> runInspector(File sourceDirectory, ExecutableTarget pythonExe, File inspectorScript, String projectName, Path requirementsFilePath) throws ExecutableRunnerException {
+    private CompletableFuture<List<String>> runInspector(File sourceDirectory, ExecutableTarget pythonExe, File inspectorScript, String projectName, Path requirementsFilePath,
+        PipInspectorOutputCache inspectorOutputCache, @Nullable String interpreterVersion, Semaphore inspectorPermits) {
         List<String> inspectorArguments = new ArrayList<>();
         inspectorArguments.add(inspectorScript.getAbsolutePath());
 
@@ -92,7 +117,53 @@ public class PipInspectorExtractor {
             inspectorArguments.add(String.format("--projectname=%s", projectName));
         }
 
-        return executableRunner.execute(ExecutableUtils.createFromTarget(sourceDirectory, pythonExe, inspectorArguments)).getStandardOutputAsList();
+        Optional<String> cacheKey = Optional.ofNullable(interpreterVersion)
+                                        .flatMap(version -> inspectorOutputCache.createKey(pythonExe.toCommand(), version, inspectorScript, inspectorArguments, requirementsFilePath));
+        Optional<List<String>> cachedOutput = cacheKey.flatMap(inspectorOutputCache::findOutput);
+        if (cachedOutput.isPresent()) {
+            logger.debug(String.format("Using cached pip inspector output for: %s", requirementsFilePath != null ? requirementsFilePath : sourceDirectory));
+            return CompletableFuture.completedFuture(cachedOutput.get());
+        }
+
+        Executable inspectorExecutable = ExecutableUtils.createFromTarget(sourceDirectory, pythonExe, inspectorArguments);
+        inspectorPermits.acquireUninterruptibly();
+        return executableRunner.executeAsync(inspectorExecutable)
+                   .whenComplete((output, exception) -> inspectorPermits.release())
+                   .thenApply(output -> readInspectorOutput(output, inspectorOutputCache, cacheKey));
+    }
+
+    private List<String> readInspectorOutput(ExecutableOutput inspectorOutput, PipInspectorOutputCache inspectorOutputCache, Optional<String> cacheKey) {
+        List<String> inspectorOutputLines = inspectorOutput.getStandardOutputAsList();
+        if (cacheKey.isPresent() && inspectorOutput.getReturnCode() == 0 && !inspectorOutputLines.isEmpty()) {
+            inspectorOutputCache.storeOutput(cacheKey.get(), inspectorOutputLines);
+        }
+        return inspectorOutputLines;
+    }
+
+    private List<String> waitForInspector(CompletableFuture<List<String>> pendingInspectorOutput) throws ExecutableRunnerException {
+        try {
+            return pendingInspectorOutput.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ExecutableRunnerException) {
+                throw (ExecutableRunnerException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // Python 2 prints its version to standard error, so both outputs are used.
+    private Optional<String> findInterpreterVersion(File directory, ExecutableTarget pythonExe) {
+        try {
+            ExecutableOutput versionOutput = executableRunner.execute(ExecutableUtils.createFromTarget(directory, pythonExe, "--version"));
+            String version = StringUtils.trimToEmpty(versionOutput.getStandardOutput()) + StringUtils.trimToEmpty(versionOutput.getErrorOutput());
+            if (versionOutput.getReturnCode() == 0 && StringUtils.isNotBlank(version)) {
+                return Optional.of(version);
+            }
+        } catch (ExecutableRunnerException e) {
+            logger.debug("Unable to determine the python version.", e);
+        }
+        logger.debug("The python version is unknown, pip inspector output will not be cached.");
+        return Optional.empty();
     }
 
     private String getProjectName(File directory, ExecutableTarget pythonExe, File setupFile, String providedProjectName) throws ExecutableRunnerException {
@@ -0,0 +1,104 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.pip;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.common.util.CacheFileUtil;
+
+// Inspector output is keyed by the interpreter and its version, the inspector script, the inspector arguments and the contents of the requirements file.
+// The installed packages are not part of the key, so the directory should be cleared after packages are installed or upgraded in the environment.
+// A hit touches the entry so the least recently used entries are the ones removed once the cache holds more than its maximum number of entries.
+public class PipInspectorOutputCache {
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String ENTRY_EXTENSION = ".out";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    @Nullable
+    private final File cacheDirectory;
+    private final int maximumEntries;
+    private final Object pruneLock = new Object();
+
+    public PipInspectorOutputCache(@Nullable File cacheDirectory, int maximumEntries) {
+        this.cacheDirectory = cacheDirectory;
+        this.maximumEntries = maximumEntries;
+    }
+
+    public boolean isEnabled() {
+        return cacheDirectory != null;
+    }
+
+    public Optional<String> createKey(String interpreterCommand, String interpreterVersion, File inspectorScript, List<String> inspectorArguments, @Nullable Path requirementsFilePath) {
+        if (cacheDirectory == null) {
+            return Optional.empty();
+        }
+        try {
+            MessageDigest digest = CacheFileUtil.createDigest();
+            CacheFileUtil.updateDigest(digest, CACHE_FORMAT_VERSION);
+            CacheFileUtil.updateDigest(digest, interpreterCommand);
+            CacheFileUtil.updateDigest(digest, interpreterVersion);
+            CacheFileUtil.updateDigest(digest, CacheFileUtil.hashFile(inspectorScript));
+            for (String inspectorArgument : inspectorArguments) {
+                CacheFileUtil.updateDigest(digest, inspectorArgument);
+            }
+            if (requirementsFilePath != null) {
+                CacheFileUtil.updateDigest(digest, CacheFileUtil.hashFile(requirementsFilePath.toFile()));
+            }
+            return Optional.of(CacheFileUtil.toHex(digest.digest()));
+        } catch (NoSuchAlgorithmException | IOException e) {
+            logger.debug("Unable to compute the pip inspector cache key.", e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<String>> findOutput(String key) {
+        if (cacheDirectory == null) {
+            return Optional.empty();
+        }
+        File entryFile = new File(cacheDirectory, key + ENTRY_EXTENSION);
+        if (!entryFile.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            List<String> output = Files.readAllLines(entryFile.toPath(), StandardCharsets.UTF_8);
+            CacheFileUtil.touch(entryFile);
+            return Optional.of(output);
+        } catch (IOException e) {
+            logger.debug("Unable to read cached pip inspector output, it will be ignored: " + entryFile, e);
+            return Optional.empty();
+        }
+    }
+
+    public void storeOutput(String key, List<String> output) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        File entryFile = new File(cacheDirectory, key + ENTRY_EXTENSION);
+        try {
+            CacheFileUtil.writeAtomically(entryFile, "pip-inspector", temporaryFile -> Files.write(temporaryFile, output, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.debug("Unable to cache pip inspector output: " + entryFile, e);
+            return;
+        }
+        synchronized (pruneLock) {
+            CacheFileUtil.pruneLeastRecentlyUsed(cacheDirectory, ENTRY_EXTENSION, maximumEntries);
+        }
+    }
+}
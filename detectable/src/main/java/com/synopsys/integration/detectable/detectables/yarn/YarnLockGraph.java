@@ -0,0 +1,169 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.yarn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.model.dependencyid.StringDependencyId;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
+import com.synopsys.integration.detectable.detectables.yarn.workspace.YarnWorkspaces;
+
+// The yarn.lock as an immutable graph. Every name@version id, whether it has an entry or is only referenced as a dependency, is interned as a node index.
+// Dependencies on workspaces (and optional ones when production only) are dropped while indexing, so each project or workspace only has to walk what it can reach.
+public class YarnLockGraph {
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final Map<String, Integer> nodeIndexes;
+    private final List<StringDependencyId> nodeIds;
+    private final List<String> nodeNames;
+    private final List<YarnLockEntry> nodeEntries;
+    private final List<int[]> nodeChildren;
+
+    private YarnLockGraph(Map<String, Integer> nodeIndexes, List<StringDependencyId> nodeIds, List<String> nodeNames, List<YarnLockEntry> nodeEntries, List<int[]> nodeChildren) {
+        this.nodeIndexes = nodeIndexes;
+        this.nodeIds = nodeIds;
+        this.nodeNames = nodeNames;
+        this.nodeEntries = nodeEntries;
+        this.nodeChildren = nodeChildren;
+    }
+
+    public static YarnLockGraph index(YarnLock yarnLock, YarnWorkspaces yarnWorkspaces, boolean productionOnly) {
+        return new Indexer(yarnWorkspaces, productionOnly).index(yarnLock);
+    }
+
+    public int size() {
+        return nodeIds.size();
+    }
+
+    public StringDependencyId getDependencyId(int node) {
+        return nodeIds.get(node);
+    }
+
+    public String getName(int node) {
+        return nodeNames.get(node);
+    }
+
+    // Null when the id is only referenced as a dependency and has no entry of its own.
+    @Nullable
+    public YarnLockEntry getEntry(int node) {
+        return nodeEntries.get(node);
+    }
+
+    public int[] getChildren(int node) {
+        return nodeChildren.get(node);
+    }
+
+    // Breadth first from the given ids, ids that are not in the lock file are ignored.
+    public List<Integer> findReachableNodes(Collection<StringDependencyId> rootIds) {
+        BitSet visited = new BitSet(size());
+        Deque<Integer> unvisited = new ArrayDeque<>();
+        for (StringDependencyId rootId : rootIds) {
+            Integer root = nodeIndexes.get(rootId.getValue());
+            if (root != null && !visited.get(root)) {
+                visited.set(root);
+                unvisited.add(root);
+            }
+        }
+
+        List<Integer> reachable = new ArrayList<>();
+        while (!unvisited.isEmpty()) {
+            int node = unvisited.remove();
+            reachable.add(node);
+            for (int child : nodeChildren.get(node)) {
+                if (!visited.get(child)) {
+                    visited.set(child);
+                    unvisited.add(child);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    private static class Indexer {
+        private final Logger logger = LoggerFactory.getLogger(YarnLockGraph.class);
+        private final YarnWorkspaces yarnWorkspaces;
+        private final boolean productionOnly;
+
+        private final Map<String, Integer> nodeIndexes = new HashMap<>();
+        private final List<StringDependencyId> nodeIds = new ArrayList<>();
+        private final List<String> nodeNames = new ArrayList<>();
+        private final List<YarnLockEntry> nodeEntries = new ArrayList<>();
+        private final List<int[]> nodeChildren = new ArrayList<>();
+
+        private Indexer(YarnWorkspaces yarnWorkspaces, boolean productionOnly) {
+            this.yarnWorkspaces = yarnWorkspaces;
+            this.productionOnly = productionOnly;
+        }
+
+        private YarnLockGraph index(YarnLock yarnLock) {
+            for (YarnLockEntry entry : yarnLock.getEntries()) {
+                int[] children = indexChildren(entry);
+                for (YarnLockEntryId entryId : entry.getIds()) {
+                    int node = intern(entryId.getName(), entryId.getVersion());
+                    // A repeated id keeps the last entry's version and the dependencies of every entry, as the graph builder would.
+                    nodeEntries.set(node, entry);
+                    int[] existingChildren = nodeChildren.get(node);
+                    nodeChildren.set(node, existingChildren.length == 0 ? children : concat(existingChildren, children));
+                }
+            }
+            return new YarnLockGraph(nodeIndexes, nodeIds, nodeNames, nodeEntries, nodeChildren);
+        }
+
+        private int[] indexChildren(YarnLockEntry entry) {
+            int[] children = new int[entry.getDependencies().size()];
+            int childCount = 0;
+            for (YarnLockDependency dependency : entry.getDependencies()) {
+                if (yarnWorkspaces.lookup(dependency).isPresent()) {
+                    continue;
+                }
+                if (productionOnly && dependency.isOptional()) {
+                    logger.trace("Excluding optional dependency: {}{}{}", dependency.getName(), YarnTransformer.STRING_ID_NAME_VERSION_SEPARATOR, dependency.getVersion());
+                    continue;
+                }
+                children[childCount++] = intern(dependency.getName(), dependency.getVersion());
+            }
+            return childCount == children.length ? children : Arrays.copyOf(children, childCount);
+        }
+
+        private int intern(String name, String version) {
+            String id = name + YarnTransformer.STRING_ID_NAME_VERSION_SEPARATOR + version;
+            Integer existing = nodeIndexes.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            int node = nodeIds.size();
+            nodeIndexes.put(id, node);
+            nodeIds.add(new StringDependencyId(id));
+            nodeNames.add(name);
+            nodeEntries.add(null);
+            nodeChildren.add(NO_CHILDREN);
+            return node;
+        }
+
+        private int[] concat(int[] first, int[] second) {
+            int[] combined = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, combined, first.length, second.length);
+            return combined;
+        }
+    }
+}
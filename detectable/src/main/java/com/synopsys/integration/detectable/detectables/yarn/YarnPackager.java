@@ -28,11 +28,17 @@ public class YarnPackager {
     }
 
     public YarnResult generateCodeLocation(NullSafePackageJson rootPackageJson, YarnWorkspaces yarnWorkspaces, YarnLock yarnLock, List<NameVersion> externalDependencies,
+        boolean useProductionOnly, @Nullable ExcludedIncludedWildcardFilter workspaceFilter) {
+        YarnLockGraph yarnLockGraph = YarnLockGraph.index(yarnLock, yarnWorkspaces, useProductionOnly);
+        return generateCodeLocation(rootPackageJson, yarnWorkspaces, yarnLock, yarnLockGraph, externalDependencies, useProductionOnly, workspaceFilter);
+    }
+
+    public YarnResult generateCodeLocation(NullSafePackageJson rootPackageJson, YarnWorkspaces yarnWorkspaces, YarnLock yarnLock, YarnLockGraph yarnLockGraph, List<NameVersion> externalDependencies,
         boolean useProductionOnly, @Nullable ExcludedIncludedWildcardFilter workspaceFilter) {
         YarnLockResult yarnLockResult = new YarnLockResult(rootPackageJson, yarnWorkspaces, yarnLock);
 
         try {
-            List<CodeLocation> codeLocations = yarnTransformer.generateCodeLocations(yarnLockResult, useProductionOnly, externalDependencies,
+            List<CodeLocation> codeLocations = yarnTransformer.generateCodeLocations(yarnLockResult, yarnLockGraph, useProductionOnly, externalDependencies,
                 workspaceFilter);
             return YarnResult.success(rootPackageJson.getName().orElse(null), rootPackageJson.getVersion().orElse(null), codeLocations);
         } catch (MissingExternalIdException exception) {
@@ -7,12 +7,14 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -28,10 +30,8 @@ import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.yarn.packagejson.NullSafePackageJson;
-import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockResult;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
-import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
 import com.synopsys.integration.detectable.detectables.yarn.workspace.YarnWorkspace;
 import com.synopsys.integration.detectable.detectables.yarn.workspace.YarnWorkspaces;
 import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
@@ -41,24 +41,33 @@ public class YarnTransformer {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     public static final String STRING_ID_NAME_VERSION_SEPARATOR = "@";
     private final ExternalIdFactory externalIdFactory;
-    private final Set<StringDependencyId> unMatchedDependencies = new HashSet<>();
+    private final Set<StringDependencyId> unMatchedDependencies = ConcurrentHashMap.newKeySet();
 
     public YarnTransformer(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public List<CodeLocation> generateCodeLocations(YarnLockResult yarnLockResult, boolean productionOnly,
+        List<NameVersion> externalDependencies, @Nullable ExcludedIncludedWildcardFilter workspaceFilter) throws MissingExternalIdException {
+        // Indexed once, every project and workspace graph is then built from what its own dependencies can reach.
+        YarnLockGraph yarnLockGraph = YarnLockGraph.index(yarnLockResult.getYarnLock(), yarnLockResult.getWorkspaceData(), productionOnly);
+        return generateCodeLocations(yarnLockResult, yarnLockGraph, productionOnly, externalDependencies, workspaceFilter);
+    }
+
+    // The graph must have been indexed with the same workspaces and production only setting, it is only read so it may be shared between concurrent calls.
+    public List<CodeLocation> generateCodeLocations(YarnLockResult yarnLockResult, YarnLockGraph yarnLockGraph, boolean productionOnly,
         List<NameVersion> externalDependencies, @Nullable ExcludedIncludedWildcardFilter workspaceFilter) throws MissingExternalIdException {
         List<CodeLocation> codeLocations = new LinkedList<>();
+        LazyBuilderMissingExternalIdHandler lazyBuilderHandler = getLazyBuilderHandler(externalDependencies);
         logger.debug("Adding root dependencies for project: {}:{}", yarnLockResult.getRootPackageJson().getNameString(), yarnLockResult.getRootPackageJson().getVersionString());
-        DependencyGraph rootProjectGraph = buildGraphForProjectOrWorkspace(yarnLockResult, yarnLockResult.getRootPackageJson(), productionOnly,
-            externalDependencies);
+        DependencyGraph rootProjectGraph = buildGraphForProjectOrWorkspace(yarnLockGraph, yarnLockResult.getWorkspaceData(), yarnLockResult.getRootPackageJson(), productionOnly,
+            lazyBuilderHandler);
         codeLocations.add(new CodeLocation(rootProjectGraph));
         for (YarnWorkspace workspace : yarnLockResult.getWorkspaceData().getWorkspaces()) {
             if ((workspaceFilter == null) || workspaceFilter.shouldInclude(workspace.getWorkspacePackageJson().getDirRelativePath())) {
                 logger.debug("Adding root dependencies for workspace: {}", workspace.getWorkspacePackageJson().getDirRelativePath());
-                DependencyGraph workspaceGraph = buildGraphForProjectOrWorkspace(yarnLockResult, workspace.getWorkspacePackageJson().getPackageJson(), productionOnly,
-                    externalDependencies);
+                DependencyGraph workspaceGraph = buildGraphForProjectOrWorkspace(yarnLockGraph, yarnLockResult.getWorkspaceData(), workspace.getWorkspacePackageJson().getPackageJson(),
+                    productionOnly, lazyBuilderHandler);
                 ExternalId workspaceExternalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, workspace.getWorkspacePackageJson().getDirRelativePath(),
                     "local");
                 codeLocations.add(new CodeLocation(workspaceGraph, workspaceExternalId));
@@ -68,51 +77,46 @@ public class YarnTransformer {
         return codeLocations;
     }
 
-    private DependencyGraph buildGraphForProjectOrWorkspace(YarnLockResult yarnLockResult, NullSafePackageJson projectOrWorkspacePackageJson, boolean productionOnly,
-        List<NameVersion> externalDependencies) throws MissingExternalIdException {
+    private DependencyGraph buildGraphForProjectOrWorkspace(YarnLockGraph yarnLockGraph, YarnWorkspaces workspaceData, NullSafePackageJson projectOrWorkspacePackageJson,
+        boolean productionOnly, LazyBuilderMissingExternalIdHandler lazyBuilderHandler) throws MissingExternalIdException {
         LazyExternalIdDependencyGraphBuilder graphBuilder = new LazyExternalIdDependencyGraphBuilder();
-        addRootNodesToGraph(graphBuilder, projectOrWorkspacePackageJson, yarnLockResult.getWorkspaceData(), productionOnly);
-        for (YarnLockEntry entry : yarnLockResult.getYarnLock().getEntries()) {
-            for (YarnLockEntryId entryId : entry.getIds()) {
-                StringDependencyId id = generateComponentDependencyId(entryId.getName(), entryId.getVersion());
-                graphBuilder.setDependencyInfo(id, entryId.getName(), entry.getVersion(), generateComponentExternalId(entryId.getName(), entry.getVersion()));
-                addYarnLockDependenciesToGraph(yarnLockResult, productionOnly, graphBuilder, entry, id);
-            }
+        List<StringDependencyId> rootIds = new ArrayList<>();
+        addRootDependenciesToGraph(graphBuilder, rootIds, projectOrWorkspacePackageJson.getDependencies(), workspaceData);
+        if (!productionOnly) {
+            addRootDependenciesToGraph(graphBuilder, rootIds, projectOrWorkspacePackageJson.getDevDependencies(), workspaceData);
         }
-        return graphBuilder.build(getLazyBuilderHandler(externalDependencies));
-    }
 
-    private void addYarnLockDependenciesToGraph(YarnLockResult yarnLockResult, boolean productionOnly,
-        LazyExternalIdDependencyGraphBuilder graphBuilder, YarnLockEntry entry, StringDependencyId id) {
-        for (YarnLockDependency dependency : entry.getDependencies()) {
-            if (!isWorkspace(yarnLockResult.getWorkspaceData(), dependency)) {
-                StringDependencyId stringDependencyId = generateComponentDependencyId(dependency.getName(), dependency.getVersion());
-                if (!productionOnly || !dependency.isOptional()) {
-                    graphBuilder.addChildWithParent(stringDependencyId, id);
-                } else {
-                    logger.trace("Excluding optional dependency: {}", stringDependencyId.getValue());
-                }
+        for (int node : yarnLockGraph.findReachableNodes(rootIds)) {
+            StringDependencyId id = yarnLockGraph.getDependencyId(node);
+            YarnLockEntry entry = yarnLockGraph.getEntry(node);
+            if (entry != null) {
+                String name = yarnLockGraph.getName(node);
+                graphBuilder.setDependencyInfo(id, name, entry.getVersion(), generateComponentExternalId(name, entry.getVersion()));
+            }
+            for (int child : yarnLockGraph.getChildren(node)) {
+                graphBuilder.addChildWithParent(yarnLockGraph.getDependencyId(child), id);
             }
         }
-    }
-
-    private boolean isWorkspace(YarnWorkspaces yarnWorkspaces, YarnLockDependency dependency) {
-        Optional<YarnWorkspace> dependencyWorkspace = yarnWorkspaces.lookup(dependency);
-        return dependencyWorkspace.isPresent();
+        return graphBuilder.build(lazyBuilderHandler);
     }
 
     private LazyBuilderMissingExternalIdHandler getLazyBuilderHandler(List<NameVersion> externalDependencies) {
+        Map<String, NameVersion> externalDependenciesByName = new HashMap<>();
+        for (NameVersion externalDependency : externalDependencies) {
+            if (externalDependency.getName() != null) {
+                externalDependenciesByName.putIfAbsent(externalDependency.getName(), externalDependency);
+            }
+        }
         return (dependencyId, lazyDependencyInfo) -> {
-            Optional<NameVersion> externalDependency = externalDependencies.stream().filter(it -> it.getName().equals(lazyDependencyInfo.getName())).findFirst();
+            Optional<NameVersion> externalDependency = Optional.ofNullable(lazyDependencyInfo.getName()).map(externalDependenciesByName::get);
             Optional<ExternalId> externalId = externalDependency.map(it -> generateComponentExternalId(it.getName(), it.getVersion()));
             if (externalId.isPresent()) {
                 return externalId.get();
             } else {
                 ExternalId lazilyGeneratedExternalId;
                 StringDependencyId stringDependencyId = (StringDependencyId) dependencyId;
-                if (!unMatchedDependencies.contains(stringDependencyId)) {
+                if (unMatchedDependencies.add(stringDependencyId)) {
                     logger.warn("Unable to find standard NPM package identification details for '{}' in the yarn.lock file", stringDependencyId.getValue());
-                    unMatchedDependencies.add(stringDependencyId);
                 }
                 lazilyGeneratedExternalId = generateComponentExternalId(stringDependencyId);
                 return lazilyGeneratedExternalId;
@@ -120,19 +124,8 @@ public class YarnTransformer {
         };
     }
 
-    private void addRootNodesToGraph(LazyExternalIdDependencyGraphBuilder graphBuilder,
-        NullSafePackageJson projectOrWorkspacePackageJson, YarnWorkspaces workspaceData, boolean productionOnly) {
-        populateGraphWithRootDependencies(graphBuilder, projectOrWorkspacePackageJson, productionOnly, workspaceData);
-    }
-
-    private void populateGraphWithRootDependencies(LazyExternalIdDependencyGraphBuilder graphBuilder, NullSafePackageJson rootPackageJson, boolean productionOnly, YarnWorkspaces workspaceData) {
-        addRootDependenciesToGraph(graphBuilder, rootPackageJson.getDependencies(), workspaceData);
-        if (!productionOnly) {
-            addRootDependenciesToGraph(graphBuilder, rootPackageJson.getDevDependencies(), workspaceData);
-        }
-    }
-
-    private void addRootDependenciesToGraph(LazyExternalIdDependencyGraphBuilder graphBuilder, Map<String, String> rootDependenciesToAdd, YarnWorkspaces workspaceData) {
+    private void addRootDependenciesToGraph(LazyExternalIdDependencyGraphBuilder graphBuilder, List<StringDependencyId> rootIds, Map<String, String> rootDependenciesToAdd,
+        YarnWorkspaces workspaceData) {
         for (Map.Entry<String, String> rootDependency : rootDependenciesToAdd.entrySet()) {
             Optional<YarnWorkspace> dependencyWorkspace = workspaceData.lookup(rootDependency.getKey(), rootDependency.getValue());
             if (dependencyWorkspace.isPresent()) {
@@ -141,6 +134,7 @@ public class YarnTransformer {
                 StringDependencyId stringDependencyId = generateComponentDependencyId(rootDependency.getKey(), rootDependency.getValue());
                 logger.debug("Adding root dependency to graph: stringDependencyId: {}", stringDependencyId);
                 graphBuilder.addChildToRoot(stringDependencyId);
+                rootIds.add(stringDependencyId);
             }
         }
     }
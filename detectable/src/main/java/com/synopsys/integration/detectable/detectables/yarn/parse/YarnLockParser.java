@@ -7,6 +7,10 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,8 +27,6 @@ import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLock
 public class YarnLockParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final YarnLockEntryParser yarnLockEntryParser;
-    @Nullable
-    private String yarnLockFileFormatVersion = null;
 
     public YarnLockParser(YarnLockEntryParser yarnLockEntryParser) {
         this.yarnLockEntryParser = yarnLockEntryParser;
@@ -35,21 +37,31 @@ public class YarnLockParser {
         int lineIndex = 0;
         while (lineIndex < yarnLockFileAsList.size()) {
             YarnLockEntryParseResult entryParseResult = yarnLockEntryParser.parseNextEntry(yarnLockFileAsList, lineIndex);
-            if (entryParseResult.getYarnLockEntry().isPresent()) {
-                YarnLockEntry entry = entryParseResult.getYarnLockEntry().get();
-                if (entry.isMetadataEntry()) {
-                    yarnLockFileFormatVersion = entry.getVersion();
-                } else {
-                    entries.add(entry);
-                }
-            }
+            entryParseResult.getYarnLockEntry().ifPresent(entries::add);
             lineIndex = entryParseResult.getLastParsedLineIndex();
             lineIndex++;
         }
+        return createYarnLock(entries);
+    }
+
+    public YarnLock parseYarnLock(File yarnLockFile) throws IOException {
+        return parseYarnLock(Files.readAllLines(yarnLockFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    private YarnLock createYarnLock(List<YarnLockEntry> parsedEntries) {
+        String yarnLockFileFormatVersion = null;
+        List<YarnLockEntry> entries = new ArrayList<>(parsedEntries.size());
+        for (YarnLockEntry entry : parsedEntries) {
+            if (entry.isMetadataEntry()) {
+                yarnLockFileFormatVersion = entry.getVersion();
+            } else {
+                entries.add(entry);
+            }
+        }
         return new YarnLock(yarnLockFileFormatVersion, isYarn1Project(yarnLockFileFormatVersion), entries);
     }
 
-    private boolean isYarn1Project(String yarnLockFileFormatVersion) {
+    private boolean isYarn1Project(@Nullable String yarnLockFileFormatVersion) {
         logger.debug("yarn.lock file format version: {}", yarnLockFileFormatVersion);
         return StringUtils.isBlank(yarnLockFileFormatVersion) || ("1".equals(yarnLockFileFormatVersion));
     }
@@ -9,18 +9,25 @@ package com.synopsys.integration.detectable.detectables.yarn.workspace;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
 
+// Workspaces match by name alone, so lookups go through a map of the first workspace with each name rather than testing every workspace.
 public class YarnWorkspaces {
     private final Collection<YarnWorkspace> workspaces;
+    private final Map<String, YarnWorkspace> workspacesByName = new HashMap<>();
     public static final YarnWorkspaces EMPTY = new YarnWorkspaces(new ArrayList<>(0));
 
     public YarnWorkspaces(Collection<YarnWorkspace> workspaces) {
         this.workspaces = workspaces;
+        for (YarnWorkspace workspace : workspaces) {
+            workspacesByName.putIfAbsent(workspace.getName().orElse(""), workspace);
+        }
     }
 
     public Collection<YarnWorkspace> getWorkspaces() {
@@ -28,23 +35,21 @@ public class YarnWorkspaces {
     }
 
     public Optional<YarnWorkspace> lookup(YarnLockDependency yarnLockDependency) {
-        return lookup(w -> w.matches(yarnLockDependency));
+        return lookup(yarnLockDependency.getName(), yarnLockDependency.getVersion());
     }
 
     public Optional<YarnWorkspace> lookup(YarnLockEntry yarnLockEntry) {
-        return lookup(w -> w.matches(yarnLockEntry));
-    }
-
-    public Optional<YarnWorkspace> lookup(String name, String version) {
-        return lookup(w -> w.matches(name, version));
-    }
-
-    private Optional<YarnWorkspace> lookup(Predicate<YarnWorkspace> p) {
-        for (YarnWorkspace candidateWorkspace : workspaces) {
-            if (p.test(candidateWorkspace)) {
-                return Optional.of(candidateWorkspace);
+        for (YarnLockEntryId yarnLockEntryId : yarnLockEntry.getIds()) {
+            Optional<YarnWorkspace> workspace = lookup(yarnLockEntryId.getName(), yarnLockEntryId.getVersion());
+            if (workspace.isPresent()) {
+                return workspace;
             }
         }
         return Optional.empty();
     }
+
+    public Optional<YarnWorkspace> lookup(String name, String version) {
+        return Optional.ofNullable(workspacesByName.get(name))
+                   .filter(workspace -> workspace.matches(name, version));
+    }
 }
@@ -11,6 +11,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,10 @@ public class Extraction {
         return Optional.empty();
     }
 
+    public Map<ExtractionMetadata, Object> getMetaData() {
+        return Collections.unmodifiableMap(metaData);
+    }
+
     public boolean isSuccess() {
         return this.result == ExtractionResultType.SUCCESS;
     }
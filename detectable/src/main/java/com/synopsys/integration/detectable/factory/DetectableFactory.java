@@ -54,7 +54,7 @@ import com.synopsys.integration.detectable.detectables.bitbake.BitbakeExtractor;
 import com.synopsys.integration.detectable.detectables.bitbake.BitbakeRecipesToLayerMapConverter;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipesParser;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.TaskDependsParser;
 import com.synopsys.integration.detectable.detectables.cargo.CargoDetectable;
 import com.synopsys.integration.detectable.detectables.cargo.CargoExtractor;
 import com.synopsys.integration.detectable.detectables.cargo.parse.CargoLockParser;
@@ -107,6 +107,7 @@ import com.synopsys.integration.detectable.detectables.docker.DockerDetectable;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResolver;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResultCache;
 import com.synopsys.integration.detectable.detectables.git.GitDetectable;
 import com.synopsys.integration.detectable.detectables.git.GitParseDetectable;
 import com.synopsys.integration.detectable.detectables.git.cli.GitCliExtractor;
@@ -125,6 +126,7 @@ import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectab
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliExtractor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCommandExecutor;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoVersionCache;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoGraphParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoListParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModWhyParser;
@@ -137,6 +139,8 @@ import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleD
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleToolingApiRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleEdgeListParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
@@ -151,6 +155,7 @@ import com.synopsys.integration.detectable.detectables.lerna.LernaPackager;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractor;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractorOptions;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenDotGraphParser;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomDetectable;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomWrapperDetectable;
 import com.synopsys.integration.detectable.detectables.maven.parsing.MavenParseDetectable;
@@ -243,6 +248,7 @@ public class DetectableFactory {
     private final DetectableExecutableRunner executableRunner;
     private final ExternalIdFactory externalIdFactory;
     private final Gson gson;
+    private final GoVersionCache goVersionCache = new GoVersionCache();
 
     public DetectableFactory(FileFinder fileFinder, DetectableExecutableRunner executableRunner, ExternalIdFactory externalIdFactory, Gson gson) {
         this.fileFinder = fileFinder;
@@ -262,6 +268,11 @@ public class DetectableFactory {
         return new DockerDetectable(environment, dockerInspectorResolver, javaResolver, dockerResolver, dockerExtractor(), dockerDetectableOptions);
     }
 
+    public DockerDetectable createDockerDetectable(DetectableEnvironment environment, DockerDetectableOptions dockerDetectableOptions, DockerInspectorResolver dockerInspectorResolver, JavaResolver javaResolver,
+        DockerResolver dockerResolver, DockerInspectorResultCache dockerInspectorResultCache) {
+        return new DockerDetectable(environment, dockerInspectorResolver, javaResolver, dockerResolver, dockerExtractor(dockerInspectorResultCache), dockerDetectableOptions);
+    }
+
     public BazelDetectable createBazelDetectable(DetectableEnvironment environment, BazelDetectableOptions bazelDetectableOptions, BazelResolver bazelResolver) {
         return new BazelDetectable(environment, fileFinder, bazelExtractor(), bazelResolver, bazelDetectableOptions);
     }
@@ -548,7 +559,7 @@ public class DetectableFactory {
     }
 
     private GoModCommandExecutor goModCommandExecutor() {
-        return new GoModCommandExecutor(executableRunner);
+        return new GoModCommandExecutor(executableRunner, goVersionCache);
     }
 
     private GoModGraphGenerator goModGraphGraphGenerator() {
@@ -587,6 +598,10 @@ public class DetectableFactory {
         return new GradleRootMetadataParser();
     }
 
+    private GradleEdgeListParser gradleEdgeListParser() {
+        return new GradleEdgeListParser(externalIdFactory);
+    }
+
     private Rebar3TreeParser rebar3TreeParser() {
         return new Rebar3TreeParser(externalIdFactory);
     }
@@ -599,8 +614,12 @@ public class DetectableFactory {
         return new MavenCodeLocationPackager(externalIdFactory);
     }
 
+    private MavenDotGraphParser mavenDotGraphParser() {
+        return new MavenDotGraphParser(externalIdFactory, mavenCodeLocationPackager());
+    }
+
     private MavenCliExtractor mavenCliExtractor() {
-        return new MavenCliExtractor(executableRunner, mavenCodeLocationPackager(), commandParser());
+        return new MavenCliExtractor(executableRunner, mavenCodeLocationPackager(), mavenDotGraphParser(), commandParser());
     }
 
     private CommandParser commandParser() {
@@ -779,11 +798,11 @@ public class DetectableFactory {
     }
 
     private BitbakeExtractor bitbakeExtractor() {
-        return new BitbakeExtractor(executableRunner, fileFinder, graphParserTransformer(), bitbakeGraphTransformer(), bitbakeRecipesParser(), bitbakeRecipesToLayerMap());
+        return new BitbakeExtractor(executableRunner, fileFinder, taskDependsParser(), bitbakeGraphTransformer(), bitbakeRecipesParser(), bitbakeRecipesToLayerMap());
     }
 
-    private GraphParserTransformer graphParserTransformer() {
-        return new GraphParserTransformer();
+    private TaskDependsParser taskDependsParser() {
+        return new TaskDependsParser();
     }
 
     private BitbakeGraphTransformer bitbakeGraphTransformer() {
@@ -806,14 +825,22 @@ public class DetectableFactory {
         return new GradleRunner(executableRunner);
     }
 
+    private GradleToolingApiRunner gradleToolingApiRunner() {
+        return new GradleToolingApiRunner();
+    }
+
     private GradleInspectorExtractor gradleInspectorExtractor() {
-        return new GradleInspectorExtractor(fileFinder, gradleRunner(), gradleReportParser(), gradleReportTransformer(), gradleRootMetadataParser());
+        return new GradleInspectorExtractor(fileFinder, gradleRunner(), gradleToolingApiRunner(), gradleReportParser(), gradleReportTransformer(), gradleRootMetadataParser(), gradleEdgeListParser());
     }
 
     private DockerExtractor dockerExtractor() {
         return new DockerExtractor(fileFinder, executableRunner, new BdioTransformer(), new ExternalIdFactory(), gson);
     }
 
+    private DockerExtractor dockerExtractor(DockerInspectorResultCache dockerInspectorResultCache) {
+        return new DockerExtractor(fileFinder, executableRunner, new BdioTransformer(), new ExternalIdFactory(), gson, dockerInspectorResultCache);
+    }
+
     private GemspecLineParser gemspecLineParser() {
         return new GemspecLineParser();
     }
@@ -0,0 +1,72 @@
+package com.synopsys.integration.detectable.detectables.bazel.functional.bazel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectables.bazel.BazelExtractor;
+import com.synopsys.integration.detectable.detectables.bazel.BazelProjectNameGenerator;
+import com.synopsys.integration.detectable.detectables.bazel.BazelWorkspace;
+import com.synopsys.integration.detectable.detectables.bazel.WorkspaceRule;
+import com.synopsys.integration.detectable.detectables.bazel.pipeline.WorkspaceRuleChooser;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+public class BazelExtractorTest {
+    private static final String MAVEN_INSTALL_OUTPUT = String.join(System.lineSeparator(),
+        "jvm_import(",
+        "  name = \"com_google_guava_guava\",",
+        "  tags = [\"maven_coordinates=com.google.guava:guava:27.0-jre\"],",
+        ")"
+    );
+    private static final String HASKELL_CABAL_LIBRARY_OUTPUT = String.join(System.lineSeparator(),
+        "{\"results\": [{\"target\": {\"type\": \"RULE\", \"rule\": {\"name\": \"@stackage//:optparse-applicative\", \"ruleClass\": \"haskell_cabal_library\", \"attribute\": [",
+        "{\"name\": \"name\", \"type\": \"STRING\", \"stringValue\": \"optparse-applicative\"},",
+        "{\"name\": \"version\", \"type\": \"STRING\", \"stringValue\": \"0.14.3.0\"}",
+        "]}}}]}"
+    );
+
+    @Test
+    public void testConcurrentPipelinesMatchSequential() throws ExecutableRunnerException {
+        Extraction sequential = extract(1);
+        Extraction concurrent = extract(3);
+
+        assertTrue(sequential.isSuccess());
+        assertTrue(concurrent.isSuccess());
+        DependencyGraph sequentialGraph = sequential.getCodeLocations().get(0).getDependencyGraph();
+        DependencyGraph concurrentGraph = concurrent.getCodeLocations().get(0).getDependencyGraph();
+        assertEquals(2, concurrentGraph.getRootDependencies().size());
+        assertEquals(sequentialGraph.getRootDependencies(), concurrentGraph.getRootDependencies());
+    }
+
+    private Extraction extract(int pipelineParallelism) throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            Executable executable = invocation.getArgument(0);
+            List<String> command = executable.getCommandWithArguments();
+            if (command.contains("jsonproto")) {
+                return new ExecutableOutput(0, HASKELL_CABAL_LIBRARY_OUTPUT, "");
+            } else if (command.contains("build")) {
+                return new ExecutableOutput(0, MAVEN_INSTALL_OUTPUT, "");
+            }
+            return new ExecutableOutput(0, "", "");
+        });
+
+        BazelExtractor bazelExtractor = new BazelExtractor(executableRunner, new ExternalIdFactory(), new WorkspaceRuleChooser());
+        return bazelExtractor.extract(ExecutableTarget.forCommand("bazel"), new File("."), new BazelWorkspace(new File("WORKSPACE")), "//:testTarget", new BazelProjectNameGenerator(),
+            EnumSet.allOf(WorkspaceRule.class), Arrays.asList(), pipelineParallelism);
+    }
+}
@@ -23,11 +23,17 @@
 package com.synopsys.integration.detectable.detectables.bazel.functional.bazel.pipeline.step;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -64,4 +70,80 @@ public class IntermediateStepExecuteBazelOnEachTest {
         assertEquals(1, output.size());
         assertEquals("@org_apache_commons_commons_io//jar:jar\n@com_google_guava_guava//jar:jar", output.get(0));
     }
+
+    @Test
+    public void testCombinedInputIsQueriedOnce() throws IntegrationException {
+        BazelCommandExecutor bazelCommandExecutor = Mockito.mock(BazelCommandExecutor.class);
+        List<String> combinedArgs = Arrays.asList("query", "kind(maven_jar, //external:a + //external:b)", "--output", "xml");
+        Mockito.when(bazelCommandExecutor.executeToString(combinedArgs)).thenReturn(Optional.of("<query/>"));
+        BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor("//:ProjectRunner", null);
+        IntermediateStep executor = new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", "--output", "xml"), true, true);
+
+        List<String> output = executor.process(Arrays.asList("//external:a", "//external:b", "//external:a"));
+
+        assertEquals(1, output.size());
+        assertEquals("<query/>", output.get(0));
+        Mockito.verify(bazelCommandExecutor, Mockito.times(1)).executeToString(Mockito.anyList());
+    }
+
+    @Test
+    public void testCombinedQueryFailureQueriesEachItem() throws IntegrationException {
+        BazelCommandExecutor bazelCommandExecutor = Mockito.mock(BazelCommandExecutor.class);
+        Mockito.when(bazelCommandExecutor.executeToString(Arrays.asList("query", "kind(maven_jar, //external:a + //external:b)"))).thenThrow(new IntegrationException("no such target"));
+        Mockito.when(bazelCommandExecutor.executeToStringAsync(Arrays.asList("query", "kind(maven_jar, //external:a)"))).thenReturn(CompletableFuture.completedFuture(Optional.of("a")));
+        Mockito.when(bazelCommandExecutor.executeToStringAsync(Arrays.asList("query", "kind(maven_jar, //external:b)"))).thenReturn(CompletableFuture.completedFuture(Optional.of("b")));
+        BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor("//:ProjectRunner", null);
+        IntermediateStep executor = new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})"), true, true);
+
+        List<String> output = executor.process(Arrays.asList("//external:a", "//external:b"));
+
+        assertEquals(Arrays.asList("a", "b"), output);
+    }
+
+    @Test
+    public void testIndividualQueriesAreBounded() throws IntegrationException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+        BazelCommandExecutor bazelCommandExecutor = Mockito.mock(BazelCommandExecutor.class);
+        Mockito.when(bazelCommandExecutor.executeToStringAsync(Mockito.anyList())).thenAnswer(invocation -> {
+            List<String> args = invocation.getArgument(0);
+            maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(20);
+                running.decrementAndGet();
+                return Optional.of(args.get(1));
+            });
+        });
+        BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor("//:ProjectRunner", null);
+        IntermediateStep executor = new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "${input.item}"), true);
+        List<String> input = IntStream.range(0, 12).mapToObj(index -> "//external:" + index).collect(Collectors.toList());
+
+        List<String> output = executor.process(input);
+
+        assertEquals(input, output);
+        assertTrue(maximumRunning.get() <= 4);
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testIdenticalQueriesExecuteOnce() throws ExecutableRunnerException, IntegrationException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        ExecutableOutput bazelCmdExecutableOutput = new ExecutableOutput(0, "@com_google_guava_guava//jar:jar", "");
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenReturn(bazelCmdExecutableOutput);
+        BazelCommandExecutor bazelCommandExecutor = new BazelCommandExecutor(executableRunner, new File("."), ExecutableTarget.forCommand("/usr/bin/bazel"));
+        List<String> args = Arrays.asList("cquery", "deps(//:ProjectRunner)");
+
+        Optional<String> first = bazelCommandExecutor.executeToString(args);
+        Optional<String> second = bazelCommandExecutor.executeToString(new ArrayList<>(args));
+
+        assertEquals(first, second);
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(Mockito.any(Executable.class));
+    }
 }
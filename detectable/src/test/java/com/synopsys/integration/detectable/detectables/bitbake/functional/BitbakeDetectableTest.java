@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
@@ -34,10 +36,23 @@ public class BitbakeDetectableTest extends DetectableFunctionalTest {
     protected void setup() throws IOException {
         addFile("oe-init-build-env");
 
+        String buildDirectory = getSourceDirectory().toFile().getCanonicalPath();
+        ExecutableOutput sourceOutput = createStandardOutput(
+            "### Shell environment set up for builds. ###",
+            "DETECT_BITBAKE_ENVIRONMENT",
+            buildDirectory,
+            "BUILDDIR=" + buildDirectory + "\0PATH=/poky/scripts:/poky/bitbake/bin:/usr/bin\0"
+        );
+        addExecutableOutput(sourceOutput, "bash", "-c", "source " + buildDirectory + File.separator + "oe-init-build-env; echo DETECT_BITBAKE_ENVIRONMENT; pwd; env -0");
+
+        Map<String, String> buildEnvironment = new HashMap<>();
+        buildEnvironment.put("BUILDDIR", buildDirectory);
+        buildEnvironment.put("PATH", "/poky/scripts:/poky/bitbake/bin:/usr/bin");
+
         ExecutableOutput bitbakeGOutput = createStandardOutput(
             ""
         );
-        addExecutableOutput(bitbakeGOutput, "bash", "-c", "source " + getSourceDirectory().toFile().getCanonicalPath() + File.separator + "oe-init-build-env; " + "bitbake " + "-g " + "core-image-minimal");
+        addExecutableOutput(Paths.get(buildDirectory), bitbakeGOutput, buildEnvironment, "bash", "-c", "bitbake " + "-g " + "core-image-minimal");
 
         addFile(Paths.get("task-depends.dot"),
             "digraph depends {",
@@ -63,7 +78,7 @@ public class BitbakeDetectableTest extends DetectableFunctionalTest {
             "base-passwd:",
             "  meta                 3.5.29"
         );
-        addExecutableOutput(bitbakeShowRecipesOutput, "bash", "-c", "source " + getSourceDirectory().toFile().getCanonicalPath() + File.separator + "oe-init-build-env; " + "bitbake-layers show-recipes");
+        addExecutableOutput(Paths.get(buildDirectory), bitbakeShowRecipesOutput, buildEnvironment, "bash", "-c", "bitbake-layers show-recipes");
     }
 
     @NotNull
@@ -0,0 +1,72 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeNode;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.TaskDependsParser;
+
+@UnitTest
+public class TaskDependsParserTest {
+    @Test
+    public void parsedVersionFromLabel() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(
+            "digraph depends {",
+            "\"acl.do_build\" [label=\"acl do_build\\n:2.2.52-r0\\n/home/bit/poky/meta/recipes-support/attr/acl_2.2.52.bb\"]",
+            "}"
+        );
+
+        Assertions.assertEquals(1, bitbakeGraph.getNodes().size());
+        Assertions.assertEquals("acl", bitbakeGraph.getNodes().get(0).getName());
+        Assertions.assertEquals("2.2.52-r0", bitbakeGraph.getNodes().get(0).getVersion().get());
+    }
+
+    @Test
+    public void parsedRelationshipBetweenRecipes() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(
+            "digraph depends {",
+            "\"acl.do_build\" [label = \"acl do_build\\n:2.2.52-r0\\n/some/path/acl.bb\"]",
+            "\"acl.do_build\" -> \"acl.do_package_qa\"",
+            "\"acl.do_package\" -> \"attr.do_packagedata\"",
+            "\"attr.do_build\" [label = \"attr do_build\\n:2.4.47-r0\\n/some/path/attr.bb\"]",
+            "}"
+        );
+
+        Assertions.assertEquals(2, bitbakeGraph.getNodes().size());
+        BitbakeNode acl = findNode(bitbakeGraph, "acl").get();
+        Assertions.assertEquals(1, acl.getChildren().size(), "A task depending on a task of the same recipe must not be a child");
+        Assertions.assertTrue(acl.getChildren().contains("attr"));
+        Assertions.assertEquals("2.4.47-r0", findNode(bitbakeGraph, "attr").get().getVersion().get());
+    }
+
+    @Test
+    public void nodesWithoutLabelAreOnlyChildren() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(
+            "\"acl.do_build\" [label=\"acl do_build\\n:2.2.52-r0\\n/some/path/acl.bb\"]",
+            "\"acl.do_build\" -> \"virtual/libc.do_build\"",
+            "\"virtual/libc.do_build\" [shape=box]"
+        );
+
+        Assertions.assertEquals(1, bitbakeGraph.getNodes().size());
+        Assertions.assertFalse(findNode(bitbakeGraph, "virtual/libc").isPresent());
+        Assertions.assertTrue(findNode(bitbakeGraph, "acl").get().getChildren().contains("virtual/libc"));
+    }
+
+    private BitbakeGraph parse(String... lines) throws IOException {
+        TaskDependsParser taskDependsParser = new TaskDependsParser();
+        return taskDependsParser.parse(new BufferedReader(new StringReader(String.join(System.lineSeparator(), lines))));
+    }
+
+    private Optional<BitbakeNode> findNode(BitbakeGraph bitbakeGraph, String name) {
+        return bitbakeGraph.getNodes().stream()
+                   .filter(node -> node.getName().equals(name))
+                   .findFirst();
+    }
+}
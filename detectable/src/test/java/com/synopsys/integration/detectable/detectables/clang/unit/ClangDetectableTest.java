@@ -50,7 +50,7 @@ public class ClangDetectableTest {
         final ClangExtractor clangExtractor = null;
         final ClangPackageManagerRunner packageManagerRunner = null;
 
-        final ClangDetectableOptions options = new ClangDetectableOptions(false);
+        final ClangDetectableOptions options = new ClangDetectableOptions();
         final DetectableEnvironment environment = MockDetectableEnvironment.empty();
         final FileFinder fileFinder = MockFileFinder.withFileNamed(JSON_COMPILATION_DATABASE_FILENAME);
 
@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -100,6 +103,73 @@ public class ClangPackageManagerRunnerTest {
         testNonPkgOwnedIncludeFile(packageManagerInfo, packageResolver, pkgOwnerPattern);
     }
 
+    @Test
+    public void testDpkgBatchQueriesPackageDetailsOnce() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+        File workingDirectory = new File("test");
+        File core = new File("/usr/include/X11/Core.h");
+        File intrinsic = new File("/usr/include/X11/Intrinsic.h");
+        File missing = new File("/usr/include/missing.h");
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        List<String> ownerArgs = Arrays.asList("-S", core.getAbsolutePath(), intrinsic.getAbsolutePath(), missing.getAbsolutePath());
+        String ownerOutput = String.format("libxt-dev:amd64: %s\nlibxt-dev:amd64: %s\n", core.getAbsolutePath(), intrinsic.getAbsolutePath());
+        String ownerError = String.format("dpkg-query: no path found matching pattern %s\n", missing.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "dpkg", ownerArgs)).thenReturn(new ExecutableOutput(1, ownerOutput, ownerError));
+        List<String> detailsArgs = Arrays.asList("-s", "libxt-dev:amd64");
+        String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+        Mockito.when(executableRunner.execute(workingDirectory, "dpkg", detailsArgs)).thenReturn(new ExecutableOutput(0, detailsOutput, ""));
+
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner();
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new HashSet<>(Arrays.asList(core, intrinsic, missing)));
+
+        assertEquals(1, result.getFoundPackages().size());
+        assertEquals("libxt-dev", result.getFoundPackages().iterator().next().getPackageName());
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(missing, result.getUnRecognizedDependencyFiles().iterator().next());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, "dpkg", detailsArgs);
+    }
+
+    @Test
+    public void testRpmBatchKeepsFirstOwnerOfFileOwnedByTwoPackages() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().rpm();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new RpmPackageManagerResolver(new Gson()));
+        File workingDirectory = new File("test");
+        File core = new File("/usr/include/X11/Core.h");
+        File xlib = new File("/usr/include/X11/Xlib.h");
+        String xtX86 = "{ epoch: \"(none)\", name: \"libXt-devel\", version: \"1.1.5-3.el7\", arch: \"x86_64\" }";
+        String xtI686 = "{ epoch: \"(none)\", name: \"libXt-devel\", version: \"1.1.5-3.el7\", arch: \"i686\" }";
+        String x11X86 = "{ epoch: \"(none)\", name: \"libX11-devel\", version: \"1.6.7-4.el7\", arch: \"x86_64\" }";
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        List<String> batchOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerBatchCmdArgs().get());
+        batchOwnerArgs.add(core.getAbsolutePath());
+        batchOwnerArgs.add(xlib.getAbsolutePath());
+        String batchOwnerOutput = xtX86 + "\n" + xtI686 + "\n" + x11X86 + "\n";
+        Mockito.when(executableRunner.execute(workingDirectory, "rpm", batchOwnerArgs)).thenReturn(new ExecutableOutput(0, batchOwnerOutput, ""));
+        mockRpmOwnerQuery(executableRunner, workingDirectory, packageManagerInfo, core, xtX86 + xtI686);
+        mockRpmOwnerQuery(executableRunner, workingDirectory, packageManagerInfo, xlib, x11X86);
+
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner();
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new HashSet<>(Arrays.asList(core, xlib)));
+
+        List<String> foundPackages = result.getFoundPackages().stream()
+                                         .map(packageDetails -> packageDetails.getPackageName() + " " + packageDetails.getPackageArch())
+                                         .sorted()
+                                         .collect(Collectors.toList());
+        assertEquals(Arrays.asList("libX11-devel x86_64", "libXt-devel x86_64"), foundPackages);
+        assertEquals(0, result.getUnRecognizedDependencyFiles().size());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, "rpm", batchOwnerArgs);
+    }
+
+    private void mockRpmOwnerQuery(DetectableExecutableRunner executableRunner, File workingDirectory, ClangPackageManagerInfo packageManagerInfo, File dependencyFile, String ownerOutput)
+        throws ExecutableRunnerException {
+        List<String> ownerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        ownerArgs.add(dependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "rpm", ownerArgs)).thenReturn(new ExecutableOutput(0, ownerOutput, ""));
+    }
+
     private void testNonPkgOwnedIncludeFile(ClangPackageManagerInfo packageManagerInfo, ClangPackageManagerResolver packageResolver,
         String pkgMgrOwnerQueryResultPattern) throws ExecutableRunnerException {
 
@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,6 +36,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.bdio.model.Forge;
@@ -41,6 +46,7 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.clang.compilecommand.CompileCommand;
 import com.synopsys.integration.detectable.detectables.clang.dependencyfile.ClangPackageDetailsTransformer;
+import com.synopsys.integration.detectable.detectables.clang.dependencyfile.DependencyFileCache;
 import com.synopsys.integration.detectable.detectables.clang.dependencyfile.DependencyFileDetailGenerator;
 import com.synopsys.integration.detectable.detectables.clang.dependencyfile.FilePathGenerator;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
@@ -52,14 +58,84 @@ public class DependencyFileDetailGeneratorTest {
         Mockito.when(mockFile.toString()).thenReturn("Example");
 
         final FilePathGenerator filePathGenerator = Mockito.mock(FilePathGenerator.class);
-        Mockito.when(filePathGenerator.fromCompileCommand(mockFile, null, true)).thenReturn(Collections.singletonList("does_not_exist.h"));
+        Mockito.when(filePathGenerator.fromCompileCommand(Mockito.any())).thenReturn(Collections.singletonList("does_not_exist.h"));
 
         final DependencyFileDetailGenerator dependencyFileDetailGenerator = new DependencyFileDetailGenerator(filePathGenerator);
 
-        final Set<File> fileDetailsSet = dependencyFileDetailGenerator.fromCompileCommands(Collections.singletonList(new CompileCommand()), null, true);
+        final Set<File> fileDetailsSet = dependencyFileDetailGenerator.fromCompileCommands(Collections.singletonList(new CompileCommand()), new DependencyFileCache(null, 10), 1);
         Assertions.assertEquals(0, fileDetailsSet.size());
     }
 
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testIdenticalCompileCommandsArePreprocessedOnce(@TempDirectory.TempDir final Path tempDir) throws IOException {
+        final File header = Files.createFile(tempDir.resolve("header.h")).toFile();
+        final CompileCommand compileCommand = new CompileCommand();
+        compileCommand.directory = tempDir.toString();
+        compileCommand.command = "cc -c source.c";
+        compileCommand.file = "source.c";
+        final CompileCommand duplicateCompileCommand = new CompileCommand();
+        duplicateCompileCommand.directory = compileCommand.directory;
+        duplicateCompileCommand.command = compileCommand.command;
+        duplicateCompileCommand.file = compileCommand.file;
+
+        final FilePathGenerator filePathGenerator = Mockito.mock(FilePathGenerator.class);
+        Mockito.when(filePathGenerator.fromCompileCommand(Mockito.any())).thenReturn(Collections.singletonList(header.getAbsolutePath()));
+        final DependencyFileDetailGenerator dependencyFileDetailGenerator = new DependencyFileDetailGenerator(filePathGenerator);
+
+        final Set<File> fileDetailsSet = dependencyFileDetailGenerator.fromCompileCommands(Arrays.asList(compileCommand, duplicateCompileCommand), new DependencyFileCache(null, 10), 2);
+
+        assertEquals(Collections.singleton(header), fileDetailsSet);
+        Mockito.verify(filePathGenerator, Mockito.times(1)).fromCompileCommand(Mockito.any());
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testPersistedDependencyListIsReused(@TempDirectory.TempDir final Path tempDir) throws IOException {
+        final File header = Files.createFile(tempDir.resolve("header.h")).toFile();
+        Assertions.assertTrue(header.setLastModified(System.currentTimeMillis() - 60000));
+        final File cacheDirectory = tempDir.resolve("cache").toFile();
+        final CompileCommand compileCommand = new CompileCommand();
+        compileCommand.directory = tempDir.toString();
+        compileCommand.command = "cc -c source.c";
+        compileCommand.file = "source.c";
+
+        final FilePathGenerator filePathGenerator = Mockito.mock(FilePathGenerator.class);
+        Mockito.when(filePathGenerator.fromCompileCommand(Mockito.any())).thenReturn(Collections.singletonList(header.getAbsolutePath()));
+        final DependencyFileDetailGenerator dependencyFileDetailGenerator = new DependencyFileDetailGenerator(filePathGenerator);
+
+        dependencyFileDetailGenerator.fromCompileCommands(Collections.singletonList(compileCommand), new DependencyFileCache(cacheDirectory, 10), 1);
+        final Set<File> fileDetailsSet = dependencyFileDetailGenerator.fromCompileCommands(Collections.singletonList(compileCommand), new DependencyFileCache(cacheDirectory, 10), 1);
+
+        assertEquals(Collections.singleton(header), fileDetailsSet);
+        Mockito.verify(filePathGenerator, Mockito.times(1)).fromCompileCommand(Mockito.any());
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testPersistedDependencyListsAreBounded(@TempDirectory.TempDir final Path tempDir) throws IOException {
+        final File header = Files.createFile(tempDir.resolve("header.h")).toFile();
+        final File cacheDirectory = tempDir.resolve("cache").toFile();
+        final CompileCommand compileCommand = new CompileCommand();
+        compileCommand.directory = tempDir.toString();
+        compileCommand.command = "cc -c source.c";
+        compileCommand.file = "source.c";
+        final CompileCommand otherCompileCommand = new CompileCommand();
+        otherCompileCommand.directory = tempDir.toString();
+        otherCompileCommand.command = "cc -c other.c";
+        otherCompileCommand.file = "other.c";
+
+        final FilePathGenerator filePathGenerator = Mockito.mock(FilePathGenerator.class);
+        Mockito.when(filePathGenerator.fromCompileCommand(Mockito.any())).thenReturn(Collections.singletonList(header.getAbsolutePath()));
+        final DependencyFileDetailGenerator dependencyFileDetailGenerator = new DependencyFileDetailGenerator(filePathGenerator);
+
+        dependencyFileDetailGenerator.fromCompileCommands(Arrays.asList(compileCommand, otherCompileCommand), new DependencyFileCache(cacheDirectory, 1), 1);
+
+        final File[] entries = cacheDirectory.listFiles((dir, name) -> name.endsWith(".deps"));
+        Assertions.assertNotNull(entries);
+        assertEquals(1, entries.length);
+    }
+
     @Test
     public void testDependencyCreatedWithEachForge() {
         final File mockFile = Mockito.mock(File.class);
@@ -30,28 +30,45 @@ import static org.junit.jupiter.api.condition.OS.WINDOWS;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.bdio.BdioTransformer;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorInfo;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResultCache;
 import com.synopsys.integration.detectable.detectables.docker.DockerProperties;
 import com.synopsys.integration.detectable.detectables.docker.ImageIdentifierType;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class DockerExtractorTest {
@@ -200,6 +217,183 @@ public class DockerExtractorTest {
         assertEquals(testString, dockerExtractor.getImageIdentifierFromOutputDirectoryIfImageIdPresent(outputDirectoryWithNonPopulatedResultsFile, testString, ImageIdentifierType.IMAGE_ID));
     }
 
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testCachedResultsSkipInspector(@TempDir Path tempDir) throws IOException, ExecutableRunnerException, URISyntaxException {
+        File producedBdioFile = new File(DockerExtractorTest.class.getClassLoader().getSystemResource("detectables/functional/docker/unit/outputDirectoryWithPopulatedResultsFile/ubuntu_latest_DPKG_bdio.jsonld").toURI());
+        File dockerTarFile = Files.write(tempDir.resolve("image.tar"), "image".getBytes()).toFile();
+        File inspectorJar = Files.write(tempDir.resolve("dockerinspector.jar"), "inspector".getBytes()).toFile();
+        DockerInspectorResultCache dockerInspectorResultCache = new DockerInspectorResultCache(tempDir.resolve("cache").toFile(), Integer.MAX_VALUE);
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            File outputDirectory = invocation.getArgument(0, Executable.class).getWorkingDirectory();
+            Files.copy(producedBdioFile.toPath(), new File(outputDirectory, producedBdioFile.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(new File(outputDirectory, "image_containerfilesystem.tar.gz").toPath(), "filesystem".getBytes());
+            return new ExecutableOutput(0, "", "");
+        });
+        DockerExtractor dockerExtractor = new DockerExtractor(new SimpleFileFinder(), executableRunner, new BdioTransformer(), new ExternalIdFactory(), new Gson(), dockerInspectorResultCache);
+        DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(inspectorJar);
+        ExecutableTarget javaExe = ExecutableTarget.forFile(new File("fake/test/java"));
+
+        File firstOutputDirectory = Files.createDirectories(tempDir.resolve("first")).toFile();
+        Extraction firstExtraction = dockerExtractor.extract(tempDir.toFile(), firstOutputDirectory, null, javaExe, null, null, dockerTarFile.getAbsolutePath(), dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class));
+        File secondOutputDirectory = Files.createDirectories(tempDir.resolve("second")).toFile();
+        Extraction secondExtraction = dockerExtractor.extract(tempDir.toFile(), secondOutputDirectory, null, javaExe, null, null, dockerTarFile.getAbsolutePath(), dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class));
+
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(Mockito.any(Executable.class));
+        assertTrue(firstExtraction.isSuccess());
+        assertTrue(secondExtraction.isSuccess());
+        assertEquals(firstExtraction.getProjectName(), secondExtraction.getProjectName());
+        File restoredContainerFileSystem = secondExtraction.getMetaData(DockerExtractor.CONTAINER_FILESYSTEM_META_DATA).get();
+        assertEquals(secondOutputDirectory, restoredContainerFileSystem.getParentFile());
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testTagsOfOneImageAreCachedSeparately(@TempDir Path tempDir) throws IOException, ExecutableRunnerException, URISyntaxException {
+        File producedBdioFile = new File(DockerExtractorTest.class.getClassLoader().getSystemResource("detectables/functional/docker/unit/outputDirectoryWithPopulatedResultsFile/ubuntu_latest_DPKG_bdio.jsonld").toURI());
+        String producedBdio = new String(Files.readAllBytes(producedBdioFile.toPath()), StandardCharsets.UTF_8);
+        File inspectorJar = Files.write(tempDir.resolve("dockerinspector.jar"), "inspector".getBytes()).toFile();
+        DockerInspectorResultCache dockerInspectorResultCache = new DockerInspectorResultCache(tempDir.resolve("cache").toFile(), Integer.MAX_VALUE);
+
+        // Both tags resolve to the same image ID, the inspector names the project version after the tag it was given.
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            Executable executable = invocation.getArgument(0, Executable.class);
+            List<String> command = executable.getCommandWithArguments();
+            if (command.contains("inspect")) {
+                return new ExecutableOutput(0, "sha256:0123456789abcdef", "");
+            }
+            String tag = command.get(command.size() - 1).replace("--docker.image=ubuntu:", "");
+            String bdio = producedBdio.replaceFirst("\"revision\": \"latest\"", "\"revision\": \"" + tag + "\"");
+            Files.write(new File(executable.getWorkingDirectory(), producedBdioFile.getName()).toPath(), bdio.getBytes(StandardCharsets.UTF_8));
+            return new ExecutableOutput(0, "", "");
+        });
+        DockerExtractor dockerExtractor = new DockerExtractor(new SimpleFileFinder(), executableRunner, new BdioTransformer(), new ExternalIdFactory(), new Gson(), dockerInspectorResultCache);
+
+        Extraction versionExtraction = extractImage(dockerExtractor, tempDir, "version", "ubuntu:18.04", inspectorJar);
+        Extraction latestExtraction = extractImage(dockerExtractor, tempDir, "latest", "ubuntu:latest", inspectorJar);
+        Extraction cachedVersionExtraction = extractImage(dockerExtractor, tempDir, "cachedVersion", "ubuntu:18.04", inspectorJar);
+
+        ArgumentCaptor<Executable> executableArgumentCaptor = ArgumentCaptor.forClass(Executable.class);
+        Mockito.verify(executableRunner, Mockito.times(5)).execute(executableArgumentCaptor.capture());
+        long inspectorRuns = executableArgumentCaptor.getAllValues().stream()
+                                 .filter(executable -> executable.getCommandWithArguments().contains("-jar"))
+                                 .count();
+        assertEquals(2, inspectorRuns);
+        assertEquals("18.04", versionExtraction.getProjectVersion());
+        assertEquals("latest", latestExtraction.getProjectVersion());
+        assertEquals("18.04", cachedVersionExtraction.getProjectVersion());
+        assertEquals("ubuntu:latest", latestExtraction.getMetaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA).get());
+        assertEquals("ubuntu:18.04", cachedVersionExtraction.getMetaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA).get());
+    }
+
+    private Extraction extractImage(DockerExtractor dockerExtractor, Path tempDir, String outputName, String image, File inspectorJar) throws IOException {
+        File outputDirectory = Files.createDirectories(tempDir.resolve(outputName)).toFile();
+        return dockerExtractor.extract(tempDir.toFile(), outputDirectory, ExecutableTarget.forFile(new File("fake/test/docker")), ExecutableTarget.forFile(new File("fake/test/java")), image, null, null,
+            new DockerInspectorInfo(inspectorJar), Mockito.mock(DockerProperties.class));
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testAirGapImagesLoadedBeforeInspector(@TempDir Path tempDir) throws ExecutableRunnerException {
+        List<File> airGapImages = Arrays.asList(tempDir.resolve("ubuntu.tar").toFile(), tempDir.resolve("alpine.tar").toFile(), tempDir.resolve("centos.tar").toFile());
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.executeAsync(Mockito.any(Executable.class))).thenReturn(CompletableFuture.completedFuture(new ExecutableOutput(0, "", "")));
+        DockerExtractor dockerExtractor = getMockDockerExtractor(executableRunner, Mockito.mock(FileFinder.class));
+
+        File outputDirectory = tempDir.resolve("output").toFile();
+        DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(new File("fake/test/dockerinspector.jar"), airGapImages);
+        dockerExtractor.extract(tempDir.toFile(), outputDirectory, ExecutableTarget.forFile(new File("fake/test/docker")), ExecutableTarget.forFile(new File("fake/test/java")), "ubuntu:latest", null, null,
+            dockerInspectorInfo, Mockito.mock(DockerProperties.class));
+
+        ArgumentCaptor<Executable> loadCaptor = ArgumentCaptor.forClass(Executable.class);
+        Mockito.verify(executableRunner, Mockito.times(3)).executeAsync(loadCaptor.capture());
+        for (Executable loadExecutable : loadCaptor.getAllValues()) {
+            assertEquals("load", loadExecutable.getCommandWithArguments().get(1));
+        }
+        InOrder inOrder = Mockito.inOrder(executableRunner);
+        inOrder.verify(executableRunner, Mockito.times(3)).executeAsync(Mockito.any(Executable.class));
+        inOrder.verify(executableRunner).execute(Mockito.any(Executable.class));
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testAirGapImageLoadsAreBounded(@TempDir Path tempDir) {
+        List<File> airGapImages = Arrays.asList(tempDir.resolve("ubuntu.tar").toFile(), tempDir.resolve("alpine.tar").toFile(), tempDir.resolve("centos.tar").toFile(),
+            tempDir.resolve("debian.tar").toFile());
+        AtomicInteger loading = new AtomicInteger();
+        AtomicInteger maximumLoading = new AtomicInteger();
+        ScheduledExecutorService loadCompleter = Executors.newSingleThreadScheduledExecutor();
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.executeAsync(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            maximumLoading.accumulateAndGet(loading.incrementAndGet(), Math::max);
+            CompletableFuture<ExecutableOutput> pendingLoad = new CompletableFuture<>();
+            loadCompleter.schedule(() -> {
+                loading.decrementAndGet();
+                pendingLoad.complete(new ExecutableOutput(0, "", ""));
+            }, 50, TimeUnit.MILLISECONDS);
+            return pendingLoad;
+        });
+        DockerExtractor dockerExtractor = getMockDockerExtractor(executableRunner, Mockito.mock(FileFinder.class));
+
+        try {
+            DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(new File("fake/test/dockerinspector.jar"), airGapImages);
+            dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("output").toFile(), ExecutableTarget.forFile(new File("fake/test/docker")), ExecutableTarget.forFile(new File("fake/test/java")),
+                "ubuntu:latest", null, null, dockerInspectorInfo, Mockito.mock(DockerProperties.class));
+        } finally {
+            loadCompleter.shutdownNow();
+        }
+
+        Mockito.verify(executableRunner, Mockito.times(4)).executeAsync(Mockito.any(Executable.class));
+        assertTrue(maximumLoading.get() <= 2);
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testCachedResultsAreReadOnly(@TempDir Path tempDir) throws IOException {
+        DockerInspectorResultCache dockerInspectorResultCache = new DockerInspectorResultCache(tempDir.resolve("cache").toFile(), Integer.MAX_VALUE);
+        File producedFile = Files.write(Files.createDirectories(tempDir.resolve("produced")).resolve("image_squashedimage.tar.gz"), "squashed".getBytes()).toFile();
+        dockerInspectorResultCache.storeResult("key", Collections.singletonList(producedFile));
+
+        File restoredDirectory = tempDir.resolve("restored").toFile();
+        assertTrue(dockerInspectorResultCache.restoreResult("key", restoredDirectory));
+        File restoredFile = new File(restoredDirectory, producedFile.getName());
+        assertEquals("squashed", new String(Files.readAllBytes(restoredFile.toPath()), StandardCharsets.UTF_8));
+        // The restored file may share its data with the cache entry, so nothing may be able to write to it in place.
+        Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(restoredFile.toPath());
+        assertFalse(permissions.contains(PosixFilePermission.OWNER_WRITE));
+        assertFalse(permissions.contains(PosixFilePermission.GROUP_WRITE));
+        assertFalse(permissions.contains(PosixFilePermission.OTHERS_WRITE));
+
+        // A restored file that is replaced rather than written in place leaves the cache as it was.
+        Files.delete(restoredFile.toPath());
+        Files.write(restoredFile.toPath(), "changed".getBytes());
+        File secondRestoredDirectory = tempDir.resolve("second").toFile();
+        assertTrue(dockerInspectorResultCache.restoreResult("key", secondRestoredDirectory));
+        assertEquals("squashed", new String(Files.readAllBytes(new File(secondRestoredDirectory, producedFile.getName()).toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCacheKeepsMaximumEntries(@TempDir Path tempDir) throws IOException {
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+        DockerInspectorResultCache dockerInspectorResultCache = new DockerInspectorResultCache(cacheDirectory, 2);
+        File producedFile = Files.write(Files.createDirectories(tempDir.resolve("produced")).resolve("image_squashedimage.tar.gz"), "squashed".getBytes()).toFile();
+        dockerInspectorResultCache.storeResult("oldest", Collections.singletonList(producedFile));
+        assertTrue(new File(cacheDirectory, "oldest.entry").setLastModified(1000));
+        dockerInspectorResultCache.storeResult("older", Collections.singletonList(producedFile));
+        assertTrue(new File(cacheDirectory, "older.entry").setLastModified(2000));
+
+        dockerInspectorResultCache.storeResult("newest", Collections.singletonList(producedFile));
+
+        assertFalse(dockerInspectorResultCache.restoreResult("oldest", tempDir.resolve("oldest").toFile()));
+        assertTrue(dockerInspectorResultCache.restoreResult("older", tempDir.resolve("older").toFile()));
+        assertTrue(dockerInspectorResultCache.restoreResult("newest", tempDir.resolve("newest").toFile()));
+    }
+
     private DockerExtractor getMockDockerExtractor(DetectableExecutableRunner executableRunner, FileFinder fileFinder) {
         BdioTransformer bdioTransformer = Mockito.mock(BdioTransformer.class);
         ExternalIdFactory externalIdFactory = Mockito.mock(ExternalIdFactory.class);
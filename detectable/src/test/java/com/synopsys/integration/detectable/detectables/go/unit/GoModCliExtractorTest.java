@@ -3,6 +3,9 @@ package com.synopsys.integration.detectable.detectables.go.unit;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import com.synopsys.integration.detectable.detectable.exception.DetectableExcept
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliExtractor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCommandExecutor;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoVersionCache;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoGraphParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoListParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModWhyParser;
@@ -55,7 +59,7 @@ public class GoModCliExtractorTest {
                 return result;
             }
         };
-        Mockito.doAnswer(executableAnswer).when(executableRunner).execute(Mockito.any(Executable.class));
+        mockGoCommands(executableRunner, executableAnswer);
         GoModWhyParser goModWhyParser = new GoModWhyParser();
         GoModCommandExecutor goModCommandExecutor = new GoModCommandExecutor(executableRunner);
         GoModGraphGenerator goModGraphGenerator = new GoModGraphGenerator(new ExternalIdFactory());
@@ -102,7 +106,7 @@ public class GoModCliExtractorTest {
                 return result;
             }
         };
-        Mockito.doAnswer(executableAnswer).when(executableRunner).execute(Mockito.any(Executable.class));
+        mockGoCommands(executableRunner, executableAnswer);
 
         GoModWhyParser goModWhyParser = new GoModWhyParser();
         GoModCommandExecutor goModCommandExecutor = new GoModCommandExecutor(executableRunner);
@@ -120,6 +124,58 @@ public class GoModCliExtractorTest {
         Assertions.assertTrue(wasSuccessful);
     }
 
+    @Test
+    public void goVersionIsQueriedOncePerExecutableTest() throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        ExecutableTarget goExe = ExecutableTarget.forFile(new File("go"));
+        AtomicInteger versionQueries = new AtomicInteger();
+        Answer<ExecutableOutput> executableAnswer = invocation -> {
+            List<String> commandLine = invocation.getArgument(0, Executable.class).getCommandWithArguments();
+            if (commandLine.contains("version")) {
+                versionQueries.incrementAndGet();
+                return new ExecutableOutput(0, "go version go1.16.5 linux/amd64", "");
+            } else if (commandLine.containsAll(Arrays.asList("list", "-mod=readonly", "-m", "-u", "-json", "all"))) {
+                return goListJsonOutput();
+            } else if (commandLine.containsAll(Arrays.asList("mod", "graph"))) {
+                return goModGraphOutput();
+            }
+            return new ExecutableOutput(0, "", "");
+        };
+        mockGoCommands(executableRunner, executableAnswer);
+
+        GoModCommandExecutor goModCommandExecutor = new GoModCommandExecutor(executableRunner, new GoVersionCache());
+        GoModCliExtractor goModCliExtractor = new GoModCliExtractor(goModCommandExecutor, new GoListParser(new GsonBuilder().create()), new GoGraphParser(), new GoModWhyParser(),
+            new GoModGraphGenerator(new ExternalIdFactory()));
+
+        Extraction first = goModCliExtractor.extract(new File("first"), goExe, false);
+        Extraction second = goModCliExtractor.extract(new File("second"), goExe, false);
+
+        Assertions.assertTrue(first.isSuccess());
+        Assertions.assertTrue(second.isSuccess());
+        Assertions.assertEquals(1, versionQueries.get());
+    }
+
+    // The extractor runs its commands asynchronously and streams their output, these answer those calls with the same canned output.
+    private void mockGoCommands(DetectableExecutableRunner executableRunner, Answer<ExecutableOutput> executableAnswer) throws ExecutableRunnerException {
+        Mockito.doAnswer(executableAnswer).when(executableRunner).execute(Mockito.any(Executable.class));
+        Mockito.doAnswer(invocation -> answerAsync(invocation, executableAnswer)).when(executableRunner).executeAsync(Mockito.any(Executable.class));
+        Mockito.doAnswer(invocation -> answerAsync(invocation, executableAnswer).thenApply(output -> {
+            Consumer<String> standardOutputConsumer = invocation.getArgument(1);
+            output.getStandardOutputAsList().forEach(standardOutputConsumer);
+            return new ExecutableOutput(output.getReturnCode(), "", output.getErrorOutput());
+        })).when(executableRunner).executeStreamingAsync(Mockito.any(Executable.class), Mockito.any());
+    }
+
+    private CompletableFuture<ExecutableOutput> answerAsync(InvocationOnMock invocation, Answer<ExecutableOutput> executableAnswer) {
+        CompletableFuture<ExecutableOutput> output = new CompletableFuture<>();
+        try {
+            output.complete(executableAnswer.answer(invocation));
+        } catch (Throwable e) {
+            output.completeExceptionally(e);
+        }
+        return output;
+    }
+
     private ExecutableOutput goListOutput() {
         String standardOutput = String.join("\n", Arrays.asList(
             "git.daimler.com/c445/t1"
@@ -0,0 +1,77 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleEdgeListParser;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+public class GradleEdgeListParserTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testParsesNodesAndEdgesOfEveryConfiguration(@TempDirectory.TempDir Path tempDirectory) throws IOException {
+        File reportFile = tempDirectory.resolve("project_dependencyGraph.edges").toFile();
+        Files.write(reportFile.toPath(), Arrays.asList(
+            "DETECT EDGE LIST 1",
+            "c\tcompileClasspath",
+            "n\t0\tcom.example\tlibrary\t1.0",
+            "r\t0",
+            "n\t1\tcom.example\tshared\t2.0",
+            "e\t0\t1",
+            "c\ttestCompileClasspath",
+            "n\t2\torg.junit\tjunit\t4.12",
+            "r\t2",
+            "e\t2\t1",
+            "",
+            "DETECT META DATA START",
+            "projectPath:/source/project",
+            "projectGroup:com.example",
+            "projectName:project",
+            "projectVersion:3.0",
+            "DETECT META DATA END"
+        ), StandardCharsets.UTF_8);
+
+        Optional<CodeLocation> codeLocation = new GradleEdgeListParser(externalIdFactory).parseReport(reportFile);
+        assertTrue(codeLocation.isPresent());
+        assertEquals(externalIdFactory.createMavenExternalId("com.example", "project", "3.0"), codeLocation.get().getExternalId().orElse(null));
+        assertEquals(new File("/source/project"), codeLocation.get().getSourcePath().orElse(null));
+
+        ExternalId library = externalIdFactory.createMavenExternalId("com.example", "library", "1.0");
+        ExternalId shared = externalIdFactory.createMavenExternalId("com.example", "shared", "2.0");
+        ExternalId junit = externalIdFactory.createMavenExternalId("org.junit", "junit", "4.12");
+        GraphAssert graphAssert = new GraphAssert(Forge.MAVEN, codeLocation.get().getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(library);
+        graphAssert.hasRootDependency(junit);
+        graphAssert.hasParentChildRelationship(library, shared);
+        graphAssert.hasParentChildRelationship(junit, shared);
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testRejectsTextReports(@TempDirectory.TempDir Path tempDirectory) throws IOException {
+        File reportFile = tempDirectory.resolve("project_dependencyGraph.txt").toFile();
+        Files.write(reportFile.toPath(), Arrays.asList("compileClasspath", "\\--- com.example:library:1.0"), StandardCharsets.UTF_8);
+
+        assertFalse(new GradleEdgeListParser(externalIdFactory).parseReport(reportFile).isPresent());
+    }
+}
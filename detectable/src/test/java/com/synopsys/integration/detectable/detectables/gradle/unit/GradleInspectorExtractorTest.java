@@ -0,0 +1,160 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleExecutionMode;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleToolingApiRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.rest.credentials.CredentialsBuilder;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+import com.synopsys.integration.rest.proxy.ProxyInfoBuilder;
+
+@UnitTest
+@ExtendWith(TempDirectory.class)
+public class GradleInspectorExtractorTest {
+    private static final ExecutableTarget GRADLE = ExecutableTarget.forCommand("gradle");
+
+    @Test
+    public void testCliModeRunsGradleExecutable(@TempDirectory.TempDir Path tempDir) throws ExecutableFailedException, DetectableException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        GradleToolingApiRunner gradleToolingApiRunner = Mockito.mock(GradleToolingApiRunner.class);
+
+        Extraction extraction = extract(executableRunner, gradleToolingApiRunner, tempDir, ProxyInfo.NO_PROXY_INFO, GradleExecutionMode.CLI);
+
+        Assertions.assertTrue(extraction.isSuccess());
+        Mockito.verify(executableRunner).executeSuccessfully(Mockito.any(Executable.class));
+        Mockito.verifyZeroInteractions(gradleToolingApiRunner);
+    }
+
+    @Test
+    public void testToolingApiModeRunsBuildWithCliArguments(@TempDirectory.TempDir Path tempDir) throws ExecutableFailedException, DetectableException, IOException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        GradleToolingApiRunner gradleToolingApiRunner = Mockito.mock(GradleToolingApiRunner.class);
+
+        extract(executableRunner, gradleToolingApiRunner, tempDir, ProxyInfo.NO_PROXY_INFO, GradleExecutionMode.CLI);
+        Extraction extraction = extract(executableRunner, gradleToolingApiRunner, tempDir, ProxyInfo.NO_PROXY_INFO, GradleExecutionMode.TOOLING_API);
+
+        Assertions.assertTrue(extraction.isSuccess());
+        ArgumentCaptor<Executable> executable = ArgumentCaptor.forClass(Executable.class);
+        Mockito.verify(executableRunner).executeSuccessfully(executable.capture());
+        List<String> cliArguments = executable.getValue().getCommandWithArguments();
+        List<String> toolingApiArguments = captureToolingApiArguments(gradleToolingApiRunner, tempDir);
+        Assertions.assertEquals(cliArguments.subList(1, cliArguments.size()), toolingApiArguments);
+
+        File outputDirectory = tempDir.resolve("output").toFile();
+        Assertions.assertEquals("--refresh-dependencies", toolingApiArguments.get(0));
+        Assertions.assertEquals("gatherDependencies", toolingApiArguments.get(1));
+        Assertions.assertTrue(toolingApiArguments.contains("--init-script=" + tempDir.resolve("init-detect.gradle").toFile()));
+        Assertions.assertTrue(toolingApiArguments.contains("-DGRADLEEXTRACTIONDIR=" + outputDirectory.getCanonicalPath()));
+        Assertions.assertTrue(toolingApiArguments.contains("--info"));
+    }
+
+    @Test
+    public void testToolingApiModePassesProxy(@TempDirectory.TempDir Path tempDir) throws ExecutableFailedException, DetectableException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        GradleToolingApiRunner gradleToolingApiRunner = Mockito.mock(GradleToolingApiRunner.class);
+        ProxyInfoBuilder proxyInfoBuilder = new ProxyInfoBuilder();
+        proxyInfoBuilder.setCredentials(new CredentialsBuilder().build());
+        proxyInfoBuilder.setHost("proxy.example.com");
+        proxyInfoBuilder.setPort(3128);
+
+        extract(executableRunner, gradleToolingApiRunner, tempDir, proxyInfoBuilder.build(), GradleExecutionMode.TOOLING_API);
+
+        List<String> toolingApiArguments = captureToolingApiArguments(gradleToolingApiRunner, tempDir);
+        Assertions.assertTrue(toolingApiArguments.contains("-Dhttps.proxyHost=proxy.example.com"));
+        Assertions.assertTrue(toolingApiArguments.contains("-Dhttps.proxyPort=3128"));
+        Mockito.verify(executableRunner, Mockito.never()).executeSuccessfully(Mockito.any(Executable.class));
+    }
+
+    @Test
+    public void testReportsParsedInParallelKeepFileOrder(@TempDirectory.TempDir Path tempDir) throws ExecutableFailedException {
+        File outputDirectory = tempDir.resolve("output").toFile();
+        List<File> reportFiles = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            reportFiles.add(new File(outputDirectory, "project" + i + "_dependencyGraph.txt"));
+        }
+        File malformedReportFile = reportFiles.get(3);
+        FileFinder fileFinder = Mockito.mock(FileFinder.class);
+        Mockito.when(fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt")).thenReturn(reportFiles);
+        Mockito.when(fileFinder.findFiles(outputDirectory, "*_dependencyGraph.edges")).thenReturn(Collections.emptyList());
+
+        // Earlier reports take longer to parse, so they finish last on the pool.
+        Set<Thread> parserThreads = ConcurrentHashMap.newKeySet();
+        GradleReportParser gradleReportParser = Mockito.mock(GradleReportParser.class);
+        Mockito.when(gradleReportParser.parseReport(Mockito.any(File.class))).thenAnswer(invocation -> {
+            File reportFile = invocation.getArgument(0);
+            parserThreads.add(Thread.currentThread());
+            Thread.sleep((reportFiles.size() - reportFiles.indexOf(reportFile)) * 50L);
+            if (reportFile.equals(malformedReportFile)) {
+                return Optional.empty();
+            }
+            GradleReport gradleReport = new GradleReport();
+            gradleReport.setProjectName(reportFile.getName());
+            return Optional.of(gradleReport);
+        });
+        GradleReportTransformer gradleReportTransformer = Mockito.mock(GradleReportTransformer.class);
+        Mockito.when(gradleReportTransformer.transform(Mockito.any(GradleReport.class)))
+            .thenAnswer(invocation -> new CodeLocation(new MutableMapDependencyGraph(), new File(invocation.<GradleReport>getArgument(0).getProjectName())));
+
+        GradleInspectorExtractor gradleInspectorExtractor = new GradleInspectorExtractor(fileFinder, new GradleRunner(Mockito.mock(DetectableExecutableRunner.class)),
+            Mockito.mock(GradleToolingApiRunner.class), gradleReportParser, gradleReportTransformer, null, null);
+        Extraction extraction = gradleInspectorExtractor.extract(tempDir.toFile(), GRADLE, null, ProxyInfo.NO_PROXY_INFO, tempDir.resolve("init-detect.gradle").toFile(),
+            outputDirectory, 4, GradleExecutionMode.CLI);
+
+        Assertions.assertTrue(extraction.isSuccess());
+        List<String> expectedOrder = reportFiles.stream()
+                                         .filter(reportFile -> !reportFile.equals(malformedReportFile))
+                                         .map(File::getName)
+                                         .collect(Collectors.toList());
+        List<String> actualOrder = extraction.getCodeLocations().stream()
+                                       .map(codeLocation -> codeLocation.getSourcePath().get().getName())
+                                       .collect(Collectors.toList());
+        Assertions.assertEquals(expectedOrder, actualOrder);
+        Assertions.assertTrue(parserThreads.size() > 1);
+        Assertions.assertTrue(parserThreads.stream().map(Thread::getName).allMatch("gradle-report-parser"::equals));
+    }
+
+    private Extraction extract(DetectableExecutableRunner executableRunner, GradleToolingApiRunner gradleToolingApiRunner, Path tempDir, ProxyInfo proxyInfo, GradleExecutionMode executionMode)
+        throws ExecutableFailedException {
+        GradleInspectorExtractor gradleInspectorExtractor = new GradleInspectorExtractor(Mockito.mock(FileFinder.class), new GradleRunner(executableRunner), gradleToolingApiRunner, null, null, null, null);
+        return gradleInspectorExtractor.extract(tempDir.toFile(), GRADLE, "--refresh-dependencies dependencies", proxyInfo, tempDir.resolve("init-detect.gradle").toFile(),
+            tempDir.resolve("output").toFile(), 1, executionMode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> captureToolingApiArguments(GradleToolingApiRunner gradleToolingApiRunner, Path tempDir) throws DetectableException {
+        ArgumentCaptor<List<String>> arguments = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(gradleToolingApiRunner).runGradleBuild(Mockito.eq(tempDir.toFile()), Mockito.eq(GRADLE), arguments.capture());
+        return arguments.getValue();
+    }
+}
@@ -26,12 +26,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
 
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportConfigurationParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportLineParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 
+@ExtendWith(TempDirectory.class)
 public class GradleReportParserTest {
     //private final TestUtil testUtil = new TestUtil();
 
@@ -93,4 +109,108 @@ compile
         assertEquals(0, gradleReportLineParser.parseLine(("\\--- org.apache.commons:commons-compress:1.13")).getLevel());
     }
 
+    @Test
+    public void parseMultipleConfigurations(@TempDirectory.TempDir Path tempDir) throws IOException {
+        GradleReport gradleReport = parseReport(tempDir,
+            "------------------------------------------------------------",
+            "Project :app - The application",
+            "------------------------------------------------------------",
+            "",
+            "archives - Configuration for archive artifacts.",
+            "No dependencies",
+            "",
+            "compileClasspath - Compile classpath for source set 'main'.",
+            "+--- org.slf4j:slf4j-api:1.7.30",
+            "\\--- com.google.guava:guava:30.1-jre",
+            "     \\--- com.google.guava:failureaccess:1.0.1",
+            "",
+            "runtimeClasspath",
+            "\\--- org.slf4j:slf4j-api:1.7.30",
+            "",
+            "DETECT META DATA START",
+            "projectPath:/source/app",
+            "projectGroup:com.example",
+            "projectName:app",
+            "projectVersion:1.0.0",
+            "DETECT META DATA END"
+        ).get();
+
+        assertEquals("app", gradleReport.getProjectName());
+        assertEquals("1.0.0", gradleReport.getProjectVersionName());
+        assertEquals("com.example", gradleReport.getProjectGroup());
+        assertEquals("/source/app", gradleReport.getProjectSourcePath());
+
+        List<GradleConfiguration> configurations = gradleReport.getConfigurations();
+        assertEquals(3, configurations.size());
+        assertEquals("archives", configurations.get(0).getName());
+        assertEquals("compileClasspath", configurations.get(1).getName());
+        assertEquals("runtimeClasspath", configurations.get(2).getName());
+
+        List<GradleTreeNode> compileDependencies = configurations.get(1).getChildren();
+        assertEquals(3, compileDependencies.size());
+        assertEquals("1.7.30", compileDependencies.get(0).getGav().get().getVersion());
+        assertEquals("30.1-jre", compileDependencies.get(1).getGav().get().getVersion());
+        assertEquals("1.0.1", compileDependencies.get(2).getGav().get().getVersion());
+        assertEquals(0, compileDependencies.get(1).getLevel());
+        assertEquals(1, compileDependencies.get(2).getLevel());
+        assertEquals(1, configurations.get(2).getChildren().size());
+    }
+
+    @Test
+    public void parseSkipsMalformedBlocks(@TempDirectory.TempDir Path tempDir) throws IOException {
+        GradleReport gradleReport = parseReport(tempDir,
+            "Some unexpected output!",
+            "+--- should.not:appear:1.0",
+            "",
+            "compile",
+            "+--- good:dependency:1.0",
+            "this line is not a dependency",
+            "\\--- other:dependency:2.0",
+            "",
+            "A web-based, searchable dependency report is available by adding the --scan option."
+        ).get();
+
+        assertEquals(1, gradleReport.getConfigurations().size());
+        List<GradleTreeNode> dependencies = gradleReport.getConfigurations().get(0).getChildren();
+        assertEquals(3, dependencies.size());
+        assertEquals(GradleTreeNode.NodeType.GAV, dependencies.get(0).getNodeType());
+        assertEquals(GradleTreeNode.NodeType.UNKNOWN, dependencies.get(1).getNodeType());
+        assertEquals(GradleTreeNode.NodeType.GAV, dependencies.get(2).getNodeType());
+    }
+
+    @Test
+    public void parseMissingReport(@TempDirectory.TempDir Path tempDir) {
+        Optional<GradleReport> gradleReport = new GradleReportParser().parseReport(tempDir.resolve("missing_dependencyGraph.txt").toFile());
+        assertFalse(gradleReport.isPresent());
+    }
+
+    @Test
+    public void addDependencyLineMatchesBlockParse() {
+        GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
+        List<String> dependencyLines = Arrays.asList("+--- org.slf4j:slf4j-api:1.7.30", "|    \\--- org.slf4j:slf4j-simple:1.7.30", "\\--- project :child");
+
+        GradleConfiguration streamed = gradleReportConfigurationParser.createConfiguration("testRuntime - Runtime dependencies for source set 'test'.");
+        dependencyLines.forEach(dependencyLine -> gradleReportConfigurationParser.addDependencyLine(streamed, dependencyLine));
+        GradleConfiguration parsed = gradleReportConfigurationParser.parse("testRuntime - Runtime dependencies for source set 'test'.", dependencyLines);
+
+        assertEquals("testRuntime", streamed.getName());
+        assertEquals(parsed.getName(), streamed.getName());
+        assertEquals(3, streamed.getChildren().size());
+        for (int i = 0; i < dependencyLines.size(); i++) {
+            GradleTreeNode expected = parsed.getChildren().get(i);
+            GradleTreeNode actual = streamed.getChildren().get(i);
+            assertEquals(expected.getNodeType(), actual.getNodeType());
+            assertEquals(expected.getLevel(), actual.getLevel());
+            assertEquals(expected.getGav().map(GradleGav::getVersion), actual.getGav().map(GradleGav::getVersion));
+        }
+        assertEquals(GradleTreeNode.NodeType.PROJECT, streamed.getChildren().get(2).getNodeType());
+    }
+
+    private Optional<GradleReport> parseReport(Path tempDir, String... lines) throws IOException {
+        File reportFile = tempDir.resolve("app_dependencyGraph.txt").toFile();
+        Files.write(reportFile.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        Optional<GradleReport> gradleReport = new GradleReportParser().parseReport(reportFile);
+        assertTrue(gradleReport.isPresent());
+        return gradleReport;
+    }
 }
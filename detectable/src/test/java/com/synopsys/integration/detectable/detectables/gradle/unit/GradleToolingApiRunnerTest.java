@@ -0,0 +1,57 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleToolingApiRunner;
+
+@UnitTest
+@ExtendWith(TempDirectory.class)
+public class GradleToolingApiRunnerTest {
+    @Test
+    public void testInstallationOfGradleExecutableIsUsed(@TempDirectory.TempDir Path tempDir) throws IOException {
+        Path installation = tempDir.resolve("gradle-6.9");
+        Files.createDirectories(installation.resolve("lib"));
+        File gradle = createFile(installation.resolve("bin").resolve("gradle"));
+
+        Optional<File> foundInstallation = new GradleToolingApiRunner().findGradleInstallation(ExecutableTarget.forFile(gradle));
+
+        Assertions.assertTrue(foundInstallation.isPresent());
+        Assertions.assertEquals(installation.toFile().getCanonicalFile(), foundInstallation.get().getCanonicalFile());
+    }
+
+    @Test
+    public void testWrapperUsesItsOwnDistribution(@TempDirectory.TempDir Path tempDir) throws IOException {
+        Files.createDirectories(tempDir.resolve("lib"));
+        File gradlew = createFile(tempDir.resolve("bin").resolve("gradlew"));
+
+        Assertions.assertFalse(new GradleToolingApiRunner().findGradleInstallation(ExecutableTarget.forFile(gradlew)).isPresent());
+    }
+
+    @Test
+    public void testExecutableOutsideAnInstallationIsIgnored(@TempDirectory.TempDir Path tempDir) throws IOException {
+        File gradle = createFile(tempDir.resolve("bin").resolve("gradle"));
+
+        Assertions.assertFalse(new GradleToolingApiRunner().findGradleInstallation(ExecutableTarget.forFile(gradle)).isPresent());
+    }
+
+    @Test
+    public void testCommandOnPathIsIgnored() {
+        Assertions.assertFalse(new GradleToolingApiRunner().findGradleInstallation(ExecutableTarget.forCommand("gradle")).isPresent());
+    }
+
+    private File createFile(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        return Files.createFile(path).toFile();
+    }
+}
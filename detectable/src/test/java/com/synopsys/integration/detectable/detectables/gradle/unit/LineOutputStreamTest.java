@@ -0,0 +1,42 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.LineOutputStream;
+
+@UnitTest
+public class LineOutputStreamTest {
+    @Test
+    public void testLinesAreHandedOverAsTheyComplete() throws IOException {
+        List<String> lines = new ArrayList<>();
+        LineOutputStream lineOutputStream = new LineOutputStream(lines::add);
+
+        lineOutputStream.write("> Task :dependencies\r\nBUILD".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(Collections.singletonList("> Task :dependencies"), lines);
+
+        lineOutputStream.write(" SUCCESSFUL\n".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(Arrays.asList("> Task :dependencies", "BUILD SUCCESSFUL"), lines);
+    }
+
+    @Test
+    public void testUnfinishedLineIsHandedOverOnClose() throws IOException {
+        List<String> lines = new ArrayList<>();
+        LineOutputStream lineOutputStream = new LineOutputStream(lines::add);
+
+        lineOutputStream.write("FAILURE: Build failed with an exception.".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertTrue(lines.isEmpty());
+
+        lineOutputStream.close();
+        lineOutputStream.close();
+        Assertions.assertEquals(Collections.singletonList("FAILURE: Build failed with an exception."), lines);
+    }
+}
@@ -0,0 +1,119 @@
+package com.synopsys.integration.detectable.detectables.maven.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.parse.CommandParser;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractor;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractorOptions;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenDotGraphParser;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenTreeOutputType;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+@UnitTest
+public class MavenCliExtractorTest {
+    private static final List<String> MAVEN_TREE_OUTPUT = Arrays.asList(
+        "[INFO] --- maven-dependency-plugin:2.8:tree (default-cli) @ app ---",
+        "[INFO] com.example:app:jar:1.0.0",
+        "[INFO] \\- org.apache.commons:commons-lang3:jar:3.9:compile",
+        "[INFO] ------------------------------------------------------------------------"
+    );
+
+    @Test
+    public void testFailedDotGoalFailsWithoutRebuilding(@TempDir Path tempDir) throws ExecutableFailedException, ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = mockTreeOutput();
+        Mockito.when(executableRunner.executeSuccessfully(Mockito.any(Executable.class)))
+            .thenAnswer(invocation -> {
+                throw new ExecutableFailedException(invocation.getArgument(0), new ExecutableOutput(1, "", "Unknown outputFile expression"));
+            });
+
+        assertThrows(ExecutableFailedException.class, () -> extract(executableRunner, tempDir));
+
+        assertTreeOutputNotUsed(executableRunner);
+    }
+
+    @Test
+    public void testUnreadableGraphFilesFailExtraction(@TempDir Path tempDir) throws ExecutableFailedException, ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = mockTreeOutput();
+        Mockito.when(executableRunner.executeSuccessfully(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            Executable executable = invocation.getArgument(0);
+            String outputFileArgument = executable.getCommandWithArguments().stream()
+                                            .filter(argument -> argument.startsWith("-DoutputFile="))
+                                            .findFirst()
+                                            .get();
+            File graphFile = new File(outputFileArgument.substring("-DoutputFile=".length()).replace("${project.groupId}-${project.artifactId}", "com.example-app"));
+            Files.createDirectories(graphFile.getParentFile().toPath());
+            Files.write(graphFile.toPath(), Collections.singletonList("not a dependency graph"), StandardCharsets.UTF_8);
+            return new ExecutableOutput(0, "", "");
+        });
+
+        Extraction extraction = extract(executableRunner, tempDir);
+
+        assertFalse(extraction.isSuccess());
+        assertTreeOutputNotUsed(executableRunner);
+    }
+
+    @Test
+    public void testTextOutputParsesTreeOutput(@TempDir Path tempDir) throws ExecutableFailedException, ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = mockTreeOutput();
+
+        Extraction extraction = extract(executableRunner, tempDir, MavenTreeOutputType.TEXT);
+
+        Mockito.verify(executableRunner).executeStreaming(Mockito.any(Executable.class), Mockito.any());
+        assertTrue(extraction.isSuccess());
+        assertEquals(1, extraction.getCodeLocations().size());
+        assertEquals("app", extraction.getProjectName());
+    }
+
+    private DetectableExecutableRunner mockTreeOutput() throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.executeStreaming(Mockito.any(Executable.class), Mockito.any())).thenAnswer(invocation -> {
+            Consumer<String> standardOutputConsumer = invocation.getArgument(1);
+            MAVEN_TREE_OUTPUT.forEach(standardOutputConsumer);
+            return new ExecutableOutput(0, "", "");
+        });
+        return executableRunner;
+    }
+
+    private Extraction extract(DetectableExecutableRunner executableRunner, Path tempDir) throws ExecutableFailedException {
+        return extract(executableRunner, tempDir, MavenTreeOutputType.DOT);
+    }
+
+    private Extraction extract(DetectableExecutableRunner executableRunner, Path tempDir, MavenTreeOutputType mavenTreeOutputType) throws ExecutableFailedException {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(externalIdFactory);
+        MavenCliExtractor mavenCliExtractor = new MavenCliExtractor(executableRunner, mavenCodeLocationPackager, new MavenDotGraphParser(externalIdFactory, mavenCodeLocationPackager),
+            new CommandParser());
+        MavenCliExtractorOptions options = new MavenCliExtractorOptions(null, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+            mavenTreeOutputType, 2);
+        return mavenCliExtractor.extract(tempDir.toFile(), ExecutableTarget.forCommand("mvn"), options, tempDir.resolve("output").toFile());
+    }
+
+    private void assertTreeOutputNotUsed(DetectableExecutableRunner executableRunner) throws ExecutableRunnerException {
+        Mockito.verify(executableRunner, Mockito.never()).executeStreaming(Mockito.any(Executable.class), Mockito.any());
+    }
+}
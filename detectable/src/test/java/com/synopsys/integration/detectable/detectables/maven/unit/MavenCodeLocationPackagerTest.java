@@ -250,18 +250,28 @@ public class MavenCodeLocationPackagerTest {
 
         String line = "[INFO] |  |  |  \\- org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:jar:3.8.0.v20160509-0411:compile (version selected from constraint [3.8.0,3.8.1))";
         line = mavenCodeLocationPackager.trimLogLevel(line);
-        final String cleanedLine = mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine(line);
+        final String cleanedLine = mavenCodeLocationPackager.cleanLine(line);
         final Dependency dependency = mavenCodeLocationPackager.textToDependency(cleanedLine);
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:3.8.0.v20160509-0411", dependency.getExternalId().createExternalId());
     }
 
+    @Test
+    public void testLevelOfIndentedLine() {
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
+
+        final String line = mavenCodeLocationPackager.trimLogLevel("[INFO] |  |  |  \\- org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:jar:3.8.0.v20160509-0411:compile");
+        final String cleanedLine = mavenCodeLocationPackager.cleanLine(line);
+        assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:jar:3.8.0.v20160509-0411:compile", cleanedLine);
+        assertEquals(4, mavenCodeLocationPackager.calculateLevel(line, cleanedLine));
+    }
+
     @Test
     public void testLineWithUnknownScope() {
         final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
 
         String line = "[INFO] |  |  |  \\- org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:jar:3.8.0.v20160509-0411:pants (version selected from constraint [3.8.0,3.8.1))";
         line = mavenCodeLocationPackager.trimLogLevel(line);
-        final String cleanedLine = mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine(line);
+        final String cleanedLine = mavenCodeLocationPackager.cleanLine(line);
         final ScopedDependency scopedDependency = mavenCodeLocationPackager.textToDependency(cleanedLine);
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:3.8.0.v20160509-0411", scopedDependency.getExternalId().createExternalId());
     }
@@ -272,7 +282,7 @@ public class MavenCodeLocationPackagerTest {
 
         String line = "[INFO] |  |  |  \\- org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:jar:3.8.0.v20160509-0411:pants (version selected from: [3.8.0,3.8.1))";
         line = mavenCodeLocationPackager.trimLogLevel(line);
-        final String cleanedLine = mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine(line);
+        final String cleanedLine = mavenCodeLocationPackager.cleanLine(line);
         final Dependency dependency = mavenCodeLocationPackager.textToDependency(cleanedLine);
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:pants (version selected from", dependency.getExternalId().createExternalId());
     }
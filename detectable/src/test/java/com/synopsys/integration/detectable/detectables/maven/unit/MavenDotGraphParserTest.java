@@ -0,0 +1,98 @@
+package com.synopsys.integration.detectable.detectables.maven.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenDotGraphParser;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
+
+@UnitTest
+public class MavenDotGraphParserTest {
+    private static final String[] DOT_GRAPH = new String[] {
+        "digraph \"com.example:app:jar:1.0.0\" { ",
+        "\t\"com.example:app:jar:1.0.0\" -> \"org.apache.commons:commons-lang3:jar:3.9:compile\" ; ",
+        "\t\"com.example:app:jar:1.0.0\" -> \"junit:junit:jar:4.12:test\" ; ",
+        "\t\"junit:junit:jar:4.12:test\" -> \"org.hamcrest:hamcrest-core:jar:1.3:compile\" ; ",
+        "\t\"org.apache.commons:commons-lang3:jar:3.9:compile\" -> \"org.slf4j:slf4j-api:jar:1.7.30:compile\" ; ",
+        " } "
+    };
+
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final MavenDotGraphParser mavenDotGraphParser = new MavenDotGraphParser(externalIdFactory, new MavenCodeLocationPackager(externalIdFactory));
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testParseWithScopeFilter(@TempDirectory.TempDir Path tempDirectory) throws IOException {
+        File dotFile = writeDotFile(tempDirectory);
+        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(Collections.singletonList("test"), Collections.emptyList());
+
+        Optional<MavenParseResult> result = mavenDotGraphParser.parse("/source", dotFile, scopeFilter, ExcludedIncludedWildcardFilter.EMPTY);
+
+        assertTrue(result.isPresent());
+        assertEquals("app", result.get().getProjectName());
+        assertEquals("1.0.0", result.get().getProjectVersion());
+
+        GraphAssert graphAssert = new GraphAssert(Forge.MAVEN, result.get().getCodeLocation().getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(externalIdFactory.createMavenExternalId("org.apache.commons", "commons-lang3", "3.9"));
+        graphAssert.hasParentChildRelationship(externalIdFactory.createMavenExternalId("org.apache.commons", "commons-lang3", "3.9"),
+            externalIdFactory.createMavenExternalId("org.slf4j", "slf4j-api", "1.7.30"));
+        graphAssert.hasNoDependency(externalIdFactory.createMavenExternalId("junit", "junit", "4.12"));
+        // hamcrest is in scope but only reachable through junit, so it is collected as an orphan
+        graphAssert.hasParentChildRelationship(
+            externalIdFactory.createMavenExternalId(MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_GROUP, MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_NAME,
+                MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_VERSION),
+            externalIdFactory.createMavenExternalId("org.hamcrest", "hamcrest-core", "1.3"));
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testParseWithoutFilters(@TempDirectory.TempDir Path tempDirectory) throws IOException {
+        File dotFile = writeDotFile(tempDirectory);
+
+        Optional<MavenParseResult> result = mavenDotGraphParser.parse("/source", dotFile, ExcludedIncludedWildcardFilter.EMPTY, ExcludedIncludedWildcardFilter.EMPTY);
+
+        assertTrue(result.isPresent());
+        GraphAssert graphAssert = new GraphAssert(Forge.MAVEN, result.get().getCodeLocation().getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasParentChildRelationship(externalIdFactory.createMavenExternalId("junit", "junit", "4.12"),
+            externalIdFactory.createMavenExternalId("org.hamcrest", "hamcrest-core", "1.3"));
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void testExcludedModule(@TempDirectory.TempDir Path tempDirectory) throws IOException {
+        File dotFile = writeDotFile(tempDirectory);
+        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(Collections.singletonList("app"), Collections.emptyList());
+
+        Optional<MavenParseResult> result = mavenDotGraphParser.parse("/source", dotFile, ExcludedIncludedWildcardFilter.EMPTY, modulesFilter);
+
+        assertFalse(result.isPresent());
+    }
+
+    private File writeDotFile(Path tempDirectory) throws IOException {
+        File dotFile = tempDirectory.resolve("com.example-app.dot").toFile();
+        Files.write(dotFile.toPath(), Arrays.asList(DOT_GRAPH), StandardCharsets.UTF_8);
+        return dotFile;
+    }
+}
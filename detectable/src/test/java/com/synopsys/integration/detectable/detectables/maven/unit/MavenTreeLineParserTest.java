@@ -0,0 +1,86 @@
+package com.synopsys.integration.detectable.detectables.maven.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenTreeLineParser;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@UnitTest
+public class MavenTreeLineParserTest {
+    private static final List<String> MAVEN_OUTPUT = Arrays.asList(
+        "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ first ---",
+        "[INFO] com.example:first:jar:1.0.0",
+        "[INFO] +- com.example:lib-a:jar:1.0:compile",
+        "[INFO] |  \\- com.example:lib-b:jar:2.0:compile",
+        "[INFO] \\- junit:junit:jar:4.12:test",
+        "[INFO]    \\- org.hamcrest:hamcrest-core:jar:1.3:compile",
+        "[INFO] ------------------------------------------------------------------------",
+        "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ second ---",
+        "[INFO] com.example:second:jar:1.0.0",
+        "[INFO] \\- com.example:lib-c:jar:3.0:runtime",
+        "[INFO] ------------------------------------------------------------------------"
+    );
+
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void testLinesParsedOneAtATime() {
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(externalIdFactory);
+        MavenTreeLineParser parser = packager.createTreeLineParser("/source", Collections.singletonList("test"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        for (String line : MAVEN_OUTPUT) {
+            parser.accept(line);
+        }
+        List<MavenParseResult> results = parser.finish();
+
+        assertEquals(2, results.size());
+        assertEquals("first", results.get(0).getProjectName());
+        assertEquals("second", results.get(1).getProjectName());
+
+        GraphAssert firstGraph = new GraphAssert(Forge.MAVEN, results.get(0).getCodeLocation().getDependencyGraph());
+        firstGraph.hasRootSize(1);
+        firstGraph.hasParentChildRelationship(externalIdFactory.createMavenExternalId("com.example", "lib-a", "1.0"), externalIdFactory.createMavenExternalId("com.example", "lib-b", "2.0"));
+        firstGraph.hasNoDependency(externalIdFactory.createMavenExternalId("junit", "junit", "4.12"));
+
+        // orphans are collected across the whole output and added to the last graph
+        ExternalId orphanParent = externalIdFactory.createMavenExternalId(MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_GROUP, MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_NAME,
+            MavenCodeLocationPackager.ORPHAN_LIST_PARENT_NODE_VERSION);
+        GraphAssert secondGraph = new GraphAssert(Forge.MAVEN, results.get(1).getCodeLocation().getDependencyGraph());
+        secondGraph.hasRootSize(2);
+        secondGraph.hasRootDependency(externalIdFactory.createMavenExternalId("com.example", "lib-c", "3.0"));
+        secondGraph.hasParentChildRelationship(orphanParent, externalIdFactory.createMavenExternalId("org.hamcrest", "hamcrest-core", "1.3"));
+    }
+
+    @Test
+    public void testSamePackagerParsesIndependently() {
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(externalIdFactory);
+        List<MavenParseResult> firstResults = packager.extractCodeLocations("/source", MAVEN_OUTPUT, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        List<MavenParseResult> secondResults = packager.extractCodeLocations("/source", MAVEN_OUTPUT, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        assertEquals(2, firstResults.size());
+        assertEquals(2, secondResults.size());
+        new GraphAssert(Forge.MAVEN, secondResults.get(1).getCodeLocation().getDependencyGraph()).hasRootSize(1);
+    }
+
+    @Test
+    public void testLinesAfterFinishAreRejected() {
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(externalIdFactory);
+        MavenTreeLineParser parser = packager.createTreeLineParser("/source", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        parser.finish();
+
+        assertThrows(IllegalStateException.class, () -> parser.accept("[INFO] com.example:first:jar:1.0.0"));
+    }
+}
@@ -22,6 +22,12 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.functional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +37,7 @@ import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.FunctionalTest;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockContents;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
 import com.synopsys.integration.detectable.util.FunctionalTestFiles;
 import com.synopsys.integration.detectable.util.graph.GraphAssert;
@@ -73,4 +80,35 @@ public class NpmDevExclusionTest {
         graphAssert.hasDependency(parentDev);
         graphAssert.hasRootSize(1);
     }
+
+    @Test
+    public void testStreamedLockfileMatchesParsedLockfile() throws IOException {
+        NpmParseResult parsed = npmLockfileParser.parse(packageJsonText, packageLockText, true, false);
+        NpmParseResult streamed = npmLockfileParser.parse(packageJsonText, new StringReader(packageLockText), true, false);
+        assertEquals(parsed.getProjectName(), streamed.getProjectName());
+        assertEquals(parsed.getProjectVersion(), streamed.getProjectVersion());
+
+        GraphAssert graphAssert = new GraphAssert(Forge.NPMJS, streamed.getCodeLocation().getDependencyGraph());
+        graphAssert.hasDependency(childDev);
+        graphAssert.hasDependency(parentDev);
+        graphAssert.hasParentChildRelationship(parentDev, childDev);
+        graphAssert.hasRootSize(1);
+    }
+
+    @Test
+    public void testSharedLockfileContentsAreProjectedPerParse() throws IOException {
+        PackageLockContents packageLockContents = npmLockfileParser.readLockFile(new StringReader(packageLockText));
+
+        NpmParseResult withDev = npmLockfileParser.parse(packageJsonText, packageLockContents, true, false, new ArrayList<>());
+        NpmParseResult withoutDev = npmLockfileParser.parse(packageJsonText, packageLockContents, false, false, new ArrayList<>());
+
+        GraphAssert withDevAssert = new GraphAssert(Forge.NPMJS, withDev.getCodeLocation().getDependencyGraph());
+        withDevAssert.hasParentChildRelationship(parentDev, childDev);
+        withDevAssert.hasRootSize(1);
+
+        GraphAssert withoutDevAssert = new GraphAssert(Forge.NPMJS, withoutDev.getCodeLocation().getDependencyGraph());
+        withoutDevAssert.hasNoDependency(childDev);
+        withoutDevAssert.hasNoDependency(parentDev);
+        withoutDevAssert.hasRootSize(0);
+    }
 }
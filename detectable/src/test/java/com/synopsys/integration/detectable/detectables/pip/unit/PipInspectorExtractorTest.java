@@ -0,0 +1,101 @@
+package com.synopsys.integration.detectable.detectables.pip.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectables.pip.PipInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipInspectorTreeParser;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+@UnitTest
+public class PipInspectorExtractorTest {
+    @Test
+    public void testInspectorOutputIsReusedFromCache(@TempDir Path tempDir) throws IOException, ExecutableRunnerException {
+        File inspector = Files.write(tempDir.resolve("pip-inspector.py"), Arrays.asList("print('inspector')")).toFile();
+        Path firstRequirements = Files.write(tempDir.resolve("requirements.txt"), Arrays.asList("dep1==1.0"));
+        Path secondRequirements = Files.write(tempDir.resolve("requirements-dev.txt"), Arrays.asList("dep2==2.0"));
+        List<Path> requirementsPaths = Arrays.asList(firstRequirements, secondRequirements);
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+
+        DetectableExecutableRunner firstRunner = mockPython();
+        Extraction firstExtraction = extract(firstRunner, inspector, requirementsPaths, cacheDirectory, 2);
+        Mockito.verify(firstRunner, Mockito.times(2)).executeAsync(Mockito.any(Executable.class));
+
+        DetectableExecutableRunner secondRunner = mockPython();
+        Extraction secondExtraction = extract(secondRunner, inspector, requirementsPaths, cacheDirectory, 2);
+        Mockito.verify(secondRunner, Mockito.never()).executeAsync(Mockito.any(Executable.class));
+
+        Assertions.assertEquals(2, firstExtraction.getCodeLocations().size());
+        Assertions.assertEquals(2, secondExtraction.getCodeLocations().size());
+        Assertions.assertEquals("1.0", secondExtraction.getProjectVersion());
+    }
+
+    @Test
+    public void testSingleInspectorPermitRunsInspectorsOneAtATime(@TempDir Path tempDir) throws IOException, ExecutableRunnerException {
+        File inspector = Files.write(tempDir.resolve("pip-inspector.py"), Arrays.asList("print('inspector')")).toFile();
+        Path firstRequirements = Files.write(tempDir.resolve("requirements.txt"), Arrays.asList("dep1==1.0"));
+        Path secondRequirements = Files.write(tempDir.resolve("requirements-dev.txt"), Arrays.asList("dep2==2.0"));
+        Path thirdRequirements = Files.write(tempDir.resolve("requirements-test.txt"), Arrays.asList("dep2==2.0"));
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.executeAsync(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(50);
+                running.decrementAndGet();
+                return new ExecutableOutput(0, String.join(System.lineSeparator(), "project==1.0", "    dep1==1.0"), "");
+            });
+        });
+
+        Extraction extraction = extract(executableRunner, inspector, Arrays.asList(firstRequirements, secondRequirements, thirdRequirements), null, 1);
+
+        Assertions.assertEquals(3, extraction.getCodeLocations().size());
+        Assertions.assertEquals(1, maximumRunning.get());
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Extraction extract(DetectableExecutableRunner executableRunner, File inspector, List<Path> requirementsPaths, File cacheDirectory, int inspectorParallelism) {
+        PipInspectorExtractor pipInspectorExtractor = new PipInspectorExtractor(executableRunner, new PipInspectorTreeParser(new ExternalIdFactory()));
+        return pipInspectorExtractor.extract(inspector.getParentFile(), ExecutableTarget.forCommand("python"), ExecutableTarget.forCommand("pip"), inspector, null, requirementsPaths, "project",
+            cacheDirectory, 10, inspectorParallelism);
+    }
+
+    private DetectableExecutableRunner mockPython() throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenReturn(new ExecutableOutput(0, "Python 3.8.10", ""));
+        Mockito.when(executableRunner.executeAsync(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            Executable executable = invocation.getArgument(0);
+            String dependency = executable.getCommandWithArguments().stream().anyMatch(argument -> argument.endsWith("requirements.txt")) ? "dep1==1.0" : "dep2==2.0";
+            String output = String.join(System.lineSeparator(), "project==1.0", "    " + dependency);
+            return CompletableFuture.completedFuture(new ExecutableOutput(0, output, ""));
+        });
+        return executableRunner;
+    }
+}
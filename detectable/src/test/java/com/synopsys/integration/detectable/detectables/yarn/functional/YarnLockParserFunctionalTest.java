@@ -4,14 +4,19 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAnalyzer;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
@@ -34,4 +39,30 @@ public class YarnLockParserFunctionalTest {
         Assertions.assertEquals("zwitch", yarnLock.getEntries().get(4237).getIds().get(0).getName());
         Assertions.assertEquals("^1.0.0", yarnLock.getEntries().get(4237).getIds().get(0).getVersion());
     }
+
+    @Test
+    void testV2Lockfile() throws IOException {
+        File lockfile = FunctionalTestFiles.asFile("/yarn/lockfilev2/yarn.lock");
+        YarnLockLineAnalyzer yarnLockLineAnalyzer = new YarnLockLineAnalyzer();
+        YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(yarnLockLineAnalyzer);
+        YarnLockEntrySectionParserSet yarnLockEntryElementParser = new YarnLockEntrySectionParserSet(yarnLockLineAnalyzer, yarnLockDependencySpecParser);
+        YarnLockEntryParser yarnLockEntryParser = new YarnLockEntryParser(yarnLockLineAnalyzer, yarnLockEntryElementParser);
+        YarnLockParser yarnLockParser = new YarnLockParser(yarnLockEntryParser);
+        YarnLock yarnLock = yarnLockParser.parseYarnLock(lockfile);
+
+        Assertions.assertFalse(yarnLock.isYarn1Project());
+        Assertions.assertEquals("4", yarnLock.getFileFormatVersion().orElse(null));
+        Assertions.assertEquals(4, yarnLock.getEntries().size());
+
+        YarnLockEntry babelCli = yarnLock.getEntries().get(0);
+        Assertions.assertEquals("@babel/cli", babelCli.getIds().get(0).getName());
+        Assertions.assertEquals("^7.10.1", babelCli.getIds().get(0).getVersion());
+        Assertions.assertEquals("7.10.1", babelCli.getVersion());
+        Map<String, YarnLockDependency> dependencies = babelCli.getDependencies().stream()
+                                                           .collect(Collectors.toMap(YarnLockDependency::getName, Function.identity()));
+        Assertions.assertEquals(2, dependencies.size());
+        Assertions.assertTrue(dependencies.get("chokidar").isOptional());
+        Assertions.assertFalse(dependencies.get("commander").isOptional());
+        Assertions.assertEquals("^4.0.1", dependencies.get("commander").getVersion());
+    }
 }
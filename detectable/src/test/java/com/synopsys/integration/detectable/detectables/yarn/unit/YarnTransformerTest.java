@@ -130,6 +130,31 @@ class YarnTransformerTest {
         assertTrue(dependencyGraph.hasDependency(fooExternalId), "Missing the only expected dependency.");
     }
 
+    @Test
+    void testOnlyReachableEntriesAreIncluded() throws MissingExternalIdException {
+        PackageJson rawPackageJson = new PackageJson();
+        rawPackageJson.dependencies = new HashMap<>();
+        rawPackageJson.dependencies.put("foo", "^1.0");
+        NullSafePackageJson packageJson = new NullSafePackageJson(rawPackageJson);
+
+        // foo is listed under two ids that share an entry, unused is never depended on
+        List<YarnLockEntry> yarnLockEntries = new LinkedList<>();
+        yarnLockEntries.add(new YarnLockEntry(false, Arrays.asList(new YarnLockEntryId("foo", "^1.0"), new YarnLockEntryId("foo", "~1.0.0")), "1.0.1",
+            Collections.singletonList(new YarnLockDependency("yarn", "^1.22.4", false))));
+        yarnLockEntries.add(new YarnLockEntry(false, Collections.singletonList(new YarnLockEntryId("yarn", "^1.22.4")), "1.22.5", new LinkedList<>()));
+        yarnLockEntries.add(new YarnLockEntry(false, Collections.singletonList(new YarnLockEntryId("unused", "^2.0")), "2.0.0", new LinkedList<>()));
+        YarnLockResult yarnLockResult = new YarnLockResult(packageJson, YarnWorkspaces.EMPTY, new YarnLock(null, true, yarnLockEntries));
+
+        List<CodeLocation> codeLocations = yarnTransformer.generateCodeLocations(yarnLockResult, false, new ArrayList<>(0), ExcludedIncludedWildcardFilter.EMPTY);
+
+        DependencyGraph dependencyGraph = codeLocations.get(0).getDependencyGraph();
+        ExternalId fooExternalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "foo", "1.0.1");
+        ExternalId yarnExternalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "yarn", "1.22.5");
+        assertTrue(dependencyGraph.getRootDependencyExternalIds().contains(fooExternalId));
+        assertTrue(dependencyGraph.hasDependency(yarnExternalId));
+        assertFalse(dependencyGraph.hasDependency(externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "unused", "2.0.0")));
+    }
+
     @Test
     void testAllWorkspacesYarnV1() throws MissingExternalIdException {
         doAllWorkspacesTest(true);
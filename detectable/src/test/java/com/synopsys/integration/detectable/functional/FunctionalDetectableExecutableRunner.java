@@ -28,6 +28,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -131,4 +133,21 @@ public class FunctionalDetectableExecutableRunner implements DetectableExecutabl
 
         return output;
     }
+
+    @Override
+    public @NotNull CompletableFuture<ExecutableOutput> executeAsync(final Executable executable) {
+        return CompletableFuture.completedFuture(execute(executable));
+    }
+
+    @Override
+    public @NotNull ExecutableOutput executeStreaming(final Executable executable, final Consumer<String> standardOutputConsumer) {
+        ExecutableOutput output = execute(executable);
+        output.getStandardOutputAsList().forEach(standardOutputConsumer);
+        return new ExecutableOutput(output.getReturnCode(), "", output.getErrorOutput());
+    }
+
+    @Override
+    public @NotNull CompletableFuture<ExecutableOutput> executeStreamingAsync(final Executable executable, final Consumer<String> standardOutputConsumer) {
+        return CompletableFuture.completedFuture(executeStreaming(executable, standardOutputConsumer));
+    }
 }
@@ -14,6 +14,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.common.util.finder.DirectoryIndex;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
@@ -24,13 +27,21 @@ public class DetectorEvaluationTree {
     private final DetectorRuleSet detectorRuleSet;
     private final List<DetectorEvaluation> orderedEvaluations;
     private final Set<DetectorEvaluationTree> children;
+    @Nullable
+    private DirectoryIndex directoryIndex;
 
     public DetectorEvaluationTree(final File directory, final int depthFromRoot, final DetectorRuleSet detectorRuleSet, final List<DetectorEvaluation> orderedEvaluations, final Set<DetectorEvaluationTree> children) {
+        this(directory, depthFromRoot, detectorRuleSet, orderedEvaluations, children, null);
+    }
+
+    public DetectorEvaluationTree(final File directory, final int depthFromRoot, final DetectorRuleSet detectorRuleSet, final List<DetectorEvaluation> orderedEvaluations, final Set<DetectorEvaluationTree> children,
+        @Nullable final DirectoryIndex directoryIndex) {
         this.directory = directory;
         this.depthFromRoot = depthFromRoot;
         this.orderedEvaluations = orderedEvaluations;
         this.children = children;
         this.detectorRuleSet = detectorRuleSet;
+        this.directoryIndex = directoryIndex;
     }
 
     public List<DetectorEvaluationTree> asFlatList() {
@@ -74,4 +85,11 @@ public class DetectorEvaluationTree {
     public DetectorRuleSet getDetectorRuleSet() {
         return detectorRuleSet;
     }
+
+    // The index is only needed once, so the tree hands it over rather than holding every directory listing for the rest of the run.
+    public Optional<DirectoryIndex> takeDirectoryIndex() {
+        Optional<DirectoryIndex> index = Optional.ofNullable(directoryIndex);
+        directoryIndex = null;
+        return index;
+    }
 }
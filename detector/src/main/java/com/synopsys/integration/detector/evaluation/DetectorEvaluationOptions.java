@@ -7,17 +7,29 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Predicate;
 
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.rule.DetectorRule;
 
 public class DetectorEvaluationOptions {
     private final boolean forceNested;
     private final Predicate<DetectorRule> detectorFilter;
+    private final int extractionParallelism;
+    private final Map<DetectorType, Integer> extractionConcurrencyLimits;
 
     public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter) {
+        this(forceNested, detectorFilter, 1, Collections.emptyMap());
+    }
+
+    // An extraction parallelism of 1 (or less) performs extractions serially. Concurrency limits cap how many extractions of a single detector type may run at once.
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionParallelism, final Map<DetectorType, Integer> extractionConcurrencyLimits) {
         this.forceNested = forceNested;
         this.detectorFilter = detectorFilter;
+        this.extractionParallelism = extractionParallelism;
+        this.extractionConcurrencyLimits = extractionConcurrencyLimits;
     }
 
     public boolean isForceNested() {
@@ -27,4 +39,12 @@ public class DetectorEvaluationOptions {
     public Predicate<DetectorRule> getDetectorFilter() {
         return detectorFilter;
     }
+
+    public int getExtractionParallelism() {
+        return extractionParallelism;
+    }
+
+    public Map<DetectorType, Integer> getExtractionConcurrencyLimits() {
+        return extractionConcurrencyLimits;
+    }
 }
@@ -48,6 +48,10 @@ public class DetectorEvaluator {
         extractionEvaluator.registerEvaluatorResultCallback(callBack);
     }
 
+    public void setExtractionCache(ExtractionCache extractionCache) {
+        extractionEvaluator.setExtractionCache(extractionCache);
+    }
+
     public Optional<DetectorEvaluatorListener> getDetectorEvaluatorListener() {
         return Optional.ofNullable(detectorEvaluatorListener);
     }
@@ -0,0 +1,19 @@
+/*
+ * detector
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detector.evaluation;
+
+import java.util.Optional;
+
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+
+public interface ExtractionCache {
+    Optional<Extraction> findExtraction(DetectorEvaluation detectorEvaluation);
+
+    void storeExtraction(DetectorEvaluation detectorEvaluation, Extraction extraction);
+}
@@ -7,16 +7,29 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ParallelUtil;
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.base.DetectorType;
 
 public class ExtractionEvaluator extends Evaluator {
+    private static final String EXTRACTION_THREAD_NAME = "detector-extraction";
+
     private Logger logger = LoggerFactory.getLogger(ExtractionEvaluator.class);
+    private final Object listenerLock = new Object();
+    private ExtractionCache extractionCache;
 
     public ExtractionEvaluator(DetectorEvaluationOptions evaluationOptions) {
         super(evaluationOptions);
@@ -25,36 +38,112 @@ public class ExtractionEvaluator extends Evaluator {
     @Override
     protected DetectorEvaluationTree performEvaluation(DetectorEvaluationTree rootEvaluation) {
         logger.debug("Starting detector extraction.");
-        extractionEvaluation(rootEvaluation);
+        int extractionParallelism = getEvaluationOptions().getExtractionParallelism();
+        if (extractionParallelism > 1) {
+            parallelExtractionEvaluation(rootEvaluation, extractionParallelism);
+        } else {
+            extractionEvaluation(rootEvaluation);
+        }
         return rootEvaluation;
     }
 
     public void extractionEvaluation(DetectorEvaluationTree detectorEvaluationTree) {
         logger.trace("Extracting detectors in the directory: {}", detectorEvaluationTree.getDirectory());
         for (DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
-            if (detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null) {
+            if (isReadyForExtraction(detectorEvaluation)) {
+                extract(detectorEvaluation);
+            }
+        }
+
+        for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            extractionEvaluation(childDetectorEvaluationTree);
+        }
+    }
 
-                logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
-                Detectable detectable = detectorEvaluation.getDetectable();
+    // Each extraction stores its result on its own evaluation, so the tree (and anything reported from it) looks the same regardless of the order extractions complete in.
+    // Every evaluation has its own detectable, but the detectable factories share some collaborators between them (such as the executable runner, the go version cache
+    // and the docker inspector result cache), so anything a factory shares must be safe to use from several lanes at once.
+    public void parallelExtractionEvaluation(DetectorEvaluationTree rootEvaluation, int extractionParallelism) {
+        List<DetectorEvaluation> extractableEvaluations = rootEvaluation.allDescendentEvaluations().stream()
+                                                              .filter(this::isReadyForExtraction)
+                                                              .collect(Collectors.toList());
+        List<List<DetectorEvaluation>> extractionLanes = createExtractionLanes(extractableEvaluations);
+        logger.debug("Performing {} extractions in {} lanes with a parallelism of {}.", extractableEvaluations.size(), extractionLanes.size(), extractionParallelism);
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+        // Extractions block on subprocesses and file I/O, so each running lane holds a thread of a fixed pool of named daemon threads.
+        ParallelUtil.mapInOrder(EXTRACTION_THREAD_NAME, extractionParallelism, extractionLanes, extractionLane -> {
+            extractionLane.forEach(this::extract);
+            return extractionLane;
+        });
+    }
 
-                try {
-                    Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
-                    detectorEvaluation.setExtraction(extraction);
-                } catch (Exception e) {
-                    detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
-                }
+    // Evaluations of a detector type with a concurrency limit are dealt round-robin into that many lanes which each run serially, every other evaluation gets its own lane.
+    private List<List<DetectorEvaluation>> createExtractionLanes(List<DetectorEvaluation> detectorEvaluations) {
+        Map<DetectorType, Integer> concurrencyLimits = getEvaluationOptions().getExtractionConcurrencyLimits();
+        Map<DetectorType, List<List<DetectorEvaluation>>> limitedLanes = new EnumMap<>(DetectorType.class);
+        List<List<DetectorEvaluation>> extractionLanes = new ArrayList<>();
+        for (DetectorEvaluation detectorEvaluation : detectorEvaluations) {
+            DetectorType detectorType = detectorEvaluation.getDetectorType();
+            Integer limit = concurrencyLimits.get(detectorType);
+            if (limit == null || limit <= 0) {
+                List<DetectorEvaluation> extractionLane = new ArrayList<>();
+                extractionLane.add(detectorEvaluation);
+                extractionLanes.add(extractionLane);
+                continue;
+            }
+
+            List<List<DetectorEvaluation>> typeLanes = limitedLanes.computeIfAbsent(detectorType, key -> new ArrayList<>());
+            int assignedCount = typeLanes.stream().mapToInt(List::size).sum();
+            if (typeLanes.size() < limit) {
+                List<DetectorEvaluation> extractionLane = new ArrayList<>();
+                typeLanes.add(extractionLane);
+                extractionLanes.add(extractionLane);
+            }
+            typeLanes.get(assignedCount % limit).add(detectorEvaluation);
+        }
+        return extractionLanes;
+    }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+    private boolean isReadyForExtraction(DetectorEvaluation detectorEvaluation) {
+        return detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null;
+    }
 
-                logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
+    private void extract(DetectorEvaluation detectorEvaluation) {
+        logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
+        Detectable detectable = detectorEvaluation.getDetectable();
 
+        synchronized (listenerLock) {
+            getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+        }
+
+        Optional<Extraction> cachedExtraction = getExtractionCache().flatMap(cache -> cache.findExtraction(detectorEvaluation));
+        if (cachedExtraction.isPresent()) {
+            logger.debug("Using cached extraction for: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
+            detectorEvaluation.setExtraction(cachedExtraction.get());
+        } else {
+            try {
+                Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
+                detectorEvaluation.setExtraction(extraction);
+                if (extraction.isSuccess()) {
+                    getExtractionCache().ifPresent(cache -> cache.storeExtraction(detectorEvaluation, extraction));
+                }
+            } catch (Exception e) {
+                detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
             }
         }
 
-        for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            extractionEvaluation(childDetectorEvaluationTree);
+        synchronized (listenerLock) {
+            getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
         }
+
+        logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
+    }
+
+    public Optional<ExtractionCache> getExtractionCache() {
+        return Optional.ofNullable(extractionCache);
+    }
+
+    public void setExtractionCache(ExtractionCache extractionCache) {
+        this.extractionCache = extractionCache;
     }
 }
@@ -8,18 +8,25 @@
 package com.synopsys.integration.detector.finder;
 
 import java.io.File;
-import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.DirectoryIndex;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
@@ -27,36 +34,95 @@ import com.synopsys.integration.detector.rule.DetectorRuleSet;
 public class DetectorFinder {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options, FileFinder fileFinder) {
-        return findDetectors(initialDirectory, detectorRuleSet, 0, options, fileFinder);
-    }
-
-    private Optional<DetectorEvaluationTree> findDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options, FileFinder fileFinder) {
-
-        if (depth > options.getMaximumDepth()) {
-            logger.trace("Skipping directory as it exceeds max depth: " + directory.toString());
+    public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) {
+        if (null == initialDirectory || !isTraversableDirectory(initialDirectory.toPath())) {
+            final String directoryString = Optional.ofNullable(initialDirectory).map(File::toString).orElse("null");
+            logger.trace("Skipping file as it is not a directory: " + directoryString);
             return Optional.empty();
         }
 
-        if (null == directory || Files.isSymbolicLink(directory.toPath()) || !directory.isDirectory()) {
-            final String directoryString = Optional.ofNullable(directory).map(File::toString).orElse("null");
-            logger.trace("Skipping file as it is not a directory: " + directoryString);
-            return Optional.empty();
+        final boolean parallel = options.getParallelism() > 1;
+        final DirectoryTraversalTask rootTask = new DirectoryTraversalTask(initialDirectory, detectorRuleSet, 0, options, parallel);
+        if (parallel) {
+            final ForkJoinPool traversalPool = new ForkJoinPool(options.getParallelism());
+            try {
+                return Optional.of(traversalPool.invoke(rootTask));
+            } finally {
+                traversalPool.shutdown();
+            }
+        } else {
+            return Optional.of(rootTask.compute());
         }
+    }
 
-        logger.debug("Traversing directory: " + directory.getPath()); //TODO: Finding the perfect log level here is important. At INFO, we log a lot during a deep traversal but if we don't we might look stuck.
-        final List<DetectorEvaluation> evaluations = detectorRuleSet.getOrderedDetectorRules().stream()
-                                                         .map(DetectorEvaluation::new)
-                                                         .collect(Collectors.toList());
+    private boolean isTraversableDirectory(final Path path) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            return attributes.isDirectory() && !attributes.isSymbolicLink();
+        } catch (final IOException e) {
+            return false;
+        }
+    }
 
-        final Set<DetectorEvaluationTree> children = new HashSet<>();
+    // Lists a directory with a single stream and a single attribute read per entry, then fans traversal of its sub directories out across the pool.
+    // A serial task never forks, even when it is computed by a thread of some other fork join pool.
+    private class DirectoryTraversalTask extends RecursiveTask<DetectorEvaluationTree> {
+        private final File directory;
+        private final DetectorRuleSet detectorRuleSet;
+        private final int depth;
+        private final DetectorFinderOptions options;
+        private final boolean parallel;
 
-        final List<File> subDirectories = fileFinder.findFiles(directory, options.getFileFilter());
-        for (final File subDirectory : subDirectories) {
-            final Optional<DetectorEvaluationTree> childEvaluationSet = findDetectors(subDirectory, detectorRuleSet, depth + 1, options, fileFinder);
-            childEvaluationSet.ifPresent(children::add);
+        public DirectoryTraversalTask(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options, final boolean parallel) {
+            this.directory = directory;
+            this.detectorRuleSet = detectorRuleSet;
+            this.depth = depth;
+            this.options = options;
+            this.parallel = parallel;
         }
 
-        return Optional.of(new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children));
+        @Override
+        protected DetectorEvaluationTree compute() {
+            logger.debug("Traversing directory: " + directory.getPath()); //TODO: Finding the perfect log level here is important. At INFO, we log a lot during a deep traversal but if we don't we might look stuck.
+            final List<DetectorEvaluation> evaluations = detectorRuleSet.getOrderedDetectorRules().stream()
+                                                             .map(DetectorEvaluation::new)
+                                                             .collect(Collectors.toList());
+
+            final List<File> entries = new ArrayList<>();
+            final List<File> subDirectories = new ArrayList<>();
+            try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory.toPath())) {
+                for (final Path entryPath : directoryStream) {
+                    final File entry = entryPath.toFile();
+                    entries.add(entry);
+                    if (isTraversableDirectory(entryPath) && options.getFileFilter().test(entry)) {
+                        subDirectories.add(entry);
+                    }
+                }
+            } catch (final IOException | SecurityException e) {
+                logger.debug("Unable to list the contents of directory: " + directory.getPath(), e);
+            }
+
+            // The listing is kept on the tree so applicable lookups don't list the directory again.
+            final DirectoryIndex directoryIndex = new DirectoryIndex(directory, entries);
+
+            final List<DirectoryTraversalTask> childTasks = new ArrayList<>();
+            if (depth + 1 > options.getMaximumDepth()) {
+                subDirectories.forEach(subDirectory -> logger.trace("Skipping directory as it exceeds max depth: " + subDirectory.toString()));
+            } else {
+                for (final File subDirectory : subDirectories) {
+                    childTasks.add(new DirectoryTraversalTask(subDirectory, detectorRuleSet, depth + 1, options, parallel));
+                }
+            }
+
+            final Set<DetectorEvaluationTree> children = new HashSet<>();
+            if (parallel) {
+                invokeAll(childTasks);
+                childTasks.forEach(childTask -> children.add(childTask.join()));
+            } else {
+                childTasks.forEach(childTask -> children.add(childTask.compute()));
+            }
+
+            return new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children, directoryIndex);
+        }
     }
 }
@@ -13,10 +13,16 @@ import java.util.function.Predicate;
 public class DetectorFinderOptions {
     private final Predicate<File> fileFilter;
     private final int maximumDepth;
+    private final int parallelism;
 
     public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth) {
+        this(fileFilter, maximumDepth, 1);
+    }
+
+    public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth, final int parallelism) {
         this.fileFilter = fileFilter;
         this.maximumDepth = maximumDepth;
+        this.parallelism = parallelism;
     }
 
     public Predicate<File> getFileFilter() {
@@ -26,4 +32,8 @@ public class DetectorFinderOptions {
     public int getMaximumDepth() {
         return maximumDepth;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
 }
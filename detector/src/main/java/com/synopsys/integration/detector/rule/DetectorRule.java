@@ -22,9 +22,15 @@ public class DetectorRule<T extends Detectable> {
     private final DetectorType detectorType;
     private final String name;
     private final boolean nestInvisible;
+    private final boolean extractionCacheable;
 
     public DetectorRule(DetectableCreatable detectableCreatable, Class<T> detectableClass, int maxDepth, boolean nestable, boolean selfNestable, DetectorType detectorType, String name,
         boolean nestInvisible) {
+        this(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible, false);
+    }
+
+    public DetectorRule(DetectableCreatable detectableCreatable, Class<T> detectableClass, int maxDepth, boolean nestable, boolean selfNestable, DetectorType detectorType, String name,
+        boolean nestInvisible, boolean extractionCacheable) {
         this.detectableCreatable = detectableCreatable;
         this.detectableClass = detectableClass;
         this.maxDepth = maxDepth;
@@ -33,6 +39,7 @@ public class DetectorRule<T extends Detectable> {
         this.detectorType = detectorType;
         this.name = name;
         this.nestInvisible = nestInvisible;
+        this.extractionCacheable = extractionCacheable;
     }
 
     public DetectableCreatable getDetectableCreatable() {
@@ -74,4 +81,8 @@ public class DetectorRule<T extends Detectable> {
     public Class<T> getDetectableClass() {
         return detectableClass;
     }
+
+    public boolean isExtractionCacheable() {
+        return extractionCacheable;
+    }
 }
@@ -18,6 +18,7 @@ public class DetectorRuleBuilder<T extends Detectable> {
     private boolean nestable;
     private boolean selfNestable = false;
     private boolean nestInvisible = false;
+    private boolean extractionCacheable = false;
 
     private final String name;
     private final DetectorType detectorType;
@@ -87,8 +88,14 @@ public class DetectorRuleBuilder<T extends Detectable> {
         return isSelfNestable(false);
     }
 
+    // Only rules whose extraction depends solely on the contents of their relevant files should be cacheable.
+    public DetectorRuleBuilder extractionCacheable() {
+        this.extractionCacheable = true;
+        return this;
+    }
+
     public DetectorRule build() {
-        final DetectorRule rule = new DetectorRule(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible);
+        final DetectorRule rule = new DetectorRule(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible, extractionCacheable);
         if (detectorRuleSetBuilder != null) {
             detectorRuleSetBuilder.add(rule);
         }
@@ -1,10 +1,15 @@
 package com.synopsys.integration.detector.evaluation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +25,7 @@ import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
@@ -82,6 +88,59 @@ public class ExtractionEvaluatorTest {
         Mockito.verify(detectorEvaluatorListener).extractionEnded(detectorEvaluation);
     }
 
+    @Test
+    public void testParallelEvaluationExtractsAll() throws DetectableException, ExecutableFailedException {
+        DetectorEvaluationOptions mockOptions = Mockito.mock(DetectorEvaluationOptions.class);
+        DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
+        DetectorEvaluation gradleEvaluation = createEvaluationMocks(mockOptions, detectorEvaluationTree, false, false);
+        DetectorEvaluation npmEvaluation = createEvaluationMocks(mockOptions, detectorEvaluationTree, false, true);
+        Mockito.when(gradleEvaluation.getDetectorType()).thenReturn(DetectorType.GRADLE);
+        Mockito.when(npmEvaluation.getDetectorType()).thenReturn(DetectorType.NPM);
+        Mockito.when(detectorEvaluationTree.allDescendentEvaluations()).thenReturn(Arrays.asList(gradleEvaluation, npmEvaluation));
+
+        DetectorEvaluationOptions evaluationOptions = new DetectorEvaluationOptions(false, rule -> true, 2, Collections.singletonMap(DetectorType.GRADLE, 1));
+        ExtractionEvaluator evaluator = new ExtractionEvaluator(evaluationOptions);
+        DetectorEvaluatorListener detectorEvaluatorListener = Mockito.mock(DetectorEvaluatorListener.class);
+        evaluator.setDetectorEvaluatorListener(detectorEvaluatorListener);
+
+        DetectorAggregateEvaluationResult result = evaluator.evaluate(detectorEvaluationTree);
+
+        assertEquals(detectorEvaluationTree, result.getEvaluationTree());
+
+        Mockito.verify(gradleEvaluation).setExtraction(Mockito.any(Extraction.class));
+        Mockito.verify(npmEvaluation).setExtraction(Mockito.any(Extraction.class));
+        Mockito.verify(detectorEvaluatorListener).extractionEnded(gradleEvaluation);
+        Mockito.verify(detectorEvaluatorListener).extractionEnded(npmEvaluation);
+    }
+
+    @Test
+    public void testParallelExtractionsRunOnNamedDaemonThreads() throws DetectableException, ExecutableFailedException {
+        DetectorEvaluationOptions mockOptions = Mockito.mock(DetectorEvaluationOptions.class);
+        DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
+        DetectorEvaluation gradleEvaluation = createEvaluationMocks(mockOptions, detectorEvaluationTree, false, false);
+        DetectorEvaluation npmEvaluation = createEvaluationMocks(mockOptions, detectorEvaluationTree, false, false);
+        Mockito.when(gradleEvaluation.getDetectorType()).thenReturn(DetectorType.GRADLE);
+        Mockito.when(npmEvaluation.getDetectorType()).thenReturn(DetectorType.NPM);
+        Mockito.when(detectorEvaluationTree.allDescendentEvaluations()).thenReturn(Arrays.asList(gradleEvaluation, npmEvaluation));
+
+        Set<Thread> extractionThreads = ConcurrentHashMap.newKeySet();
+        for (DetectorEvaluation detectorEvaluation : Arrays.asList(gradleEvaluation, npmEvaluation)) {
+            Mockito.when(detectorEvaluation.getDetectable().extract(Mockito.any(ExtractionEnvironment.class))).thenAnswer(invocation -> {
+                extractionThreads.add(Thread.currentThread());
+                return new Extraction.Builder().success().build();
+            });
+        }
+
+        DetectorEvaluationOptions evaluationOptions = new DetectorEvaluationOptions(false, rule -> true, 2, Collections.emptyMap());
+        new ExtractionEvaluator(evaluationOptions).evaluate(detectorEvaluationTree);
+
+        assertFalse(extractionThreads.isEmpty());
+        for (Thread extractionThread : extractionThreads) {
+            assertEquals("detector-extraction", extractionThread.getName());
+            assertTrue(extractionThread.isDaemon());
+        }
+    }
+
     private DetectorEvaluation createEvaluationMocks(DetectorEvaluationOptions evaluationOptions, DetectorEvaluationTree detectorEvaluationTree, boolean extractionExists, boolean throwException)
         throws DetectableException, ExecutableFailedException {
         ExtractionEnvironment extractionEnvironment = Mockito.mock(ExtractionEnvironment.class);
@@ -23,6 +23,7 @@
 package com.synopsys.integration.detector.finder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 
@@ -31,10 +32,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -44,7 +49,6 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 
-import com.synopsys.integration.common.util.finder.SimpleFileFinder;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
@@ -86,7 +90,7 @@ public class DetectorFinderTest {
         DetectorFinderOptions options = new DetectorFinderOptions(fileFilter, maximumDepth);
 
         DetectorFinder finder = new DetectorFinder();
-        Optional<DetectorEvaluationTree> tree = finder.findDetectors(initialDirectory, detectorRuleSet, options, new SimpleFileFinder());
+        Optional<DetectorEvaluationTree> tree = finder.findDetectors(initialDirectory, detectorRuleSet, options);
 
         // make sure both dirs were found
         Set<DetectorEvaluationTree> testDirs = tree.get().getChildren();
@@ -125,7 +129,7 @@ public class DetectorFinderTest {
         DetectorFinderOptions options = new DetectorFinderOptions(fileFilter, maximumDepth);
 
         DetectorFinder finder = new DetectorFinder();
-        Optional<DetectorEvaluationTree> tree = finder.findDetectors(initialDirectory, detectorRuleSet, options, new SimpleFileFinder());
+        Optional<DetectorEvaluationTree> tree = finder.findDetectors(initialDirectory, detectorRuleSet, options);
 
         // make sure the symlink was omitted from results
         //        final Set<DetectorEvaluationTree> subDirResults = tree.get().getChildren().iterator().next().getChildren();
@@ -144,4 +148,55 @@ public class DetectorFinderTest {
         assertEquals("regularDir", subDirContentsName);
     }
 
+    @Test
+    public void testParallelMatchesSerial() {
+        File initialDirectory = initialDirectoryPath.toFile();
+        File subDir = new File(initialDirectory, "testParallel");
+        for (int i = 0; i < 4; i++) {
+            new File(new File(subDir, "module" + i), "nested").mkdirs();
+        }
+        File excludedDir = new File(subDir, "excluded");
+        excludedDir.mkdirs();
+
+        DetectorRuleSet detectorRuleSet = new DetectorRuleSet(new ArrayList<>(0), new HashMap<>(0));
+        Predicate<File> fileFilter = f -> !f.getName().equals("excluded");
+        DetectorFinder finder = new DetectorFinder();
+
+        Optional<DetectorEvaluationTree> serialTree = finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, 10, 1));
+        Optional<DetectorEvaluationTree> parallelTree = finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, 10, 4));
+
+        Set<File> serialDirectories = serialTree.get().asFlatList().stream().map(DetectorEvaluationTree::getDirectory).collect(Collectors.toSet());
+        Set<File> parallelDirectories = parallelTree.get().asFlatList().stream().map(DetectorEvaluationTree::getDirectory).collect(Collectors.toSet());
+        assertEquals(serialDirectories, parallelDirectories);
+        assertTrue(parallelDirectories.contains(new File(new File(subDir, "module3"), "nested")));
+        assertFalse(parallelDirectories.contains(excludedDir));
+    }
+
+    @Test
+    public void testSerialSearchStaysOnCallingThreadInsideForkJoinPool() throws Exception {
+        File initialDirectory = initialDirectoryPath.toFile();
+        File subDir = new File(initialDirectory, "testSerialInPool");
+        for (int i = 0; i < 4; i++) {
+            new File(new File(subDir, "module" + i), "nested").mkdirs();
+        }
+
+        Set<Thread> filterThreads = ConcurrentHashMap.newKeySet();
+        Predicate<File> fileFilter = f -> {
+            filterThreads.add(Thread.currentThread());
+            return true;
+        };
+        DetectorRuleSet detectorRuleSet = new DetectorRuleSet(new ArrayList<>(0), new HashMap<>(0));
+        DetectorFinder finder = new DetectorFinder();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Thread searchThread = pool.submit(() -> {
+                finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, 10, 1));
+                return Thread.currentThread();
+            }).get();
+            assertEquals(Collections.singleton(searchThread), filterThreads);
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
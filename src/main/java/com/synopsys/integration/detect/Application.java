@@ -25,7 +25,9 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+import com.synopsys.integration.common.util.finder.DirectoryIndexRegistry;
 import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.IndexedFileFinder;
 import com.synopsys.integration.common.util.finder.SimpleFileFinder;
 import com.synopsys.integration.configuration.source.PropertySource;
 import com.synopsys.integration.configuration.source.SpringConfigurationPropertySource;
@@ -107,11 +109,13 @@ public class Application implements ApplicationRunner {
 
         Gson gson = BlackDuckServicesFactory.createDefaultGsonBuilder().setPrettyPrinting().create();
         DetectInfo detectInfo = DetectInfoUtility.createDefaultDetectInfo();
-        FileFinder fileFinder = new SimpleFileFinder();
+        // The same finder answers lookups and holds the directory indexes taken during detector search.
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(new SimpleFileFinder());
 
         boolean shouldForceSuccess = false;
 
-        Optional<DetectBootResult> detectBootResultOptional = bootApplication(detectRunId, applicationArguments.getSourceArgs(), eventSystem, exitCodeManager, gson, detectInfo, fileFinder);
+        Optional<DetectBootResult> detectBootResultOptional = bootApplication(detectRunId, applicationArguments.getSourceArgs(), eventSystem, exitCodeManager, gson, detectInfo, indexedFileFinder,
+            indexedFileFinder);
 
         if (detectBootResultOptional.isPresent()) {
             DetectBootResult detectBootResult = detectBootResultOptional.get();
@@ -141,7 +145,7 @@ public class Application implements ApplicationRunner {
     }
 
     private Optional<DetectBootResult> bootApplication(DetectRunId detectRunId, String[] sourceArgs, EventSystem eventSystem, ExitCodeManager exitCodeManager, Gson gson, DetectInfo detectInfo,
-        FileFinder fileFinder) {
+        FileFinder fileFinder, DirectoryIndexRegistry directoryIndexRegistry) {
         Optional<DetectBootResult> bootResult = Optional.empty();
         try {
             logger.debug("Detect boot begin.");
@@ -149,7 +153,7 @@ public class Application implements ApplicationRunner {
             DetectArgumentState detectArgumentState = detectArgumentStateParser.parseArgs(sourceArgs);
             List<PropertySource> propertySources = new ArrayList<>(SpringConfigurationPropertySource.fromConfigurableEnvironmentSafely(environment, logger::error));
 
-            DetectBootFactory detectBootFactory = new DetectBootFactory(detectRunId, detectInfo, gson, eventSystem, fileFinder);
+            DetectBootFactory detectBootFactory = new DetectBootFactory(detectRunId, detectInfo, gson, eventSystem, fileFinder, directoryIndexRegistry);
             DetectBoot detectBoot = new DetectBoot(eventSystem, gson, detectBootFactory, detectArgumentState, propertySources);
 
             bootResult = detectBoot.boot(detectInfo.getDetectVersion());
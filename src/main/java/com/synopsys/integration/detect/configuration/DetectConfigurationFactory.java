@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.SnippetMatching;
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfigBuilder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
+import com.synopsys.integration.configuration.property.Property;
 import com.synopsys.integration.configuration.property.base.NullableProperty;
 import com.synopsys.integration.configuration.property.base.ValuedProperty;
 import com.synopsys.integration.configuration.property.types.enumextended.ExtendedEnumValue;
@@ -55,6 +57,7 @@ import com.synopsys.integration.detect.lifecycle.boot.product.ProductBootOptions
 import com.synopsys.integration.detect.lifecycle.run.AggregateOptions;
 import com.synopsys.integration.detect.tool.binaryscanner.BinaryScanOptions;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableOptions;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedIndividualFileMatchingMode;
@@ -104,6 +107,28 @@ public class DetectConfigurationFactory {
         }
     }
 
+    public int findParallelDetectorExtractions() {
+        int provided = getValue(DetectProperties.DETECT_PARALLEL_DETECTOR_EXTRACTIONS);
+        if (provided > 0) {
+            return provided;
+        } else {
+            return findRuntimeProcessors();
+        }
+    }
+
+    public int findParallelExecutables() {
+        int provided = getValue(DetectProperties.DETECT_PARALLEL_EXECUTABLES);
+        if (provided > 0) {
+            return provided;
+        } else {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    public boolean findParallelTools() {
+        return getValue(DetectProperties.DETECT_PARALLEL_TOOLS);
+    }
+
     public int findRuntimeProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -269,7 +294,7 @@ public class DetectConfigurationFactory {
         Integer maxDepth = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_DEPTH);
         DetectExcludedDirectoryFilter fileFilter = new DetectExcludedDirectoryFilter(sourcePath, collectDetectorSearchDirectoryExclusions());
 
-        return new DetectorFinderOptions(fileFilter, maxDepth);
+        return new DetectorFinderOptions(fileFilter, maxDepth, findParallelProcessors());
     }
 
     public DetectorEvaluationOptions createDetectorEvaluationOptions() {
@@ -280,7 +305,13 @@ public class DetectConfigurationFactory {
         List<FilterableEnumValue<DetectorType>> included = getValue(DetectProperties.DETECT_INCLUDED_DETECTOR_TYPES);
         ExcludeIncludeEnumFilter detectorFilter = new ExcludeIncludeEnumFilter(excluded, included);
 
-        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())));
+        //Parallel Extraction
+        int extractionParallelism = findParallelDetectorExtractions();
+        Map<DetectorType, Integer> extractionConcurrencyLimits = new EnumMap<>(DetectorType.class);
+        List<DetectorType> serialDetectorTypes = getValue(DetectProperties.DETECT_PARALLEL_DETECTOR_SERIAL_TYPES);
+        serialDetectorTypes.forEach(detectorType -> extractionConcurrencyLimits.put(detectorType, 1));
+
+        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())), extractionParallelism, extractionConcurrencyLimits);
     }
 
     public BdioOptions createBdioOptions() {
@@ -471,6 +502,27 @@ public class DetectConfigurationFactory {
 
     }
 
+    public ExtractionCacheOptions createExtractionCacheOptions() {
+        Boolean enabled = getValue(DetectProperties.DETECT_EXTRACTION_CACHE_ENABLED);
+        Integer maximumEntries = getValue(DetectProperties.DETECT_EXTRACTION_CACHE_MAX_ENTRIES);
+        // Every property a cacheable detector reads must be listed so a changed value changes its cache key, a detector without an entry is never cached.
+        Map<DetectorType, Map<String, String>> detectorProperties = new EnumMap<>(DetectorType.class);
+        detectorProperties.put(DetectorType.CARGO, getRawValues());
+        detectorProperties.put(DetectorType.CARTHAGE, getRawValues());
+        detectorProperties.put(DetectorType.COCOAPODS, getRawValues());
+        detectorProperties.put(DetectorType.NPM, getRawValues(DetectProperties.DETECT_NPM_INCLUDE_DEV_DEPENDENCIES, DetectProperties.DETECT_NPM_INCLUDE_PEER_DEPENDENCIES));
+        detectorProperties.put(DetectorType.PACKAGIST, getRawValues(DetectProperties.DETECT_PACKAGIST_INCLUDE_DEV_DEPENDENCIES));
+        detectorProperties.put(DetectorType.RUBYGEMS, getRawValues());
+        return new ExtractionCacheOptions(enabled, maximumEntries, detectorProperties);
+    }
+
+    private Map<String, String> getRawValues(DetectProperty<?>... detectProperties) {
+        Set<Property> properties = Arrays.stream(detectProperties)
+                                       .map(DetectProperty::getProperty)
+                                       .collect(Collectors.toSet());
+        return detectConfiguration.getRawValueMap(properties);
+    }
+
     public DetectorToolOptions createDetectorToolOptions() {
         String projectBomTool = detectConfiguration.getValueOrEmpty(DetectProperties.DETECT_PROJECT_DETECTOR.getProperty()).orElse(null);
         List<DetectorType> requiredDetectors = detectConfiguration.getValueOrDefault(DetectProperties.DETECT_REQUIRED_DETECTOR_TYPES.getProperty());
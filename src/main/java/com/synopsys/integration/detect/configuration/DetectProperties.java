@@ -52,6 +52,9 @@ import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedIndiv
 import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedSnippetMode;
 import com.synopsys.integration.detect.workflow.bdio.AggregateMode;
 import com.synopsys.integration.detectable.detectables.bazel.WorkspaceRule;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleExecutionMode;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleReportFormat;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenTreeOutputType;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.log.LogLevel;
 
@@ -144,10 +147,60 @@ public class DetectProperties {
     public static final DetectProperty<IntegerProperty> DETECT_PARALLEL_PROCESSORS =
         new DetectProperty<>(new IntegerProperty("detect.parallel.processors", 1))
             .setInfo("Detect Parallel Processors", DetectPropertyFromVersion.VERSION_6_0_0)
-            .setHelp("The number of threads to run processes in parallel, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.")
+            .setHelp("The number of threads to run processes in parallel, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.",
+                "This sets the number of Black Duck requests and Signature Scanner scans run at the same time, and the number of directories searched at the same time when Detect looks for detectors.")
             .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_PARALLEL_DETECTOR_EXTRACTIONS =
+        new DetectProperty<>(new IntegerProperty("detect.parallel.detector.extractions", 1))
+            .setInfo("Detect Parallel Detector Extractions", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The number of detector extractions to run at the same time, defaults to 1 which runs extractions one after another. If you specify less than or equal to 0, the number of processors on the machine will be used.",
+                "Extraction results are reported in the same order regardless of how many extractions run at once. See detect.parallel.detector.serial.types to limit detectors that should not run concurrently with themselves.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<EnumListProperty<DetectorType>> DETECT_PARALLEL_DETECTOR_SERIAL_TYPES =
+        new DetectProperty<>(new EnumListProperty<>("detect.parallel.detector.serial.types", Arrays.asList(DetectorType.BITBAKE, DetectorType.GRADLE, DetectorType.MAVEN, DetectorType.SBT), DetectorType.class))
+            .setInfo("Detect Parallel Detector Serial Types", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("When extractions run in parallel, the detector types that will only ever run one extraction at a time.",
+                "Build tool detectors such as Gradle and Maven start daemons or resolve into shared caches, so running several of them at once can be slower or unstable. Extractions of these types still run alongside extractions of other types.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setExample("GRADLE,MAVEN")
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_PARALLEL_EXECUTABLES =
+        new DetectProperty<>(new IntegerProperty("detect.parallel.executables", 0))
+            .setInfo("Detect Parallel Executables", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The maximum number of executables (child processes) Detect will run at the same time. If you specify less than or equal to 0, the number of executables is not limited.",
+                "This limit is shared by every detector, so it bounds the total number of processes started by parallel extractions and by detectors that run several commands at once. A process that would exceed the limit waits until another process finishes.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_PARALLEL_TOOLS =
+        new DetectProperty<>(new BooleanProperty("detect.parallel.tools", false))
+            .setInfo("Detect Parallel Tools", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("If true, tools that do not depend on each other will run at the same time. If false, tools run one after another in their original order.",
+                "Docker, Bazel and the detectors run at the same time. Once the project and version exist, the BDIO upload, Signature Scanner, Binary Scanner and Impact Analysis run at the same time, before waiting for their results. Their log output is interleaved when enabled.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_EXTRACTION_CACHE_ENABLED =
+        new DetectProperty<>(new BooleanProperty("detect.extraction.cache.enabled", false))
+            .setInfo("Detect Extraction Cache Enabled", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("If true, the results of lock file detectors are cached in the tools directory and reused when their relevant files have not changed.",
+                "Only detectors whose results depend solely on the contents of their files (such as Cargo, Carthage, Pod Lock, Package Lock, Shrinkwrap, Composer and Gemlock) are cached. Results are keyed by a hash of those files and of the detector's properties.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_EXTRACTION_CACHE_MAX_ENTRIES =
+        new DetectProperty<>(new IntegerProperty("detect.extraction.cache.max.entries", 1000))
+            .setInfo("Detect Extraction Cache Maximum Entries", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The maximum number of extraction results kept in the extraction cache, the least recently used results are removed first.",
+                "This limits the number of entries, not their size on disk. Each entry holds the dependency graph of one detector.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_BASH_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.bash.path"))
             .setInfo("Bash Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -179,6 +232,14 @@ public class DetectProperties {
             .setHelp("The Bazel workspace rule(s) used to pull in external dependencies. If not set, Detect will attempt to determine the rule(s) from the contents of the WORKSPACE file.")
             .setGroups(DetectGroup.BAZEL, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<IntegerProperty> DETECT_BAZEL_PIPELINE_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.bazel.pipeline.parallelism", 1))
+            .setInfo("Bazel Pipeline Parallelism", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The number of Bazel workspace rule pipelines Detect will run at the same time, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.",
+                "A Bazel server runs one command at a time per output base, so pipelines run at the same time against the same workspace mostly wait on each other; a value above 1 only helps when the pipelines spend their time outside of Bazel.")
+            .setGroups(DetectGroup.BAZEL, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_CONAN_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.conan.path"))
             .setInfo("Conan Executable", DetectPropertyFromVersion.VERSION_6_8_0)
@@ -356,6 +417,29 @@ public class DetectProperties {
             .setHelp("If set to true, only Detector's capable of running without a build will be run.")
             .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_CLANG_PREPROCESSING_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.clang.preprocessing.parallelism", 1))
+            .setInfo("Clang Preprocessing Parallelism", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The number of compile commands the Clang detector will preprocess at the same time to discover dependency files, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_CLANG_DEPENDENCY_CACHE_ENABLED =
+        new DetectProperty<>(new BooleanProperty("detect.clang.dependency.cache.enabled", false))
+            .setInfo("Clang Dependency Cache Enabled", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("If true, the dependency files the Clang detector finds for each compile command are cached in the tools directory and reused between runs.",
+                "An entry is reused while its compile command and source file are unchanged and none of the dependency files it lists have been modified since it was written.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_CLANG_DEPENDENCY_CACHE_MAX_ENTRIES =
+        new DetectProperty<>(new IntegerProperty("detect.clang.dependency.cache.max.entries", 10000))
+            .setInfo("Clang Dependency Cache Maximum Entries", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The maximum number of dependency lists kept in the Clang dependency cache, the least recently used lists are removed first.",
+                "This limits the number of entries, not their size on disk. Each entry holds the dependency files of one compile command.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_CLEANUP =
         new DetectProperty<>(new BooleanProperty("detect.cleanup", true))
             .setInfo("Cleanup Output", DetectPropertyFromVersion.VERSION_3_2_0)
@@ -479,6 +563,22 @@ public class DetectProperties {
             .setGroups(DetectGroup.DOCKER, DetectGroup.SOURCE_PATH)
             .setExample("fe1cc5b91830");
 
+    public static final DetectProperty<BooleanProperty> DETECT_DOCKER_INSPECTOR_CACHE_ENABLED =
+        new DetectProperty<>(new BooleanProperty("detect.docker.inspector.cache.enabled", false))
+            .setInfo("Docker Inspector Cache Enabled", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("If true, the results of the Docker Inspector are cached in the tools directory and reused when the same image is inspected again.",
+                "Results are keyed by the image ID (or the contents of the docker tar), the Docker Inspector .jar file and the Docker Inspector properties. An image that docker does not have locally is not cached until it has been pulled. Where the file system allows it, the result files are hard links shared with the cache and are made read-only so they cannot change a cached entry.")
+            .setGroups(DetectGroup.DOCKER, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_DOCKER_INSPECTOR_CACHE_MAX_ENTRIES =
+        new DetectProperty<>(new IntegerProperty("detect.docker.inspector.cache.max.entries", 10))
+            .setInfo("Docker Inspector Cache Maximum Entries", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The maximum number of Docker Inspector results kept in the Docker Inspector cache, the least recently used results are removed first.",
+                "This limits the number of entries, not their size on disk. Each entry holds the Docker Inspector results of one image, including its container file system archive.")
+            .setGroups(DetectGroup.DOCKER, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_DOCKER_INSPECTOR_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.docker.inspector.path"))
             .setInfo("Docker Inspector .jar File Path", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -611,6 +711,29 @@ public class DetectProperties {
             .setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<EnumProperty<GradleExecutionMode>> DETECT_GRADLE_EXECUTION_MODE =
+        new DetectProperty<>(new EnumProperty<>("detect.gradle.execution.mode", GradleExecutionMode.CLI, GradleExecutionMode.class))
+            .setInfo("Gradle Execution Mode", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("How Detect runs Gradle to gather dependencies.",
+                "CLI starts the gradle (or gradlew) executable as a new process for every Gradle project found. TOOLING_API runs every build through the Gradle Tooling API, which keeps one daemon per Gradle distribution warm for all of the Gradle projects in the scan.")
+            .setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<EnumProperty<GradleReportFormat>> DETECT_GRADLE_INSPECTOR_REPORT_FORMAT =
+        new DetectProperty<>(new EnumProperty<>("detect.gradle.inspector.report.format", GradleReportFormat.TREE, GradleReportFormat.class))
+            .setInfo("Gradle Inspector Report Format", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The format the Gradle inspector init script writes each project's dependencies in.",
+                "TREE runs the Gradle dependencies task and parses its text output. EDGE_LIST walks the resolution result of each configuration and writes every component once with the dependency edges of each configuration, which is much smaller for builds with large shared dependency trees.")
+            .setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_GRADLE_REPORT_PARSE_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.gradle.report.parse.parallelism", 1))
+            .setInfo("Gradle Report Parse Parallelism", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The number of Gradle project reports Detect will parse at the same time once Gradle has finished, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.")
+            .setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_GRADLE_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.gradle.path"))
             .setInfo("Gradle Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -695,6 +818,13 @@ public class DetectProperties {
             .setGroups(DetectGroup.LERNA, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_LERNA_PACKAGE_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.lerna.package.parallelism", 1))
+            .setInfo("Lerna Package Parallelism", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The number of Lerna packages Detect will build dependency graphs for at the same time, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.")
+            .setGroups(DetectGroup.LERNA, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_LERNA_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.lerna.path"))
             .setInfo("Lerna Executable", DetectPropertyFromVersion.VERSION_6_0_0)
@@ -730,6 +860,21 @@ public class DetectProperties {
             .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<EnumProperty<MavenTreeOutputType>> DETECT_MAVEN_TREE_OUTPUT_TYPE =
+        new DetectProperty<>(new EnumProperty<>("detect.maven.tree.output.type", MavenTreeOutputType.TEXT, MavenTreeOutputType.class))
+            .setInfo("Maven Dependency Tree Output Type", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("How Detect collects the output of the Maven dependency:tree goal.",
+                "TEXT parses the tree printed to the console, which forces Maven to build with a single thread (-T1). DOT has each module write its dependency graph to a file, which lets Maven build the reactor in parallel (-T1C unless a thread count is given in detect.maven.build.command) and lets Detect parse the modules concurrently. DOT needs a maven-dependency-plugin that supports dot output, the extraction fails if Maven does not write the graph files.")
+            .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_MAVEN_GRAPH_PARSE_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.maven.graph.parse.parallelism", 1))
+            .setInfo("Maven Dependency Graph Parse Parallelism", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The number of Maven dependency graph files Detect will parse at the same time when the DOT tree output type is used, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.")
+            .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_MAVEN_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.maven.path"))
             .setInfo("Maven Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -894,6 +1039,30 @@ public class DetectProperties {
             .setHelp("A comma-separated list of paths to requirements files, to be used to analyze requirements files with a filename other than requirements.txt or to specify which requirements files should be analyzed.")
             .setGroups(DetectGroup.PIP, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<BooleanProperty> DETECT_PIP_INSPECTOR_CACHE_ENABLED =
+        new DetectProperty<>(new BooleanProperty("detect.pip.inspector.cache.enabled", false))
+            .setInfo("PIP Inspector Cache Enabled", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("If true, the output of the pip inspector for each requirements file is cached in the tools directory and reused between runs.",
+                "An entry is reused while the python executable, its version and the requirements file are unchanged. The installed packages are not checked, so remove the pip-inspector-cache directory from the tools directory after installing or upgrading packages.")
+            .setGroups(DetectGroup.PIP, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_PIP_INSPECTOR_CACHE_MAX_ENTRIES =
+        new DetectProperty<>(new IntegerProperty("detect.pip.inspector.cache.max.entries", 1000))
+            .setInfo("PIP Inspector Cache Maximum Entries", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The maximum number of pip inspector outputs kept in the pip inspector cache, the least recently used outputs are removed first.",
+                "This limits the number of entries, not their size on disk. Each entry holds the inspector output of one requirements file.")
+            .setGroups(DetectGroup.PIP, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_PIP_INSPECTOR_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.pip.inspector.parallelism", 1))
+            .setInfo("PIP Inspector Parallelism", DetectPropertyFromVersion.VERSION_7_5_0)
+            .setHelp("The maximum number of pip inspectors Detect will run at the same time when several requirements files are analyzed. If you specify less than or equal to 1, the inspectors run one after another.",
+                "Each inspector is a python process that imports pip and resolves every requirement, so running several at once needs more memory.")
+            .setGroups(DetectGroup.PIP, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_PIP_ONLY_PROJECT_TREE =
         new DetectProperty<>(new BooleanProperty("detect.pip.only.project.tree", false))
             .setInfo("PIP Include Only Project Tree", DetectPropertyFromVersion.VERSION_6_1_0)
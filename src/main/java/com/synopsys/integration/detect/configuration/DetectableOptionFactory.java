@@ -22,12 +22,15 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.configuration.property.base.NullableProperty;
 import com.synopsys.integration.configuration.property.base.ValuedProperty;
+import com.synopsys.integration.configuration.property.types.bool.BooleanProperty;
 import com.synopsys.integration.configuration.property.types.enumfilterable.FilterableEnumUtils;
 import com.synopsys.integration.configuration.property.types.enumfilterable.FilterableEnumValue;
+import com.synopsys.integration.configuration.property.types.integer.IntegerProperty;
 import com.synopsys.integration.configuration.property.types.path.PathResolver;
 import com.synopsys.integration.detect.tool.detector.inspectors.nuget.NugetLocatorOptions;
 import com.synopsys.integration.detect.workflow.ArtifactoryConstants;
 import com.synopsys.integration.detect.workflow.diagnostic.DiagnosticSystem;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorOptions;
 import com.synopsys.integration.detectable.detectables.bazel.BazelDetectableOptions;
 import com.synopsys.integration.detectable.detectables.bazel.WorkspaceRule;
@@ -38,10 +41,13 @@ import com.synopsys.integration.detectable.detectables.conan.lockfile.ConanLockf
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleExecutionMode;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptOptions;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleReportFormat;
 import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractorOptions;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenTreeOutputType;
 import com.synopsys.integration.detectable.detectables.maven.parsing.MavenParseOptions;
 import com.synopsys.integration.detectable.detectables.npm.cli.NpmCliExtractorOptions;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
@@ -57,20 +63,30 @@ import com.synopsys.integration.log.LogLevel;
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 
 public class DetectableOptionFactory {
+    private static final String CLANG_DEPENDENCY_CACHE_DIRECTORY_NAME = "clang-dependency-cache";
+    private static final String PIP_INSPECTOR_CACHE_DIRECTORY_NAME = "pip-inspector-cache";
 
     private final PropertyConfiguration detectConfiguration;
     @Nullable
     private final DiagnosticSystem diagnosticSystem;
     private final PathResolver pathResolver;
     private final ProxyInfo proxyInfo;
+    @Nullable
+    private final DirectoryManager directoryManager;
 
     private final Logger logger = LoggerFactory.getLogger(DetectableOptionFactory.class);
 
     public DetectableOptionFactory(PropertyConfiguration detectConfiguration, @Nullable DiagnosticSystem diagnosticSystem, PathResolver pathResolver, ProxyInfo proxyInfo) {
+        this(detectConfiguration, diagnosticSystem, pathResolver, proxyInfo, null);
+    }
+
+    // The caches live in the tools directory, without a directory manager they are not used.
+    public DetectableOptionFactory(PropertyConfiguration detectConfiguration, @Nullable DiagnosticSystem diagnosticSystem, PathResolver pathResolver, ProxyInfo proxyInfo, @Nullable DirectoryManager directoryManager) {
         this.detectConfiguration = detectConfiguration;
         this.diagnosticSystem = diagnosticSystem;
         this.pathResolver = pathResolver;
         this.proxyInfo = proxyInfo;
+        this.directoryManager = directoryManager;
     }
 
     public BazelDetectableOptions createBazelDetectableOptions() {
@@ -79,7 +95,8 @@ public class DetectableOptionFactory {
 
         List<FilterableEnumValue<WorkspaceRule>> bazelDependencyRulesPropertyValues = getValue(DetectProperties.DETECT_BAZEL_DEPENDENCY_RULE);
         Set<WorkspaceRule> bazelDependencyRules = deriveBazelDependencyRules(bazelDependencyRulesPropertyValues);
-        return new BazelDetectableOptions(targetName, bazelDependencyRules, bazelCqueryAdditionalOptions);
+        int pipelineParallelism = findParallelism(DetectProperties.DETECT_BAZEL_PIPELINE_PARALLELISM);
+        return new BazelDetectableOptions(targetName, bazelDependencyRules, bazelCqueryAdditionalOptions, pipelineParallelism);
     }
 
     public BitbakeDetectableOptions createBitbakeDetectableOptions() {
@@ -91,8 +108,10 @@ public class DetectableOptionFactory {
     }
 
     public ClangDetectableOptions createClangDetectableOptions() {
-        Boolean cleanup = getValue(DetectProperties.DETECT_CLEANUP);
-        return new ClangDetectableOptions(cleanup);
+        int preprocessingParallelism = findParallelism(DetectProperties.DETECT_CLANG_PREPROCESSING_PARALLELISM);
+        Path dependencyCachePath = findCacheDirectory(DetectProperties.DETECT_CLANG_DEPENDENCY_CACHE_ENABLED, CLANG_DEPENDENCY_CACHE_DIRECTORY_NAME);
+        Integer dependencyCacheMaximumEntries = getValue(DetectProperties.DETECT_CLANG_DEPENDENCY_CACHE_MAX_ENTRIES);
+        return new ClangDetectableOptions(preprocessingParallelism, dependencyCachePath, dependencyCacheMaximumEntries);
     }
 
     public ComposerLockDetectableOptions createComposerLockDetectableOptions() {
@@ -129,8 +148,10 @@ public class DetectableOptionFactory {
 
         Path dockerInspectorPath = detectConfiguration.getValue(DetectProperties.DETECT_DOCKER_INSPECTOR_PATH.getProperty()).map(path -> path.resolvePath(pathResolver)).orElse(null);
         String dockerPlatformTopLayerId = getNullableValue(DetectProperties.DETECT_DOCKER_PLATFORM_TOP_LAYER_ID);
+        Boolean inspectorCacheEnabled = getValue(DetectProperties.DETECT_DOCKER_INSPECTOR_CACHE_ENABLED);
+        Integer inspectorCacheMaximumEntries = getValue(DetectProperties.DETECT_DOCKER_INSPECTOR_CACHE_MAX_ENTRIES);
         return new DockerDetectableOptions(dockerPathRequired, suppliedDockerImage, dockerImageId, suppliedDockerTar, dockerInspectorLoggingLevel, dockerInspectorVersion, additionalDockerProperties, dockerInspectorPath,
-            dockerPlatformTopLayerId);
+            dockerPlatformTopLayerId, inspectorCacheEnabled, inspectorCacheMaximumEntries);
     }
 
     public GoModCliDetectableOptions createGoModCliDetectableOptions() {
@@ -146,16 +167,21 @@ public class DetectableOptionFactory {
         String customRepository = ArtifactoryConstants.GRADLE_INSPECTOR_MAVEN_REPO;
 
         String onlineInspectorVersion = getNullableValue(DetectProperties.DETECT_GRADLE_INSPECTOR_VERSION);
-        GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion);
+        GradleReportFormat reportFormat = getValue(DetectProperties.DETECT_GRADLE_INSPECTOR_REPORT_FORMAT);
+        GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion,
+            reportFormat);
         String gradleBuildCommand = getNullableValue(DetectProperties.DETECT_GRADLE_BUILD_COMMAND);
-        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo);
+        int reportParseParallelism = findParallelism(DetectProperties.DETECT_GRADLE_REPORT_PARSE_PARALLELISM);
+        GradleExecutionMode executionMode = getValue(DetectProperties.DETECT_GRADLE_EXECUTION_MODE);
+        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo, reportParseParallelism, executionMode);
     }
 
     public LernaOptions createLernaOptions() {
         Boolean includePrivate = getValue(DetectProperties.DETECT_LERNA_INCLUDE_PRIVATE);
         List<String> excludedPackages = getValue(DetectProperties.DETECT_LERNA_EXCLUDED_PACKAGES);
         List<String> includedPackages = getValue(DetectProperties.DETECT_LERNA_INCLUDED_PACKAGES);
-        return new LernaOptions(includePrivate, excludedPackages, includedPackages);
+        int packageParallelism = findParallelism(DetectProperties.DETECT_LERNA_PACKAGE_PARALLELISM);
+        return new LernaOptions(includePrivate, excludedPackages, includedPackages, packageParallelism);
     }
 
     public MavenCliExtractorOptions createMavenCliOptions() {
@@ -164,7 +190,10 @@ public class DetectableOptionFactory {
         List<String> mavenIncludedScopes = getValue(DetectProperties.DETECT_MAVEN_INCLUDED_SCOPES);
         List<String> mavenExcludedModules = getValue(DetectProperties.DETECT_MAVEN_EXCLUDED_MODULES);
         List<String> mavenIncludedModules = getValue(DetectProperties.DETECT_MAVEN_INCLUDED_MODULES);
-        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules);
+        MavenTreeOutputType mavenTreeOutputType = getValue(DetectProperties.DETECT_MAVEN_TREE_OUTPUT_TYPE);
+        int dependencyGraphParseParallelism = findParallelism(DetectProperties.DETECT_MAVEN_GRAPH_PARSE_PARALLELISM);
+        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, mavenTreeOutputType,
+            dependencyGraphParseParallelism);
     }
 
     public ConanCliExtractorOptions createConanCliOptions() {
@@ -218,7 +247,10 @@ public class DetectableOptionFactory {
         List<Path> requirementsFilePath = getValue(DetectProperties.DETECT_PIP_REQUIREMENTS_PATH).stream()
                                               .map(it -> it.resolvePath(pathResolver))
                                               .collect(Collectors.toList());
-        return new PipInspectorDetectableOptions(pipProjectName, requirementsFilePath);
+        Path inspectorCachePath = findCacheDirectory(DetectProperties.DETECT_PIP_INSPECTOR_CACHE_ENABLED, PIP_INSPECTOR_CACHE_DIRECTORY_NAME);
+        Integer inspectorCacheMaximumEntries = getValue(DetectProperties.DETECT_PIP_INSPECTOR_CACHE_MAX_ENTRIES);
+        Integer inspectorParallelism = getValue(DetectProperties.DETECT_PIP_INSPECTOR_PARALLELISM);
+        return new PipInspectorDetectableOptions(pipProjectName, requirementsFilePath, inspectorCachePath, inspectorCacheMaximumEntries, inspectorParallelism);
     }
 
     public GemspecParseDetectableOptions createGemspecParseDetectableOptions() {
@@ -287,6 +319,24 @@ public class DetectableOptionFactory {
         return allWasSpecified;
     }
 
+    // Like detect.parallel.processors, 1 runs the work serially and less than or equal to 0 uses the number of processors.
+    private int findParallelism(DetectProperty<IntegerProperty> parallelismProperty) {
+        int provided = getValue(parallelismProperty);
+        if (provided > 0) {
+            return provided;
+        } else {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    @Nullable
+    private Path findCacheDirectory(DetectProperty<BooleanProperty> enabledProperty, String directoryName) {
+        if (directoryManager == null || !getValue(enabledProperty)) {
+            return null;
+        }
+        return directoryManager.getPermanentDirectory(directoryName).toPath();
+    }
+
     private <P, T extends NullableProperty<P>> P getNullableValue(DetectProperty<T> detectProperty) {
         return detectConfiguration.getValue(detectProperty.getProperty()).orElse(null);
     }
@@ -17,6 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.common.util.finder.DirectoryIndexRegistry;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.configuration.help.PropertyConfigurationHelpContext;
@@ -76,19 +77,21 @@ public class DetectBootFactory {
     private final EventSystem eventSystem;
     private final BlackDuckConnectivityChecker blackDuckConnectivityChecker;
     private final FileFinder fileFinder;
+    private final DirectoryIndexRegistry directoryIndexRegistry;
 
-    public DetectBootFactory(DetectRunId detectRunId, DetectInfo detectInfo, Gson gson, EventSystem eventSystem, FileFinder fileFinder) {
+    public DetectBootFactory(DetectRunId detectRunId, DetectInfo detectInfo, Gson gson, EventSystem eventSystem, FileFinder fileFinder, DirectoryIndexRegistry directoryIndexRegistry) {
         this.detectRunId = detectRunId;
         this.detectInfo = detectInfo;
         this.gson = gson;
         this.eventSystem = eventSystem;
         this.blackDuckConnectivityChecker = new BlackDuckConnectivityChecker();
         this.fileFinder = fileFinder;
+        this.directoryIndexRegistry = directoryIndexRegistry;
     }
 
     public BootSingletons createRunDependencies(ProductRunData productRunData, PropertyConfiguration detectConfiguration, DetectableOptionFactory detectableOptionFactory, DetectConfigurationFactory detectConfigurationFactory,
         DirectoryManager directoryManager, Configuration configuration) {
-        return new BootSingletons(productRunData, detectRunId, gson, detectInfo, fileFinder, eventSystem, createDetectorProfiler(), detectConfiguration, detectableOptionFactory, detectConfigurationFactory, directoryManager, configuration);
+        return new BootSingletons(productRunData, detectRunId, gson, detectInfo, fileFinder, directoryIndexRegistry, eventSystem, createDetectorProfiler(), detectConfiguration, detectableOptionFactory, detectConfigurationFactory, directoryManager, configuration);
     }
 
     public Configuration createFreemarkerConfiguration() {
@@ -44,6 +44,7 @@ import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.blackduck.service.model.NotificationTaskRange;
 import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.common.util.finder.DirectoryIndexRegistry;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.detect.configuration.DetectConfigurationFactory;
@@ -78,7 +79,9 @@ import com.synopsys.integration.detect.tool.detector.DetectorIssuePublisher;
 import com.synopsys.integration.detect.tool.detector.DetectorRuleFactory;
 import com.synopsys.integration.detect.tool.detector.DetectorTool;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.detector.extraction.ExtractionEnvironmentProvider;
+import com.synopsys.integration.detect.tool.detector.extraction.PersistentExtractionCache;
 import com.synopsys.integration.detect.tool.detector.factory.DetectDetectableFactory;
 import com.synopsys.integration.detect.tool.impactanalysis.GenerateImpactAnalysisOperation;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisMapCodeLocationsOperation;
@@ -158,6 +161,7 @@ import com.synopsys.integration.detect.workflow.status.OperationSystem;
 import com.synopsys.integration.detect.workflow.status.Status;
 import com.synopsys.integration.detect.workflow.status.StatusEventPublisher;
 import com.synopsys.integration.detect.workflow.status.StatusType;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
 import com.synopsys.integration.detector.finder.DetectorFinder;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 import com.synopsys.integration.log.IntLogger;
@@ -191,6 +195,7 @@ public class OperationFactory { //TODO: OperationRunner
     private final DetectConfigurationFactory detectConfigurationFactory;
     private final EventSystem eventSystem;
     private final FileFinder fileFinder;
+    private final DirectoryIndexRegistry directoryIndexRegistry;
     private final DetectInfo detectInfo;
     private final ProductRunData productRunData;
     private final RapidScanResultAggregator rapidScanResultAggregator;
@@ -216,6 +221,7 @@ public class OperationFactory { //TODO: OperationRunner
         detectConfigurationFactory = bootSingletons.getDetectConfigurationFactory();
         eventSystem = bootSingletons.getEventSystem();
         fileFinder = bootSingletons.getFileFinder();
+        directoryIndexRegistry = bootSingletons.getDirectoryIndexRegistry();
         detectInfo = bootSingletons.getDetectInfo();
         productRunData = bootSingletons.getProductRunData();
 
@@ -274,10 +280,16 @@ public class OperationFactory { //TODO: OperationRunner
             DetectorRuleSet detectRuleSet = detectorRuleFactory.createRules(detectDetectableFactory, detectorToolOptions.isBuildless());
             File sourcePath = directoryManager.getSourceDirectory();
 
+            ExtractionCacheOptions extractionCacheOptions = detectConfigurationFactory.createExtractionCacheOptions();
+            ExtractionCache extractionCache = null;
+            if (extractionCacheOptions.isEnabled()) {
+                extractionCache = new PersistentExtractionCache(directoryManager.getPermanentDirectory("extraction-cache"), new Gson(), detectInfo.getDetectVersion(), extractionCacheOptions);
+            }
+
             DetectorTool detectorTool = new DetectorTool(new DetectorFinder(), extractionEnvironmentProvider, eventSystem, codeLocationConverter, new DetectorIssuePublisher(), statusEventPublisher, exitCodePublisher,
-                detectorEventPublisher);
+                detectorEventPublisher, extractionCache);
             return detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, detectConfigurationFactory.createDetectorFinderOptions(sourcePath.toPath()),
-                detectConfigurationFactory.createDetectorEvaluationOptions(), detectorToolOptions.getProjectBomTool(), detectorToolOptions.getRequiredDetectors(), fileFinder);
+                detectConfigurationFactory.createDetectorEvaluationOptions(), detectorToolOptions.getProjectBomTool(), detectorToolOptions.getRequiredDetectors(), directoryIndexRegistry);
         });
     }
 
@@ -8,6 +8,7 @@
 package com.synopsys.integration.detect.lifecycle.run.singleton;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.common.util.finder.DirectoryIndexRegistry;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.detect.configuration.DetectConfigurationFactory;
@@ -30,6 +31,7 @@ public class BootSingletons {
     private final DetectInfo detectInfo;
 
     private final FileFinder fileFinder;
+    private final DirectoryIndexRegistry directoryIndexRegistry;
     private final EventSystem eventSystem;
     private final DetectorProfiler detectorProfiler;
 
@@ -40,7 +42,8 @@ public class BootSingletons {
     private final DirectoryManager directoryManager;
     private final Configuration configuration;
 
-    public BootSingletons(final ProductRunData productRunData, final DetectRunId detectRunId, final Gson gson, final DetectInfo detectInfo, final FileFinder fileFinder, final EventSystem eventSystem,
+    public BootSingletons(final ProductRunData productRunData, final DetectRunId detectRunId, final Gson gson, final DetectInfo detectInfo, final FileFinder fileFinder,
+        final DirectoryIndexRegistry directoryIndexRegistry, final EventSystem eventSystem,
         final DetectorProfiler detectorProfiler,
         final PropertyConfiguration detectConfiguration, final DetectableOptionFactory detectableOptionFactory, final DetectConfigurationFactory detectConfigurationFactory,
         final DirectoryManager directoryManager,
@@ -50,6 +53,7 @@ public class BootSingletons {
         this.gson = gson;
         this.detectInfo = detectInfo;
         this.fileFinder = fileFinder;
+        this.directoryIndexRegistry = directoryIndexRegistry;
         this.eventSystem = eventSystem;
         this.detectorProfiler = detectorProfiler;
         this.detectConfiguration = detectConfiguration;
@@ -91,6 +95,10 @@ public class BootSingletons {
         return fileFinder;
     }
 
+    public DirectoryIndexRegistry getDirectoryIndexRegistry() {
+        return directoryIndexRegistry;
+    }
+
     public DetectRunId getDetectRunId() {
         return detectRunId;
     }
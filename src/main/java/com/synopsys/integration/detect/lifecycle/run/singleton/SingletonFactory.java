@@ -62,7 +62,7 @@ public class SingletonFactory {
         CreateBdioCodeLocationsFromDetectCodeLocationsOperation createBdioCodeLocationsFromDetectCodeLocationsOperation = new CreateBdioCodeLocationsFromDetectCodeLocationsOperation(codeLocationNameManager, directoryManager);
         AirGapInspectorPaths airGapInspectorPaths = new AirGapInspectorPaths(airGapPathFinder);
         BdioTransformer bdioTransformer = new BdioTransformer();
-        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(eventSystem);
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(eventSystem, detectConfigurationFactory.findParallelExecutables());
         DirectoryExecutableFinder directoryExecutableFinder = DirectoryExecutableFinder.forCurrentOperatingSystem(fileFinder);
         SystemPathExecutableFinder systemExecutableFinder = new SystemPathExecutableFinder(directoryExecutableFinder);
         DetectExecutableResolver detectExecutableResolver = new DetectExecutableResolver(directoryExecutableFinder, systemExecutableFinder, detectConfigurationFactory.createDetectExecutableOptions());
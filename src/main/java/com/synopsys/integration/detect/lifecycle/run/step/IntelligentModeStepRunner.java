@@ -28,6 +28,8 @@ import com.synopsys.integration.detect.lifecycle.run.data.DockerTargetData;
 import com.synopsys.integration.detect.lifecycle.run.operation.OperationFactory;
 import com.synopsys.integration.detect.lifecycle.run.operation.blackduck.BdioUploadResult;
 import com.synopsys.integration.detect.lifecycle.run.step.utility.StepHelper;
+import com.synopsys.integration.detect.lifecycle.run.step.utility.StepScheduler;
+import com.synopsys.integration.detect.lifecycle.run.step.utility.StepScheduler.ScheduledStep;
 import com.synopsys.integration.detect.tool.impactanalysis.service.ImpactAnalysisBatchOutput;
 import com.synopsys.integration.detect.tool.signaturescanner.SignatureScannerToolResult;
 import com.synopsys.integration.detect.util.filter.DetectToolFilter;
@@ -55,13 +57,15 @@ public class IntelligentModeStepRunner {
         this.stepHelper = stepHelper;
     }
 
-    public void runOffline(NameVersion projectNameVersion, DockerTargetData dockerTargetData) throws DetectUserFriendlyException {
-        stepHelper.runToolIfIncluded(DetectTool.SIGNATURE_SCAN, "Signature Scanner", () -> { //Internal: Sig scan publishes it's own status.
+    public void runOffline(NameVersion projectNameVersion, DockerTargetData dockerTargetData) throws DetectUserFriendlyException, IntegrationException, InterruptedException, IOException {
+        StepScheduler stepScheduler = stepHelper.createStepScheduler();
+        stepScheduler.addStep("Signature Scanner", () -> stepHelper.runToolIfIncluded(DetectTool.SIGNATURE_SCAN, "Signature Scanner", () -> { //Internal: Sig scan publishes it's own status.
             SignatureScanStepRunner signatureScanStepRunner = new SignatureScanStepRunner(operationFactory);
             signatureScanStepRunner.runSignatureScannerOffline(projectNameVersion, dockerTargetData);
-        });
-        stepHelper.runToolIfIncludedWithCallbacks(DetectTool.IMPACT_ANALYSIS, "Vulnerability Impact Analysis",  /* because it does not publish it's own status */ () -> generateImpactAnalysis(projectNameVersion),
-            operationFactory::publishImpactSuccess, operationFactory::publishImpactFailure);
+        }));
+        stepScheduler.addStep("Vulnerability Impact Analysis", () -> stepHelper.runToolIfIncludedWithCallbacks(DetectTool.IMPACT_ANALYSIS, "Vulnerability Impact Analysis",  /* because it does not publish it's own status */ () -> generateImpactAnalysis(projectNameVersion),
+            operationFactory::publishImpactSuccess, operationFactory::publishImpactFailure));
+        stepScheduler.runSteps();
     }
 
     //TODO: Change black duck post options to a decision and stick it in Run Data somewhere.
@@ -69,42 +73,51 @@ public class IntelligentModeStepRunner {
     public void runOnline(BlackDuckRunData blackDuckRunData, BdioResult bdioResult, NameVersion projectNameVersion, DetectToolFilter detectToolFilter, DockerTargetData dockerTargetData)
         throws DetectUserFriendlyException, IntegrationException, IOException, InterruptedException {
 
-        ProjectVersionWrapper projectVersion = stepHelper.runAsGroup("Create or Locate Project", OperationType.INTERNAL, () -> new BlackDuckProjectVersionStepRunner(operationFactory).runAll(projectNameVersion, blackDuckRunData));
-
-        logger.debug("Completed project and version actions.");
-        logger.debug("Processing Detect Code Locations.");
+        // The project and version must exist before anything is uploaded to it, the uploads and scans are then independent of each other until it is time to wait for their results.
+        StepScheduler stepScheduler = stepHelper.createStepScheduler();
+        ScheduledStep<ProjectVersionWrapper> projectStep = stepScheduler.addStep("Create or Locate Project",
+            () -> stepHelper.runAsGroup("Create or Locate Project", OperationType.INTERNAL, () -> new BlackDuckProjectVersionStepRunner(operationFactory).runAll(projectNameVersion, blackDuckRunData)));
 
         CodeLocationAccumulator codeLocationAccumulator = new CodeLocationAccumulator();
-        stepHelper.runAsGroup("Upload Bdio", OperationType.INTERNAL, () -> uploadBdio(blackDuckRunData, bdioResult, codeLocationAccumulator));
-
-        logger.debug("Completed Detect Code Location processing.");
+        ScheduledStep<Boolean> uploadStep = stepScheduler.addStep("Upload Bdio", () -> {
+            logger.debug("Processing Detect Code Locations.");
+            stepHelper.runAsGroup("Upload Bdio", OperationType.INTERNAL, () -> uploadBdio(blackDuckRunData, bdioResult, codeLocationAccumulator));
+            logger.debug("Completed Detect Code Location processing.");
+        }, projectStep);
 
-        stepHelper.runToolIfIncluded(DetectTool.SIGNATURE_SCAN, "Signature Scanner", () -> {
+        ScheduledStep<Boolean> signatureScanStep = stepScheduler.addStep("Signature Scanner", () -> stepHelper.runToolIfIncluded(DetectTool.SIGNATURE_SCAN, "Signature Scanner", () -> {
             SignatureScanStepRunner signatureScanStepRunner = new SignatureScanStepRunner(operationFactory);
             SignatureScannerToolResult signatureScannerToolResult = signatureScanStepRunner.runSignatureScannerOnline(blackDuckRunData, projectNameVersion, dockerTargetData);
             signatureScannerToolResult.getCreationData().ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
-        });
+        }), projectStep);
 
-        stepHelper.runToolIfIncluded(DetectTool.BINARY_SCAN, "Binary Scanner", () -> {
+        ScheduledStep<Boolean> binaryScanStep = stepScheduler.addStep("Binary Scanner", () -> stepHelper.runToolIfIncluded(DetectTool.BINARY_SCAN, "Binary Scanner", () -> {
             BinaryScanStepRunner binaryScanStepRunner = new BinaryScanStepRunner(operationFactory);
             binaryScanStepRunner.runBinaryScan(dockerTargetData, projectNameVersion, blackDuckRunData).ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
-        });
+        }), projectStep);
 
-        stepHelper.runToolIfIncludedWithCallbacks(DetectTool.IMPACT_ANALYSIS, "Vulnerability Impact Analysis",
-            () -> runImpactAnalysisOnline(projectNameVersion, projectVersion, codeLocationAccumulator, blackDuckRunData.getBlackDuckServicesFactory()),
-            operationFactory::publishImpactSuccess, operationFactory::publishImpactFailure);
+        ScheduledStep<Boolean> impactAnalysisStep = stepScheduler.addStep("Vulnerability Impact Analysis", () -> stepHelper.runToolIfIncludedWithCallbacks(DetectTool.IMPACT_ANALYSIS, "Vulnerability Impact Analysis",
+            () -> runImpactAnalysisOnline(projectNameVersion, getProjectVersion(projectStep), codeLocationAccumulator, blackDuckRunData.getBlackDuckServicesFactory()),
+            operationFactory::publishImpactSuccess, operationFactory::publishImpactFailure), projectStep);
 
-        stepHelper.runAsGroup("Wait for Results", OperationType.INTERNAL, () -> {
+        ScheduledStep<Boolean> waitStep = stepScheduler.addStep("Wait for Results", () -> stepHelper.runAsGroup("Wait for Results", OperationType.INTERNAL, () -> {
             CodeLocationResults codeLocationResults = calculateCodeLocations(codeLocationAccumulator);
             waitForCodeLocations(codeLocationResults.getCodeLocationWaitData(), projectNameVersion, blackDuckRunData);
-        });
+        }), uploadStep, signatureScanStep, binaryScanStep, impactAnalysisStep);
 
-        stepHelper.runAsGroup("Black Duck Post Actions", OperationType.INTERNAL, () -> {
+        stepScheduler.addStep("Black Duck Post Actions", () -> stepHelper.runAsGroup("Black Duck Post Actions", OperationType.INTERNAL, () -> {
+            ProjectVersionWrapper projectVersion = getProjectVersion(projectStep);
             checkPolicy(projectVersion.getProjectVersionView(), blackDuckRunData);
             riskReport(blackDuckRunData, projectVersion);
             noticesReport(blackDuckRunData, projectVersion);
             publishPostResults(bdioResult, projectVersion, detectToolFilter);
-        });
+        }), waitStep);
+
+        stepScheduler.runSteps();
+    }
+
+    private ProjectVersionWrapper getProjectVersion(ScheduledStep<ProjectVersionWrapper> projectStep) {
+        return projectStep.getValue().orElse(null);
     }
 
     public void uploadBdio(BlackDuckRunData blackDuckRunData, BdioResult bdioResult, CodeLocationAccumulator codeLocationAccumulator) throws DetectUserFriendlyException, IntegrationException {
@@ -7,11 +7,13 @@
  */
 package com.synopsys.integration.detect.lifecycle.run.step;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +26,8 @@ import com.synopsys.integration.detect.configuration.enumeration.DetectTool;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.run.operation.OperationFactory;
 import com.synopsys.integration.detect.lifecycle.run.step.utility.StepHelper;
+import com.synopsys.integration.detect.lifecycle.run.step.utility.StepScheduler;
+import com.synopsys.integration.detect.lifecycle.run.step.utility.StepScheduler.ScheduledStep;
 import com.synopsys.integration.detect.tool.DetectableTool;
 import com.synopsys.integration.detect.tool.DetectableToolResult;
 import com.synopsys.integration.detect.tool.UniversalToolsResult;
@@ -50,18 +54,18 @@ public class UniversalStepRunner {
         this.stepHelper = stepHelper;
     }
 
-    public UniversalToolsResult runUniversalTools() throws DetectUserFriendlyException, IntegrationException {
-        UniversalToolsResultBuilder resultBuilder = new UniversalToolsResultBuilder();
-
-        stepHelper.runToolIfIncluded(DetectTool.DOCKER, "Docker", this::runDocker)
-            .ifPresent(resultBuilder::addDetectableToolResult);
-
-        stepHelper.runToolIfIncluded(DetectTool.BAZEL, "Bazel", this::runBazel)
-            .ifPresent(resultBuilder::addDetectableToolResult);
-
-        stepHelper.runToolIfIncluded(DetectTool.DETECTOR, "Detectors", this::runDetectors)
-            .ifPresent(resultBuilder::addDetectorToolResult);
+    public UniversalToolsResult runUniversalTools() throws DetectUserFriendlyException, IntegrationException, InterruptedException, IOException {
+        // Docker, Bazel and the detectors do not depend on each other. Results are combined in this order regardless of which finishes first.
+        StepScheduler stepScheduler = stepHelper.createStepScheduler();
+        ScheduledStep<Optional<DetectableToolResult>> dockerStep = stepScheduler.addStep("Docker", () -> stepHelper.runToolIfIncluded(DetectTool.DOCKER, "Docker", this::runDocker));
+        ScheduledStep<Optional<DetectableToolResult>> bazelStep = stepScheduler.addStep("Bazel", () -> stepHelper.runToolIfIncluded(DetectTool.BAZEL, "Bazel", this::runBazel));
+        ScheduledStep<Optional<DetectorToolResult>> detectorStep = stepScheduler.addStep("Detectors", () -> stepHelper.runToolIfIncluded(DetectTool.DETECTOR, "Detectors", this::runDetectors));
+        stepScheduler.runSteps();
 
+        UniversalToolsResultBuilder resultBuilder = new UniversalToolsResultBuilder();
+        dockerStep.getValue().flatMap(Function.identity()).ifPresent(resultBuilder::addDetectableToolResult);
+        bazelStep.getValue().flatMap(Function.identity()).ifPresent(resultBuilder::addDetectableToolResult);
+        detectorStep.getValue().flatMap(Function.identity()).ifPresent(resultBuilder::addDetectorToolResult);
         return resultBuilder.build();
     }
 
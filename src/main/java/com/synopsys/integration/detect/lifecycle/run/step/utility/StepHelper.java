@@ -26,11 +26,21 @@ public class StepHelper {
     private final OperationSystem operationSystem;
     private final OperationWrapper operationWrapper;
     private final DetectToolFilter detectToolFilter;
+    private final boolean parallelTools;
 
     public StepHelper(final OperationSystem operationSystem, final OperationWrapper operationWrapper, DetectToolFilter detectToolFilter) {
+        this(operationSystem, operationWrapper, detectToolFilter, false);
+    }
+
+    public StepHelper(final OperationSystem operationSystem, final OperationWrapper operationWrapper, DetectToolFilter detectToolFilter, boolean parallelTools) {
         this.operationSystem = operationSystem;
         this.operationWrapper = operationWrapper;
         this.detectToolFilter = detectToolFilter;
+        this.parallelTools = parallelTools;
+    }
+
+    public StepScheduler createStepScheduler() {
+        return new StepScheduler(parallelTools);
     }
 
     public void runToolIfIncluded(DetectTool detectTool, String name, OperationWrapper.OperationFunction supplier) throws DetectUserFriendlyException {
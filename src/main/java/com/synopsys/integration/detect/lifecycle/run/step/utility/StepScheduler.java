@@ -0,0 +1,164 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.lifecycle.run.step.utility;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
+import com.synopsys.integration.exception.IntegrationException;
+
+// Steps may only depend on steps that were added before them, so the steps always form a DAG and the order they were added in is a valid sequential order.
+// When concurrent, a step starts as soon as the steps it depends on have finished. Once any step fails no further steps are started, matching the sequential behaviour.
+public class StepScheduler {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final boolean concurrent;
+    private final List<ScheduledStep<?>> steps = new ArrayList<>();
+
+    public StepScheduler(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    public ScheduledStep<Boolean> addStep(String name, OperationWrapper.OperationFunction function, ScheduledStep<?>... dependencies) {
+        return addStep(name, () -> {
+            function.execute();
+            return true;
+        }, dependencies);
+    }
+
+    public <T> ScheduledStep<T> addStep(String name, OperationWrapper.OperationSupplier<T> supplier, ScheduledStep<?>... dependencies) {
+        ScheduledStep<T> step = new ScheduledStep<>(name, supplier, Arrays.asList(dependencies));
+        steps.add(step);
+        return step;
+    }
+
+    public void runSteps() throws DetectUserFriendlyException, IntegrationException, InterruptedException, IOException {
+        if (concurrent) {
+            runStepsConcurrently();
+        } else {
+            for (ScheduledStep<?> step : steps) {
+                step.execute();
+            }
+        }
+    }
+
+    private void runStepsConcurrently() throws DetectUserFriendlyException, IntegrationException, InterruptedException, IOException {
+        ExecutorService stepExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "detect-step");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicBoolean anyFailed = new AtomicBoolean(false);
+        try {
+            for (ScheduledStep<?> step : steps) {
+                CompletableFuture<?>[] dependencyFutures = step.dependencies.stream()
+                                                               .map(dependency -> dependency.future)
+                                                               .toArray(CompletableFuture[]::new);
+                step.future = CompletableFuture.allOf(dependencyFutures).thenRunAsync(() -> {
+                    if (anyFailed.get()) {
+                        logger.debug("Skipping step '{}' as a previous step failed.", step.name);
+                        return;
+                    }
+                    try {
+                        step.execute();
+                    } catch (Exception e) {
+                        anyFailed.set(true);
+                        throw new StepFailedException(e);
+                    }
+                }, stepExecutor);
+            }
+
+            for (ScheduledStep<?> step : steps) {
+                try {
+                    step.future.get();
+                } catch (ExecutionException e) {
+                    logger.trace("Step '{}' did not complete.", step.name);
+                }
+            }
+        } finally {
+            stepExecutor.shutdownNow();
+        }
+
+        // The failure reported is the first in the sequential order so the outcome does not depend on timing.
+        for (ScheduledStep<?> step : steps) {
+            if (step.failure != null) {
+                rethrow(step.failure);
+            }
+        }
+    }
+
+    private void rethrow(Exception failure) throws DetectUserFriendlyException, IntegrationException, InterruptedException, IOException {
+        if (failure instanceof DetectUserFriendlyException) {
+            throw (DetectUserFriendlyException) failure;
+        } else if (failure instanceof IntegrationException) {
+            throw (IntegrationException) failure;
+        } else if (failure instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            throw (InterruptedException) failure;
+        } else if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else {
+            throw new DetectUserFriendlyException(String.format("There was a problem: %s", failure.getMessage()), failure, ExitCodeType.FAILURE_GENERAL_ERROR);
+        }
+    }
+
+    public static class ScheduledStep<T> {
+        private final String name;
+        private final OperationWrapper.OperationSupplier<T> supplier;
+        private final List<ScheduledStep<?>> dependencies;
+        private CompletableFuture<Void> future;
+        private volatile T value;
+        private volatile Exception failure;
+
+        private ScheduledStep(String name, OperationWrapper.OperationSupplier<T> supplier, List<ScheduledStep<?>> dependencies) {
+            this.name = name;
+            this.supplier = supplier;
+            this.dependencies = dependencies;
+        }
+
+        private void execute() throws DetectUserFriendlyException, IntegrationException, InterruptedException, IOException {
+            try {
+                value = supplier.execute();
+            } catch (DetectUserFriendlyException | IntegrationException | InterruptedException | IOException | RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        // Only present once the scheduler has run and the step succeeded.
+        public Optional<T> getValue() {
+            return Optional.ofNullable(value);
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class StepFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public StepFailedException(Exception cause) {
+            super(cause);
+        }
+    }
+}
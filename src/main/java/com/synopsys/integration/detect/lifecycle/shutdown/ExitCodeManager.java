@@ -27,15 +27,15 @@ public class ExitCodeManager {
         requestExitCode(exitCodeUtility.getExitCodeFromExceptionDetails(e));
     }
 
-    public void requestExitCode(final ExitCodeType exitCodeType) {
+    public synchronized void requestExitCode(final ExitCodeType exitCodeType) {
         exitCodeRequests.add(new ExitCodeRequest(exitCodeType));
     }
 
-    public void addExitCodeRequest(final ExitCodeRequest request) {
+    public synchronized void addExitCodeRequest(final ExitCodeRequest request) {
         exitCodeRequests.add(request);
     }
 
-    public ExitCodeType getWinningExitCode() {
+    public synchronized ExitCodeType getWinningExitCode() {
         ExitCodeType winningExitCodeType = ExitCodeType.SUCCESS;
         for (final ExitCodeRequest exitCodeRequest : exitCodeRequests) {
             winningExitCodeType = ExitCodeType.getWinningExitCodeType(winningExitCodeType, exitCodeRequest.getExitCodeType());
@@ -18,10 +18,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.DirectoryIndex;
+import com.synopsys.integration.common.util.finder.DirectoryIndexRegistry;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodePublisher;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
@@ -43,6 +45,7 @@ import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorAggregateEvaluationResult;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluator;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
 import com.synopsys.integration.detector.finder.DetectorFinder;
 import com.synopsys.integration.detector.finder.DetectorFinderOptions;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
@@ -58,9 +61,17 @@ public class DetectorTool {
     private final StatusEventPublisher statusEventPublisher;
     private final ExitCodePublisher exitCodePublisher;
     private final DetectorEventPublisher detectorEventPublisher;
+    @Nullable
+    private final ExtractionCache extractionCache;
 
     public DetectorTool(DetectorFinder detectorFinder, ExtractionEnvironmentProvider extractionEnvironmentProvider, EventSystem eventSystem, CodeLocationConverter codeLocationConverter,
         DetectorIssuePublisher detectorIssuePublisher, StatusEventPublisher statusEventPublisher, ExitCodePublisher exitCodePublisher, DetectorEventPublisher detectorEventPublisher) {
+        this(detectorFinder, extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, statusEventPublisher, exitCodePublisher, detectorEventPublisher, null);
+    }
+
+    public DetectorTool(DetectorFinder detectorFinder, ExtractionEnvironmentProvider extractionEnvironmentProvider, EventSystem eventSystem, CodeLocationConverter codeLocationConverter,
+        DetectorIssuePublisher detectorIssuePublisher, StatusEventPublisher statusEventPublisher, ExitCodePublisher exitCodePublisher, DetectorEventPublisher detectorEventPublisher,
+        @Nullable ExtractionCache extractionCache) {
         this.detectorFinder = detectorFinder;
         this.extractionEnvironmentProvider = extractionEnvironmentProvider;
         this.eventSystem = eventSystem;
@@ -69,15 +80,16 @@ public class DetectorTool {
         this.statusEventPublisher = statusEventPublisher;
         this.exitCodePublisher = exitCodePublisher;
         this.detectorEventPublisher = detectorEventPublisher;
+        this.extractionCache = extractionCache;
     }
 
     public DetectorToolResult performDetectors(File directory, DetectorRuleSet detectorRuleSet, DetectorFinderOptions detectorFinderOptions, DetectorEvaluationOptions evaluationOptions, String projectDetector,
-        List<DetectorType> requiredDetectors, FileFinder fileFinder) {
+        List<DetectorType> requiredDetectors, DirectoryIndexRegistry directoryIndexRegistry) {
         logger.debug("Initializing detector system.");
         Optional<DetectorEvaluationTree> possibleRootEvaluation;
 
         logger.debug("Starting detector file system traversal.");
-        possibleRootEvaluation = detectorFinder.findDetectors(directory, detectorRuleSet, detectorFinderOptions, fileFinder);
+        possibleRootEvaluation = detectorFinder.findDetectors(directory, detectorRuleSet, detectorFinderOptions);
 
         if (!possibleRootEvaluation.isPresent()) {
             logger.error("The source directory could not be searched for detectors - detector tool failed.");
@@ -93,10 +105,20 @@ public class DetectorTool {
         //DetectorNameVersionHandler detectorNameVersionHandler = createNameVersionHandler(projectDetector);
         DetectorEvaluatorBroadcaster eventBroadcaster = new DetectorEvaluatorBroadcaster(eventSystem);
 
+        // Directory listings taken during traversal answer applicable lookups. They are dropped once applicable completes since extractions may change the source directory.
+        List<DirectoryIndex> directoryIndexes = rootEvaluation.asFlatList().stream()
+                                                    .map(DetectorEvaluationTree::takeDirectoryIndex)
+                                                    .filter(Optional::isPresent)
+                                                    .map(Optional::get)
+                                                    .collect(Collectors.toList());
+        directoryIndexRegistry.addIndexes(directoryIndexes);
+
         DetectorEvaluator detectorEvaluator = new DetectorEvaluator(evaluationOptions, extractionEnvironmentProvider::createExtractionEnvironment);
         detectorEvaluator.setDetectorEvaluatorListener(eventBroadcaster);
+        detectorEvaluator.setExtractionCache(extractionCache);
 
         detectorEvaluator.registerPostApplicableCallback(detectorAggregateEvaluationResult -> {
+            directoryIndexRegistry.clearIndexes();
             detectorEventPublisher.publishApplicableCompleted(detectorAggregateEvaluationResult.getApplicableDetectorTypesRecursively());
             detectorEventPublisher.publishSearchCompleted(detectorAggregateEvaluationResult.getEvaluationTree());
             logger.info("");
@@ -114,7 +136,12 @@ public class DetectorTool {
 
         detectorEvaluator.registerPostExtractionCallback(detectorAggregateEvaluationResult -> detectorEventPublisher.publishExtractionsCompleted(detectorAggregateEvaluationResult.getEvaluationTree()));
 
-        DetectorAggregateEvaluationResult evaluationResult = detectorEvaluator.evaluate(rootEvaluation);
+        DetectorAggregateEvaluationResult evaluationResult;
+        try {
+            evaluationResult = detectorEvaluator.evaluate(rootEvaluation);
+        } finally {
+            directoryIndexRegistry.clearIndexes();
+        }
 
         logger.debug("Finished detectors."); // TODO- finished extractions?
 
@@ -11,6 +11,11 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
@@ -35,24 +40,39 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
     private final boolean shouldLogOutput;
     private ProcessBuilderRunner runner;
     private ProcessBuilderRunner secretRunner;
-
-    private DetectExecutableRunner(Logger logger, final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput) {
+    private StreamingProcessRunner streamingRunner;
+    private StreamingProcessRunner secretStreamingRunner;
+    // Every process, synchronous or not, holds a permit while it runs so the number of child processes stays bounded no matter how many callers run at once. Unbounded unless detect.parallel.executables is set.
+    private final Semaphore processPermits;
+    private final ExecutorService asyncExecutor;
+    private final ExecutorService errorOutputExecutor;
+
+    private DetectExecutableRunner(Logger logger, final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput, int maximumConcurrentProcesses) {
         this.logger = logger;
         runner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), outputConsumer, traceConsumer);
         secretRunner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), (line) -> {}, line -> {});
+        this.errorOutputExecutor = Executors.newCachedThreadPool(runnable -> createDaemonThread(runnable, "detect-executable-error-output"));
+        streamingRunner = new StreamingProcessRunner(new Slf4jIntLogger(logger), outputConsumer, traceConsumer, errorOutputExecutor);
+        secretStreamingRunner = new StreamingProcessRunner(new Slf4jIntLogger(logger), (line) -> {}, line -> {}, errorOutputExecutor);
         this.eventSystem = eventSystem;
         this.shouldLogOutput = shouldLogOutput;
-
+        this.processPermits = new Semaphore(Math.max(maximumConcurrentProcesses, 1), true);
+        // Unbounded so an asynchronous execution never waits on a thread held by the caller it is nested in, the permits alone limit the processes.
+        this.asyncExecutor = Executors.newCachedThreadPool(runnable -> createDaemonThread(runnable, "detect-executable"));
     }
 
     public static DetectExecutableRunner newDebug(EventSystem eventSystem) {
+        return newDebug(eventSystem, Integer.MAX_VALUE);
+    }
+
+    public static DetectExecutableRunner newDebug(EventSystem eventSystem, int maximumConcurrentProcesses) {
         Logger logger = LoggerFactory.getLogger(DetectExecutableRunner.class);
-        return new DetectExecutableRunner(logger, logger::debug, logger::trace, eventSystem, true);
+        return new DetectExecutableRunner(logger, logger::debug, logger::trace, eventSystem, true, maximumConcurrentProcesses);
     }
 
     public static DetectExecutableRunner newInfo(EventSystem eventSystem) {
         Logger logger = LoggerFactory.getLogger(DetectExecutableRunner.class);
-        return new DetectExecutableRunner(logger, logger::info, logger::trace, eventSystem, false);
+        return new DetectExecutableRunner(logger, logger::info, logger::trace, eventSystem, false, Integer.MAX_VALUE);
     }
 
     @Override
@@ -90,20 +110,14 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
         if (outputContainsSecret) {
             targetRunner = secretRunner;
         }
-        ExecutableOutput output = targetRunner.execute(executable);
-        eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, executable));
-        boolean normallyLogOutput = output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled();
-        if (normallyLogOutput && !outputContainsSecret) {
-            if (StringUtils.isNotBlank(output.getStandardOutput())) {
-                logger.info("Standard Output: ");
-                logger.info(output.getStandardOutput());
-            }
-
-            if (StringUtils.isNotBlank(output.getErrorOutput())) {
-                logger.info("Error Output: ");
-                logger.info(output.getErrorOutput());
-            }
+        ExecutableOutput output;
+        acquireProcessPermit();
+        try {
+            output = targetRunner.execute(executable);
+        } finally {
+            processPermits.release();
         }
+        publishAndLogOutput(executable, output, outputContainsSecret);
         return output;
     }
 
@@ -131,4 +145,82 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
             throw new ExecutableFailedException(executable, e);
         }
     }
+
+    @NotNull
+    @Override
+    public CompletableFuture<ExecutableOutput> executeAsync(final Executable executable) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(executable);
+            } catch (ExecutableRunnerException e) {
+                throw new CompletionException(e);
+            }
+        }, asyncExecutor);
+    }
+
+    @NotNull
+    public ExecutableOutput executeStreaming(final Executable executable, final Consumer<String> standardOutputConsumer, boolean outputContainsSecret) throws ExecutableRunnerException {
+        StreamingProcessRunner targetRunner = streamingRunner;
+        if (outputContainsSecret) {
+            targetRunner = secretStreamingRunner;
+        }
+        ExecutableOutput output;
+        acquireProcessPermit();
+        try {
+            output = targetRunner.execute(executable, standardOutputConsumer);
+        } finally {
+            processPermits.release();
+        }
+        publishAndLogOutput(executable, output, outputContainsSecret);
+        return output;
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutput executeStreaming(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        return executeStreaming(executable, standardOutputConsumer, false);
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<ExecutableOutput> executeStreamingAsync(final Executable executable, final Consumer<String> standardOutputConsumer) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeStreaming(executable, standardOutputConsumer);
+            } catch (ExecutableRunnerException e) {
+                throw new CompletionException(e);
+            }
+        }, asyncExecutor);
+    }
+
+    private void publishAndLogOutput(Executable executable, ExecutableOutput output, boolean outputContainsSecret) {
+        eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, executable));
+        boolean normallyLogOutput = output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled();
+        if (normallyLogOutput && !outputContainsSecret) {
+            if (StringUtils.isNotBlank(output.getStandardOutput())) {
+                logger.info("Standard Output: ");
+                logger.info(output.getStandardOutput());
+            }
+
+            if (StringUtils.isNotBlank(output.getErrorOutput())) {
+                logger.info("Error Output: ");
+                logger.info(output.getErrorOutput());
+            }
+        }
+    }
+
+    private static Thread createDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void acquireProcessPermit() throws ExecutableRunnerException {
+        try {
+            processPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutableRunnerException(e);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+import com.synopsys.integration.log.IntLogger;
+
+// Takes the same logger and output/trace consumers as ProcessBuilderRunner, but hands each line of standard output to the caller instead of collecting it, so the standard output of the returned ExecutableOutput is always empty.
+public class StreamingProcessRunner {
+    private final IntLogger logger;
+    private final Consumer<String> outputConsumer;
+    private final Consumer<String> traceConsumer;
+    private final ExecutorService errorOutputExecutor;
+
+    public StreamingProcessRunner(IntLogger logger, Consumer<String> outputConsumer, Consumer<String> traceConsumer, ExecutorService errorOutputExecutor) {
+        this.logger = logger;
+        this.outputConsumer = outputConsumer;
+        this.traceConsumer = traceConsumer;
+        this.errorOutputExecutor = errorOutputExecutor;
+    }
+
+    public ExecutableOutput execute(Executable executable, Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        logger.info("Running executable >" + executable.getExecutableDescription());
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(executable.getCommandWithArguments())
+                                                .directory(executable.getWorkingDirectory());
+            processBuilder.environment().putAll(executable.getEnvironmentVariables());
+            Process process = processBuilder.start();
+
+            // Error output is drained on its own thread so a full error pipe can never stall the process while standard output is being consumed.
+            CompletableFuture<String> errorOutput = CompletableFuture.supplyAsync(() -> readErrorOutput(process), errorOutputExecutor);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), Charset.defaultCharset()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    outputConsumer.accept(line);
+                    traceConsumer.accept(line);
+                    standardOutputConsumer.accept(line);
+                }
+            } catch (IOException | RuntimeException e) {
+                process.destroy();
+                throw e;
+            }
+
+            int returnCode = process.waitFor();
+            return new ExecutableOutput(returnCode, "", errorOutput.join());
+        } catch (IOException e) {
+            throw new ExecutableRunnerException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutableRunnerException(e);
+        }
+    }
+
+    private String readErrorOutput(Process process) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream(), Charset.defaultCharset()))) {
+            return reader.lines()
+                       .peek(outputConsumer)
+                       .peek(traceConsumer)
+                       .collect(Collectors.joining(System.lineSeparator()));
+        } catch (IOException e) {
+            logger.debug("Unable to read the error output of a process.", e);
+            return "";
+        }
+    }
+}
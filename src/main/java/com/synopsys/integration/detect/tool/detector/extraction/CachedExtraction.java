@@ -0,0 +1,44 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// The stored form of a successful extraction. Graphs are flattened into a dependency table with roots and edges referring to table indexes.
+public class CachedExtraction {
+    public String projectName;
+    public String projectVersion;
+    public List<CachedCodeLocation> codeLocations = new ArrayList<>();
+    public List<String> relativeRelevantFiles = new ArrayList<>();
+    public List<String> relativeUnrecognizedPaths = new ArrayList<>();
+    public List<CachedMetadata> metadata = new ArrayList<>();
+
+    public static class CachedCodeLocation {
+        public String relativeSourcePath;
+        public ExternalId externalId;
+        public List<CachedDependency> dependencies = new ArrayList<>();
+        public List<Integer> rootIndexes = new ArrayList<>();
+        public List<int[]> edges = new ArrayList<>();
+    }
+
+    // Only String and File values can be stored, files are kept relative to the source directory like every other path.
+    public static class CachedMetadata {
+        public String key;
+        public String type;
+        public String value;
+    }
+
+    public static class CachedDependency {
+        public String name;
+        public String version;
+        public ExternalId externalId;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.synopsys.integration.detector.base.DetectorType;
+
+public class ExtractionCacheOptions {
+    private final boolean enabled;
+    private final int maximumEntries;
+    private final Map<DetectorType, Map<String, String>> detectorProperties;
+
+    public ExtractionCacheOptions(boolean enabled, int maximumEntries, Map<DetectorType, Map<String, String>> detectorProperties) {
+        this.enabled = enabled;
+        this.maximumEntries = maximumEntries;
+        this.detectorProperties = detectorProperties;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaximumEntries() {
+        return maximumEntries;
+    }
+
+    public Optional<Map<String, String>> getDetectorProperties(DetectorType detectorType) {
+        return Optional.ofNullable(detectorProperties.get(detectorType));
+    }
+}
@@ -8,6 +8,7 @@
 package com.synopsys.integration.detect.tool.detector.extraction;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.synopsys.integration.detect.tool.detector.DetectExtractionEnvironment;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
@@ -16,23 +17,21 @@ import com.synopsys.integration.detector.base.DetectorEvaluation;
 
 public class ExtractionEnvironmentProvider {
     private final DirectoryManager directoryManager;
-    private int count = 0;
+    private final AtomicInteger count = new AtomicInteger();
 
     public ExtractionEnvironmentProvider(DirectoryManager directoryManager) {
         this.directoryManager = directoryManager;
     }
 
     public ExtractionEnvironment createExtractionEnvironment(DetectorEvaluation detectorEvaluation) {
-        ExtractionId extractionId = new ExtractionId(detectorEvaluation.getDetectorType(), count);
-        count = count + 1;
+        ExtractionId extractionId = new ExtractionId(detectorEvaluation.getDetectorType(), count.getAndIncrement());
 
         File outputDirectory = directoryManager.getExtractionOutputDirectory(extractionId);
         return new DetectExtractionEnvironment(outputDirectory, extractionId);
     }
 
     public ExtractionEnvironment createExtractionEnvironment(String name) {
-        ExtractionId extractionId = new ExtractionId(name, count);
-        count = count + 1;
+        ExtractionId extractionId = new ExtractionId(name, count.getAndIncrement());
 
         File outputDirectory = directoryManager.getExtractionOutputDirectory(extractionId);
         return new DetectExtractionEnvironment(outputDirectory, extractionId);
@@ -0,0 +1,282 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.common.util.CacheFileUtil;
+import com.synopsys.integration.detect.tool.detector.extraction.CachedExtraction.CachedCodeLocation;
+import com.synopsys.integration.detect.tool.detector.extraction.CachedExtraction.CachedDependency;
+import com.synopsys.integration.detect.tool.detector.extraction.CachedExtraction.CachedMetadata;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionMetadata;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
+
+// Extractions are stored as json files named by a hash of everything the extraction depends on: the detect version, the rule, the properties listed for the detector and the paths and contents of its relevant files.
+// A hit touches the file so the least recently used entries are the ones removed once the cache grows past its maximum size.
+public class PersistentExtractionCache implements ExtractionCache {
+    private static final String CACHE_FORMAT_VERSION = "3";
+    private static final String STRING_METADATA = "string";
+    private static final String FILE_METADATA = "file";
+    private static final String ENTRY_EXTENSION = ".json";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File cacheDirectory;
+    private final Gson gson;
+    private final String detectVersion;
+    private final ExtractionCacheOptions extractionCacheOptions;
+    private final Object pruneLock = new Object();
+    // The key found before a missed extraction ran is the one it is stored under, so the relevant files are hashed once and a file the extraction rewrites cannot change it.
+    private final Map<DetectorEvaluation, File> missedEntryFiles = new ConcurrentHashMap<>();
+
+    public PersistentExtractionCache(File cacheDirectory, Gson gson, String detectVersion, ExtractionCacheOptions extractionCacheOptions) {
+        this.cacheDirectory = cacheDirectory;
+        this.gson = gson;
+        this.detectVersion = detectVersion;
+        this.extractionCacheOptions = extractionCacheOptions;
+    }
+
+    @Override
+    public Optional<Extraction> findExtraction(DetectorEvaluation detectorEvaluation) {
+        Optional<File> entryFile = findEntryFile(detectorEvaluation);
+        if (!entryFile.isPresent()) {
+            return Optional.empty();
+        } else if (!entryFile.get().isFile()) {
+            missedEntryFiles.put(detectorEvaluation, entryFile.get());
+            return Optional.empty();
+        }
+
+        try (Reader reader = Files.newBufferedReader(entryFile.get().toPath(), StandardCharsets.UTF_8)) {
+            CachedExtraction cachedExtraction = gson.fromJson(reader, CachedExtraction.class);
+            if (cachedExtraction == null) {
+                missedEntryFiles.put(detectorEvaluation, entryFile.get());
+                return Optional.empty();
+            }
+            CacheFileUtil.touch(entryFile.get());
+            return Optional.of(toExtraction(cachedExtraction, detectorEvaluation.getDetectableEnvironment().getDirectory()));
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Unable to read cached extraction, it will be ignored: " + entryFile.get(), e);
+            missedEntryFiles.put(detectorEvaluation, entryFile.get());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void storeExtraction(DetectorEvaluation detectorEvaluation, Extraction extraction) {
+        Optional<File> entryFile = Optional.ofNullable(missedEntryFiles.remove(detectorEvaluation));
+        if (!entryFile.isPresent()) {
+            entryFile = findEntryFile(detectorEvaluation);
+        }
+        if (!entryFile.isPresent()) {
+            return;
+        }
+
+        try {
+            CachedExtraction cachedExtraction = fromExtraction(extraction, detectorEvaluation.getDetectableEnvironment().getDirectory());
+            CacheFileUtil.writeAtomically(entryFile.get(), "extraction", temporaryFile -> {
+                try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    gson.toJson(cachedExtraction, writer);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Unable to cache extraction: " + entryFile.get(), e);
+            return;
+        }
+        pruneCache();
+    }
+
+    private Optional<File> findEntryFile(DetectorEvaluation detectorEvaluation) {
+        if (!detectorEvaluation.getDetectorRule().isExtractionCacheable()) {
+            return Optional.empty();
+        }
+        List<File> relevantFiles = detectorEvaluation.getAllRelevantFiles();
+        if (relevantFiles.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Map<String, String>> detectorProperties = extractionCacheOptions.getDetectorProperties(detectorEvaluation.getDetectorType());
+        if (!detectorProperties.isPresent()) {
+            logger.debug("The properties of this detector are unknown to the extraction cache, it will not be cached: " + detectorEvaluation.getDetectorRule().getDescriptiveName());
+            return Optional.empty();
+        }
+
+        try {
+            MessageDigest digest = CacheFileUtil.createDigest();
+            CacheFileUtil.updateDigest(digest, CACHE_FORMAT_VERSION);
+            CacheFileUtil.updateDigest(digest, detectVersion);
+            CacheFileUtil.updateDigest(digest, detectorEvaluation.getDetectorRule().getDescriptiveName());
+
+            Map<String, String> sortedProperties = new TreeMap<>(detectorProperties.get());
+            for (Map.Entry<String, String> property : sortedProperties.entrySet()) {
+                CacheFileUtil.updateDigest(digest, property.getKey());
+                CacheFileUtil.updateDigest(digest, property.getValue());
+            }
+
+            // Keyed by path rather than name, a detector can have several relevant files with the same name in different directories.
+            Path sourceDirectory = detectorEvaluation.getDetectableEnvironment().getDirectory().toPath().toAbsolutePath().normalize();
+            Map<String, File> sortedFiles = new TreeMap<>();
+            relevantFiles.forEach(file -> sortedFiles.put(sourceDirectory.relativize(file.toPath().toAbsolutePath().normalize()).toString(), file));
+            for (Map.Entry<String, File> relevantFile : sortedFiles.entrySet()) {
+                CacheFileUtil.updateDigest(digest, relevantFile.getKey());
+                CacheFileUtil.updateDigest(digest, CacheFileUtil.hashFile(relevantFile.getValue()));
+            }
+            return Optional.of(new File(cacheDirectory, CacheFileUtil.toHex(digest.digest()) + ENTRY_EXTENSION));
+        } catch (NoSuchAlgorithmException | IOException e) {
+            logger.debug("Unable to compute the extraction cache key for: " + detectorEvaluation.getDetectorRule().getDescriptiveName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private void pruneCache() {
+        synchronized (pruneLock) {
+            CacheFileUtil.pruneLeastRecentlyUsed(cacheDirectory, ENTRY_EXTENSION, extractionCacheOptions.getMaximumEntries());
+        }
+    }
+
+    private CachedExtraction fromExtraction(Extraction extraction, File sourceDirectory) {
+        CachedExtraction cachedExtraction = new CachedExtraction();
+        cachedExtraction.projectName = extraction.getProjectName();
+        cachedExtraction.projectVersion = extraction.getProjectVersion();
+        for (CodeLocation codeLocation : extraction.getCodeLocations()) {
+            cachedExtraction.codeLocations.add(fromCodeLocation(codeLocation, sourceDirectory));
+        }
+        extraction.getRelevantFiles().forEach(file -> cachedExtraction.relativeRelevantFiles.add(relativize(sourceDirectory, file)));
+        extraction.getUnrecognizedPaths().forEach(file -> cachedExtraction.relativeUnrecognizedPaths.add(relativize(sourceDirectory, file)));
+        for (Map.Entry<ExtractionMetadata, Object> metadata : extraction.getMetaData().entrySet()) {
+            cachedExtraction.metadata.add(fromMetadata(metadata.getKey(), metadata.getValue(), sourceDirectory));
+        }
+        return cachedExtraction;
+    }
+
+    private CachedMetadata fromMetadata(ExtractionMetadata<?> key, Object value, File sourceDirectory) {
+        CachedMetadata cachedMetadata = new CachedMetadata();
+        cachedMetadata.key = key.getKey();
+        if (value instanceof String) {
+            cachedMetadata.type = STRING_METADATA;
+            cachedMetadata.value = (String) value;
+        } else if (value instanceof File) {
+            cachedMetadata.type = FILE_METADATA;
+            cachedMetadata.value = relativize(sourceDirectory, (File) value);
+        } else {
+            throw new IllegalArgumentException(String.format("Extraction metadata '%s' cannot be cached, only text and file values can be.", key.getKey()));
+        }
+        return cachedMetadata;
+    }
+
+    private String relativize(File sourceDirectory, File file) {
+        return sourceDirectory.toPath().relativize(file.toPath()).toString();
+    }
+
+    private CachedCodeLocation fromCodeLocation(CodeLocation codeLocation, File sourceDirectory) {
+        CachedCodeLocation cachedCodeLocation = new CachedCodeLocation();
+        cachedCodeLocation.externalId = codeLocation.getExternalId().orElse(null);
+        cachedCodeLocation.relativeSourcePath = codeLocation.getSourcePath()
+                                                    .map(sourcePath -> relativize(sourceDirectory, sourcePath))
+                                                    .orElse(null);
+
+        DependencyGraph graph = codeLocation.getDependencyGraph();
+        Map<Dependency, Integer> indexes = new HashMap<>();
+        Queue<Dependency> unprocessed = new LinkedList<>();
+        for (Dependency root : graph.getRootDependencies()) {
+            cachedCodeLocation.rootIndexes.add(indexOf(root, indexes, unprocessed, cachedCodeLocation));
+        }
+        while (!unprocessed.isEmpty()) {
+            Dependency parent = unprocessed.remove();
+            int parentIndex = indexes.get(parent);
+            for (Dependency child : graph.getChildrenForParent(parent)) {
+                cachedCodeLocation.edges.add(new int[] { parentIndex, indexOf(child, indexes, unprocessed, cachedCodeLocation) });
+            }
+        }
+        return cachedCodeLocation;
+    }
+
+    private int indexOf(Dependency dependency, Map<Dependency, Integer> indexes, Queue<Dependency> unprocessed, CachedCodeLocation cachedCodeLocation) {
+        Integer existing = indexes.get(dependency);
+        if (existing != null) {
+            return existing;
+        }
+        CachedDependency cachedDependency = new CachedDependency();
+        cachedDependency.name = dependency.getName();
+        cachedDependency.version = dependency.getVersion();
+        cachedDependency.externalId = dependency.getExternalId();
+
+        int index = cachedCodeLocation.dependencies.size();
+        cachedCodeLocation.dependencies.add(cachedDependency);
+        indexes.put(dependency, index);
+        unprocessed.add(dependency);
+        return index;
+    }
+
+    private Extraction toExtraction(CachedExtraction cachedExtraction, File sourceDirectory) {
+        List<CodeLocation> codeLocations = new ArrayList<>();
+        for (CachedCodeLocation cachedCodeLocation : cachedExtraction.codeLocations) {
+            codeLocations.add(toCodeLocation(cachedCodeLocation, sourceDirectory));
+        }
+        Extraction.Builder builder = new Extraction.Builder()
+                                         .projectName(cachedExtraction.projectName)
+                                         .projectVersion(cachedExtraction.projectVersion)
+                                         .success(codeLocations);
+        cachedExtraction.relativeRelevantFiles.forEach(relativePath -> builder.relevantFiles(new File(sourceDirectory, relativePath)));
+        cachedExtraction.relativeUnrecognizedPaths.forEach(relativePath -> builder.unrecognizedPaths(new File(sourceDirectory, relativePath)));
+        for (CachedMetadata cachedMetadata : cachedExtraction.metadata) {
+            if (FILE_METADATA.equals(cachedMetadata.type)) {
+                builder.metaData(new ExtractionMetadata<>(cachedMetadata.key, File.class), new File(sourceDirectory, cachedMetadata.value));
+            } else {
+                builder.metaData(new ExtractionMetadata<>(cachedMetadata.key, String.class), cachedMetadata.value);
+            }
+        }
+        return builder.build();
+    }
+
+    private CodeLocation toCodeLocation(CachedCodeLocation cachedCodeLocation, File sourceDirectory) {
+        List<Dependency> dependencies = new ArrayList<>();
+        for (CachedDependency cachedDependency : cachedCodeLocation.dependencies) {
+            dependencies.add(new Dependency(cachedDependency.name, cachedDependency.version, cachedDependency.externalId));
+        }
+
+        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        for (Integer rootIndex : cachedCodeLocation.rootIndexes) {
+            graph.addChildToRoot(dependencies.get(rootIndex));
+        }
+        for (int[] edge : cachedCodeLocation.edges) {
+            graph.addChildWithParent(dependencies.get(edge[1]), dependencies.get(edge[0]));
+        }
+
+        File sourcePath = Optional.ofNullable(cachedCodeLocation.relativeSourcePath)
+                              .map(relativePath -> new File(sourceDirectory, relativePath))
+                              .orElse(null);
+        return new CodeLocation(graph, cachedCodeLocation.externalId, sourcePath);
+    }
+}
@@ -26,6 +26,7 @@ import com.synopsys.integration.detectable.detectables.cpan.CpanCliDetectable;
 import com.synopsys.integration.detectable.detectables.cran.PackratLockDetectable;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectable;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResolver;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResultCache;
 import com.synopsys.integration.detectable.detectables.git.GitDetectable;
 import com.synopsys.integration.detectable.detectables.git.GitParseDetectable;
 import com.synopsys.integration.detectable.detectables.go.godep.GoDepLockDetectable;
@@ -67,10 +68,18 @@ public class DetectDetectableFactory {
     private final GradleInspectorResolver gradleInspectorResolver;
     private final NugetInspectorResolver nugetInspectorResolver;
     private final PipInspectorResolver pipInspectorResolver;
+    private final DockerInspectorResultCache dockerInspectorResultCache;
 
     public DetectDetectableFactory(DetectableFactory detectableFactory, DetectableOptionFactory detectableOptionFactory, DetectExecutableResolver detectExecutableResolver,
         DockerInspectorResolver dockerInspectorResolver, GradleInspectorResolver gradleInspectorResolver, NugetInspectorResolver nugetInspectorResolver,
         PipInspectorResolver pipInspectorResolver) {
+        this(detectableFactory, detectableOptionFactory, detectExecutableResolver, dockerInspectorResolver, gradleInspectorResolver, nugetInspectorResolver, pipInspectorResolver,
+            new DockerInspectorResultCache(null, 0));
+    }
+
+    public DetectDetectableFactory(DetectableFactory detectableFactory, DetectableOptionFactory detectableOptionFactory, DetectExecutableResolver detectExecutableResolver,
+        DockerInspectorResolver dockerInspectorResolver, GradleInspectorResolver gradleInspectorResolver, NugetInspectorResolver nugetInspectorResolver,
+        PipInspectorResolver pipInspectorResolver, DockerInspectorResultCache dockerInspectorResultCache) {
         this.detectableFactory = detectableFactory;
         this.detectableOptionFactory = detectableOptionFactory;
         this.detectExecutableResolver = detectExecutableResolver;
@@ -78,10 +87,12 @@ public class DetectDetectableFactory {
         this.gradleInspectorResolver = gradleInspectorResolver;
         this.nugetInspectorResolver = nugetInspectorResolver;
         this.pipInspectorResolver = pipInspectorResolver;
+        this.dockerInspectorResultCache = dockerInspectorResultCache;
     }
 
     public DockerDetectable createDockerDetectable(DetectableEnvironment environment) {
-        return detectableFactory.createDockerDetectable(environment, detectableOptionFactory.createDockerDetectableOptions(), dockerInspectorResolver, detectExecutableResolver, detectExecutableResolver);
+        return detectableFactory.createDockerDetectable(environment, detectableOptionFactory.createDockerDetectableOptions(), dockerInspectorResolver, detectExecutableResolver, detectExecutableResolver,
+            dockerInspectorResultCache);
     }
 
     public BazelDetectable createBazelDetectable(DetectableEnvironment environment) {
@@ -39,13 +39,17 @@ import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detectable.detectable.inspector.GradleInspectorResolver;
 import com.synopsys.integration.detectable.detectable.inspector.PipInspectorResolver;
 import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorResolver;
+import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResolver;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResultCache;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptCreator;
 import com.synopsys.integration.detectable.factory.DetectableFactory;
 
 import freemarker.template.Configuration;
 
 public class DetectorFactory {
+    private static final String DOCKER_INSPECTOR_CACHE_DIRECTORY_NAME = "docker-inspector-cache";
+
     private final FileFinder fileFinder;
     private final DetectInfo detectInfo;
     private final DetectExecutableRunner executableRunner;
@@ -78,7 +82,8 @@ public class DetectorFactory {
     }
 
     public DetectDetectableFactory detectDetectableFactory() throws DetectUserFriendlyException {
-        return new DetectDetectableFactory(detectableFactory(), detectableOptionFactory, detectExecutableResolver, dockerInspectorResolver(), gradleInspectorResolver(), nugetInspectorResolver(detectInfo), pipInspectorResolver());
+        return new DetectDetectableFactory(detectableFactory(), detectableOptionFactory, detectExecutableResolver, dockerInspectorResolver(), gradleInspectorResolver(), nugetInspectorResolver(detectInfo), pipInspectorResolver(),
+            dockerInspectorResultCache());
     }
 
     private DockerInspectorResolver dockerInspectorResolver() throws DetectUserFriendlyException {
@@ -86,6 +91,14 @@ public class DetectorFactory {
         return new ArtifactoryDockerInspectorResolver(directoryManager, airGapInspectorPaths, fileFinder, dockerInspectorInstaller, detectableOptionFactory.createDockerDetectableOptions());
     }
 
+    private DockerInspectorResultCache dockerInspectorResultCache() {
+        DockerDetectableOptions dockerDetectableOptions = detectableOptionFactory.createDockerDetectableOptions();
+        if (!dockerDetectableOptions.isInspectorCacheEnabled()) {
+            return new DockerInspectorResultCache(null, 0);
+        }
+        return new DockerInspectorResultCache(directoryManager.getPermanentDirectory(DOCKER_INSPECTOR_CACHE_DIRECTORY_NAME), dockerDetectableOptions.getInspectorCacheMaximumEntries());
+    }
+
     private GradleInspectorResolver gradleInspectorResolver() throws DetectUserFriendlyException {
         return new ArtifactoryGradleInspectorResolver(configuration, detectableOptionFactory.createGradleInspectorOptions().getGradleInspectorScriptOptions(), airGapInspectorPaths, directoryManager);
     }
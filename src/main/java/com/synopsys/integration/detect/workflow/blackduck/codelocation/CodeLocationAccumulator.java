@@ -19,19 +19,19 @@ public class CodeLocationAccumulator {
     private final List<AccumulatedCodeLocationData> waitableCodeLocationData = new ArrayList<>();
     private final Set<String> nonWaitableCodeLocations = new HashSet<>();
 
-    public void addWaitableCodeLocation(CodeLocationCreationData<? extends CodeLocationBatchOutput<?>> creationData) {
+    public synchronized void addWaitableCodeLocation(CodeLocationCreationData<? extends CodeLocationBatchOutput<?>> creationData) {
         waitableCodeLocationData.add(new AccumulatedCodeLocationData(creationData.getOutput().getExpectedNotificationCount(), creationData.getOutput().getSuccessfulCodeLocationNames(), creationData.getNotificationTaskRange()));
     }
 
-    public void addNonWaitableCodeLocation(Set<String> names) {
+    public synchronized void addNonWaitableCodeLocation(Set<String> names) {
         nonWaitableCodeLocations.addAll(names);
     }
 
-    public List<AccumulatedCodeLocationData> getWaitableCodeLocations() {
-        return waitableCodeLocationData;
+    public synchronized List<AccumulatedCodeLocationData> getWaitableCodeLocations() {
+        return new ArrayList<>(waitableCodeLocationData);
     }
 
-    public Set<String> getNonWaitableCodeLocations() {
-        return nonWaitableCodeLocations;
+    public synchronized Set<String> getNonWaitableCodeLocations() {
+        return new HashSet<>(nonWaitableCodeLocations);
     }
 }
@@ -33,7 +33,7 @@ public class DiagnosticExecutableCapture {
         eventSystem.registerListener(Event.Executable, this::executableFinished);
     }
 
-    private void executableFinished(final ExecutedExecutable executed) {
+    private synchronized void executableFinished(final ExecutedExecutable executed) {
         final File errorOut = new File(executableDirectory, "EXE-" + executables + "-ERR.xout");
         final File standardOut = new File(executableDirectory, "EXE-" + executables + "-STD.xout");
         indexToCommand.put(executables, executed.getExecutable().getExecutableDescription());
@@ -47,7 +47,7 @@ public class DiagnosticExecutableCapture {
         executables++;
     }
 
-    public void finish() {
+    public synchronized void finish() {
         if (indexToCommand.size() <= 0) {
             return;
         }
@@ -32,7 +32,7 @@ public class DiagnosticFileCapture {
         eventSystem.registerListener(Event.CustomerFileOfInterest, this::fileFound);
     }
 
-    private void fileFound(final File foundFile) {
+    private synchronized void fileFound(final File foundFile) {
         final File savedFile = new File(fileDirectory, "FILE-" + files + "-" + foundFile.getName());
         fileNames.put(files, foundFile.toString());
 
@@ -45,7 +45,7 @@ public class DiagnosticFileCapture {
         files++;
     }
 
-    public void finish() {
+    public synchronized void finish() {
         if (fileNames.size() <= 0) {
             return;
         }
@@ -62,7 +62,7 @@ public class DiagnosticLogSystem {
         logger.info("Diagnostics is now in control of logging!");
     }
 
-    public void startLoggingExtraction(final ExtractionId extractionId) {
+    public synchronized void startLoggingExtraction(final ExtractionId extractionId) {
         logger.info("Diagnostics attempting to redirect extraction logs: " + extractionId.toUniqueString());
         final File logDir = new File(logDirectory, "extractions");
         logDir.mkdirs();
@@ -71,7 +71,7 @@ public class DiagnosticLogSystem {
         extractionLogger.startLogging();
     }
 
-    public void stopLoggingExtraction(final ExtractionId extractionId) {
+    public synchronized void stopLoggingExtraction(final ExtractionId extractionId) {
         logger.info("Diagnostics finished redirecting for extraction: " + extractionId.toUniqueString());
         if (extractionLogger != null) {
             extractionLogger.stopLogging();
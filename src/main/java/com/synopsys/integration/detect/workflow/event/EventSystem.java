@@ -7,13 +7,14 @@
  */
 package com.synopsys.integration.detect.workflow.event;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+// Tools may run concurrently, so events can be published from several threads at once. Listeners are called without holding any lock, so listeners that keep state must be thread safe.
 public class EventSystem {
-    private final Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    private final Map<EventType, List<EventListener>> eventListenerMap = new ConcurrentHashMap<>();
 
     public <T> void publishEvent(final EventType<T> event, final T payload) {
         for (final EventListener listener : safelyGetListeners(event)) {
@@ -30,13 +31,6 @@ public class EventSystem {
     }
 
     private List<EventListener> safelyGetListeners(final EventType event) {
-        final List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
-        }
-        return listeners;
+        return eventListenerMap.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>());
     }
 }
@@ -10,8 +10,8 @@ package com.synopsys.integration.detect.workflow.file;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,10 +66,11 @@ public class DirectoryManager {
     private final File runDirectory;
     private final File sourceDirectory;
 
-    private final Map<OutputDirectory, File> outputDirectories = new HashMap<>();
-    private final Map<RunDirectory, File> runDirectories = new HashMap<>();
+    // Tools may run at the same time, so these are read and filled from several threads.
+    private final Map<OutputDirectory, File> outputDirectories = new ConcurrentHashMap<>();
+    private final Map<RunDirectory, File> runDirectories = new ConcurrentHashMap<>();
 
-    private final Map<ExtractionId, File> extractionDirectories = new HashMap<>();
+    private final Map<ExtractionId, File> extractionDirectories = new ConcurrentHashMap<>();
 
     public DirectoryManager(DirectoryOptions directoryOptions, DetectRunId detectRunId) {
         sourceDirectory = directoryOptions.getSourcePathOverride()
@@ -132,15 +133,11 @@ public class DirectoryManager {
     }
 
     public File getExtractionOutputDirectory(ExtractionId extractionId) {
-        if (extractionDirectories.containsKey(extractionId)) {
-            return extractionDirectories.get(extractionId);
-        } else {
-            String directoryName = extractionId.toUniqueString();
-            File newDirectory = new File(getRunDirectory(RunDirectory.EXTRACTION), directoryName);
+        return extractionDirectories.computeIfAbsent(extractionId, id -> {
+            File newDirectory = new File(getRunDirectory(RunDirectory.EXTRACTION), id.toUniqueString());
             newDirectory.mkdir();
-            extractionDirectories.put(extractionId, newDirectory);
             return newDirectory;
-        }
+        });
     }
 
     public File getSourceDirectory() {
@@ -28,15 +28,15 @@ public class Timekeeper<T> {
         }
     }
 
-    public void started(final T key) {
+    public synchronized void started(final T key) {
         getStopWatch(key).start();
     }
 
-    public void ended(final T key) {
+    public synchronized void ended(final T key) {
         getStopWatch(key).stop();
     }
 
-    public List<Timing<T>> getTimings() {
+    public synchronized List<Timing<T>> getTimings() {
         final List<Timing<T>> bomToolTimings = new ArrayList<>();
         for (final T key : stopWatches.keySet()) {
             final StopWatch sw = stopWatches.get(key);
@@ -9,6 +9,7 @@ package com.synopsys.integration.detect.workflow.report.output;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -38,15 +40,16 @@ import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.util.NameVersion;
 
 public class FormattedOutputManager {
-    private final Set<String> codeLocations = new HashSet<>();
-    private final List<Status> statusSummaries = new ArrayList<>();
-    private final List<DetectResult> detectResults = new ArrayList<>();
-    private final List<DetectIssue> detectIssues = new ArrayList<>();
-    private final Map<String, List<File>> unrecognizedPaths = new HashMap<>();
-    private final List<Operation> detectOperations = new LinkedList<>();
-    private DetectorToolResult detectorToolResult = null;
-    private NameVersion projectNameVersion = null;
-    private SortedMap<String, String> rawMaskedPropertyValues = null;
+    // Events may be published by tools running at the same time.
+    private final Set<String> codeLocations = Collections.synchronizedSet(new HashSet<>());
+    private final List<Status> statusSummaries = Collections.synchronizedList(new ArrayList<>());
+    private final List<DetectResult> detectResults = Collections.synchronizedList(new ArrayList<>());
+    private final List<DetectIssue> detectIssues = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, List<File>> unrecognizedPaths = new ConcurrentHashMap<>();
+    private final List<Operation> detectOperations = Collections.synchronizedList(new LinkedList<>());
+    private volatile DetectorToolResult detectorToolResult = null;
+    private volatile NameVersion projectNameVersion = null;
+    private volatile SortedMap<String, String> rawMaskedPropertyValues = null;
 
     public FormattedOutputManager(EventSystem eventSystem) {
         eventSystem.registerListener(Event.DetectorsComplete, result -> detectorToolResult = result);
@@ -149,10 +152,8 @@ public class FormattedOutputManager {
     }
 
     private void addUnrecognizedPaths(UnrecognizedPaths unrecognizedPaths) {
-        if (!this.unrecognizedPaths.containsKey(unrecognizedPaths.getGroup())) {
-            this.unrecognizedPaths.put(unrecognizedPaths.getGroup(), new ArrayList<>());
-        }
-        this.unrecognizedPaths.get(unrecognizedPaths.getGroup()).addAll(unrecognizedPaths.getPaths());
+        this.unrecognizedPaths.computeIfAbsent(unrecognizedPaths.getGroup(), group -> Collections.synchronizedList(new ArrayList<>()))
+            .addAll(unrecognizedPaths.getPaths());
     }
 
 }
@@ -8,6 +8,7 @@
 package com.synopsys.integration.detect.workflow.status;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -18,10 +19,11 @@ import com.synopsys.integration.detect.workflow.result.DetectResult;
 import com.synopsys.integration.log.IntLogger;
 
 public class DetectStatusManager {
-    private final List<Status> statusSummaries = new ArrayList<>();
-    private final List<DetectResult> detectResults = new ArrayList<>();
-    private final List<DetectIssue> detectIssues = new ArrayList<>();
-    private final List<Operation> detectOperations = new LinkedList<>();
+    // Events may be published by tools running at the same time.
+    private final List<Status> statusSummaries = Collections.synchronizedList(new ArrayList<>());
+    private final List<DetectResult> detectResults = Collections.synchronizedList(new ArrayList<>());
+    private final List<DetectIssue> detectIssues = Collections.synchronizedList(new ArrayList<>());
+    private final List<Operation> detectOperations = Collections.synchronizedList(new LinkedList<>());
 
     public DetectStatusManager(EventSystem eventSystem) {
         eventSystem.registerListener(Event.StatusSummary, this::addStatusSummary);
@@ -47,7 +49,9 @@ public class DetectStatusManager {
     }
 
     public boolean hasAnyFailure() {
-        return statusSummaries.stream()
-            .anyMatch(it -> it.getStatusType() == StatusType.FAILURE);
+        synchronized (statusSummaries) {
+            return statusSummaries.stream()
+                .anyMatch(it -> it.getStatusType() == StatusType.FAILURE);
+        }
     }
 }
@@ -21,7 +21,7 @@ public class OperationSystem {
         this.statusEventPublisher = statusEventPublisher;
     }
 
-    public void publishOperations() {
+    public synchronized void publishOperations() {
         operations.forEach(this::publishOperationIssues);
         statusEventPublisher.publishOperationsComplete(operations);
     }
@@ -36,7 +36,7 @@ public class OperationSystem {
         return startOperation(operationName, type, null);
     }
 
-    public Operation startOperation(String operationName, OperationType type, @Nullable String phoneHomeKey) {
+    public synchronized Operation startOperation(String operationName, OperationType type, @Nullable String phoneHomeKey) {
         Operation operation = new Operation(operationName, type, phoneHomeKey);
         operations.add(operation);
         return operation;
@@ -2,6 +2,12 @@ import java.util.Optional
 
 import org.gradle.api.Project
 import org.gradle.api.Task
+import org.gradle.api.artifacts.Configuration
+import org.gradle.api.artifacts.ModuleVersionIdentifier
+import org.gradle.api.artifacts.component.ProjectComponentIdentifier
+import org.gradle.api.artifacts.result.DependencyResult
+import org.gradle.api.artifacts.result.ResolvedComponentResult
+import org.gradle.api.artifacts.result.ResolvedDependencyResult
 import org.gradle.api.execution.TaskExecutionListener
 import org.gradle.api.tasks.TaskState
 
@@ -46,6 +52,21 @@ gradle.allprojects {
             println "Gathering dependencies for " + project.name
         }
     }
+<#if reportFormat == "EDGE_LIST">
+    afterEvaluate { project ->
+        // walk the resolution result of each configuration directly instead of running the dependencies task, so shared subtrees are only written once.
+        project.gatherDependencies.doLast {
+            String outputDirectoryPath = System.getProperty('GRADLEEXTRACTIONDIR')
+            generateRootProjectMetaData(project, outputDirectoryPath)
+
+            if(projectFilter.shouldInclude(project.name)) {
+                File projectFile = createProjectOutputFile(findProjectEdgeListFile(project, outputDirectoryPath))
+                writeEdgeList(filterConfigurations(project, '${excludedConfigurationNames}', '${includedConfigurationNames}'), projectFile)
+                appendProjectMetadata(project, projectFile)
+            }
+        }
+    }
+<#else>
     afterEvaluate { project ->
         // after a project has been evaluated modify the dependencies task for that project to output to a specific file.
         project.tasks.getByName('dependencies') {
@@ -94,6 +115,7 @@ gradle.allprojects {
         project.gatherDependencies.finalizedBy(project.tasks.getByName('dependencies'))
         project.gatherDependencies
     }
+</#if>
 }
 
 // ## START methods invoked by tasks above
@@ -135,6 +157,75 @@ def findProjectOutputFile(Project project, String outputDirectoryPath) {
     outputFile
 }
 
+def findProjectEdgeListFile(Project project, String outputDirectoryPath) {
+    File outputDirectory = createTaskOutputDirectory(outputDirectoryPath)
+    String name = project.name.toString()
+
+    String nameForFile = new IntegrationEscapeUtil().replaceWithUnderscore(name)
+    File outputFile = new File(outputDirectory, "${nameForFile}_dependencyGraph.edges")
+
+    outputFile
+}
+
+/* Each component is written once as a node with an id shared by every configuration, each configuration is then only a list of its root ids and parent/child id pairs.
+   Project dependencies are skipped along with everything beneath them as the dependencies task output they replace is parsed the same way.
+ */
+def writeEdgeList(Set<Configuration> configurations, File projectOutputFile) {
+    Map<ModuleVersionIdentifier, Integer> nodeIds = new HashMap<>()
+    projectOutputFile.withWriter('UTF-8') { writer ->
+        writer.write('DETECT EDGE LIST 1\n')
+        for (Configuration configuration : configurations) {
+            if (configuration.metaClass.respondsTo(configuration, 'isCanBeResolved') && !configuration.isCanBeResolved()) {
+                continue
+            }
+            ResolvedComponentResult root
+            try {
+                root = configuration.incoming.resolutionResult.root
+            } catch (Exception e) {
+                println "Could not resolve configuration ${configuration.name}: ${e.message}"
+                continue
+            }
+
+            writer.write("c\t${configuration.name}\n")
+            Set<ResolvedComponentResult> visited = new HashSet<>()
+            Deque<ResolvedComponentResult> unvisited = new ArrayDeque<>()
+            unvisited.add(root)
+            while (!unvisited.isEmpty()) {
+                ResolvedComponentResult parent = unvisited.poll()
+                for (DependencyResult dependency : parent.dependencies) {
+                    if (!(dependency instanceof ResolvedDependencyResult)) {
+                        continue
+                    }
+                    ResolvedComponentResult child = ((ResolvedDependencyResult) dependency).selected
+                    if (child.id instanceof ProjectComponentIdentifier || child.moduleVersion == null) {
+                        continue
+                    }
+                    int childId = internNode(child.moduleVersion, nodeIds, writer)
+                    if (parent == root) {
+                        writer.write("r\t${childId}\n")
+                    } else {
+                        writer.write("e\t${nodeIds.get(parent.moduleVersion)}\t${childId}\n")
+                    }
+                    if (visited.add(child)) {
+                        unvisited.add(child)
+                    }
+                }
+            }
+        }
+    }
+}
+
+def internNode(ModuleVersionIdentifier module, Map<ModuleVersionIdentifier, Integer> nodeIds, Writer writer) {
+    Integer existingId = nodeIds.get(module)
+    if (existingId != null) {
+        return existingId
+    }
+    int id = nodeIds.size()
+    nodeIds.put(module, id)
+    writer.write("n\t${id}\t${module.group}\t${module.name}\t${module.version}\n")
+    id
+}
+
 def filterConfigurations(Project project, String excludedConfigurationNames, String includedConfigurationNames) {
     ExcludedIncludedFilter configurationFilter = ExcludedIncludedWildcardFilter.fromCommaSeparatedStrings(excludedConfigurationNames, includedConfigurationNames)
     Set<Configuration> filteredConfigurationSet = new TreeSet<Configuration>(new Comparator<Configuration>() {
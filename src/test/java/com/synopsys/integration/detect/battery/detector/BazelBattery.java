@@ -12,7 +12,6 @@ class BazelBattery {
     private static final String BAZEL_HASKELL_CABAL_LIBRARY_OUTPUT_RESOURCE = "bazel-haskell-cabal-library-query.xout";
     private static final String BAZEL_MAVEN_JAR_OUTPUT1_RESOURCE = "bazel-maven-jar-query1.xout";
     private static final String BAZEL_MAVEN_JAR_OUTPUT2_RESOURCE = "bazel-maven-jar-query2.xout";
-    private static final String BAZEL_MAVEN_JAR_OUTPUT3_RESOURCE = "bazel-maven-jar-query3.xout";
     private static final String EMPTY_OUTPUT_RESOURCE = "empty.xout";
 
     @Test
@@ -48,7 +47,7 @@ class BazelBattery {
         test.property("detect.bazel.target", "//:ProjectRunner");
         test.property("detect.bazel.dependency.type", "MAVEN_JAR");
         test.executableFromResourceFiles(DetectProperties.DETECT_BAZEL_PATH.getProperty(),
-            BAZEL_MAVEN_JAR_OUTPUT1_RESOURCE, BAZEL_MAVEN_JAR_OUTPUT2_RESOURCE, BAZEL_MAVEN_JAR_OUTPUT3_RESOURCE);
+            BAZEL_MAVEN_JAR_OUTPUT1_RESOURCE, BAZEL_MAVEN_JAR_OUTPUT2_RESOURCE);
         test.sourceDirectoryNamed("bazel-maven-jar");
         test.sourceFileNamed("WORKSPACE");
         test.expectBdioResources();
@@ -61,6 +60,8 @@ class BazelBattery {
         test.withToolsValue("BAZEL");
         test.property("detect.bazel.target", "//cat_hs/lib/args:args");
         test.property("detect.bazel.dependency.type", "ALL");
+        // The fake bazel answers in invocation order, so the pipelines must run one at a time.
+        test.property(DetectProperties.DETECT_BAZEL_PIPELINE_PARALLELISM.getProperty(), "1");
         test.executableFromResourceFiles(DetectProperties.DETECT_BAZEL_PATH.getProperty(),
             EMPTY_OUTPUT_RESOURCE,
             EMPTY_OUTPUT_RESOURCE,
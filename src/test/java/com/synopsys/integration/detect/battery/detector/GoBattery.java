@@ -22,6 +22,8 @@
  */
 package com.synopsys.integration.detect.battery.detector;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -53,7 +55,10 @@ public class GoBattery {
     @Test
     void mod() {
         DetectorBatteryTestRunner test = new DetectorBatteryTestRunner("go-mod");
-        test.executableFromResourceFiles(DetectProperties.DETECT_GO_PATH.getProperty(), "go-list.xout", "go-version.xout", "go-list-u-json.xout", "go-mod-graph.xout", "go-mod-why.xout");
+        // The go commands run concurrently, so the fake go answers by its arguments rather than by the order it is invoked in.
+        test.executableFromResourceFilesByArguments(DetectProperties.DETECT_GO_PATH.getProperty(),
+            Arrays.asList("version", "list -m -json", "list -mod=readonly -m -u -json all", "mod graph", "mod why -m all"),
+            "go-version.xout", "go-list.xout", "go-list-u-json.xout", "go-mod-graph.xout", "go-mod-why.xout");
         test.sourceDirectoryNamed("source");
         test.sourceFileFromResource("go.mod");
         test.expectBdioResources();
@@ -192,14 +192,22 @@ public class BatteryContext {
 
     /**
      * NOTE: The order in which you provide the names of executable output resource files must match the order in which their corresponding commands are invoked at runtime.
-     * ex) The GoModCliExtractor invokes the command 'go list' before the command 'go version', so go-list.xout must be ordered before go-version.xout in resourceFiles when constructing
-     * a battery test for the go mod detectable.
+     * ex) The GoModCliExtractor invokes the command 'go version' before the command 'go list', so go-version.xout must be ordered before go-list.xout in resourceFiles when constructing
+     * a battery test for the go mod detectable. Detectables that run commands concurrently should use executableFromResourceFilesByArguments instead.
      */
     public void executableFromResourceFiles(Property detectProperty, String... resourceFiles) {
         ResourceTypingExecutableCreator creator = new ResourceTypingExecutableCreator(prefixResources(resourceFiles));
         executables.add(BatteryExecutable.propertyOverrideExecutable(detectProperty, creator));
     }
 
+    /**
+     * Each resource file is typed when the executable is invoked with the arguments at the same index, so the order of invocations does not matter.
+     */
+    public void executableFromResourceFilesByArguments(Property detectProperty, List<String> arguments, String... resourceFiles) {
+        ResourceArgumentTypingExecutableCreator creator = new ResourceArgumentTypingExecutableCreator(arguments, prefixResources(resourceFiles));
+        executables.add(BatteryExecutable.propertyOverrideExecutable(detectProperty, creator));
+    }
+
     public void executableSourceFileFromResourceFiles(String windowsName, String linuxName, String... resourceFiles) {
         ResourceTypingExecutableCreator creator = new ResourceTypingExecutableCreator(prefixResources(resourceFiles));
         executables.add(BatteryExecutable.sourceFileExecutable(windowsName, linuxName, creator));
@@ -56,6 +56,10 @@ public abstract class BatteryTestRunner {
         batteryContext.executableFromResourceFiles(detectProperty, resourceFiles);
     }
 
+    public void executableFromResourceFilesByArguments(Property detectProperty, List<String> arguments, String... resourceFiles) {
+        batteryContext.executableFromResourceFilesByArguments(detectProperty, arguments, resourceFiles);
+    }
+
     public void executableSourceFileFromResourceFiles(String windowsName, String linuxName, String... resourceFiles) {
         batteryContext.executableSourceFileFromResourceFiles(windowsName, linuxName, resourceFiles);
     }
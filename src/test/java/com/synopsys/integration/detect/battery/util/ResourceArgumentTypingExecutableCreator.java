@@ -0,0 +1,75 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.battery.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.Assertions;
+
+import freemarker.template.TemplateException;
+
+//This executable types the text of the resource file matching the arguments it was given, so the order of invocations does not matter.
+public class ResourceArgumentTypingExecutableCreator extends BatteryExecutableCreator {
+    private final List<String> arguments;
+    private final ResourceTypingExecutableCreator resourceTypingExecutableCreator;
+
+    //Arguments are matched exactly as the executable received them, joined by single spaces.
+    protected ResourceArgumentTypingExecutableCreator(List<String> arguments, List<String> toType) {
+        Assertions.assertEquals(arguments.size(), toType.size(), "Every set of arguments needs exactly one resource file.");
+        this.arguments = arguments;
+        this.resourceTypingExecutableCreator = new ResourceTypingExecutableCreator(toType);
+    }
+
+    @Override
+    public File createExecutable(int id, BatteryExecutableInfo executableInfo, AtomicInteger commandCount) throws IOException, TemplateException {
+        List<String> filePaths = resourceTypingExecutableCreator.getFilePaths(executableInfo, commandCount);
+        List<Object> commands = new ArrayList<>();
+        for (int i = 0; i < arguments.size(); i++) {
+            Map<String, String> modelEntry = new HashMap<>();
+            modelEntry.put("arguments", arguments.get(i));
+            modelEntry.put("file", filePaths.get(i));
+            commands.add(modelEntry);
+        }
+        Map<String, Object> model = new HashMap<>();
+        model.put("commands", commands);
+
+        File commandFile;
+        if (SystemUtils.IS_OS_WINDOWS) {
+            commandFile = new File(executableInfo.getMockDirectory(), "exe-" + id + ".bat");
+            BatteryFiles.processTemplate("/argument-typing-exe.ftl", commandFile, model, BatteryFiles.UTIL_RESOURCE_PREFIX);
+        } else {
+            commandFile = new File(executableInfo.getMockDirectory(), "sh-" + id + ".sh");
+            BatteryFiles.processTemplate("/argument-typing-sh.ftl", commandFile, model, BatteryFiles.UTIL_RESOURCE_PREFIX);
+            Assertions.assertTrue(commandFile.setExecutable(true));
+        }
+
+        return commandFile;
+    }
+}
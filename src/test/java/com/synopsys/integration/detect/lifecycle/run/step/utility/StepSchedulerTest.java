@@ -0,0 +1,87 @@
+package com.synopsys.integration.detect.lifecycle.run.step.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
+import com.synopsys.integration.detect.lifecycle.run.step.utility.StepScheduler.ScheduledStep;
+
+public class StepSchedulerTest {
+    @Test
+    public void testIndependentStepsRunConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        StepScheduler stepScheduler = new StepScheduler(true);
+        // Each step waits for the other to start, which can only happen if they run at the same time.
+        ScheduledStep<Boolean> first = stepScheduler.addStep("first", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(10, TimeUnit.SECONDS);
+        });
+        ScheduledStep<Boolean> second = stepScheduler.addStep("second", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(10, TimeUnit.SECONDS);
+        });
+        stepScheduler.runSteps();
+
+        assertTrue(first.getValue().orElse(false));
+        assertTrue(second.getValue().orElse(false));
+    }
+
+    @Test
+    public void testDependentStepsRunAfterTheirDependencies() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        StepScheduler stepScheduler = new StepScheduler(true);
+        ScheduledStep<String> project = stepScheduler.addStep("project", () -> {
+            order.add("project");
+            return "project";
+        });
+        ScheduledStep<Boolean> upload = stepScheduler.addStep("upload", () -> order.add("upload"), project);
+        ScheduledStep<Boolean> scan = stepScheduler.addStep("scan", () -> order.add("scan"), project);
+        stepScheduler.addStep("wait", () -> order.add("wait"), upload, scan);
+        stepScheduler.runSteps();
+
+        assertEquals("project", order.get(0));
+        assertEquals("wait", order.get(3));
+        assertTrue(order.containsAll(Arrays.asList("upload", "scan")));
+        assertEquals("project", project.getValue().orElse(null));
+    }
+
+    @Test
+    public void testFailureSkipsDependentStepsAndIsRethrown() {
+        DetectUserFriendlyException failure = new DetectUserFriendlyException("failed", ExitCodeType.FAILURE_GENERAL_ERROR);
+        List<String> ran = new CopyOnWriteArrayList<>();
+        StepScheduler stepScheduler = new StepScheduler(true);
+        ScheduledStep<Boolean> project = stepScheduler.addStep("project", () -> {
+            throw failure;
+        });
+        ScheduledStep<Boolean> upload = stepScheduler.addStep("upload", () -> ran.add("upload"), project);
+
+        DetectUserFriendlyException thrown = assertThrows(DetectUserFriendlyException.class, stepScheduler::runSteps);
+        assertSame(failure, thrown);
+        assertTrue(ran.isEmpty());
+        assertFalse(upload.getValue().isPresent());
+    }
+
+    @Test
+    public void testSequentialRunsInOrder() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        StepScheduler stepScheduler = new StepScheduler(false);
+        stepScheduler.addStep("first", () -> order.add("first"));
+        stepScheduler.addStep("second", () -> order.add("second"));
+        stepScheduler.addStep("third", () -> order.add("third"));
+        stepScheduler.runSteps();
+
+        assertEquals(Arrays.asList("first", "second", "third"), order);
+    }
+}
@@ -0,0 +1,101 @@
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+public class DetectExecutableRunnerTest {
+    @BeforeEach
+    public void requireShell() {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+    }
+
+    @Test
+    public void testPermitsBoundConcurrentProcesses(@TempDir Path tempPath) {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem(), 2);
+
+        // Each process leaves a marker while it runs and prints how many markers it sees, which can never be more than the processes running at once.
+        String script = "touch $$; ls | wc -l; sleep 0.2; rm $$";
+        List<CompletableFuture<ExecutableOutput>> outputs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            outputs.add(executableRunner.executeAsync(shell(tempPath.toFile(), script)));
+        }
+
+        for (CompletableFuture<ExecutableOutput> output : outputs) {
+            ExecutableOutput executableOutput = output.join();
+            assertEquals(0, executableOutput.getReturnCode());
+            assertTrue(Integer.parseInt(executableOutput.getStandardOutput().trim()) <= 2);
+        }
+    }
+
+    @Test
+    public void testStreamingOutputIsDeliveredToConsumer(@TempDir Path tempPath) {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem(), 1);
+        List<String> lines = new CopyOnWriteArrayList<>();
+
+        ExecutableOutput output = executableRunner.executeStreamingAsync(shell(tempPath.toFile(), "echo first; echo second"), lines::add).join();
+
+        assertEquals(Arrays.asList("first", "second"), lines);
+        assertEquals(0, output.getReturnCode());
+        assertEquals("", output.getStandardOutput());
+    }
+
+    @Test
+    public void testReturnCodeIsKeptByAsyncExecution(@TempDir Path tempPath) {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem(), 1);
+
+        ExecutableOutput output = executableRunner.executeAsync(shell(tempPath.toFile(), "echo failed 1>&2; exit 3")).join();
+
+        assertEquals(3, output.getReturnCode());
+        assertEquals("failed", output.getErrorOutput().trim());
+    }
+
+    @Test
+    public void testAsyncFailureCompletesExceptionally(@TempDir Path tempPath) {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem(), 1);
+        Executable missing = Executable.create(tempPath.toFile(), new HashMap<>(), tempPath.resolve("missing-executable").toString(), Collections.emptyList());
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> executableRunner.executeAsync(missing).join());
+        assertTrue(exception.getCause() instanceof ExecutableRunnerException);
+        exception = assertThrows(CompletionException.class, () -> executableRunner.executeStreamingAsync(missing, line -> {}).join());
+        assertTrue(exception.getCause() instanceof ExecutableRunnerException);
+    }
+
+    @Test
+    public void testFailingConsumerReleasesItsPermit(@TempDir Path tempPath) throws ExecutableRunnerException {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem(), 1);
+
+        assertThrows(IllegalStateException.class, () -> executableRunner.executeStreaming(shell(tempPath.toFile(), "echo line"), line -> {
+            throw new IllegalStateException("Consumer failed.");
+        }));
+
+        // With a single permit this would wait forever if the failed execution had kept it.
+        assertEquals(0, executableRunner.execute(shell(tempPath.toFile(), "true")).getReturnCode());
+    }
+
+    private Executable shell(File workingDirectory, String script) {
+        return Executable.create(workingDirectory, new HashMap<>(), "sh", Arrays.asList("-c", script));
+    }
+}
@@ -0,0 +1,75 @@
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+import com.synopsys.integration.log.BufferedIntLogger;
+
+public class StreamingProcessRunnerTest {
+    private ExecutorService errorOutputExecutor;
+
+    @BeforeEach
+    public void setup() {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        errorOutputExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (errorOutputExecutor != null) {
+            errorOutputExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStandardOutputIsStreamedAndErrorOutputKept(@TempDir Path tempPath) throws ExecutableRunnerException {
+        List<String> loggedLines = Collections.synchronizedList(new ArrayList<>());
+        StreamingProcessRunner runner = new StreamingProcessRunner(new BufferedIntLogger(), loggedLines::add, line -> {}, errorOutputExecutor);
+        List<String> lines = new ArrayList<>();
+
+        ExecutableOutput output = runner.execute(shell(tempPath.toFile(), "echo out; echo err 1>&2; exit 2"), lines::add);
+
+        assertEquals(Collections.singletonList("out"), lines);
+        assertEquals(2, output.getReturnCode());
+        assertEquals("", output.getStandardOutput());
+        assertEquals("err", output.getErrorOutput());
+        assertEquals(2, loggedLines.size());
+    }
+
+    @Test
+    public void testLargeErrorOutputDoesNotStallStandardOutput(@TempDir Path tempPath) throws ExecutableRunnerException {
+        StreamingProcessRunner runner = new StreamingProcessRunner(new BufferedIntLogger(), line -> {}, line -> {}, errorOutputExecutor);
+        List<String> lines = new ArrayList<>();
+
+        // Far more than a pipe buffer holds, the process would block writing it if error output were only read after standard output.
+        String script = "i=0; while [ $i -lt 20000 ]; do echo error-output-line 1>&2; i=$((i+1)); done; echo done";
+        ExecutableOutput output = runner.execute(shell(tempPath.toFile(), script), lines::add);
+
+        assertEquals(Collections.singletonList("done"), lines);
+        assertEquals(0, output.getReturnCode());
+        assertEquals(20000, output.getErrorOutput().split(System.lineSeparator()).length);
+    }
+
+    private Executable shell(File workingDirectory, String script) {
+        return Executable.create(workingDirectory, new HashMap<>(), "sh", Arrays.asList("-c", script));
+    }
+}
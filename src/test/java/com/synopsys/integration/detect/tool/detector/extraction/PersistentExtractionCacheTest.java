@@ -0,0 +1,190 @@
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionMetadata;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+import com.synopsys.integration.detector.rule.DetectorRule;
+
+public class PersistentExtractionCacheTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void testRoundTripUntilRelevantFileChanges(@TempDir Path tempPath) throws IOException {
+        File sourceDirectory = Files.createDirectories(tempPath.resolve("source")).toFile();
+        File lockFile = new File(sourceDirectory, "package-lock.json");
+        Files.write(lockFile.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+        DetectorEvaluation detectorEvaluation = mockEvaluation(sourceDirectory, lockFile);
+
+        PersistentExtractionCache cache = createCache(tempPath, Collections.emptyMap());
+        assertFalse(cache.findExtraction(detectorEvaluation).isPresent());
+
+        Dependency parent = new Dependency("parent", "1.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "parent", "1.0"));
+        Dependency child = new Dependency("child", "2.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "child", "2.0"));
+        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildToRoot(parent);
+        graph.addChildWithParent(child, parent);
+        Extraction extraction = new Extraction.Builder()
+                                    .projectName("project")
+                                    .projectVersion("version")
+                                    .success(new CodeLocation(graph, externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "project", "version"), sourceDirectory))
+                                    .build();
+        cache.storeExtraction(detectorEvaluation, extraction);
+
+        Optional<Extraction> cached = cache.findExtraction(detectorEvaluation);
+        assertTrue(cached.isPresent());
+        assertTrue(cached.get().isSuccess());
+        assertEquals("project", cached.get().getProjectName());
+        assertEquals(1, cached.get().getCodeLocations().size());
+        CodeLocation codeLocation = cached.get().getCodeLocations().get(0);
+        assertEquals(Optional.of(sourceDirectory), codeLocation.getSourcePath());
+        assertEquals(1, codeLocation.getDependencyGraph().getRootDependencies().size());
+        Dependency cachedParent = codeLocation.getDependencyGraph().getRootDependencies().iterator().next();
+        assertEquals("parent", cachedParent.getName());
+        assertEquals("child", codeLocation.getDependencyGraph().getChildrenForParent(cachedParent).iterator().next().getName());
+
+        Files.write(lockFile.toPath(), "{ \"changed\": true }".getBytes(StandardCharsets.UTF_8));
+        assertFalse(cache.findExtraction(detectorEvaluation).isPresent());
+    }
+
+    @Test
+    public void testRelevantFilesWithTheSameNameAreAllKeyed(@TempDir Path tempPath) throws IOException {
+        File sourceDirectory = Files.createDirectories(tempPath.resolve("source")).toFile();
+        File firstPackageJson = Files.write(Files.createDirectories(sourceDirectory.toPath().resolve("first")).resolve("package.json"), "{}".getBytes(StandardCharsets.UTF_8)).toFile();
+        File secondPackageJson = Files.write(Files.createDirectories(sourceDirectory.toPath().resolve("second")).resolve("package.json"), "{}".getBytes(StandardCharsets.UTF_8)).toFile();
+        DetectorEvaluation detectorEvaluation = mockEvaluation(sourceDirectory, Arrays.asList(firstPackageJson, secondPackageJson));
+
+        PersistentExtractionCache cache = createCache(tempPath, Collections.emptyMap());
+        Extraction extraction = new Extraction.Builder()
+                                    .success(new CodeLocation(new MutableMapDependencyGraph(), externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "project", "version"), sourceDirectory))
+                                    .build();
+        cache.storeExtraction(detectorEvaluation, extraction);
+        assertTrue(cache.findExtraction(detectorEvaluation).isPresent());
+
+        // The first file is not the last one with its name, it must still be part of the key.
+        Files.write(firstPackageJson.toPath(), "{ \"changed\": true }".getBytes(StandardCharsets.UTF_8));
+        assertFalse(cache.findExtraction(detectorEvaluation).isPresent());
+    }
+
+    @Test
+    public void testListedDetectorPropertyIsKeyed(@TempDir Path tempPath) throws IOException {
+        File sourceDirectory = Files.createDirectories(tempPath.resolve("source")).toFile();
+        File lockFile = Files.write(sourceDirectory.toPath().resolve("package-lock.json"), "{}".getBytes(StandardCharsets.UTF_8)).toFile();
+        DetectorEvaluation detectorEvaluation = mockEvaluation(sourceDirectory, lockFile);
+
+        PersistentExtractionCache withoutDev = createCache(tempPath, Collections.singletonMap("detect.npm.include.dev.dependencies", "false"));
+        withoutDev.storeExtraction(detectorEvaluation, new Extraction.Builder().success().build());
+        assertTrue(withoutDev.findExtraction(detectorEvaluation).isPresent());
+
+        PersistentExtractionCache withDev = createCache(tempPath, Collections.singletonMap("detect.npm.include.dev.dependencies", "true"));
+        assertFalse(withDev.findExtraction(detectorEvaluation).isPresent());
+    }
+
+    @Test
+    public void testDetectorWithoutListedPropertiesIsNotCached(@TempDir Path tempPath) throws IOException {
+        File sourceDirectory = Files.createDirectories(tempPath.resolve("source")).toFile();
+        File lockFile = Files.write(sourceDirectory.toPath().resolve("package-lock.json"), "{}".getBytes(StandardCharsets.UTF_8)).toFile();
+        DetectorEvaluation detectorEvaluation = mockEvaluation(sourceDirectory, lockFile);
+
+        ExtractionCacheOptions options = new ExtractionCacheOptions(true, 10, new EnumMap<>(DetectorType.class));
+        PersistentExtractionCache cache = new PersistentExtractionCache(tempPath.resolve("cache").toFile(), new Gson(), "1.0.0", options);
+        cache.storeExtraction(detectorEvaluation, new Extraction.Builder().success().build());
+
+        assertFalse(cache.findExtraction(detectorEvaluation).isPresent());
+    }
+
+    @Test
+    public void testExtractionIsStoredUnderTheKeyFoundBeforeIt(@TempDir Path tempPath) throws IOException {
+        File sourceDirectory = Files.createDirectories(tempPath.resolve("source")).toFile();
+        File lockFile = Files.write(sourceDirectory.toPath().resolve("package-lock.json"), "{}".getBytes(StandardCharsets.UTF_8)).toFile();
+        DetectorEvaluation detectorEvaluation = mockEvaluation(sourceDirectory, lockFile);
+
+        PersistentExtractionCache cache = createCache(tempPath, Collections.emptyMap());
+        assertFalse(cache.findExtraction(detectorEvaluation).isPresent());
+        // The extraction rewrote its relevant file, the entry still belongs to the content it was extracted from.
+        Files.write(lockFile.toPath(), "{ \"rewritten\": true }".getBytes(StandardCharsets.UTF_8));
+        cache.storeExtraction(detectorEvaluation, new Extraction.Builder().success().build());
+        assertFalse(cache.findExtraction(detectorEvaluation).isPresent());
+
+        Files.write(lockFile.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+        assertTrue(cache.findExtraction(detectorEvaluation).isPresent());
+    }
+
+    @Test
+    public void testMetadataAndPathsAreRestored(@TempDir Path tempPath) throws IOException {
+        File sourceDirectory = Files.createDirectories(tempPath.resolve("source")).toFile();
+        File lockFile = Files.write(sourceDirectory.toPath().resolve("package-lock.json"), "{}".getBytes(StandardCharsets.UTF_8)).toFile();
+        File unrecognizedPath = new File(sourceDirectory, "node_modules");
+        DetectorEvaluation detectorEvaluation = mockEvaluation(sourceDirectory, lockFile);
+        ExtractionMetadata<String> textMetadata = new ExtractionMetadata<>("text", String.class);
+        ExtractionMetadata<File> fileMetadata = new ExtractionMetadata<>("file", File.class);
+
+        PersistentExtractionCache cache = createCache(tempPath, Collections.emptyMap());
+        Extraction extraction = new Extraction.Builder()
+                                    .success()
+                                    .relevantFiles(lockFile)
+                                    .unrecognizedPaths(unrecognizedPath)
+                                    .metaData(textMetadata, "value")
+                                    .metaData(fileMetadata, lockFile)
+                                    .build();
+        cache.storeExtraction(detectorEvaluation, extraction);
+
+        Extraction cached = cache.findExtraction(detectorEvaluation).get();
+        assertEquals(Collections.singletonList(lockFile), cached.getRelevantFiles());
+        assertEquals(Collections.singletonList(unrecognizedPath), cached.getUnrecognizedPaths());
+        assertEquals(Optional.of("value"), cached.getMetaData(textMetadata));
+        assertEquals(Optional.of(lockFile), cached.getMetaData(fileMetadata));
+    }
+
+    private PersistentExtractionCache createCache(Path tempPath, Map<String, String> npmProperties) {
+        Map<DetectorType, Map<String, String>> detectorProperties = new EnumMap<>(DetectorType.class);
+        detectorProperties.put(DetectorType.NPM, npmProperties);
+        ExtractionCacheOptions options = new ExtractionCacheOptions(true, 10, detectorProperties);
+        return new PersistentExtractionCache(tempPath.resolve("cache").toFile(), new Gson(), "1.0.0", options);
+    }
+
+    private DetectorEvaluation mockEvaluation(File sourceDirectory, File relevantFile) {
+        return mockEvaluation(sourceDirectory, Collections.singletonList(relevantFile));
+    }
+
+    private DetectorEvaluation mockEvaluation(File sourceDirectory, List<File> relevantFiles) {
+        DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.isExtractionCacheable()).thenReturn(true);
+        Mockito.when(detectorRule.getDescriptiveName()).thenReturn("NPM - Package Lock");
+
+        DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        Mockito.when(detectorEvaluation.getDetectorType()).thenReturn(DetectorType.NPM);
+        Mockito.when(detectorEvaluation.getAllRelevantFiles()).thenReturn(relevantFiles);
+        Mockito.when(detectorEvaluation.getDetectableEnvironment()).thenReturn(new DetectableEnvironment(sourceDirectory));
+        return detectorEvaluation;
+    }
+}
@@ -0,0 +1,11 @@
+@echo off
+
+<#list commands as command>
+if "%*"=="${command.arguments}" (
+    type ${command.file}
+    exit /b 0
+)
+</#list>
+
+echo Unexpected arguments: %* 1>&2
+exit /b 1
\ No newline at end of file
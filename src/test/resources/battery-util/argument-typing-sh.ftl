@@ -0,0 +1,13 @@
+#!/bin/bash
+
+case "$*" in
+<#list commands as command>
+    "${command.arguments}")
+        cat ${command.file}
+        ;;
+</#list>
+    *)
+        echo "Unexpected arguments: $*" 1>&2
+        exit 1
+        ;;
+esac